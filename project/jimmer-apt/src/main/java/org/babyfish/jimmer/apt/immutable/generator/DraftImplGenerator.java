@@ -294,7 +294,13 @@ public class DraftImplGenerator {
                         .addModifiers(Modifier.PUBLIC)
                         .addAnnotation(Override.class)
                         .returns(int.class)
-                        .addStatement("return $L.hashCode()", UNMODIFIED)
+                        .addComment("The modified object is still mutable, its hash code cannot be cached")
+                        .addStatement(
+                                "return $L != null ? $L.__deepHashCode() : $L.hashCode()",
+                                Constants.DRAFT_FIELD_MODIFIED,
+                                Constants.DRAFT_FIELD_MODIFIED,
+                                Constants.DRAFT_FIELD_BASE
+                        )
                         .build()
         );
         typeBuilder.addMethod(
@@ -304,7 +310,7 @@ public class DraftImplGenerator {
                         .addAnnotation(Override.class)
                         .addParameter(boolean.class, "shallow")
                         .returns(int.class)
-                        .addStatement("return $L.__hashCode(shallow)", UNMODIFIED)
+                        .addStatement("return shallow ? $L.__hashCode(true) : hashCode()", UNMODIFIED)
                         .build()
         );
         typeBuilder.addMethod(
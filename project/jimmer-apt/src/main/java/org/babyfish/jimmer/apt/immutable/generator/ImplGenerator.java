@@ -51,6 +51,7 @@ public class ImplGenerator {
         addIsLoaded(String.class);
         addIsVisible(PropId.class);
         addIsVisible(String.class);
+        addCachedHashCode();
         addHashCode(false);
         addHashCode(true);
         addParameterizedHashCode();
@@ -68,6 +69,12 @@ public class ImplGenerator {
                         .addModifiers(Modifier.PRIVATE)
                         .build()
         );
+        typeBuilder.addField(
+                FieldSpec
+                        .builder(int.class, "__cachedHashCode")
+                        .addModifiers(Modifier.PRIVATE, Modifier.TRANSIENT)
+                        .build()
+        );
         for (ImmutableProp prop : type.getProps().values()) {
             if (prop.isValueRequired()) {
                 FieldSpec.Builder valueBuilder = FieldSpec.builder(
@@ -171,6 +178,7 @@ public class ImplGenerator {
         builder
                 .beginControlFlow("try")
                 .addStatement("$T copy = ($T) super.clone()", type.getImplClassName(), type.getImplClassName())
+                .addStatement("copy.__cachedHashCode = 0")
                 .addStatement("$T originalVisibility = this.__visibility", Constants.VISIBILITY_CLASS_NAME)
                 .beginControlFlow("if (originalVisibility != null)")
                 .addStatement("$T newVisibility = $T.of($L)", Constants.VISIBILITY_CLASS_NAME, Constants.VISIBILITY_CLASS_NAME, type.getProps().size())
@@ -322,15 +330,28 @@ public class ImplGenerator {
         typeBuilder.addMethod(builder.build());
     }
 
+    private void addCachedHashCode() {
+        MethodSpec.Builder builder = MethodSpec
+                .methodBuilder("hashCode")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(int.class)
+                .addStatement("int hash = __cachedHashCode")
+                .beginControlFlow("if (hash == 0)")
+                .addComment("Immutable object, the deep hash code can be calculated only once")
+                .addStatement("hash = __deepHashCode()")
+                .addStatement("__cachedHashCode = hash")
+                .endControlFlow()
+                .addStatement("return hash");
+        typeBuilder.addMethod(builder.build());
+    }
+
     private void addHashCode(boolean shallow) {
         MethodSpec.Builder builder = MethodSpec
-                .methodBuilder(shallow ? "__shallowHashCode" : "hashCode")
-                .addModifiers(shallow ? Modifier.PRIVATE : Modifier.PUBLIC)
+                .methodBuilder(shallow ? "__shallowHashCode" : "__deepHashCode")
+                .addModifiers(Modifier.PRIVATE)
                 .returns(int.class)
                 .addStatement("int hash = __visibility != null ? __visibility.hashCode() : 0");
-        if (!shallow) {
-            builder.addAnnotation(Override.class);
-        }
         for (ImmutableProp prop : type.getProps().values()) {
             if (!prop.isValueRequired()) {
                 continue;
@@ -391,8 +412,22 @@ public class ImplGenerator {
         builder
                 .beginControlFlow("if (obj == null || !(obj instanceof $T))", type.getImplementorClassName())
                 .addStatement("return false")
-                .endControlFlow()
-                .addStatement("$T __other = ($T)obj", type.getImplementorClassName(), type.getImplementorClassName());
+                .endControlFlow();
+        if (!shallow) {
+            builder
+                    .beginControlFlow("if (obj == this)")
+                    .addStatement("return true")
+                    .endControlFlow()
+                    .beginControlFlow("if (obj instanceof $T)", type.getImplClassName())
+                    .addComment("The cached hash codes are different, the deep comparison is unnecessary")
+                    .addStatement("int __hash = __cachedHashCode")
+                    .addStatement("int __otherHash = (($T)obj).__cachedHashCode", type.getImplClassName())
+                    .beginControlFlow("if (__hash != 0 && __otherHash != 0 && __hash != __otherHash)")
+                    .addStatement("return false")
+                    .endControlFlow()
+                    .endControlFlow();
+        }
+        builder.addStatement("$T __other = ($T)obj", type.getImplementorClassName(), type.getImplementorClassName());
         for (ImmutableProp prop : type.getProps().values()) {
             builder
                     .beginControlFlow(
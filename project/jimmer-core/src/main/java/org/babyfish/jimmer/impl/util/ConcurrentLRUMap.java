@@ -0,0 +1,80 @@
+package org.babyfish.jimmer.impl.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU map based on {@link ConcurrentHashMap}.
+ *
+ * <p>Reading never locks, each hit only records its access order.
+ * When the size exceeds the max count after a put, the least recently
+ * used entries are evicted by scanning the map, so it is designed for
+ * caches whose misses are much rarer than hits.</p>
+ */
+public final class ConcurrentLRUMap<K, V> {
+
+    private final int maxCount;
+
+    private final ConcurrentHashMap<K, Node<V>> map;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    public ConcurrentLRUMap(int maxCount) {
+        if (maxCount < 1) {
+            throw new IllegalArgumentException("maxCount must be positive");
+        }
+        this.maxCount = maxCount;
+        this.map = new ConcurrentHashMap<>((maxCount * 4 + 2) / 3);
+    }
+
+    public V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.accessOrder = clock.incrementAndGet();
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        map.put(key, new Node<>(value, clock.incrementAndGet()));
+        while (map.size() > maxCount) {
+            Map.Entry<K, Node<V>> eldest = null;
+            for (Map.Entry<K, Node<V>> e : map.entrySet()) {
+                if (eldest == null || e.getValue().accessOrder < eldest.getValue().accessOrder) {
+                    eldest = e;
+                }
+            }
+            if (eldest == null) {
+                break;
+            }
+            map.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    public V remove(K key) {
+        Node<V> node = map.remove(key);
+        return node != null ? node.value : null;
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private static class Node<V> {
+
+        final V value;
+
+        volatile long accessOrder;
+
+        Node(V value, long accessOrder) {
+            this.value = value;
+            this.accessOrder = accessOrder;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.babyfish.jimmer.jackson;
+
+import org.babyfish.jimmer.jackson.codec.JsonReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The value of a property decorated by {@code @Serialized(lazy = true)}.
+ *
+ * <p>The raw JSON read from database is kept and only parsed when the
+ * value is accessed for the first time. If it is never accessed,
+ * the jackson module of jimmer writes the raw JSON verbatim and
+ * the SQL scalar provider saves it verbatim.</p>
+ *
+ * <p>Only the property whose type is {@link Collection}, {@link List},
+ * {@link Set} or {@link Map} can be lazy, because the lazy value must
+ * be an instance of the property type.</p>
+ */
+public interface LazyJson {
+
+    boolean isParsed();
+
+    /**
+     * @return The raw JSON read from database
+     */
+    @NotNull
+    String getJson();
+
+    static boolean isLazyType(Class<?> type) {
+        return type == Collection.class ||
+                type == List.class ||
+                type == Set.class ||
+                type == Map.class;
+    }
+
+    /**
+     * @return The raw JSON if the value is an unparsed lazy json value, otherwise null.
+     */
+    @Nullable
+    static String unparsedJson(Object value) {
+        if (value instanceof LazyJson) {
+            LazyJson lazyJson = (LazyJson) value;
+            if (!lazyJson.isParsed()) {
+                return lazyJson.getJson();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object of(Class<?> type, String json, JsonReader<?> reader) {
+        LazyJsonValue<?> value = new LazyJsonValue<>(json, reader);
+        if (type == Collection.class || type == List.class) {
+            return new LazyJsonList<>((LazyJsonValue<List<Object>>) value);
+        }
+        if (type == Set.class) {
+            return new LazyJsonSet<>((LazyJsonValue<Set<Object>>) value);
+        }
+        if (type == Map.class) {
+            return new LazyJsonMap<>((LazyJsonValue<Map<Object, Object>>) value);
+        }
+        throw new IllegalArgumentException(
+                "The type \"" + type.getName() + "\" cannot be parsed lazily"
+        );
+    }
+}
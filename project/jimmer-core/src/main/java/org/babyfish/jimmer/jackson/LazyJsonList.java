@@ -0,0 +1,169 @@
+package org.babyfish.jimmer.jackson;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+final class LazyJsonList<E> implements List<E>, LazyJson, Serializable {
+
+    private final LazyJsonValue<List<E>> value;
+
+    LazyJsonList(LazyJsonValue<List<E>> value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isParsed() {
+        return value.isParsed();
+    }
+
+    @NotNull
+    @Override
+    public String getJson() {
+        return value.json();
+    }
+
+    @Override
+    public int size() {
+        return value.get().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return value.get().isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return value.get().contains(o);
+    }
+
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return value.get().iterator();
+    }
+
+    @NotNull
+    @Override
+    public Object[] toArray() {
+        return value.get().toArray();
+    }
+
+    @NotNull
+    @Override
+    public <T> T[] toArray(@NotNull T[] a) {
+        return value.get().toArray(a);
+    }
+
+    @Override
+    public boolean add(E e) {
+        return value.get().add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return value.get().remove(o);
+    }
+
+    @Override
+    public boolean containsAll(@NotNull Collection<?> c) {
+        return value.get().containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(@NotNull Collection<? extends E> c) {
+        return value.get().addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, @NotNull Collection<? extends E> c) {
+        return value.get().addAll(index, c);
+    }
+
+    @Override
+    public boolean removeAll(@NotNull Collection<?> c) {
+        return value.get().removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(@NotNull Collection<?> c) {
+        return value.get().retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        value.get().clear();
+    }
+
+    @Override
+    public E get(int index) {
+        return value.get().get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return value.get().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        value.get().add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return value.get().remove(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return value.get().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return value.get().lastIndexOf(o);
+    }
+
+    @NotNull
+    @Override
+    public ListIterator<E> listIterator() {
+        return value.get().listIterator();
+    }
+
+    @NotNull
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return value.get().listIterator(index);
+    }
+
+    @NotNull
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return value.get().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.get().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return value.get().equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        return value.get().toString();
+    }
+
+    private Object writeReplace() {
+        return value.get();
+    }
+}
@@ -0,0 +1,110 @@
+package org.babyfish.jimmer.jackson;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+final class LazyJsonMap<K, V> implements Map<K, V>, LazyJson, Serializable {
+
+    private final LazyJsonValue<Map<K, V>> value;
+
+    LazyJsonMap(LazyJsonValue<Map<K, V>> value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isParsed() {
+        return value.isParsed();
+    }
+
+    @NotNull
+    @Override
+    public String getJson() {
+        return value.json();
+    }
+
+    @Override
+    public int size() {
+        return value.get().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return value.get().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return value.get().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object v) {
+        return value.get().containsValue(v);
+    }
+
+    @Override
+    public V get(Object key) {
+        return value.get().get(key);
+    }
+
+    @Override
+    public V put(K key, V v) {
+        return value.get().put(key, v);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return value.get().remove(key);
+    }
+
+    @Override
+    public void putAll(@NotNull Map<? extends K, ? extends V> m) {
+        value.get().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        value.get().clear();
+    }
+
+    @NotNull
+    @Override
+    public Set<K> keySet() {
+        return value.get().keySet();
+    }
+
+    @NotNull
+    @Override
+    public Collection<V> values() {
+        return value.get().values();
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return value.get().entrySet();
+    }
+
+    @Override
+    public int hashCode() {
+        return value.get().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return value.get().equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        return value.get().toString();
+    }
+
+    private Object writeReplace() {
+        return value.get();
+    }
+}
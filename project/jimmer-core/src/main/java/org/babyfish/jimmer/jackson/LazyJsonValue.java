@@ -0,0 +1,48 @@
+package org.babyfish.jimmer.jackson;
+
+import org.babyfish.jimmer.jackson.codec.JsonReader;
+
+class LazyJsonValue<T> {
+
+    private final String json;
+
+    private JsonReader<?> reader;
+
+    private volatile T value;
+
+    LazyJsonValue(String json, JsonReader<?> reader) {
+        this.json = json;
+        this.reader = reader;
+    }
+
+    String json() {
+        return json;
+    }
+
+    boolean isParsed() {
+        return value != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get() {
+        T value = this.value;
+        if (value == null) {
+            synchronized (this) {
+                value = this.value;
+                if (value == null) {
+                    try {
+                        value = (T) reader.read(json);
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(
+                                "Cannot parse the lazy json value \"" + json + "\"",
+                                ex
+                        );
+                    }
+                    this.value = value;
+                    reader = null;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,18 @@
+package org.babyfish.jimmer.jackson.codec;
+
+/**
+ * Writes objects as the elements of a JSON array one by one,
+ * so that huge results can be written without being held in memory.
+ *
+ * <p>Closing this writer writes the end of the array
+ * and flushes the underlying output.</p>
+ */
+public interface JsonSequenceWriter extends AutoCloseable {
+
+    void write(Object obj) throws Exception;
+
+    void flush() throws Exception;
+
+    @Override
+    void close() throws Exception;
+}
@@ -13,4 +13,24 @@ public interface JsonWriter {
     void write(Writer writer, Object obj) throws Exception;
 
     void write(OutputStream os, Object obj) throws Exception;
-}
\ No newline at end of file
+
+    /**
+     * Closing the returned writer ends the array but does not close the target.
+     *
+     * The default implementation writes each element by {@link #writeAsString(Object)},
+     * built-in writers override it to use the streaming API of jackson.
+     */
+    default JsonSequenceWriter writeArray(Writer writer) throws Exception {
+        return new SimpleJsonSequenceWriter(this, writer, null);
+    }
+
+    /**
+     * Closing the returned writer ends the array but does not close the target.
+     *
+     * The default implementation writes each element by {@link #writeAsBytes(Object)},
+     * built-in writers override it to use the streaming API of jackson.
+     */
+    default JsonSequenceWriter writeArray(OutputStream os) throws Exception {
+        return new SimpleJsonSequenceWriter(this, null, os);
+    }
+}
@@ -0,0 +1,73 @@
+package org.babyfish.jimmer.jackson.codec;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fallback of {@link JsonWriter#writeArray(Writer)} and {@link JsonWriter#writeArray(OutputStream)}
+ * for the writers which do not support streaming.
+ */
+class SimpleJsonSequenceWriter implements JsonSequenceWriter {
+
+    private final JsonWriter jsonWriter;
+
+    private final Writer writer;
+
+    private final OutputStream os;
+
+    private boolean empty = true;
+
+    private boolean closed;
+
+    SimpleJsonSequenceWriter(JsonWriter jsonWriter, Writer writer, OutputStream os) {
+        this.jsonWriter = jsonWriter;
+        this.writer = writer;
+        this.os = os;
+    }
+
+    @Override
+    public void write(Object obj) throws Exception {
+        if (closed) {
+            throw new IllegalStateException("The sequence writer has been closed");
+        }
+        if (empty) {
+            empty = false;
+            writeText("[");
+        } else {
+            writeText(",");
+        }
+        if (writer != null) {
+            writer.write(jsonWriter.writeAsString(obj));
+        } else {
+            os.write(jsonWriter.writeAsBytes(obj));
+        }
+    }
+
+    @Override
+    public void flush() throws Exception {
+        if (writer != null) {
+            writer.flush();
+        } else {
+            os.flush();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writeText(empty ? "[]" : "]");
+        flush();
+    }
+
+    private void writeText(String text) throws Exception {
+        if (writer != null) {
+            writer.write(text);
+        } else {
+            os.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
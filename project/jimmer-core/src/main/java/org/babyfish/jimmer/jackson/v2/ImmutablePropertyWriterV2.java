@@ -1,25 +1,93 @@
 package org.babyfish.jimmer.jackson.v2;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import org.babyfish.jimmer.jackson.Converter;
+import org.babyfish.jimmer.jackson.ConverterMetadata;
+import org.babyfish.jimmer.jackson.LazyJson;
+import org.babyfish.jimmer.jackson.LongToStringConverter;
+import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.PropId;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 
+/**
+ * Writes jimmer property by the generated {@code __get(PropId)} switch
+ * instead of the reflective getter invoked by the super class,
+ * the loaded and visible states are checked before reading value.
+ */
 class ImmutablePropertyWriterV2 extends BeanPropertyWriter {
 
     private final PropId propId;
 
-    public ImmutablePropertyWriterV2(BeanPropertyWriter base, PropId propId) {
+    private final boolean longToString;
+
+    public ImmutablePropertyWriterV2(BeanPropertyWriter base, ImmutableProp prop) {
         super(base);
-        this.propId = propId;
+        this.propId = prop.getId();
+        ConverterMetadata metadata = prop.getConverterMetadata();
+        Converter<?, ?> converter = metadata != null ? metadata.getConverter() : null;
+        this.longToString = converter instanceof LongToStringConverter;
     }
 
     @Override
     public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
         ImmutableSpi spi = (ImmutableSpi) bean;
-        if (spi.__isLoaded(propId) && spi.__isVisible(propId)) {
-            super.serializeAsField(bean, gen, prov);
+        if (!spi.__isLoaded(propId) || !spi.__isVisible(propId)) {
+            return;
+        }
+        Object value = spi.__get(propId);
+        if (value == null) {
+            if (_suppressableValue != null && prov.includeFilterSuppressNulls(_suppressableValue)) {
+                return;
+            }
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_name);
+                _nullSerializer.serialize(null, gen, prov);
+            }
+            return;
+        }
+        if (_serializer == null && _typeSerializer == null && _suppressableValue == null) {
+            String unparsedJson = LazyJson.unparsedJson(value);
+            if (unparsedJson != null) {
+                gen.writeFieldName(_name);
+                gen.writeRawValue(unparsedJson);
+                return;
+            }
+        }
+        if (longToString && _typeSerializer == null && _suppressableValue == null && value instanceof Long) {
+            gen.writeFieldName(_name);
+            gen.writeString(value.toString());
+            return;
+        }
+        JsonSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            PropertySerializerMap m = _dynamicSerializers;
+            ser = m.serializerFor(cls);
+            if (ser == null) {
+                ser = _findAndAddDynamic(m, cls, prov);
+            }
+        }
+        if (_suppressableValue != null) {
+            if (MARKER_FOR_EMPTY == _suppressableValue) {
+                if (ser.isEmpty(prov, value)) {
+                    return;
+                }
+            } else if (_suppressableValue.equals(value)) {
+                return;
+            }
+        }
+        if (value == bean && _handleSelfReference(bean, gen, prov, ser)) {
+            return;
+        }
+        gen.writeFieldName(_name);
+        if (_typeSerializer == null) {
+            ser.serialize(value, gen, prov);
+        } else {
+            ser.serializeWithType(value, gen, prov, _typeSerializer);
         }
     }
 
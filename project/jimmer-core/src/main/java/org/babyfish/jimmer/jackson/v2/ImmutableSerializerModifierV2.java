@@ -35,7 +35,7 @@ class ImmutableSerializerModifierV2 extends BeanSerializerModifier {
             }
             Method method = (Method) member;
             ImmutableProp prop = ImmutableProps.get(type, method);
-            itr.set(new ImmutablePropertyWriterV2(writer, prop.getId()));
+            itr.set(new ImmutablePropertyWriterV2(writer, prop));
         }
         return beanProperties;
     }
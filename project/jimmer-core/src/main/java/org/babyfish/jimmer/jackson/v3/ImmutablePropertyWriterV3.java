@@ -2,24 +2,92 @@ package org.babyfish.jimmer.jackson.v3;
 
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
+import org.babyfish.jimmer.jackson.Converter;
+import org.babyfish.jimmer.jackson.ConverterMetadata;
+import org.babyfish.jimmer.jackson.LazyJson;
+import org.babyfish.jimmer.jackson.LongToStringConverter;
+import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.PropId;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 
+/**
+ * Writes jimmer property by the generated {@code __get(PropId)} switch
+ * instead of the reflective getter invoked by the super class,
+ * the loaded and visible states are checked before reading value.
+ */
 class ImmutablePropertyWriterV3 extends BeanPropertyWriter {
 
     private final PropId propId;
 
-    public ImmutablePropertyWriterV3(BeanPropertyWriter base, PropId propId) {
+    private final boolean longToString;
+
+    public ImmutablePropertyWriterV3(BeanPropertyWriter base, ImmutableProp prop) {
         super(base);
-        this.propId = propId;
+        this.propId = prop.getId();
+        ConverterMetadata metadata = prop.getConverterMetadata();
+        Converter<?, ?> converter = metadata != null ? metadata.getConverter() : null;
+        this.longToString = converter instanceof LongToStringConverter;
     }
 
     @Override
     public void serializeAsProperty(Object bean, JsonGenerator gen, SerializationContext ctx) throws Exception {
         ImmutableSpi spi = (ImmutableSpi) bean;
-        if (spi.__isLoaded(propId) && spi.__isVisible(propId)) {
-            super.serializeAsProperty(bean, gen, ctx);
+        if (!spi.__isLoaded(propId) || !spi.__isVisible(propId)) {
+            return;
+        }
+        Object value = spi.__get(propId);
+        if (value == null) {
+            if (_suppressableValue != null && ctx.includeFilterSuppressNulls(_suppressableValue)) {
+                return;
+            }
+            if (_nullSerializer != null) {
+                gen.writeName(_name);
+                _nullSerializer.serialize(null, gen, ctx);
+            }
+            return;
+        }
+        if (_serializer == null && _typeSerializer == null && _suppressableValue == null) {
+            String unparsedJson = LazyJson.unparsedJson(value);
+            if (unparsedJson != null) {
+                gen.writeName(_name);
+                gen.writeRawValue(unparsedJson);
+                return;
+            }
+        }
+        if (longToString && _typeSerializer == null && _suppressableValue == null && value instanceof Long) {
+            gen.writeName(_name);
+            gen.writeString(value.toString());
+            return;
+        }
+        ValueSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            PropertySerializerMap m = _dynamicSerializers;
+            ser = m.serializerFor(cls);
+            if (ser == null) {
+                ser = _findAndAddDynamic(m, cls, ctx);
+            }
+        }
+        if (_suppressableValue != null) {
+            if (MARKER_FOR_EMPTY == _suppressableValue) {
+                if (ser.isEmpty(ctx, value)) {
+                    return;
+                }
+            } else if (_suppressableValue.equals(value)) {
+                return;
+            }
+        }
+        if (value == bean && _handleSelfReference(bean, gen, ctx, ser)) {
+            return;
+        }
+        gen.writeName(_name);
+        if (_typeSerializer == null) {
+            ser.serialize(value, gen, ctx);
+        } else {
+            ser.serializeWithType(value, gen, ctx, _typeSerializer);
         }
     }
 
@@ -35,7 +35,7 @@ class ImmutableSerializerModifierV3 extends ValueSerializerModifier {
             }
             Method method = (Method) member;
             ImmutableProp prop = ImmutableProps.get(type, method);
-            itr.set(new ImmutablePropertyWriterV3(writer, prop.getId()));
+            itr.set(new ImmutablePropertyWriterV3(writer, prop));
         }
         return beanProperties;
     }
@@ -1,7 +1,10 @@
 package org.babyfish.jimmer.jackson.v3;
 
+import org.babyfish.jimmer.jackson.codec.JsonSequenceWriter;
 import org.babyfish.jimmer.jackson.codec.JsonWriter;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
 
 import java.io.OutputStream;
 import java.io.Writer;
@@ -37,4 +40,48 @@ public class JsonWriterV3 implements JsonWriter {
     public void write(OutputStream os, Object obj) throws Exception {
         objectWriter.writeValue(os, obj);
     }
+
+    @Override
+    public JsonSequenceWriter writeArray(Writer writer) throws Exception {
+        // The target belongs to the caller, closing the sequence writer does not close it
+        return new SequenceWriterImpl(
+                objectWriter
+                        .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                        .writeValuesAsArray(writer)
+        );
+    }
+
+    @Override
+    public JsonSequenceWriter writeArray(OutputStream os) throws Exception {
+        // The target belongs to the caller, closing the sequence writer does not close it
+        return new SequenceWriterImpl(
+                objectWriter
+                        .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                        .writeValuesAsArray(os)
+        );
+    }
+
+    private static class SequenceWriterImpl implements JsonSequenceWriter {
+
+        private final SequenceWriter sequenceWriter;
+
+        SequenceWriterImpl(SequenceWriter sequenceWriter) {
+            this.sequenceWriter = sequenceWriter;
+        }
+
+        @Override
+        public void write(Object obj) throws Exception {
+            sequenceWriter.write(obj);
+        }
+
+        @Override
+        public void flush() throws Exception {
+            sequenceWriter.flush();
+        }
+
+        @Override
+        public void close() throws Exception {
+            sequenceWriter.close();
+        }
+    }
 }
@@ -116,6 +116,10 @@ public class DraftContext {
             draft = listDraftMap != null ? listDraftMap.get(list) : null;
         }
         if (draft == null) {
+            PersistentList<E> persistentList = PersistentList.unwrap(list);
+            if (persistentList != null) {
+                return resolvePersistentList(list, persistentList);
+            }
             List<E> newList = null;
             int index = 0;
             for (E e : list) {
@@ -139,6 +143,22 @@ public class DraftContext {
         return (List<E>) draft.resolve();
     }
 
+    private <E> List<E> resolvePersistentList(List<E> list, PersistentList<E> persistentList) {
+        PersistentList<E> newList = null;
+        int size = persistentList.size();
+        for (int i = 0; i < size; i++) {
+            E e = persistentList.get(i);
+            E resolved = resolveObject(e);
+            if (resolved != e) {
+                if (newList == null) {
+                    newList = persistentList.toMutable();
+                }
+                newList.set(i, resolved);
+            }
+        }
+        return newList != null ? newList.toPersistent() : list;
+    }
+
     private void validateOtherDraft(DraftContext ctx, String errorMessage) {
         if (ctx != null && ctx != this) {
             for (DraftContext parent = this.parent; parent != null; parent = parent.parent) {
@@ -9,6 +9,14 @@ import java.util.function.Predicate;
 
 public class ListDraft<E> implements List<E>, Draft {
 
+    /*
+     * If the size of base list is not less than this value,
+     * it is copied to `PersistentList` rather than `ArrayList`
+     * when it is modified for the first time, so that the
+     * unchanged parts can be shared by the old and new immutable lists
+     */
+    private static final int PERSISTENT_THRESHOLD = 1024;
+
     private final DraftContext ctx;
 
     private final Class<E> elementType;
@@ -212,6 +220,9 @@ public class ListDraft<E> implements List<E>, Draft {
     private boolean removeRange(int headHide, int tailHide, Predicate<E> predicate) {
         modCount++;
         List<E> m = mutable();
+        if (m instanceof PersistentList<?>) {
+            return ((PersistentList<E>) m).removeIf(headHide, m.size() - tailHide, predicate);
+        }
         ListIterator<E> itr = m
                 .subList(headHide, m.size() - tailHide)
                 .listIterator(m.size() - headHide - tailHide);
@@ -229,7 +240,15 @@ public class ListDraft<E> implements List<E>, Draft {
     private List<E> mutable() {
         List<E> m = modified;
         if (m == null) {
-            modified = m = new ArrayList<>(base);
+            PersistentList<E> persistentBase = PersistentList.unwrap(base);
+            if (persistentBase != null) {
+                m = persistentBase.toMutable();
+            } else if (base.size() >= PERSISTENT_THRESHOLD) {
+                m = PersistentList.of(base).toMutable();
+            } else {
+                m = new ArrayList<>(base);
+            }
+            modified = m;
         }
         return m;
     }
@@ -262,26 +281,43 @@ public class ListDraft<E> implements List<E>, Draft {
         if (m == null) {
             return b;
         }
-        if (b.size() == m.size()) {
-            Iterator<E> itr1 = b.iterator();
-            Iterator<E> itr2 = m.iterator();
-            boolean changed = false;
-            while (!changed && itr1.hasNext() && itr2.hasNext()) {
-                E e1 = itr1.next();
-                E e2 = itr2.next();
-                if (ctx != null) {
-                    changed = e1 instanceof DraftSpi || !ImmutableSpi.equals(e1, e2, true);
-                } else {
-                    changed = !e1.equals(e2);
-                }
+        if (m instanceof PersistentList<?>) {
+            PersistentList<E> persistentBase = PersistentList.unwrap(b);
+            if (persistentBase != null && persistentBase.matches((PersistentList<E>) m, this::isSame)) {
+                // Only the nodes which are not shared are compared
+                return b;
             }
-            if (!changed) {
+            if (persistentBase == null && !isChanged(b, m)) {
                 return b;
             }
+            return ((PersistentList<E>) m).toPersistent();
+        }
+        if (!isChanged(b, m)) {
+            return b;
         }
         return m;
     }
 
+    private boolean isChanged(List<E> b, List<E> m) {
+        if (b.size() != m.size()) {
+            return true;
+        }
+        Iterator<E> itr1 = b.iterator();
+        Iterator<E> itr2 = m.iterator();
+        boolean changed = false;
+        while (!changed && itr1.hasNext() && itr2.hasNext()) {
+            changed = !isSame(itr1.next(), itr2.next());
+        }
+        return changed;
+    }
+
+    private boolean isSame(E e1, E e2) {
+        if (ctx != null) {
+            return !(e1 instanceof DraftSpi) && ImmutableSpi.equals(e1, e2, true);
+        }
+        return e1.equals(e2);
+    }
+
     private void resolveElements() {
         DraftContext ctx = this.ctx;
         if (ctx != null) {
@@ -8,7 +8,7 @@ public class NonSharedList<E> implements List<E>, Serializable {
     private static final String MUTATION_ERROR_MESSAGE =
             "The list used by immutable object cannot be mutated";
 
-    private final List<E> raw;
+    final List<E> raw;
 
     NonSharedList(List<E> raw) {
         this.raw = raw;
@@ -0,0 +1,371 @@
+package org.babyfish.jimmer.runtime;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 32-way radix trie list, used by {@link ListDraft} for large lists.
+ *
+ * <ul>
+ *     <li>The immutable list shares the unchanged nodes
+ *     with the list it is derived from</li>
+ *     <li>The mutable list created by {@link #toMutable()} copies
+ *     the nodes on the path of the modified element only once,
+ *     so {@link #set(int, Object)} and {@link #add(Object)}
+ *     are O(log32(n))</li>
+ *     <li>Inserting or removing elements in the middle of list
+ *     rebuilds the trie, it costs O(n) as {@link ArrayList} does</li>
+ * </ul>
+ */
+final class PersistentList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    private int size;
+
+    private int shift;
+
+    private Node root;
+
+    // null: immutable list, otherwise: the nodes created by this token can be modified directly
+    private Object owner;
+
+    private PersistentList(int size, int shift, Node root, Object owner) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.owner = owner;
+    }
+
+    /**
+     * @return The immutable list contains the elements of the argument,
+     * or the argument itself if it is immutable persistent list.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> of(List<E> list) {
+        PersistentList<E> persistentList = unwrap(list);
+        if (persistentList != null && persistentList.owner == null) {
+            return persistentList;
+        }
+        PersistentList<E> mutableList = new PersistentList<>(0, 0, EMPTY_NODE, new Object());
+        for (E e : list) {
+            mutableList.add(e);
+        }
+        return mutableList.toPersistent();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> unwrap(List<E> list) {
+        if (list instanceof NonSharedList<?>) {
+            list = ((NonSharedList<E>) list).raw;
+        }
+        if (list instanceof PersistentList<?>) {
+            return (PersistentList<E>) list;
+        }
+        return null;
+    }
+
+    /**
+     * Create mutable list by O(1), it shares all nodes with this list,
+     * each node is copied when it is modified for the first time.
+     */
+    PersistentList<E> toMutable() {
+        return new PersistentList<>(size, shift, root, new Object());
+    }
+
+    /**
+     * Create immutable list by O(1) from this mutable list.
+     *
+     * <p>This mutable list can still be modified after this method is called,
+     * but it cannot affect the returned immutable list.</p>
+     */
+    PersistentList<E> toPersistent() {
+        if (owner == null) {
+            return this;
+        }
+        // Change the owner so that the nodes shared with the immutable list cannot be modified directly
+        owner = new Object();
+        return new PersistentList<>(size, shift, root, null);
+    }
+
+    /**
+     * Compare two lists of same size, the shared nodes are skipped.
+     *
+     * @return Whether all the elements in the same position
+     * are matched by the predicate
+     */
+    boolean matches(PersistentList<E> other, BiPredicate<E, E> predicate) {
+        if (size != other.size) {
+            return false;
+        }
+        return size == 0 || matches(root, other.root, shift, predicate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> boolean matches(Node node1, Node node2, int level, BiPredicate<E, E> predicate) {
+        if (node1 == node2) {
+            return true;
+        }
+        if (node1 == null || node2 == null) {
+            return false;
+        }
+        Object[] arr1 = node1.array;
+        Object[] arr2 = node2.array;
+        for (int i = 0; i < WIDTH; i++) {
+            if (level == 0) {
+                if (arr1[i] != arr2[i] && !predicate.test((E) arr1[i], (E) arr2[i])) {
+                    return false;
+                }
+            } else if (!matches((Node) arr1[i], (Node) arr2[i], level - BITS, predicate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return (E) node.array[index & MASK];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        validateMutable();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node node = root = editable(root);
+        for (int level = shift; level > 0; level -= BITS) {
+            int i = (index >>> level) & MASK;
+            Node child = editable((Node) node.array[i]);
+            node.array[i] = child;
+            node = child;
+        }
+        Object old = node.array[index & MASK];
+        node.array[index & MASK] = element;
+        return (E) old;
+    }
+
+    @Override
+    public boolean add(E element) {
+        validateMutable();
+        if (size == 1 << (shift + BITS)) {
+            Node newRoot = new Node(owner, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            root = newRoot;
+            shift += BITS;
+        }
+        int index = size;
+        Node node = root = editable(root);
+        for (int level = shift; level > 0; level -= BITS) {
+            int i = (index >>> level) & MASK;
+            Node child = (Node) node.array[i];
+            child = child != null ? editable(child) : new Node(owner, new Object[WIDTH]);
+            node.array[i] = child;
+            node = child;
+        }
+        node.array[index & MASK] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void add(int index, E element) {
+        if (index == size) {
+            add(element);
+            return;
+        }
+        validateMutable();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] arr = toArray();
+        Object[] newArr = new Object[arr.length + 1];
+        System.arraycopy(arr, 0, newArr, 0, index);
+        newArr[index] = element;
+        System.arraycopy(arr, index, newArr, index + 1, arr.length - index);
+        rebuild((E[]) newArr);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        validateMutable();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] arr = toArray();
+        Object[] newArr = new Object[arr.length - 1];
+        System.arraycopy(arr, 0, newArr, 0, index);
+        System.arraycopy(arr, index + 1, newArr, index, arr.length - index - 1);
+        rebuild((E[]) newArr);
+        return (E) arr[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        validateMutable();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+        if (index == size) {
+            for (E e : c) {
+                add(e);
+            }
+            return true;
+        }
+        Object[] arr = toArray();
+        Object[] insertedArr = c.toArray();
+        Object[] newArr = new Object[arr.length + insertedArr.length];
+        System.arraycopy(arr, 0, newArr, 0, index);
+        System.arraycopy(insertedArr, 0, newArr, index, insertedArr.length);
+        System.arraycopy(arr, index, newArr, index + insertedArr.length, arr.length - index);
+        rebuild((E[]) newArr);
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeIf(0, size, filter);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(0, size, c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeIf(0, size, e -> !c.contains(e));
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        removeIf(fromIndex, toIndex, null);
+    }
+
+    /**
+     * Remove the elements matched by the filter
+     * in the range by rebuilding the trie only once.
+     *
+     * @param filter If it is null, all the elements in the range are removed.
+     */
+    @SuppressWarnings("unchecked")
+    boolean removeIf(int fromIndex, int toIndex, Predicate<? super E> filter) {
+        validateMutable();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From index: " + fromIndex + ", To index: " + toIndex + ", Size: " + size
+            );
+        }
+        Object[] arr = toArray();
+        Object[] newArr = new Object[arr.length];
+        System.arraycopy(arr, 0, newArr, 0, fromIndex);
+        int newSize = fromIndex;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (filter != null && !filter.test((E) arr[i])) {
+                newArr[newSize++] = arr[i];
+            }
+        }
+        if (newSize == toIndex) {
+            return false;
+        }
+        System.arraycopy(arr, toIndex, newArr, newSize, arr.length - toIndex);
+        rebuild((E[]) Arrays.copyOf(newArr, newSize + arr.length - toIndex));
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        validateMutable();
+        if (size != 0) {
+            size = 0;
+            shift = 0;
+            root = EMPTY_NODE;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        int index = 0;
+        for (int leafStart = 0; leafStart < size; leafStart += WIDTH) {
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(leafStart >>> level) & MASK];
+            }
+            int len = Math.min(WIDTH, size - leafStart);
+            System.arraycopy(node.array, 0, arr, index, len);
+            index += len;
+        }
+        return arr;
+    }
+
+    private void rebuild(E[] arr) {
+        size = 0;
+        shift = 0;
+        root = EMPTY_NODE;
+        for (E e : arr) {
+            add(e);
+        }
+        modCount++;
+    }
+
+    private Node editable(Node node) {
+        if (node.owner == owner) {
+            return node;
+        }
+        return new Node(owner, node.array.clone());
+    }
+
+    private void validateMutable() {
+        if (owner == null) {
+            throw new UnsupportedOperationException("The persistent list is immutable");
+        }
+    }
+
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+
+    private static class Node {
+
+        final Object owner;
+
+        final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+}
@@ -11,4 +11,15 @@ import java.lang.annotation.*;
 @Target({ElementType.TYPE, ElementType.METHOD})
 @Scalar
 public @interface Serialized {
+
+    /**
+     * If it is true, the raw JSON read from database is kept and parsed
+     * only when the property value is accessed for the first time,
+     * an unparsed value is written verbatim by the jackson module of jimmer.
+     *
+     * <p>It can only be used by the property whose type is
+     * {@code Collection}, {@code List}, {@code Set} or {@code Map},
+     * please view {@link org.babyfish.jimmer.jackson.LazyJson}</p>
+     */
+    boolean lazy() default false;
 }
@@ -7,6 +7,7 @@ import org.babyfish.jimmer.model.Immutables;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public class BookTest {
 
@@ -107,4 +108,44 @@ public class BookTest {
                 book3.toString()
         );
     }
+
+    @Test
+    public void testCachedHashCode() {
+
+        Book book = BookDraft.$.produce(b -> {
+            b.setName("book");
+            b.setPrice(1);
+            b.addIntoAuthors(a -> {
+                a.setName("Jim");
+            });
+        });
+        int hash = book.hashCode();
+        assertEquals(hash, book.hashCode());
+
+        Book book2 = BookDraft.$.produce(book, b -> {
+            int oldHash = b.hashCode();
+            b.setPrice(2);
+            assertNotEquals(oldHash, b.hashCode());
+            b.setPrice(1);
+            assertEquals(oldHash, b.hashCode());
+            b.authors(true).get(0).setName("Kate");
+        });
+        Book book3 = BookDraft.$.produce(book2, b -> {
+            b.authors(true).get(0).setName("Jim");
+        });
+
+        assertNotEquals(book, book2);
+        assertEquals(book, book3);
+        assertEquals(hash, book3.hashCode());
+        assertEquals(
+                BookDraft.$.produce(b -> {
+                    b.setName("book");
+                    b.setPrice(1);
+                    b.addIntoAuthors(a -> {
+                        a.setName("Kate");
+                    });
+                }).hashCode(),
+                book2.hashCode()
+        );
+    }
 }
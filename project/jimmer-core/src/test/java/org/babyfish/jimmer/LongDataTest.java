@@ -2,6 +2,8 @@ package org.babyfish.jimmer;
 
 import org.babyfish.jimmer.model.LongData;
 import org.babyfish.jimmer.model.LongDataDraft;
+import org.babyfish.jimmer.model.LongInclusionData;
+import org.babyfish.jimmer.model.LongInclusionDataDraft;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -27,4 +29,24 @@ public class LongDataTest {
                 data2
         );
     }
+
+    @Test
+    public void testInclusion() {
+        LongInclusionData data = LongInclusionDataDraft.$.produce(draft -> {
+            draft.setDefaultSuppressedValue(0L);
+            draft.setEmptySuppressedValue(2L);
+        });
+        Assertions.assertEquals(
+                "{\"emptySuppressedValue\":\"2\"}",
+                data.toString()
+        );
+        LongInclusionData data2 = LongInclusionDataDraft.$.produce(draft -> {
+            draft.setDefaultSuppressedValue(1L);
+            draft.setEmptySuppressedValue(null);
+        });
+        Assertions.assertEquals(
+                "{\"defaultSuppressedValue\":\"1\"}",
+                data2.toString()
+        );
+    }
 }
@@ -0,0 +1,43 @@
+package org.babyfish.jimmer.jackson;
+
+import org.babyfish.jimmer.jackson.codec.JsonCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyJsonTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testList() {
+        List<Long> list = (List<Long>) LazyJson.of(
+                List.class,
+                "[1, 2, 3]",
+                JsonCodec.jsonCodec().readerForListOf(Long.class)
+        );
+        LazyJson lazyJson = (LazyJson) list;
+        assertFalse(lazyJson.isParsed());
+        assertEquals("[1, 2, 3]", LazyJson.unparsedJson(list));
+        assertEquals(Arrays.asList(1L, 2L, 3L), list);
+        assertTrue(lazyJson.isParsed());
+        assertNull(LazyJson.unparsedJson(list));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testMap() {
+        Map<String, Long> map = (Map<String, Long>) LazyJson.of(
+                Map.class,
+                "{\"a\": 1}",
+                JsonCodec.jsonCodec().readerForMapOf(Long.class)
+        );
+        assertFalse(((LazyJson) map).isParsed());
+        assertEquals(Collections.singletonMap("a", 1L), map);
+        assertTrue(((LazyJson) map).isParsed());
+    }
+}
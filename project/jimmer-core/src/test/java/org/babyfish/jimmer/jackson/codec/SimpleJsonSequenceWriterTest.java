@@ -0,0 +1,69 @@
+package org.babyfish.jimmer.jackson.codec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.babyfish.jimmer.jackson.codec.JsonCodec.jsonCodec;
+
+public class SimpleJsonSequenceWriterTest {
+
+    @Test
+    public void testWriter() throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JsonSequenceWriter sequenceWriter = new DelegatingWriter(jsonCodec().writer()).writeArray(writer)) {
+            sequenceWriter.write(Collections.singletonMap("a", 1));
+            sequenceWriter.write(Arrays.asList(2, 3));
+        }
+        Assertions.assertEquals("[{\"a\":1},[2,3]]", writer.toString());
+    }
+
+    @Test
+    public void testEmptyOutputStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DelegatingWriter(jsonCodec().writer()).writeArray(out).close();
+        Assertions.assertEquals("[]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    // Does not override `writeArray`, like the implementations outside jimmer
+    private static class DelegatingWriter implements JsonWriter {
+
+        private final JsonWriter raw;
+
+        DelegatingWriter(JsonWriter raw) {
+            this.raw = raw;
+        }
+
+        @Override
+        public JsonWriter withDefaultPrettyPrinter() {
+            return new DelegatingWriter(raw.withDefaultPrettyPrinter());
+        }
+
+        @Override
+        public String writeAsString(Object obj) throws Exception {
+            return raw.writeAsString(obj);
+        }
+
+        @Override
+        public byte[] writeAsBytes(Object obj) throws Exception {
+            return raw.writeAsBytes(obj);
+        }
+
+        @Override
+        public void write(Writer writer, Object obj) throws Exception {
+            raw.write(writer, obj);
+        }
+
+        @Override
+        public void write(OutputStream os, Object obj) throws Exception {
+            raw.write(os, obj);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.babyfish.jimmer.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.babyfish.jimmer.Immutable;
+import org.babyfish.jimmer.jackson.JsonConverter;
+import org.babyfish.jimmer.jackson.LongToStringConverter;
+
+@Immutable
+public interface LongInclusionData {
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    @JsonConverter(LongToStringConverter.class)
+    long defaultSuppressedValue();
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JsonConverter(LongToStringConverter.class)
+    Long emptySuppressedValue();
+}
@@ -0,0 +1,107 @@
+package org.babyfish.jimmer.runtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class PersistentListTest {
+
+    @Test
+    public void testStructuralSharing() {
+        List<Integer> base = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            base.add(i);
+        }
+        PersistentList<Integer> list1 = PersistentList.of(base);
+        Assertions.assertEquals(base, list1);
+
+        PersistentList<Integer> mutableList = list1.toMutable();
+        mutableList.set(4000, -1);
+        PersistentList<Integer> list2 = mutableList.toPersistent();
+        mutableList.set(4001, -2);
+        PersistentList<Integer> list3 = mutableList.toPersistent();
+
+        Assertions.assertEquals(4000, list1.get(4000));
+        Assertions.assertEquals(4001, list1.get(4001));
+        Assertions.assertEquals(-1, list2.get(4000));
+        Assertions.assertEquals(4001, list2.get(4001));
+        Assertions.assertEquals(-1, list3.get(4000));
+        Assertions.assertEquals(-2, list3.get(4001));
+
+        Assertions.assertTrue(list1.matches(list1.toMutable(), (a, b) -> false));
+        Assertions.assertFalse(list1.matches(list2, Integer::equals));
+        Assertions.assertTrue(list1.matches(list2, (a, b) -> a == 4000 && b == -1));
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list1.set(0, 0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list1.add(0));
+    }
+
+    @Test
+    public void testMutation() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.<Integer>of(new ArrayList<>()).toMutable();
+        for (int i = 0; i < 3000; i++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                expected.add(i);
+                list.add(i);
+            } else if (op < 7) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.set(index, -i), list.set(index, -i));
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            } else if (op < 9) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.addAll(index, Arrays.asList(i, i + 1));
+                list.addAll(index, Arrays.asList(i, i + 1));
+            }
+        }
+        Assertions.assertEquals(expected, list);
+
+        expected.removeIf(it -> it % 3 == 0);
+        list.removeIf(it -> it % 3 == 0);
+        Assertions.assertEquals(expected, list);
+
+        expected.subList(100, 200).clear();
+        list.subList(100, 200).clear();
+        Assertions.assertEquals(expected, list);
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @Test
+    public void testListDraft() {
+        List<Integer> base = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            base.add(i);
+        }
+        ListDraft<Integer> draft1 = new ListDraft<>(Integer.class, base);
+        draft1.set(1000, -1);
+        List<Integer> list1 = draft1.resolve();
+        Assertions.assertTrue(list1 instanceof PersistentList<?>);
+        Assertions.assertEquals(-1, list1.get(1000));
+
+        ListDraft<Integer> draft2 = new ListDraft<>(Integer.class, list1);
+        draft2.set(1000, -1);
+        Assertions.assertSame(list1, draft2.resolve());
+
+        ListDraft<Integer> draft3 = new ListDraft<>(Integer.class, list1);
+        draft3.set(1001, -2);
+        draft3.remove(0);
+        List<Integer> list3 = draft3.resolve();
+        Assertions.assertEquals(1999, list3.size());
+        Assertions.assertEquals(-1, list3.get(999));
+        Assertions.assertEquals(-2, list3.get(1000));
+        Assertions.assertEquals(2000, list1.size());
+        Assertions.assertEquals(1001, list1.get(1001));
+    }
+}
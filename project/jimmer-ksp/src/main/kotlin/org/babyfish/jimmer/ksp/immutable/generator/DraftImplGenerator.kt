@@ -146,7 +146,8 @@ class DraftImplGenerator(
                 .builder("hashCode")
                 .returns(INT)
                 .addModifiers(KModifier.OVERRIDE)
-                .addStatement("return %L.hashCode()", UNMODIFIED)
+                .addCode("// The modified object is still mutable, its hash code cannot be cached\n")
+                .addStatement("return __modified?.__deepHashCode() ?: __base!!.hashCode()")
                 .build()
         )
         addFunction(
@@ -155,7 +156,7 @@ class DraftImplGenerator(
                 .addParameter("shallow", BOOLEAN)
                 .returns(INT)
                 .addModifiers(KModifier.OVERRIDE)
-                .addStatement("return %L.__hashCode(shallow)", UNMODIFIED)
+                .addStatement("return if (shallow) %L.__hashCode(true) else hashCode()", UNMODIFIED)
                 .build()
         )
     }
@@ -38,6 +38,21 @@ class ImplGenerator(
                             .initializer("null")
                             .build()
                     )
+                    addProperty(
+                        PropertySpec
+                            .builder("__cachedHashCode", INT)
+                            .addModifiers(KModifier.INTERNAL)
+                            .mutable()
+                            .addAnnotation(Transient::class)
+                            .addAnnotation(
+                                AnnotationSpec
+                                    .builder(ctx.jacksonTypes.jsonIgnore)
+                                    .useSiteTarget(AnnotationSpec.UseSiteTarget.GET)
+                                    .build()
+                            )
+                            .initializer("0")
+                            .build()
+                    )
                     for (prop in type.properties.values) {
                         addFields(prop)
                     }
@@ -50,6 +65,7 @@ class ImplGenerator(
                     addIsLoadedFun(String::class)
                     addIsVisibleFun(PropId::class)
                     addIsVisibleFun(String::class)
+                    addCachedHashCodeFun()
                     addHashCodeFun(true)
                     addHashCodeFun(false)
                     addParameterizedHashCode()
@@ -230,6 +246,7 @@ class ImplGenerator(
                         .builder()
                         .apply {
                             addStatement("val copy = super.clone() as %T", type.draftClassName(PRODUCER, IMPL))
+                            addStatement("copy.__cachedHashCode = 0")
                             addStatement("val originalVisibility = this.__visibility")
                             beginControlFlow("if (originalVisibility != null)")
                             addStatement("val newVisibility = %T.of(%L)", VISIBILITY_CLASS_NAME, type.properties.size)
@@ -401,13 +418,37 @@ class ImplGenerator(
         )
     }
 
+    private fun TypeSpec.Builder.addCachedHashCodeFun() {
+        addFunction(
+            FunSpec
+                .builder("hashCode")
+                .addModifiers(KModifier.OVERRIDE)
+                .returns(INT)
+                .addCode(
+                    CodeBlock
+                        .builder()
+                        .apply {
+                            addStatement("var hash = __cachedHashCode")
+                            beginControlFlow("if (hash == 0)")
+                            add("// Immutable object, the deep hash code can be calculated only once\n")
+                            addStatement("hash = __deepHashCode()")
+                            addStatement("__cachedHashCode = hash")
+                            endControlFlow()
+                            addStatement("return hash")
+                        }
+                        .build()
+                )
+                .build()
+        )
+    }
+
     private fun TypeSpec.Builder.addHashCodeFun(shallow: Boolean) {
         addFunction(
             FunSpec
-                .builder(if (shallow) "__shallowHashCode" else "hashCode")
+                .builder(if (shallow) "__shallowHashCode" else "__deepHashCode")
                 .apply {
                     if (!shallow) {
-                        addModifiers(KModifier.OVERRIDE)
+                        addModifiers(KModifier.INTERNAL)
                     }
                 }
                 .returns(INT)
@@ -479,6 +520,19 @@ class ImplGenerator(
                             beginControlFlow("if (__other === null)")
                             addStatement("return false")
                             endControlFlow()
+                            if (!shallow) {
+                                beginControlFlow("if (__other === this)")
+                                addStatement("return true")
+                                endControlFlow()
+                                beginControlFlow("if (__other is %T)", type.draftClassName(PRODUCER, IMPL))
+                                add("// The cached hash codes are different, the deep comparison is unnecessary\n")
+                                addStatement("val __hash = __cachedHashCode")
+                                addStatement("val __otherHash = __other.__cachedHashCode")
+                                beginControlFlow("if (__hash != 0 && __otherHash != 0 && __hash != __otherHash)")
+                                addStatement("return false")
+                                endControlFlow()
+                                endControlFlow()
+                            }
                             for (prop in type.properties.values) {
                                 beginControlFlow(
                                     "if (__isVisible(%T.byIndex(%L)) != __other.__isVisible(%T.byIndex(%L)))",
@@ -180,10 +180,12 @@ class JSpringSqlClient extends JLazyInitializationSqlClient {
         builder.setDefaultTypeChangeAllowed(properties.isDefaultTypeChangeAllowed());
         builder.setDefaultSaveReturningEnabled(properties.isDefaultSaveReturningEnabled());
         builder.setDefaultSaveResultReadsAllProperties(properties.isDefaultSaveResultReadsAllProperties());
+        builder.setDefaultMultiRowInsertEnabled(properties.isDefaultMultiRowInsertEnabled());
         builder.setExplicitBatchEnabled(properties.isExplicitBatchEnabled());
         builder.setDumbBatchAcceptable(properties.isDumbBatchAcceptable());
         builder.setConstraintViolationTranslatable(properties.isConstraintViolationTranslatable());
         builder.setExecutorContextPrefixes(properties.getExecutorContextPrefixes());
+        builder.setExecutorContextSamplingRate(properties.getExecutorContextSamplingRate());
         if (properties.isShowSql()) {
             builder.setExecutor(Executor.log(executor));
         } else {
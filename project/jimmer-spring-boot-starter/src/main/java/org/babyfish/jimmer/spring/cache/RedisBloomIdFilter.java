@@ -0,0 +1,111 @@
+package org.babyfish.jimmer.spring.cache;
+
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.cache.BloomIdFilter;
+import org.babyfish.jimmer.sql.cache.RemoteKeyPrefixProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bloom filter persisted as redis bitmap, it is shared by all application instances
+ * and is filled only once unless the redis key is deleted.
+ *
+ * <p>The "filled" marker is the last bit of the same bitmap, so that
+ * if the bitmap is evicted, the marker is lost too and the filter
+ * is filled again, rather than reporting that no id exists.</p>
+ */
+public class RedisBloomIdFilter extends BloomIdFilter {
+
+    private final String key;
+
+    private final long filledBitIndex;
+
+    private final RedisOperations<String, byte[]> operations;
+
+    private volatile boolean filled;
+
+    public RedisBloomIdFilter(
+            @NotNull ImmutableType type,
+            long expectedIdCount,
+            double falsePositiveRate,
+            @Nullable RemoteKeyPrefixProvider keyPrefixProvider,
+            @NotNull RedisOperations<String, byte[]> operations
+    ) {
+        super(expectedIdCount, falsePositiveRate);
+        String keyPrefix = (keyPrefixProvider != null ? keyPrefixProvider : RemoteKeyPrefixProvider.DEFAULT)
+                .typeKeyPrefix(type);
+        this.key = keyPrefix + "bloom";
+        this.filledBitIndex = getBitCount();
+        this.operations = operations;
+    }
+
+    @Override
+    public boolean isFilled() {
+        if (filled) {
+            return true;
+        }
+        if (Boolean.TRUE.equals(operations.opsForValue().getBit(key, filledBitIndex))) {
+            filled = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void markFilled() {
+        operations.opsForValue().setBit(key, filledBitIndex, true);
+        filled = true;
+    }
+
+    @Override
+    protected boolean[] getBits(long[] bitIndexes) {
+        List<Object> results = operations.executePipelined(
+                new SessionCallback<Void>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public <XK, XV> Void execute(RedisOperations<XK, XV> pops) throws DataAccessException {
+                        RedisOperations<String, byte[]> pipelinedOps = (RedisOperations<String, byte[]>) pops;
+                        for (long bitIndex : bitIndexes) {
+                            pipelinedOps.opsForValue().getBit(key, bitIndex);
+                        }
+                        pipelinedOps.opsForValue().getBit(key, filledBitIndex);
+                        return null;
+                    }
+                }
+        );
+        boolean[] bits = new boolean[bitIndexes.length];
+        if (!Boolean.TRUE.equals(results.get(bitIndexes.length))) {
+            // The bitmap is evicted, all ids may exist until it is filled again
+            filled = false;
+            Arrays.fill(bits, true);
+            return bits;
+        }
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = Boolean.TRUE.equals(results.get(i));
+        }
+        return bits;
+    }
+
+    @Override
+    protected void setBits(long[] bitIndexes) {
+        operations.executePipelined(
+                new SessionCallback<Void>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public <XK, XV> Void execute(RedisOperations<XK, XV> pops) throws DataAccessException {
+                        RedisOperations<String, byte[]> pipelinedOps = (RedisOperations<String, byte[]>) pops;
+                        for (long bitIndex : bitIndexes) {
+                            pipelinedOps.opsForValue().setBit(key, bitIndex, true);
+                        }
+                        return null;
+                    }
+                }
+        );
+    }
+}
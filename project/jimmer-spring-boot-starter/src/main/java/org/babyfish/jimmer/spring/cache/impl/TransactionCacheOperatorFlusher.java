@@ -34,6 +34,11 @@ public class TransactionCacheOperatorFlusher {
         }
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void afterRollback(DatabaseEvent e) {
+        dirtyLocal.remove();
+    }
+
     @Scheduled(
             fixedDelayString = "${jimmer.transaction-cache-operator-fixed-delay:5000}",
             initialDelay = 0
@@ -87,6 +87,8 @@ public class JimmerProperties {
 
     private final boolean defaultSaveResultReadsAllProperties;
 
+    private final boolean defaultMultiRowInsertEnabled;
+
     private final boolean explicitBatchEnabled;
 
     private final boolean dumbBatchAcceptable;
@@ -95,6 +97,10 @@ public class JimmerProperties {
 
     private final Collection<String> executorContextPrefixes;
 
+    private final double executorContextSamplingRate;
+
+    private final boolean graphqlLoaderOffloaded;
+
     @NotNull
     private final String microServiceName;
 
@@ -135,10 +141,13 @@ public class JimmerProperties {
             boolean defaultTypeChangeAllowed,
             @Nullable Boolean defaultSaveReturningEnabled, // Default value is true, so use `Boolean`
             boolean defaultSaveResultReadsAllProperties,
+            boolean defaultMultiRowInsertEnabled,
             boolean explicitBatchEnabled,
             boolean dumbBatchAcceptable,
             Boolean constraintViolationTranslatable, // Default value is true, so use `Boolean`
             @Nullable Collection<String> executorContextPrefixes,
+            @Nullable Double executorContextSamplingRate, // Default value is 1, so use `Double`
+            boolean graphqlLoaderOffloaded,
             @Nullable String microServiceName,
             @Nullable ErrorTranslator errorTranslator,
             @Nullable Client client) {
@@ -271,6 +280,7 @@ public class JimmerProperties {
                         defaultSaveReturningEnabled :
                         true;
         this.defaultSaveResultReadsAllProperties = defaultSaveResultReadsAllProperties;
+        this.defaultMultiRowInsertEnabled = defaultMultiRowInsertEnabled;
         this.explicitBatchEnabled = explicitBatchEnabled;
         this.dumbBatchAcceptable = dumbBatchAcceptable;
         this.constraintViolationTranslatable =
@@ -278,6 +288,11 @@ public class JimmerProperties {
                         constraintViolationTranslatable :
                         true;
         this.executorContextPrefixes = executorContextPrefixes;
+        this.executorContextSamplingRate =
+                executorContextSamplingRate != null ?
+                        executorContextSamplingRate :
+                        1;
+        this.graphqlLoaderOffloaded = graphqlLoaderOffloaded;
         this.microServiceName =
                 microServiceName != null ?
                         microServiceName :
@@ -461,6 +476,10 @@ public class JimmerProperties {
         return defaultSaveResultReadsAllProperties;
     }
 
+    public boolean isDefaultMultiRowInsertEnabled() {
+        return defaultMultiRowInsertEnabled;
+    }
+
     public boolean isExplicitBatchEnabled() {
         return explicitBatchEnabled;
     }
@@ -496,6 +515,30 @@ public class JimmerProperties {
         return executorContextPrefixes;
     }
 
+    /**
+     * Only a part of SQL statements capture the executor context,
+     * the value must be in (0, 1], the default value is 1.
+     *
+     * This configuration is meaningless if `executorContextPrefixes` is not configured.
+     */
+    public double getExecutorContextSamplingRate() {
+        return executorContextSamplingRate;
+    }
+
+    /**
+     * Whether the batch loaders of Spring GraphQL are executed by
+     * the bounded elastic scheduler of reactor rather than the current thread,
+     * the default value is false.
+     *
+     * If it is true, the blocking JDBC calls do not occupy the thread of
+     * the reactive pipeline, however, the thread-bound Spring transactions and
+     * other thread local variables (such as the tenant used by global filters)
+     * are invisible to the batch loaders.
+     */
+    public boolean isGraphqlLoaderOffloaded() {
+        return graphqlLoaderOffloaded;
+    }
+
     @NotNull
     public String getMicroServiceName() {
         return microServiceName;
@@ -543,10 +586,13 @@ public class JimmerProperties {
                 ", defaultTypeChangeAllowed=" + defaultTypeChangeAllowed +
                 ", defaultSaveReturningEnabled=" + defaultSaveReturningEnabled +
                 ", defaultSaveResultReadsAllProperties=" + defaultSaveResultReadsAllProperties +
+                ", defaultMultiRowInsertEnabled=" + defaultMultiRowInsertEnabled +
                 ", explicitBatchEnabled=" + explicitBatchEnabled +
                 ", dumbBatchAcceptable=" + dumbBatchAcceptable +
                 ", constraintViolationTranslatable=" + constraintViolationTranslatable +
                 ", executorContextPrefixes=" + executorContextPrefixes +
+                ", executorContextSamplingRate=" + executorContextSamplingRate +
+                ", graphqlLoaderOffloaded=" + graphqlLoaderOffloaded +
                 ", microServiceName='" + microServiceName + '\'' +
                 ", errorTranslator=" + errorTranslator +
                 ", client=" + client +
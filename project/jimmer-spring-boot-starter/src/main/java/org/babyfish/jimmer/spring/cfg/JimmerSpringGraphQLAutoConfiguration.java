@@ -12,10 +12,15 @@ import org.babyfish.jimmer.meta.PropId;
 import org.babyfish.jimmer.meta.TargetLevel;
 import org.babyfish.jimmer.meta.impl.TypedPropImpl;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.spring.graphql.DataFetchingEnvironments;
 import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.fetcher.impl.FetcherImpl;
+import org.babyfish.jimmer.sql.fetcher.impl.FetcherInterner;
 import org.babyfish.jimmer.sql.kt.KSqlClient;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 import org.dataloader.DataLoader;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -24,57 +29,40 @@ import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.graphql.execution.GraphQlSource;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @AutoConfiguration
 @ConditionalOnClass({GraphQL.class, GraphQlSource.class})
 public class JimmerSpringGraphQLAutoConfiguration {
 
-    @SuppressWarnings("unchecked")
     public JimmerSpringGraphQLAutoConfiguration(
             BatchLoaderRegistry registry,
+            @Autowired(required = false) JimmerProperties properties,
             @Autowired(required = false) JSqlClient jSqlClient,
             @Autowired(required = false) KSqlClient kSqlClient
     ) {
         JSqlClientImplementor sqlClient = sqlClient(jSqlClient, kSqlClient);
+        boolean offloaded = properties != null && properties.isGraphqlLoaderOffloaded();
         for (ImmutableType type : sqlClient.getEntityManager().getAllTypes(sqlClient.getMicroServiceName())) {
             if (type.isEntity()) {
                 for (ImmutableProp prop : type.getProps().values()) {
-                    if (prop.isReference(TargetLevel.ENTITY)) {
-                        registry.forName(prop.toString()).registerMappedBatchLoader((sources, env) -> {
-                            return Mono.just(
-                                    sqlClient
-                                            .getLoaders()
-                                            .reference(
-                                                    TypedPropImpl.Reference.of(prop)
-                                            )
-                                            .batchLoad(sources)
-                            );
-                        });
-                    } else if (prop.isReferenceList(TargetLevel.ENTITY)) {
-                        registry.forName(prop.toString()).registerMappedBatchLoader((sources, env) -> {
-                            return Mono.just(
-                                    (Map<Object, Object>) (Map<?, ?>) sqlClient
-                                            .getLoaders()
-                                            .list(
-                                                    new TypedPropImpl.ReferenceList<>(prop)
-                                            )
-                                            .batchLoad(sources)
-                            );
-                        });
-                    } else if (prop.hasTransientResolver()) {
-                        registry.forName(prop.toString()).registerMappedBatchLoader((sources, env) -> {
-                            return Mono.just(
-                                    sqlClient
-                                            .getLoaders()
-                                            .value(
-                                                    // Temporary solution, jimmer change graphql solution in next version
-                                                    TypedPropImpl.Scalar.of(prop)
-                                            )
-                                            .batchLoad(sources)
-                            );
+                    if (prop.isAssociation(TargetLevel.ENTITY) || prop.hasTransientResolver()) {
+                        registry.<Object, Object>forName(prop.toString()).registerMappedBatchLoader((keys, env) -> {
+                            if (offloaded) {
+                                // JDBC is blocking, so it is not executed by the thread of reactive pipeline,
+                                // thread-bound transactions and thread local variables are lost
+                                return Mono
+                                        .fromCallable(() -> batchLoad(sqlClient, prop, keys))
+                                        .subscribeOn(Schedulers.boundedElastic());
+                            }
+                            return Mono.just(batchLoad(sqlClient, prop, keys));
                         });
                     }
                 }
@@ -82,6 +70,56 @@ public class JimmerSpringGraphQLAutoConfiguration {
         }
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Object> batchLoad(
+            JSqlClientImplementor sqlClient,
+            ImmutableProp prop,
+            Set<Object> keys
+    ) {
+        Map<Fetcher<?>, List<Object>> sourcesMap = new LinkedHashMap<>();
+        for (Object key : keys) {
+            if (key instanceof LoaderKey) {
+                LoaderKey loaderKey = (LoaderKey) key;
+                sourcesMap.computeIfAbsent(loaderKey.fetcher, it -> new ArrayList<>()).add(loaderKey.source);
+            } else {
+                sourcesMap.computeIfAbsent(null, it -> new ArrayList<>()).add(key);
+            }
+        }
+        Map<Object, Object> resultMap = new HashMap<>();
+        for (Map.Entry<Fetcher<?>, List<Object>> e : sourcesMap.entrySet()) {
+            Fetcher fetcher = e.getKey();
+            Map<Object, ?> map;
+            if (prop.isReference(TargetLevel.ENTITY)) {
+                map = sqlClient
+                        .getLoaders()
+                        .reference(TypedPropImpl.Reference.of(prop))
+                        .forFetcher(fetcher)
+                        .batchLoad(e.getValue());
+            } else if (prop.isReferenceList(TargetLevel.ENTITY)) {
+                map = sqlClient
+                        .getLoaders()
+                        .list(new TypedPropImpl.ReferenceList<>(prop))
+                        .forFetcher(fetcher)
+                        .batchLoad(e.getValue());
+            } else {
+                map = sqlClient
+                        .getLoaders()
+                        .value(
+                                // Temporary solution, jimmer change graphql solution in next version
+                                TypedPropImpl.Scalar.of(prop)
+                        )
+                        .batchLoad(e.getValue());
+            }
+            for (Map.Entry<Object, ?> resultEntry : map.entrySet()) {
+                Object key = fetcher != null ?
+                        new LoaderKey(resultEntry.getKey(), fetcher) :
+                        resultEntry.getKey();
+                resultMap.put(key, resultEntry.getValue());
+            }
+        }
+        return resultMap;
+    }
+
     @Bean
     public RuntimeWiringConfigurer jimmerRuntimeWiringConfigurer(
             @Autowired(required = false) JSqlClient jSqlClient,
@@ -143,10 +181,13 @@ public class JimmerSpringGraphQLAutoConfiguration {
 
         private final ImmutableProp prop;
 
+        private Fetcher<?> defaultFetcher;
+
         JimmerComplexFetcher(ImmutableProp prop) {
             this.prop = prop;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public Object get(DataFetchingEnvironment env) {
             ImmutableSpi spi = env.getSource();
@@ -163,7 +204,77 @@ public class JimmerSpringGraphQLAutoConfiguration {
             if (dataLoader == null) {
                 throw new IllegalStateException("No DataLoader for key '" + prop + "'");
             }
-            return dataLoader.load(env.getSource());
+            Fetcher<?> fetcher = targetFetcher(env);
+            if (fetcher == null) {
+                return dataLoader.load(env.getSource());
+            }
+            return ((DataLoader<Object, ?>) dataLoader).load(new LoaderKey(spi, fetcher));
+        }
+
+        /**
+         * Only the fields selected by the GraphQL query are loaded
+         */
+        @Nullable
+        private Fetcher<?> targetFetcher(DataFetchingEnvironment env) {
+            if (!prop.isAssociation(TargetLevel.ENTITY) || env.getMergedField().getFields().size() != 1) {
+                return null;
+            }
+            Fetcher<?> fetcher;
+            try {
+                fetcher = DataFetchingEnvironments.createFetcher(prop.getTargetType().getJavaClass(), env);
+            } catch (IllegalArgumentException ex) {
+                // The selection cannot be mapped to the properties
+                fetcher = null;
+            }
+            if (fetcher == null) {
+                fetcher = defaultFetcher;
+                if (fetcher == null) {
+                    defaultFetcher = fetcher = FetcherInterner.intern(
+                            new FetcherImpl<>(prop.getTargetType().getJavaClass()).allTableFields()
+                    );
+                }
+            }
+            return fetcher;
+        }
+    }
+
+    /**
+     * The key of data loader if the shape of target objects is specified
+     */
+    private static class LoaderKey {
+
+        final Object source;
+
+        final Fetcher<?> fetcher;
+
+        LoaderKey(Object source, Fetcher<?> fetcher) {
+            this.source = source;
+            this.fetcher = fetcher;
+        }
+
+        @Override
+        public int hashCode() {
+            return source.hashCode() * 31 + fetcher.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LoaderKey)) {
+                return false;
+            }
+            LoaderKey other = (LoaderKey) o;
+            return source.equals(other.source) && fetcher.equals(other.fetcher);
+        }
+
+        @Override
+        public String toString() {
+            return "LoaderKey{" +
+                    "source=" + source +
+                    ", fetcher=" + fetcher +
+                    '}';
         }
     }
 
@@ -12,6 +12,8 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -21,6 +23,10 @@ public class SpringConnectionManager implements DataSourceAwareConnectionManager
 
     private final Supplier<DataSourceTransactionManager> transactionManagerResolver;
 
+    // Not `synchronized`, the resolver may create spring beans,
+    // which should not pin the carrier thread of virtual thread
+    private final Lock lock = new ReentrantLock();
+
     private volatile Object transactionManagerOrException;
 
     public SpringConnectionManager(DataSource dataSource) {
@@ -113,7 +119,8 @@ public class SpringConnectionManager implements DataSourceAwareConnectionManager
 
     private Object transactionManagerObject() {
         if (transactionManagerOrException == null) {
-            synchronized (this) {
+            lock.lock();
+            try {
                 if (transactionManagerOrException == null) {
                     if (transactionManagerResolver == null) {
                         transactionManagerOrException = new IllegalStateException(
@@ -136,6 +143,8 @@ public class SpringConnectionManager implements DataSourceAwareConnectionManager
                         }
                     }
                 }
+            } finally {
+                lock.unlock();
             }
         }
         return transactionManagerOrException;
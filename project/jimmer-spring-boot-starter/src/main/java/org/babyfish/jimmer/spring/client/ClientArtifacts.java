@@ -0,0 +1,230 @@
+package org.babyfish.jimmer.spring.client;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Client artifacts such as the OpenAPI document and the TypeScript zip
+ * only depend on the compiled code, so each of them is generated
+ * once per `groups` and kept in memory.
+ *
+ * <ul>
+ *     <li>The artifact without `groups` is generated by a background
+ *     thread when the controller is created</li>
+ *     <li>Compressible artifacts are kept as gzip bytes, and sent as they are
+ *     if the client accepts gzip, otherwise they are decompressed on the fly</li>
+ *     <li>The ETag is the digest of the artifact, so that the polling
+ *     clients can use `If-None-Match` to get `304 Not Modified`.
+ *     The gzip and identity representations have different ETags
+ *     and the response varies by `Accept-Encoding`</li>
+ * </ul>
+ */
+class ClientArtifacts {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientArtifacts.class);
+
+    private static final int MAX_ARTIFACT_COUNT = 32;
+
+    private final String contentType;
+
+    private final boolean compressible;
+
+    private final Generator generator;
+
+    private final Map<String, Future<Artifact>> artifactMap = new ConcurrentHashMap<>();
+
+    ClientArtifacts(String contentType, boolean compressible, Generator generator) {
+        this.contentType = contentType;
+        this.compressible = compressible;
+        this.generator = generator;
+        Thread thread = new Thread(this::preload, "jimmer-client-artifacts");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    ResponseEntity<StreamingResponseBody> response(
+            @Nullable String groups,
+            @Nullable String ifNoneMatch,
+            @Nullable String acceptEncoding
+    ) {
+        Artifact artifact = artifact(groups);
+        boolean sendGzip = artifact.gzipped && acceptsGzip(acceptEncoding);
+        // Gzip and identity are different representations, so they must have different ETags
+        String etag = sendGzip ? artifact.gzipEtag : artifact.etag;
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-Type", contentType);
+        headers.setETag(etag);
+        if (artifact.gzipped) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        StreamingResponseBody body;
+        if (!artifact.gzipped) {
+            body = out -> out.write(artifact.data);
+        } else if (sendGzip) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = out -> out.write(artifact.data);
+        } else {
+            body = out -> {
+                try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(artifact.data))) {
+                    StreamUtils.copy(in, out);
+                }
+            };
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    /**
+     * Whether the `Accept-Encoding` header accepts gzip,
+     * the codings whose quality value is 0 are not acceptable.
+     */
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] items = part.split(";");
+            String coding = items[0].trim().toLowerCase();
+            boolean acceptable = true;
+            for (int i = 1; i < items.length; i++) {
+                String param = items[i].trim().toLowerCase();
+                if (param.startsWith("q=")) {
+                    try {
+                        acceptable = Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (NumberFormatException ex) {
+                        acceptable = false;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return acceptable;
+            }
+            if (coding.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    /**
+     * Whether the `If-None-Match` header matches the ETag,
+     * weak comparison is used as required by RFC 9110.
+     */
+    static boolean matches(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String part : ifNoneMatch.split(",")) {
+            String tag = part.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void preload() {
+        try {
+            artifact(null);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Cannot preload the client artifact, it will be generated when it is requested", ex);
+        }
+    }
+
+    private Artifact artifact(@Nullable String groups) {
+        String key = groups != null ? groups : "";
+        Future<Artifact> future = artifactMap.get(key);
+        if (future == null) {
+            FutureTask<Artifact> task = new FutureTask<>(() -> createArtifact(groups));
+            if (artifactMap.size() < MAX_ARTIFACT_COUNT) {
+                future = artifactMap.putIfAbsent(key, task);
+            }
+            if (future == null) {
+                future = task;
+                task.run();
+            }
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted when generating client artifact", ex);
+        } catch (ExecutionException ex) {
+            artifactMap.remove(key, future);
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Cannot generate client artifact", cause);
+        }
+    }
+
+    private Artifact createArtifact(@Nullable String groups) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        if (compressible) {
+            try (OutputStream out = new GZIPOutputStream(bout)) {
+                generator.generate(groups, out);
+            }
+        } else {
+            generator.generate(groups, bout);
+        }
+        byte[] data = bout.toByteArray();
+        String digest = DigestUtils.md5DigestAsHex(data);
+        return new Artifact(data, compressible, '"' + digest + '"', '"' + digest + "-gzip\"");
+    }
+
+    @FunctionalInterface
+    interface Generator {
+        void generate(@Nullable String groups, OutputStream out) throws IOException;
+    }
+
+    private static class Artifact {
+
+        final byte[] data;
+
+        final boolean gzipped;
+
+        final String etag;
+
+        final String gzipEtag;
+
+        Artifact(byte[] data, boolean gzipped, String etag, String gzipEtag) {
+            this.data = data;
+            this.gzipped = gzipped;
+            this.etag = etag;
+            this.gzipEtag = gzipEtag;
+        }
+    }
+}
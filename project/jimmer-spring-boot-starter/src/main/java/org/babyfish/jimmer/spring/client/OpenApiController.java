@@ -7,9 +7,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
@@ -19,14 +22,23 @@ public class OpenApiController {
 
     private final JimmerProperties properties;
 
+    private final ClientArtifacts artifacts;
+
     public OpenApiController(JimmerProperties properties) {
         this.properties = properties;
+        this.artifacts = new ClientArtifacts("application/yml", true, this::generate);
     }
 
     @GetMapping("${jimmer.client.openapi.path}")
     public ResponseEntity<StreamingResponseBody> download(
-            @RequestParam(name = "groups", required = false) String groups
+            @RequestParam(name = "groups", required = false) String groups,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
+        return artifacts.response(groups, ifNoneMatch, acceptEncoding);
+    }
+
+    private void generate(String groups, OutputStream out) throws IOException {
         Metadata metadata = Metadatas.create(
                 false,
                 groups,
@@ -38,13 +50,8 @@ public class OpenApiController {
                 return properties.getErrorTranslator().getHttpStatus();
             }
         };
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Type", "application/yml");
-        StreamingResponseBody body = out -> {
-            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
-            generator.generate(writer);
-            writer.flush();
-        };
-        return ResponseEntity.ok().headers(headers).body(body);
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        generator.generate(writer);
+        writer.flush();
     }
 }
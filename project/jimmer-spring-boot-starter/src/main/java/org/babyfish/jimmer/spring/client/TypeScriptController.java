@@ -9,19 +9,30 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
+
 @Controller
 public class TypeScriptController {
 
     private final JimmerProperties properties;
 
+    private final ClientArtifacts artifacts;
+
     public TypeScriptController(JimmerProperties properties) {
         this.properties = properties;
+        this.artifacts = new ClientArtifacts("application/zip", false, this::generate);
     }
 
     @GetMapping("${jimmer.client.ts.path}")
     public ResponseEntity<StreamingResponseBody> download(
-            @RequestParam(name = "groups", required = false) String groups
+            @RequestParam(name = "groups", required = false) String groups,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
+        return artifacts.response(groups, ifNoneMatch, acceptEncoding);
+    }
+
+    private void generate(String groups, OutputStream out) {
         JimmerProperties.Client.TypeScript ts = properties.getClient().getTs();
         Metadata metadata = Metadatas.create(
                 true,
@@ -36,9 +47,6 @@ public class TypeScriptController {
                 ts.getNullRenderMode(),
                 ts.isEnumTsStyle()
         );
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Type", "application/zip");
-        StreamingResponseBody body = ctx::renderAll;
-        return ResponseEntity.ok().headers(headers).body(body);
+        ctx.renderAll(out);
     }
 }
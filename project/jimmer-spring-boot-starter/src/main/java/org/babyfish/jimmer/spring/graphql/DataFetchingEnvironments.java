@@ -9,7 +9,9 @@ import org.babyfish.jimmer.Page;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.meta.TargetLevel;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
 import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.fetcher.impl.FetcherCache;
 import org.babyfish.jimmer.sql.fetcher.impl.FetcherImpl;
 import org.babyfish.jimmer.sql.fetcher.impl.FetcherImplementor;
 
@@ -19,12 +21,82 @@ import java.util.stream.Collectors;
 
 public class DataFetchingEnvironments {
 
+    private static final int MAX_CACHED_FIELD_COUNT = 1024;
+
+    /*
+     * Key: Tuple2(root type, fingerprint of the selection set of field)
+     * Value: Fetcher created from that field
+     *
+     * The fingerprint is built from the structure of the selection set,
+     * so the equivalent queries share the fetcher even if their documents
+     * are parsed again by graphql-java.
+     */
+    private static final FetcherCache<Tuple2<Class<?>, String>> CACHE =
+            new FetcherCache<>(MAX_CACHED_FIELD_COUNT);
+
     private DataFetchingEnvironments() {}
 
     @SuppressWarnings("unchecked")
     public static <T> Fetcher<T> createFetcher(
             Class<T> rootType,
             DataFetchingEnvironment env
+    ) {
+        Field field = env.getMergedField().getSingleField();
+        StringBuilder builder = new StringBuilder();
+        appendFingerprint(env, field.getSelectionSet(), builder);
+        return (Fetcher<T>) CACHE.get(
+                new Tuple2<>(rootType, builder.toString()),
+                () -> createFetcherImpl(rootType, env)
+        );
+    }
+
+    /**
+     * Append the names, arguments presence, fragments and type conditions
+     * of the selection set, which are all the things used to create fetcher.
+     * The fragment spreads are expanded because the fragment definitions
+     * with the same name can be different in different documents.
+     */
+    private static void appendFingerprint(
+            DataFetchingEnvironment env,
+            SelectionSet selectionSet,
+            StringBuilder builder
+    ) {
+        if (selectionSet == null) {
+            return;
+        }
+        builder.append('{');
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof Field) {
+                Field field = (Field) selection;
+                builder.append(field.getName());
+                if (!field.getArguments().isEmpty()) {
+                    builder.append("()");
+                }
+                appendFingerprint(env, field.getSelectionSet(), builder);
+            } else if (selection instanceof FragmentSpread) {
+                FragmentDefinition definition =
+                        env.getFragmentsByName().get(((FragmentSpread) selection).getName());
+                if (definition != null) {
+                    builder.append("...on ").append(definition.getTypeCondition().getName());
+                    appendFingerprint(env, definition.getSelectionSet(), builder);
+                }
+            } else if (selection instanceof InlineFragment) {
+                TypeName typeCondition = ((InlineFragment) selection).getTypeCondition();
+                builder.append("...");
+                if (typeCondition != null) {
+                    builder.append("on ").append(typeCondition.getName());
+                }
+                appendFingerprint(env, ((InlineFragment) selection).getSelectionSet(), builder);
+            }
+            builder.append(',');
+        }
+        builder.append('}');
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Fetcher<T> createFetcherImpl(
+            Class<T> rootType,
+            DataFetchingEnvironment env
     ) {
         ImmutableType type = ImmutableType.tryGet(rootType);
         if (type == null || !type.isEntity()) {
@@ -73,6 +145,10 @@ public class DataFetchingEnvironments {
             if (!field.getArguments().isEmpty()) {
                 return;
             }
+            if (field.getName().startsWith("__")) {
+                // Introspection field such as `__typename`
+                return;
+            }
             ImmutableProp prop = immutableType.getProps().get(field.getName());
             if (prop == null) {
                 if (Arrays.stream(Page.class.getDeclaredFields())
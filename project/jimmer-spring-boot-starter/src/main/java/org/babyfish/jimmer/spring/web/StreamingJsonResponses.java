@@ -0,0 +1,35 @@
+package org.babyfish.jimmer.spring.web;
+
+import org.babyfish.jimmer.sql.ast.query.TypedRootQuery;
+import org.babyfish.jimmer.sql.kt.ast.query.KTypedRootQuery;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Creates {@link StreamingResponseBody} objects which write query results
+ * as JSON array batch by batch, for export endpoints whose results
+ * are too large to be held in memory.
+ *
+ * <p>The body is written by the async thread of Spring MVC after the
+ * controller method returns, so the query is executed by the connection
+ * managed by the sql client, not the connection of the current transaction.</p>
+ */
+public class StreamingJsonResponses {
+
+    private StreamingJsonResponses() {}
+
+    public static StreamingResponseBody of(TypedRootQuery<?> query) {
+        return of(query, -1);
+    }
+
+    public static StreamingResponseBody of(TypedRootQuery<?> query, int batchSize) {
+        return out -> query.writeJsonTo(null, batchSize, out);
+    }
+
+    public static StreamingResponseBody of(KTypedRootQuery<?> query) {
+        return of(query, -1);
+    }
+
+    public static StreamingResponseBody of(KTypedRootQuery<?> query, int batchSize) {
+        return out -> query.writeJsonTo(out, null, batchSize);
+    }
+}
@@ -0,0 +1,80 @@
+package org.babyfish.jimmer.spring.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class ClientArtifactsTest {
+
+    @Test
+    public void testAcceptsGzip() {
+        Assertions.assertFalse(ClientArtifacts.acceptsGzip(null));
+        Assertions.assertFalse(ClientArtifacts.acceptsGzip("identity"));
+        Assertions.assertTrue(ClientArtifacts.acceptsGzip("gzip"));
+        Assertions.assertTrue(ClientArtifacts.acceptsGzip("deflate, GZIP;q=0.5"));
+        Assertions.assertTrue(ClientArtifacts.acceptsGzip("x-gzip"));
+        Assertions.assertFalse(ClientArtifacts.acceptsGzip("gzip;q=0"));
+        Assertions.assertFalse(ClientArtifacts.acceptsGzip("gzip; q=0.0, deflate"));
+        Assertions.assertTrue(ClientArtifacts.acceptsGzip("*"));
+        Assertions.assertFalse(ClientArtifacts.acceptsGzip("*;q=0"));
+        Assertions.assertFalse(ClientArtifacts.acceptsGzip("*, gzip;q=0"));
+    }
+
+    @Test
+    public void testMatches() {
+        Assertions.assertFalse(ClientArtifacts.matches(null, "\"a\""));
+        Assertions.assertTrue(ClientArtifacts.matches("\"a\"", "\"a\""));
+        Assertions.assertTrue(ClientArtifacts.matches("\"b\", W/\"a\"", "\"a\""));
+        Assertions.assertTrue(ClientArtifacts.matches("*", "\"a\""));
+        Assertions.assertFalse(ClientArtifacts.matches("\"a-gzip\"", "\"a\""));
+    }
+
+    @Test
+    public void testEtagPerEncoding() throws IOException {
+        ClientArtifacts artifacts = new ClientArtifacts(
+                "application/yml",
+                true,
+                (groups, out) -> out.write("openapi: 3.0.1".getBytes(StandardCharsets.UTF_8))
+        );
+
+        ResponseEntity<StreamingResponseBody> gzip = artifacts.response(null, null, "gzip");
+        ResponseEntity<StreamingResponseBody> identity = artifacts.response(null, null, "gzip;q=0");
+        Assertions.assertEquals(HttpStatus.OK, gzip.getStatusCode());
+        Assertions.assertEquals(HttpStatus.OK, identity.getStatusCode());
+        Assertions.assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getHeaders().getFirst(HttpHeaders.VARY));
+        Assertions.assertEquals(HttpHeaders.ACCEPT_ENCODING, identity.getHeaders().getFirst(HttpHeaders.VARY));
+        String gzipEtag = gzip.getHeaders().getETag();
+        String identityEtag = identity.getHeaders().getETag();
+        Assertions.assertNotEquals(gzipEtag, identityEtag);
+        Assertions.assertEquals("openapi: 3.0.1", text(identity));
+
+        Assertions.assertEquals(
+                HttpStatus.NOT_MODIFIED,
+                artifacts.response(null, gzipEtag, "gzip").getStatusCode()
+        );
+        Assertions.assertEquals(
+                HttpStatus.NOT_MODIFIED,
+                artifacts.response(null, identityEtag, null).getStatusCode()
+        );
+        // The cached gzip representation cannot be used by the client which does not accept gzip
+        Assertions.assertEquals(
+                HttpStatus.OK,
+                artifacts.response(null, gzipEtag, null).getStatusCode()
+        );
+    }
+
+    private static String text(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -983,6 +983,20 @@ public class SpringJavaTest extends AbstractTest {
         );
     }
 
+    @Test
+    public void testOpenApiNotModified() throws Exception {
+        MvcResult result = mvc.perform(get("/my-openapi.yml"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = result.getResponse().getHeader("ETag");
+        Assertions.assertNotNull(etag);
+        mvc.perform(get("/my-openapi.yml").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     public void testOpenApiUi() throws Exception {
         MvcResult result = mvc.perform(get("/my-openapi.html"))
@@ -8,8 +8,10 @@ dependencies {
     implementation(libs.kotlin.reflect)
     api(projects.jimmerCoreKotlin)
     api(projects.jimmerSql)
+    compileOnly(libs.kotlinx.coroutines.core)
 
     testImplementation(libs.kotlin.test)
+    testImplementation(libs.kotlinx.coroutines.core)
     testImplementation(projects.jimmerSqlTest.jimmerSqlTestSupport)
     testImplementation(projects.jimmerSqlTest.jimmerSqlTestModelKotlin)
 
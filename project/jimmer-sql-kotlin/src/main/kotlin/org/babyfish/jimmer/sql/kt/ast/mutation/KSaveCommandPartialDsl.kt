@@ -170,6 +170,17 @@ interface KSaveCommandPartialDsl {
 
     fun setPessimisticLockAll()
 
+    /**
+     * Load the existing rows of this entity type from the object cache
+     * rather than querying the database when the save command must know them,
+     * cache misses are still loaded from the database.
+     *
+     * Do not enable it for the entity types which require strong consistency.
+     */
+    fun <E : Any> setPreQueryByCache(entityType: KClass<E>, enabled: Boolean = true)
+
+    fun setPreQueryByCacheAll()
+
     fun setAutoIdOnlyTargetCheckingAll()
 
     fun setAutoIdOnlyTargetChecking(prop: KProperty1<*, *>)
@@ -218,6 +229,10 @@ interface KSaveCommandPartialDsl {
 
     fun setSaveResultReadsAllProperties(readsAllProperties: Boolean = true)
 
+    fun setMultiRowInsertEnabled(enabled: Boolean = true)
+
+    fun setAssociationPipelineEnabled(enabled: Boolean = true)
+
     fun setConstraintViolationTranslatable(translatable: Boolean = true)
 
     fun addExceptionTranslator(translator: ExceptionTranslator<*>?)
@@ -31,4 +31,8 @@ internal class KDeleteCommandDslImpl(
     override fun setTransactionRequired(required: Boolean) {
         javaCommand = javaCommand.setTransactionRequired(required)
     }
+
+    override fun setRecursiveCteEnabled(enabled: Boolean) {
+        javaCommand = javaCommand.setRecursiveCteEnabled(enabled)
+    }
 }
@@ -188,6 +188,14 @@ internal class KSaveCommandDslImpl(
         javaCommand = javaCommand.setPessimisticLockAll()
     }
 
+    override fun <E : Any> setPreQueryByCache(entityType: KClass<E>, enabled: Boolean) {
+        javaCommand = javaCommand.setPreQueryByCache(entityType.java, enabled)
+    }
+
+    override fun setPreQueryByCacheAll() {
+        javaCommand = javaCommand.setPreQueryByCacheAll()
+    }
+
     override fun setAutoIdOnlyTargetCheckingAll() {
         javaCommand = javaCommand.setAutoIdOnlyTargetCheckingAll()
     }
@@ -284,6 +292,14 @@ internal class KSaveCommandDslImpl(
         javaCommand = javaCommand.setSaveResultReadsAllProperties(readsAllProperties)
     }
 
+    override fun setMultiRowInsertEnabled(enabled: Boolean) {
+        javaCommand = javaCommand.setMultiRowInsertEnabled(enabled)
+    }
+
+    override fun setAssociationPipelineEnabled(enabled: Boolean) {
+        javaCommand = javaCommand.setAssociationPipelineEnabled(enabled)
+    }
+
     override fun setConstraintViolationTranslatable(translatable: Boolean) {
         javaCommand = javaCommand.setConstraintViolationTranslatable(translatable)
     }
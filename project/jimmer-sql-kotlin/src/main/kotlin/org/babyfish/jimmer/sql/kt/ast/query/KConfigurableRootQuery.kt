@@ -10,6 +10,7 @@ import org.babyfish.jimmer.sql.kt.ast.expression.constant
 import org.babyfish.jimmer.sql.kt.ast.expression.rowCount
 import org.babyfish.jimmer.sql.kt.ast.table.KPropsLike
 import java.sql.Connection
+import java.time.Duration
 
 interface KConfigurableRootQuery<P : KPropsLike, R> : KTypedRootQuery<R> {
 
@@ -96,4 +97,27 @@ interface KConfigurableRootQuery<P : KPropsLike, R> : KTypedRootQuery<R> {
      */
     @NewChain
     fun hint(hint: String?): KConfigurableRootQuery<P, R>
+
+    /**
+     * Cache the result of [execute] in memory.
+     *
+     * The cache key is the rendered SQL and its variables,
+     * the cached result is evicted when the time-to-live is elapsed,
+     * or any table used by the query is modified, this requires triggers.
+     *
+     * It is ignored if the query is locked by `forUpdate`,
+     * all caches of the sql client are disabled, the connection is
+     * not in auto-commit mode because the uncommitted changes of the
+     * current transaction cannot be shared, or the fetched associations
+     * are filtered by global filters which are not cacheable filters.
+     *
+     * If the trigger type is `BINLOG_ONLY`, the binlog events
+     * must be sent to the sql client, otherwise the cached result
+     * is only evicted when the time-to-live is elapsed.
+     *
+     * @param ttl The time-to-live of the cached result
+     * @return A new query object
+     */
+    @NewChain
+    fun cacheable(ttl: Duration): KConfigurableRootQuery<P, R>
 }
@@ -1,6 +1,7 @@
 package org.babyfish.jimmer.sql.kt.ast.query
 
 import org.babyfish.jimmer.sql.kt.ast.KSelectionExecutable
+import java.io.OutputStream
 import java.sql.Connection
 
 interface KTypedRootQuery<R> : KSelectionExecutable<R> {
@@ -28,4 +29,16 @@ interface KTypedRootQuery<R> : KSelectionExecutable<R> {
         batchSize: Int = -1,
         block: (R) -> Unit
     )
+
+    /**
+     * Write the query result as JSON array without holding the whole result in memory,
+     * each batch is post-fetched, written and released before the next one is read.
+     *
+     * The output stream is not closed by this function.
+     */
+    fun writeJsonTo(
+        out: OutputStream,
+        con: Connection? = null,
+        batchSize: Int = -1
+    )
 }
@@ -12,6 +12,7 @@ import org.babyfish.jimmer.sql.kt.ast.query.KMutableRootQuery
 import org.babyfish.jimmer.sql.kt.ast.table.KPropsLike
 import org.babyfish.jimmer.sql.kt.ast.table.impl.AbstractKBaseTableImpl
 import java.sql.Connection
+import java.time.Duration
 import java.util.function.BiFunction
 
 internal class KConfigurableRootQueryImpl<P: KPropsLike, R>(
@@ -181,4 +182,7 @@ internal class KConfigurableRootQueryImpl<P: KPropsLike, R>(
 
     override fun hint(hint: String?): KConfigurableRootQuery<P, R> =
         KConfigurableRootQueryImpl(javaQuery.hint(hint))
+
+    override fun cacheable(ttl: Duration): KConfigurableRootQuery<P, R> =
+        KConfigurableRootQueryImpl(javaQuery.cacheable(ttl))
 }
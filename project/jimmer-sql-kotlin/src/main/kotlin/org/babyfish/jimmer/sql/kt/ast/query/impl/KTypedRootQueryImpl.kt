@@ -2,6 +2,7 @@ package org.babyfish.jimmer.sql.kt.ast.query.impl
 
 import org.babyfish.jimmer.sql.ast.query.TypedRootQuery
 import org.babyfish.jimmer.sql.kt.ast.query.KTypedRootQuery
+import java.io.OutputStream
 import java.sql.Connection
 import java.util.stream.Stream
 
@@ -44,4 +45,8 @@ internal open class KTypedRootQueryImpl<R>(
     override fun forEach(con: Connection?, batchSize: Int, block: (R) -> Unit) {
         _javaQuery.forEach(con, batchSize, block)
     }
+
+    override fun writeJsonTo(out: OutputStream, con: Connection?, batchSize: Int) {
+        _javaQuery.writeJsonTo(con, batchSize, out)
+    }
 }
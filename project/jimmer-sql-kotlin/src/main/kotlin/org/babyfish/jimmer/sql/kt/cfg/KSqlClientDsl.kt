@@ -142,6 +142,20 @@ class KSqlClientDsl constructor(
         javaBuilder.setExecutorContextPrefixes(prefixes)
     }
 
+    /**
+     * Only a part of SQL statements capture the executor context,
+     * so that the business call frames can be printed in production
+     * with acceptable cost.
+     *
+     * This configuration is meaningless if [setExecutorContextPrefixes] is not configured.
+     *
+     * @param samplingRate A value in (0, 1], the default value is 1,
+     * which means every SQL statement captures the executor context.
+     */
+    fun setExecutorContextSamplingRate(samplingRate: Double) {
+        javaBuilder.setExecutorContextSamplingRate(samplingRate)
+    }
+
     fun setSqlFormatter(fFormatter: SqlFormatter) {
         javaBuilder.setSqlFormatter(fFormatter)
     }
@@ -359,6 +373,10 @@ class KSqlClientDsl constructor(
         javaBuilder.setDefaultSaveResultReadsAllProperties(readsAllProperties)
     }
 
+    fun setDefaultMultiRowInsertEnabled(enabled: Boolean) {
+        javaBuilder.setDefaultMultiRowInsertEnabled(enabled)
+    }
+
     fun addCustomizers(vararg customers: KCustomizer) {
         javaBuilder.addCustomizers(customers.map { JavaCustomizer(it) })
     }
@@ -466,6 +484,10 @@ class KSqlClientDsl constructor(
             javaCfg.setObjectCache(entityType.java, cache)
         }
 
+        fun setIdFilter(entityType: KClass<*>, idFilter: IdFilter?) {
+            javaCfg.setIdFilter(entityType.java, idFilter)
+        }
+
         fun setAssociatedIdCache(prop: KProperty1<*, *>, cache: Cache<*, *>?) {
             javaCfg.setAssociatedIdCache(prop.toImmutableProp(), cache)
         }
@@ -0,0 +1,204 @@
+package org.babyfish.jimmer.sql.kt.coroutines
+
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.channels.trySendBlocking
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.withContext
+import org.babyfish.jimmer.Page
+import org.babyfish.jimmer.sql.ast.mutation.AssociatedSaveMode
+import org.babyfish.jimmer.sql.ast.mutation.DeleteMode
+import org.babyfish.jimmer.sql.ast.mutation.SaveMode
+import org.babyfish.jimmer.sql.fetcher.Fetcher
+import org.babyfish.jimmer.sql.kt.KSqlClient
+import org.babyfish.jimmer.sql.kt.ast.KExecutable
+import org.babyfish.jimmer.sql.kt.ast.mutation.*
+import org.babyfish.jimmer.sql.kt.ast.query.KConfigurableRootQuery
+import org.babyfish.jimmer.sql.kt.ast.query.KTypedRootQuery
+import java.sql.Connection
+import kotlin.reflect.KClass
+
+/*
+ * Suspend functions and flows for coroutine based applications.
+ *
+ * Jimmer is based on JDBC, so each function runs its blocking work
+ * on the dispatcher specified by the `dispatcher` parameter,
+ * [KSqlDispatchers.default] by default, rather than the thread of caller.
+ *
+ * The block of each function is executed by one thread without suspension,
+ * so the thread-bound transaction started inside the block
+ * (for example, `sqlClient.await { transaction { ... } }`) works as usual.
+ */
+
+suspend fun <T> KSqlClient.await(
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default,
+    block: KSqlClient.() -> T
+): T =
+    withContext(dispatcher) {
+        block()
+    }
+
+suspend fun <R> KExecutable<R>.executeAwait(
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): R =
+    withContext(dispatcher) {
+        execute(con)
+    }
+
+suspend fun <R> KTypedRootQuery<R>.fetchOneAwait(
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): R =
+    withContext(dispatcher) {
+        fetchOne(con)
+    }
+
+suspend fun <R> KTypedRootQuery<R>.fetchOneOrNullAwait(
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): R? =
+    withContext(dispatcher) {
+        fetchOneOrNull(con)
+    }
+
+suspend fun <R> KConfigurableRootQuery<*, R>.fetchPageAwait(
+    pageIndex: Int,
+    pageSize: Int,
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): Page<R> =
+    withContext(dispatcher) {
+        fetchPage(pageIndex, pageSize, con)
+    }
+
+/**
+ * Returns a cold flow which reads the query result by the JDBC cursor.
+ *
+ * Rows are read and post-fetched (associations, calculated properties)
+ * batch by batch, then sent to the collector one by one.
+ * When the buffer of the flow is full, the producer is blocked and
+ * the cursor is not advanced until the collector catches up,
+ * so the memory cost is decided by [batchSize] and [bufferCapacity],
+ * not the row count.
+ *
+ * Cancelling the collector closes the cursor and the connection.
+ *
+ * @param con The connection, null means the connection managed by the sql client.
+ * @param batchSize The size of the batch to be post-fetched together,
+ * non-positive value means the default batch size of the sql client.
+ * @param bufferCapacity The capacity of the buffer between the cursor and the collector.
+ */
+fun <R> KTypedRootQuery<R>.asFlow(
+    con: Connection? = null,
+    batchSize: Int = -1,
+    bufferCapacity: Int = DEFAULT_FLOW_BUFFER_CAPACITY,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): Flow<R> =
+    channelFlow {
+        forEach(con, batchSize) { row ->
+            trySendBlocking(row).getOrThrow()
+        }
+    }
+        .buffer(bufferCapacity)
+        .flowOn(dispatcher)
+
+const val DEFAULT_FLOW_BUFFER_CAPACITY = 64
+
+suspend fun <T : Any> KSqlClient.findByIdAwait(
+    type: KClass<T>,
+    id: Any,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): T? =
+    withContext(dispatcher) {
+        findById(type, id)
+    }
+
+suspend fun <E : Any> KSqlClient.findByIdAwait(
+    fetcher: Fetcher<E>,
+    id: Any,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): E? =
+    withContext(dispatcher) {
+        findById(fetcher, id)
+    }
+
+suspend fun <T : Any> KSqlClient.findByIdsAwait(
+    type: KClass<T>,
+    ids: Iterable<*>,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): List<T> =
+    withContext(dispatcher) {
+        findByIds(type, ids)
+    }
+
+suspend fun <E : Any> KSqlClient.findByIdsAwait(
+    fetcher: Fetcher<E>,
+    ids: Iterable<*>,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): List<E> =
+    withContext(dispatcher) {
+        findByIds(fetcher, ids)
+    }
+
+suspend fun <E : Any> KSqlClient.saveAwait(
+    entity: E,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default,
+    block: (KSaveCommandDsl.() -> Unit)? = null
+): KSimpleSaveResult<E> =
+    withContext(dispatcher) {
+        save(entity, block)
+    }
+
+suspend fun <E : Any> KSqlClient.saveAwait(
+    entity: E,
+    mode: SaveMode,
+    associatedMode: AssociatedSaveMode = AssociatedSaveMode.MERGE,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default,
+    block: (KSaveCommandPartialDsl.() -> Unit)? = null
+): KSimpleSaveResult<E> =
+    withContext(dispatcher) {
+        save(entity, mode, associatedMode, block)
+    }
+
+suspend fun <E : Any> KSqlClient.saveEntitiesAwait(
+    entities: Iterable<E>,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default,
+    block: (KSaveCommandDsl.() -> Unit)? = null
+): KBatchSaveResult<E> =
+    withContext(dispatcher) {
+        saveEntities(entities, block)
+    }
+
+suspend fun <E : Any> KSqlClient.saveEntitiesAwait(
+    entities: Iterable<E>,
+    mode: SaveMode,
+    associatedMode: AssociatedSaveMode = AssociatedSaveMode.MERGE,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default,
+    block: (KSaveCommandPartialDsl.() -> Unit)? = null
+): KBatchSaveResult<E> =
+    withContext(dispatcher) {
+        saveEntities(entities, mode, associatedMode, block)
+    }
+
+suspend fun <E : Any> KSqlClient.deleteByIdAwait(
+    type: KClass<E>,
+    id: Any,
+    mode: DeleteMode = DeleteMode.AUTO,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): KDeleteResult =
+    withContext(dispatcher) {
+        deleteById(type, id, mode)
+    }
+
+suspend fun <E : Any> KSqlClient.deleteByIdsAwait(
+    type: KClass<E>,
+    ids: Iterable<*>,
+    mode: DeleteMode = DeleteMode.AUTO,
+    dispatcher: CoroutineDispatcher = KSqlDispatchers.default
+): KDeleteResult =
+    withContext(dispatcher) {
+        deleteByIds(type, ids, mode)
+    }
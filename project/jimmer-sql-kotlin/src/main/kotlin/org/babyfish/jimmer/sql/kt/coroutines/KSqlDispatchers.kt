@@ -0,0 +1,41 @@
+package org.babyfish.jimmer.sql.kt.coroutines
+
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.asCoroutineDispatcher
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * The dispatchers used by the suspend functions and flows of this package
+ * to run the blocking JDBC work of jimmer.
+ *
+ * By default, it is backed by virtual threads when the JVM supports them (JDK 21+),
+ * otherwise, it is [Dispatchers.IO].
+ * It can be replaced globally by [default], or for each call by the `dispatcher` parameter.
+ */
+object KSqlDispatchers {
+
+    @Volatile
+    var default: CoroutineDispatcher = createDefault()
+
+    /**
+     * The dispatcher backed by virtual threads, or null if the JVM does not support them.
+     */
+    val virtualThreads: CoroutineDispatcher? by lazy {
+        newVirtualThreadPerTaskExecutor()?.asCoroutineDispatcher()
+    }
+
+    private fun createDefault(): CoroutineDispatcher =
+        virtualThreads ?: Dispatchers.IO
+
+    private fun newVirtualThreadPerTaskExecutor(): ExecutorService? =
+        try {
+            Executors::class.java
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null) as ExecutorService
+        } catch (ex: ReflectiveOperationException) {
+            // Before JDK21, or preview feature of JDK19/20 is not enabled
+            null
+        }
+}
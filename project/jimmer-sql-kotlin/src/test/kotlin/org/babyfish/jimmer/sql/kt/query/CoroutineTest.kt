@@ -0,0 +1,75 @@
+package org.babyfish.jimmer.sql.kt.query
+
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.babyfish.jimmer.sql.kt.common.AbstractQueryTest
+import org.babyfish.jimmer.sql.kt.coroutines.asFlow
+import org.babyfish.jimmer.sql.kt.coroutines.executeAwait
+import org.babyfish.jimmer.sql.kt.model.classic.store.BookStore
+import org.babyfish.jimmer.sql.kt.model.classic.store.fetchBy
+import kotlin.test.Test
+
+class CoroutineTest : AbstractQueryTest() {
+
+    @Test
+    fun testExecuteAwait() {
+        connectAndExpect({ con ->
+            runBlocking {
+                sqlClient.createQuery(BookStore::class) {
+                    select(table)
+                }.executeAwait(con)
+            }
+        }) {
+            sql(
+                """select tb_1_.ID, tb_1_.NAME, tb_1_.VERSION, tb_1_.WEBSITE from BOOK_STORE tb_1_"""
+            )
+            rows(
+                """[
+                    |--->{"id":1,"name":"O'REILLY","version":0,"website":null},
+                    |--->{"id":2,"name":"MANNING","version":0,"website":null}
+                    |]""".trimMargin()
+            )
+        }
+    }
+
+    @Test
+    fun testFlowWithPostFetch() {
+        connectAndExpect({ con ->
+            runBlocking {
+                sqlClient.createQuery(BookStore::class) {
+                    select(table.fetchBy {
+                        allScalarFields()
+                        avgPrice()
+                    })
+                }.asFlow(con).toList()
+            }
+        }) {
+            sql(
+                """select tb_1_.ID, tb_1_.NAME, tb_1_.VERSION, tb_1_.WEBSITE from BOOK_STORE tb_1_"""
+            )
+            statement(1).sql(
+                """select tb_1_.STORE_ID, coalesce(avg(tb_1_.PRICE), ?) 
+                    |from BOOK tb_1_ 
+                    |where tb_1_.STORE_ID in (?, ?) 
+                    |group by tb_1_.STORE_ID""".trimMargin()
+            )
+            rows(
+                """[
+                    |--->{
+                    |--->--->"id":1,
+                    |--->--->"name":"O'REILLY",
+                    |--->--->"version":0,
+                    |--->--->"avgPrice":58.500000000000,
+                    |--->--->"website":null
+                    |--->},{
+                    |--->--->"id":2,
+                    |--->--->"name":"MANNING",
+                    |--->--->"version":0,
+                    |--->--->"avgPrice":80.333333333333,
+                    |--->--->"website":null
+                    |--->}
+                    |]""".trimMargin()
+            )
+        }
+    }
+}
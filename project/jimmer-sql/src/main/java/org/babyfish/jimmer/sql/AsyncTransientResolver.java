@@ -0,0 +1,103 @@
+package org.babyfish.jimmer.sql;
+
+import org.babyfish.jimmer.sql.exception.ExecutionException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A specialized variant of {@link TransientResolver} whose values are resolved asynchronously.
+ *
+ * <p>When an object fetcher fetches several calculated properties, the asynchronous resolvers
+ * of the same fetching level are launched together before any of them is waited for,
+ * so the total time is the slowest resolver rather than the sum of all resolvers.</p>
+ *
+ * <p>The executor is chosen by the implementation of {@link #resolveAsync(Collection)},
+ * for example, {@code CompletableFuture.supplyAsync(() -> ..., executor)}.
+ * Because the future is completed by another thread, the resolver must not use
+ * {@link TransientResolver#currentConnection()}, it is designed for remote services
+ * or other data sources.</p>
+ *
+ * <p>If the property cache of the calculated property is enabled, the cache is still
+ * used with {@link #getParameterMapRef()}, and the missed values are resolved by
+ * {@link #resolve(Collection)} which waits for {@link #resolveAsync(Collection)}.</p>
+ *
+ * @param <ID> The id type of current entity
+ * @param <V> The calculated type, see {@link TransientResolver}
+ */
+@ApiStatus.Experimental
+public interface AsyncTransientResolver<ID, V> extends TransientResolver<ID, V> {
+
+    /**
+     * @param ids A batch of ids of the current objects that are resolving calculated property,
+     *            it is not null and not empty
+     * @return The future of a map contains resolved values
+     */
+    CompletableFuture<Map<ID, V>> resolveAsync(Collection<ID> ids);
+
+    /**
+     * @return The max time to wait for the result of {@link #resolveAsync(Collection)},
+     * null means waiting forever.
+     */
+    @Nullable
+    default Duration getTimeout() {
+        return null;
+    }
+
+    @Override
+    default Map<ID, V> resolve(Collection<ID> ids) {
+        return await(resolveAsync(ids));
+    }
+
+    /**
+     * Wait for the result of {@link #resolveAsync(Collection)}
+     * with the timeout returned by {@link #getTimeout()}
+     */
+    default Map<ID, V> await(CompletableFuture<Map<ID, V>> future) {
+        Duration timeout = getTimeout();
+        try {
+            if (timeout == null) {
+                return future.get();
+            }
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ExecutionException(
+                    "The thread is interrupted when waiting for the async transient resolver \"" +
+                            getClass().getName() +
+                            "\"",
+                    ex
+            );
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new ExecutionException(
+                    "The async transient resolver \"" +
+                            getClass().getName() +
+                            "\" did not complete in " +
+                            timeout,
+                    ex
+            );
+        } catch (java.util.concurrent.ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ExecutionException(
+                    "The async transient resolver \"" +
+                            getClass().getName() +
+                            "\" is failed",
+                    cause
+            );
+        }
+    }
+}
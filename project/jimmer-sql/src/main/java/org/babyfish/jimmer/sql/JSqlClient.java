@@ -342,6 +342,20 @@ public interface JSqlClient extends SubQueryProvider, SaveOperations {
         @OldChain
         Builder setExecutorContextPrefixes(Collection<String> prefixes);
 
+        /**
+         * Only a part of SQL statements capture the executor context,
+         * so that the business call frames can be printed in production
+         * with acceptable cost.
+         *
+         * <p>This configuration is meaningless if
+         * {@link #setExecutorContextPrefixes(Collection)} is not configured.</p>
+         *
+         * @param samplingRate A value in (0, 1], the default value is 1,
+         *                     which means every SQL statement captures the executor context.
+         */
+        @OldChain
+        Builder setExecutorContextSamplingRate(double samplingRate);
+
         @OldChain
         Builder setSqlFormatter(SqlFormatter formatter);
 
@@ -558,6 +572,26 @@ public interface JSqlClient extends SubQueryProvider, SaveOperations {
         @OldChain
         Builder setDefaultSaveResultReadsAllProperties(boolean readsAllProperties);
 
+        /**
+         * Specify whether the rows of an insert batch should be inserted by
+         * multi-row `insert ... values(...), (...)` statements rather than
+         * JDBC batch, the default value is false.
+         *
+         * <p>It is useful for the databases whose JDBC batch is dumb or slow,
+         * such as MySQL without `rewriteBatchedStatements` and SQLite.
+         * It is ignored if the dialect does not support multi-row insertion.</p>
+         *
+         * <p>The ids of the rows must be specified or assigned by
+         * {@link org.babyfish.jimmer.sql.meta.UserIdGenerator}, or generated by
+         * identity column and recovered by the dialect, see
+         * {@link org.babyfish.jimmer.sql.dialect.Dialect#isMultiInsertionIdReturningSupported()}
+         * and {@link org.babyfish.jimmer.sql.dialect.Dialect#getMultiInsertionFirstIdSql()}.
+         * Otherwise, for example, the ids are generated by sequence, the rows are
+         * still inserted by JDBC batch or one by one.</p>
+         */
+        @OldChain
+        Builder setDefaultMultiRowInsertEnabled(boolean enabled);
+
         /**
          * Specify whether SQL constraint violations should be investigated and
          * translated by Jimmer into higher-level save exceptions, such as
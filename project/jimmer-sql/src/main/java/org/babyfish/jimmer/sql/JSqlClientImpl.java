@@ -12,6 +12,7 @@ import org.babyfish.jimmer.sql.ast.impl.base.BaseTableSymbols;
 import org.babyfish.jimmer.sql.ast.impl.mutation.AssociationsImpl;
 import org.babyfish.jimmer.sql.ast.impl.mutation.MutableDeleteImpl;
 import org.babyfish.jimmer.sql.ast.impl.mutation.MutableUpdateImpl;
+import org.babyfish.jimmer.sql.ast.impl.mutation.SaveStatementCache;
 import org.babyfish.jimmer.sql.ast.impl.query.*;
 import org.babyfish.jimmer.sql.ast.impl.table.JWeakJoinLambdaFactory;
 import org.babyfish.jimmer.sql.ast.impl.table.WeakJoinHandle;
@@ -64,12 +65,17 @@ import java.math.BigInteger;
 import java.sql.SQLException;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 class JSqlClientImpl implements JSqlClientImplementor {
 
+    private static final int MAX_FILTERS_CLIENT_COUNT = 64;
+
+    private static final int MAX_CACHES_CLIENT_COUNT = 64;
+
     private final ConnectionManager connectionManager;
 
     private final ConnectionManager slaveConnectionManager;
@@ -80,6 +86,10 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
     private final List<String> executorContextPrefixes;
 
+    private final double executorContextSamplingRate;
+
+    private final Map<String, Boolean> executorContextMatchedClassNameMap;
+
     private final SqlFormatter sqlFormatter;
 
     private final JsonCodec<?> jsonCodec;
@@ -124,6 +134,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
     private final boolean defaultSaveResultReadsAllProperties;
 
+    private final boolean defaultMultiRowInsertEnabled;
+
     private final boolean explicitBatchEnabled;
 
     private final boolean dumbBatchAcceptable;
@@ -168,6 +180,16 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
     private final ReaderManager readerManager = new ReaderManager(this);
 
+    private final SaveStatementCache saveStatementCache;
+
+    private final Map<FilterManager, JSqlClientImplementor> filtersClientMap =
+            derivedClientMap(MAX_FILTERS_CLIENT_COUNT);
+
+    private final Map<CacheDisableConfig, JSqlClientImplementor> cachesClientMap =
+            derivedClientMap(MAX_CACHES_CLIENT_COUNT);
+
+    private volatile JSqlClientImplementor slaveDisabledClient;
+
     private final ClassCache<Boolean> uniqueConstraintCache = new ClassCache<>(this::createUniqueConstraintUsed);
 
     private JSqlClientImpl(
@@ -176,6 +198,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
             Dialect dialect,
             Executor executor,
             List<String> executorContextPrefixes,
+            double executorContextSamplingRate,
+            Map<String, Boolean> executorContextMatchedClassNameMap,
             SqlFormatter sqlFormatter,
             JsonCodec<?> jsonCodec,
             ReferenceFetchType defaultReferenceFetchType,
@@ -197,6 +221,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
             boolean defaultTypeChangeAllowed,
             boolean defaultSaveReturningEnabled,
             boolean defaultSaveResultReadsAllProperties,
+            boolean defaultMultiRowInsertEnabled,
             boolean explicitBatchEnabled,
             boolean dumbBatchAcceptable,
             boolean constraintViolationTranslatable,
@@ -216,7 +241,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
             DraftPreProcessorManager draftPreProcessorManager,
             DraftInterceptorManager draftInterceptorManager,
             String microServiceName,
-            MicroServiceExchange microServiceExchange
+            MicroServiceExchange microServiceExchange,
+            SaveStatementCache saveStatementCache
     ) {
         this.connectionManager =
                 connectionManager != null ?
@@ -232,6 +258,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 executorContextPrefixes != null ?
                         Collections.unmodifiableList(executorContextPrefixes) :
                         null;
+        this.executorContextSamplingRate = executorContextSamplingRate;
+        this.executorContextMatchedClassNameMap = executorContextMatchedClassNameMap;
         this.sqlFormatter = sqlFormatter;
         this.jsonCodec = jsonCodec;
         this.defaultReferenceFetchType = defaultReferenceFetchType;
@@ -253,6 +281,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
         this.defaultTypeChangeAllowed = defaultTypeChangeAllowed;
         this.defaultSaveReturningEnabled = defaultSaveReturningEnabled;
         this.defaultSaveResultReadsAllProperties = defaultSaveResultReadsAllProperties;
+        this.defaultMultiRowInsertEnabled = defaultMultiRowInsertEnabled;
         this.explicitBatchEnabled = explicitBatchEnabled;
         this.dumbBatchAcceptable = dumbBatchAcceptable;
         this.constraintViolationTranslatable = constraintViolationTranslatable;
@@ -276,6 +305,10 @@ class JSqlClientImpl implements JSqlClientImplementor {
         this.draftInterceptorManager = draftInterceptorManager;
         this.microServiceName = microServiceName;
         this.microServiceExchange = microServiceExchange;
+        this.saveStatementCache =
+                saveStatementCache != null ?
+                        saveStatementCache :
+                        new SaveStatementCache();
     }
 
     @Override
@@ -307,6 +340,16 @@ class JSqlClientImpl implements JSqlClientImplementor {
         return executorContextPrefixes;
     }
 
+    @Override
+    public double getExecutorContextSamplingRate() {
+        return executorContextSamplingRate;
+    }
+
+    @Override
+    public Map<String, Boolean> getExecutorContextMatchedClassNameMap() {
+        return executorContextMatchedClassNameMap;
+    }
+
     @Override
     public SqlFormatter getSqlFormatter() {
         return sqlFormatter;
@@ -421,6 +464,11 @@ class JSqlClientImpl implements JSqlClientImplementor {
         return defaultSaveResultReadsAllProperties;
     }
 
+    @Override
+    public boolean isDefaultMultiRowInsertEnabled() {
+        return defaultMultiRowInsertEnabled;
+    }
+
     @Override
     public boolean isBatchForbidden(boolean dumbBatchAcceptable) {
         if (!explicitBatchEnabled && dialect.isExplicitBatchRequired()) {
@@ -693,53 +741,61 @@ class JSqlClientImpl implements JSqlClientImplementor {
         }
         CacheDisableConfig cfg = new CacheDisableConfig();
         block.accept(cfg);
-        return new JSqlClientImpl(
-                connectionManager,
-                slaveConnectionManager,
-                dialect,
-                executor,
-                executorContextPrefixes,
-                sqlFormatter,
-                jsonCodec,
-                defaultReferenceFetchType,
-                maxJoinFetchDepth,
-                zoneId,
-                generatorManager,
-                scalarProviderManager,
-                defaultBatchSize,
-                defaultListBatchSize,
-                defaultJdbcFetchSize,
-                defaultJdbcQueryTimeout,
-                inListPaddingEnabled,
-                expandedInListPaddingEnabled,
-                offsetOptimizingThreshold,
-                reverseSortOptimizationEnabled,
-                maxCommandJoinCount,
-                mutationTransactionRequired,
-                targetTransferable,
-                defaultTypeChangeAllowed,
-                defaultSaveReturningEnabled,
-                defaultSaveResultReadsAllProperties,
-                explicitBatchEnabled,
-                dumbBatchAcceptable,
-                constraintViolationTranslatable,
-                exceptionTranslator,
-                entities,
-                entityManager,
-                new CachesImpl((CachesImpl) caches, cfg),
-                triggers,
-                transactionTriggers,
-                metadataStrategy,
-                binLog,
-                filterManager,
-                dissociationLogicalDeleteEnabled,
-                transientResolverManager,
-                defaultDissociationActionCheckable,
-                idOnlyTargetCheckingLevel,
-                draftPreProcessorManager,
-                draftInterceptorManager,
-                microServiceName,
-                microServiceExchange
+        return derivedClient(
+                cachesClientMap,
+                cfg,
+                () -> new JSqlClientImpl(
+                        connectionManager,
+                        slaveConnectionManager,
+                        dialect,
+                        executor,
+                        executorContextPrefixes,
+                        executorContextSamplingRate,
+                        executorContextMatchedClassNameMap,
+                        sqlFormatter,
+                        jsonCodec,
+                        defaultReferenceFetchType,
+                        maxJoinFetchDepth,
+                        zoneId,
+                        generatorManager,
+                        scalarProviderManager,
+                        defaultBatchSize,
+                        defaultListBatchSize,
+                        defaultJdbcFetchSize,
+                        defaultJdbcQueryTimeout,
+                        inListPaddingEnabled,
+                        expandedInListPaddingEnabled,
+                        offsetOptimizingThreshold,
+                        reverseSortOptimizationEnabled,
+                        maxCommandJoinCount,
+                        mutationTransactionRequired,
+                        targetTransferable,
+                        defaultTypeChangeAllowed,
+                        defaultSaveReturningEnabled,
+                        defaultSaveResultReadsAllProperties,
+                        defaultMultiRowInsertEnabled,
+                        explicitBatchEnabled,
+                        dumbBatchAcceptable,
+                        constraintViolationTranslatable,
+                        exceptionTranslator,
+                        entities,
+                        entityManager,
+                        new CachesImpl((CachesImpl) caches, cfg),
+                        triggers,
+                        transactionTriggers,
+                        metadataStrategy,
+                        binLog,
+                        filterManager,
+                        dissociationLogicalDeleteEnabled,
+                        transientResolverManager,
+                        defaultDissociationActionCheckable,
+                        idOnlyTargetCheckingLevel,
+                        draftPreProcessorManager,
+                        draftInterceptorManager,
+                        microServiceName,
+                        microServiceExchange,
+                        saveStatementCache
+                )
         );
     }
 
@@ -753,53 +809,61 @@ class JSqlClientImpl implements JSqlClientImplementor {
         if (cfg.getFilterManager() == filterManager) {
             return this;
         }
-        return new JSqlClientImpl(
-                connectionManager,
-                slaveConnectionManager,
-                dialect,
-                executor,
-                executorContextPrefixes,
-                sqlFormatter,
-                jsonCodec,
-                defaultReferenceFetchType,
-                maxJoinFetchDepth,
-                zoneId,
-                generatorManager,
-                scalarProviderManager,
-                defaultBatchSize,
-                defaultListBatchSize,
-                defaultJdbcFetchSize,
-                defaultJdbcQueryTimeout,
-                inListPaddingEnabled,
-                expandedInListPaddingEnabled,
-                offsetOptimizingThreshold,
-                reverseSortOptimizationEnabled,
-                maxCommandJoinCount,
-                mutationTransactionRequired,
-                targetTransferable,
-                defaultTypeChangeAllowed,
-                defaultSaveReturningEnabled,
-                defaultSaveResultReadsAllProperties,
-                explicitBatchEnabled,
-                dumbBatchAcceptable,
-                constraintViolationTranslatable,
-                exceptionTranslator,
-                entities,
-                entityManager,
-                caches,
-                triggers,
-                transactionTriggers,
-                metadataStrategy,
-                binLog,
+        return derivedClient(
+                filtersClientMap,
                 cfg.getFilterManager(),
-                dissociationLogicalDeleteEnabled,
-                transientResolverManager,
-                defaultDissociationActionCheckable,
-                idOnlyTargetCheckingLevel,
-                draftPreProcessorManager,
-                draftInterceptorManager,
-                microServiceName,
-                microServiceExchange
+                () -> new JSqlClientImpl(
+                        connectionManager,
+                        slaveConnectionManager,
+                        dialect,
+                        executor,
+                        executorContextPrefixes,
+                        executorContextSamplingRate,
+                        executorContextMatchedClassNameMap,
+                        sqlFormatter,
+                        jsonCodec,
+                        defaultReferenceFetchType,
+                        maxJoinFetchDepth,
+                        zoneId,
+                        generatorManager,
+                        scalarProviderManager,
+                        defaultBatchSize,
+                        defaultListBatchSize,
+                        defaultJdbcFetchSize,
+                        defaultJdbcQueryTimeout,
+                        inListPaddingEnabled,
+                        expandedInListPaddingEnabled,
+                        offsetOptimizingThreshold,
+                        reverseSortOptimizationEnabled,
+                        maxCommandJoinCount,
+                        mutationTransactionRequired,
+                        targetTransferable,
+                        defaultTypeChangeAllowed,
+                        defaultSaveReturningEnabled,
+                        defaultSaveResultReadsAllProperties,
+                        defaultMultiRowInsertEnabled,
+                        explicitBatchEnabled,
+                        dumbBatchAcceptable,
+                        constraintViolationTranslatable,
+                        exceptionTranslator,
+                        entities,
+                        entityManager,
+                        caches,
+                        triggers,
+                        transactionTriggers,
+                        metadataStrategy,
+                        binLog,
+                        cfg.getFilterManager(),
+                        dissociationLogicalDeleteEnabled,
+                        transientResolverManager,
+                        defaultDissociationActionCheckable,
+                        idOnlyTargetCheckingLevel,
+                        draftPreProcessorManager,
+                        draftInterceptorManager,
+                        microServiceName,
+                        microServiceExchange,
+                        saveStatementCache
+                )
         );
     }
 
@@ -808,70 +872,79 @@ class JSqlClientImpl implements JSqlClientImplementor {
         if (slaveConnectionManager == null) {
             return this;
         }
-        return new JSqlClientImpl(
-                connectionManager,
-                null,
-                dialect,
-                executor,
-                executorContextPrefixes,
-                sqlFormatter,
-                jsonCodec,
-                defaultReferenceFetchType,
-                maxJoinFetchDepth,
-                zoneId,
-                generatorManager,
-                scalarProviderManager,
-                defaultBatchSize,
-                defaultListBatchSize,
-                defaultJdbcFetchSize,
-                defaultJdbcQueryTimeout,
-                inListPaddingEnabled,
-                expandedInListPaddingEnabled,
-                offsetOptimizingThreshold,
-                reverseSortOptimizationEnabled,
-                maxCommandJoinCount,
-                mutationTransactionRequired,
-                targetTransferable,
-                defaultTypeChangeAllowed,
-                defaultSaveReturningEnabled,
-                defaultSaveResultReadsAllProperties,
-                explicitBatchEnabled,
-                dumbBatchAcceptable,
-                constraintViolationTranslatable,
-                exceptionTranslator,
-                entities,
-                entityManager,
-                caches,
-                triggers,
-                transactionTriggers,
-                metadataStrategy,
-                binLog,
-                filterManager,
-                dissociationLogicalDeleteEnabled,
-                transientResolverManager,
-                defaultDissociationActionCheckable,
-                idOnlyTargetCheckingLevel,
-                draftPreProcessorManager,
-                draftInterceptorManager,
-                microServiceName,
-                microServiceExchange
-        );
+        JSqlClientImplementor slaveDisabledClient = this.slaveDisabledClient;
+        if (slaveDisabledClient == null) {
+            this.slaveDisabledClient = slaveDisabledClient = new JSqlClientImpl(
+                    connectionManager,
+                    null,
+                    dialect,
+                    executor,
+                    executorContextPrefixes,
+                    executorContextSamplingRate,
+                    executorContextMatchedClassNameMap,
+                    sqlFormatter,
+                    jsonCodec,
+                    defaultReferenceFetchType,
+                    maxJoinFetchDepth,
+                    zoneId,
+                    generatorManager,
+                    scalarProviderManager,
+                    defaultBatchSize,
+                    defaultListBatchSize,
+                    defaultJdbcFetchSize,
+                    defaultJdbcQueryTimeout,
+                    inListPaddingEnabled,
+                    expandedInListPaddingEnabled,
+                    offsetOptimizingThreshold,
+                    reverseSortOptimizationEnabled,
+                    maxCommandJoinCount,
+                    mutationTransactionRequired,
+                    targetTransferable,
+                    defaultTypeChangeAllowed,
+                    defaultSaveReturningEnabled,
+                    defaultSaveResultReadsAllProperties,
+                    defaultMultiRowInsertEnabled,
+                    explicitBatchEnabled,
+                    dumbBatchAcceptable,
+                    constraintViolationTranslatable,
+                    exceptionTranslator,
+                    entities,
+                    entityManager,
+                    caches,
+                    triggers,
+                    transactionTriggers,
+                    metadataStrategy,
+                    binLog,
+                    filterManager,
+                    dissociationLogicalDeleteEnabled,
+                    transientResolverManager,
+                    defaultDissociationActionCheckable,
+                    idOnlyTargetCheckingLevel,
+                    draftPreProcessorManager,
+                    draftInterceptorManager,
+                    microServiceName,
+                    microServiceExchange,
+                    saveStatementCache
+            );
+        }
+        return slaveDisabledClient;
     }
 
     @Override
     public JSqlClientImplementor executor(Executor executor) {
-        if (executor == null) {
-            executor = DefaultExecutor.INSTANCE;
-        }
-        if (this.executor.equals(executor)) {
+        Executor derivedExecutor = executor != null ? executor : DefaultExecutor.INSTANCE;
+        if (this.executor.equals(derivedExecutor)) {
             return this;
         }
+        // Not memoized, executors are often created for each request
         return new JSqlClientImpl(
                 connectionManager,
                 slaveConnectionManager,
                 dialect,
-                executor,
+                derivedExecutor,
                 executorContextPrefixes,
+                executorContextSamplingRate,
+                executorContextMatchedClassNameMap,
                 sqlFormatter,
                 jsonCodec,
                 defaultReferenceFetchType,
@@ -893,6 +966,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 defaultTypeChangeAllowed,
                 defaultSaveReturningEnabled,
                 defaultSaveResultReadsAllProperties,
+                defaultMultiRowInsertEnabled,
                 explicitBatchEnabled,
                 dumbBatchAcceptable,
                 constraintViolationTranslatable,
@@ -912,10 +986,46 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 draftPreProcessorManager,
                 draftInterceptorManager,
                 microServiceName,
-                microServiceExchange
+                microServiceExchange,
+                saveStatementCache
         );
     }
 
+    /*
+     * Clients derived by `filters(...)` and `caches(...)` are memoized by their effective
+     * configuration, so that they can be called for each request without creating
+     * new clients whose caches are cold. The LRU maps must be accessed in synchronized block.
+     */
+    private static <K> JSqlClientImplementor derivedClient(
+            Map<K, JSqlClientImplementor> clientMap,
+            K key,
+            Supplier<JSqlClientImplementor> creator
+    ) {
+        JSqlClientImplementor derivedClient;
+        synchronized (clientMap) {
+            derivedClient = clientMap.get(key);
+        }
+        if (derivedClient == null) {
+            derivedClient = creator.get();
+            synchronized (clientMap) {
+                JSqlClientImplementor existingClient = clientMap.putIfAbsent(key, derivedClient);
+                if (existingClient != null) {
+                    derivedClient = existingClient;
+                }
+            }
+        }
+        return derivedClient;
+    }
+
+    private static <K> Map<K, JSqlClientImplementor> derivedClientMap(int maxCount) {
+        return new LinkedHashMap<K, JSqlClientImplementor>((maxCount * 4 + 2) / 3, .75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, JSqlClientImplementor> eldest) {
+                return size() > maxCount;
+            }
+        };
+    }
+
     @Override
     public TransientResolver<?, ?> getResolver(ImmutableProp prop) {
         return transientResolverManager.get(prop);
@@ -972,6 +1082,11 @@ class JSqlClientImpl implements JSqlClientImplementor {
         return readerManager.reader(prop);
     }
 
+    @Override
+    public SaveStatementCache getSaveStatementCache() {
+        return saveStatementCache;
+    }
+
     @Override
     public String getMicroServiceName() {
         return microServiceName;
@@ -1028,6 +1143,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
         private List<String> executorContextPrefixes;
 
+        private double executorContextSamplingRate = 1;
+
         private SqlFormatter sqlFormatter = SqlFormatter.SIMPLE;
 
         private ReferenceFetchType defaultReferenceFetchType = ReferenceFetchType.SELECT;
@@ -1137,6 +1254,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
         private boolean defaultSaveResultReadsAllProperties;
 
+        private boolean defaultMultiRowInsertEnabled;
+
         private boolean explicitBatchEnabled;
 
         private boolean dumbBatchAcceptable;
@@ -1219,6 +1338,18 @@ class JSqlClientImpl implements JSqlClientImplementor {
             return this;
         }
 
+        @Override
+        @OldChain
+        public Builder setExecutorContextSamplingRate(double samplingRate) {
+            if (samplingRate <= 0 || samplingRate > 1) {
+                throw new IllegalArgumentException(
+                        "`samplingRate` must be greater than 0 and less than or equal to 1"
+                );
+            }
+            this.executorContextSamplingRate = samplingRate;
+            return this;
+        }
+
         @Override
         @OldChain
         public Builder setSqlFormatter(SqlFormatter sqlFormatter) {
@@ -1811,6 +1942,12 @@ class JSqlClientImpl implements JSqlClientImplementor {
             return this;
         }
 
+        @Override
+        public Builder setDefaultMultiRowInsertEnabled(boolean enabled) {
+            this.defaultMultiRowInsertEnabled = enabled;
+            return this;
+        }
+
         @OldChain
         @Override
         public Builder setConstraintViolationTranslatable(boolean translatable) {
@@ -2012,6 +2149,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
                     dialect,
                     executor,
                     executorContextPrefixes,
+                    executorContextSamplingRate,
+                    executorContextPrefixes != null ? new ConcurrentHashMap<>() : null,
                     sqlFormatter,
                     resolvedApplicationJsonCodec,
                     defaultReferenceFetchType,
@@ -2033,6 +2172,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
                     defaultTypeChangeAllowed,
                     defaultSaveReturningEnabled,
                     defaultSaveResultReadsAllProperties,
+                    defaultMultiRowInsertEnabled,
                     explicitBatchEnabled,
                     dumbBatchAcceptable,
                     constraintViolationTranslatable,
@@ -2052,7 +2192,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
                     new DraftPreProcessorManager(processors),
                     new DraftInterceptorManager(interceptors),
                     microServiceName,
-                    microServiceExchange
+                    microServiceExchange,
+                    null
             );
             generatorManager.initialize(sqlClient);
             CachesImpl.initialize(caches, sqlClient);
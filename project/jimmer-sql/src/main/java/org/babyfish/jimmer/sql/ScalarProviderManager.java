@@ -2,6 +2,7 @@ package org.babyfish.jimmer.sql;
 
 import org.babyfish.jimmer.impl.util.ClassCache;
 import org.babyfish.jimmer.impl.util.PropCache;
+import org.babyfish.jimmer.jackson.LazyJson;
 import org.babyfish.jimmer.jackson.codec.*;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
@@ -124,9 +125,24 @@ class ScalarProviderManager implements ScalarTypeStrategy {
         if (defaultJsonProviderCreator != null) {
             return defaultJsonProviderCreator.apply(prop);
         }
+        if (serialized.lazy() && !LazyJson.isLazyType(prop.getReturnClass())) {
+            throw new ModelException(
+                    "Illegal property \"" +
+                            prop +
+                            "\", it is decorated by `@" +
+                            Serialized.class.getName() +
+                            "(lazy = true)` but its type is neither " +
+                            "Collection, List, Set nor Map"
+            );
+        }
         JsonCodec<?> serializedPropJsonCodec = serializedPropJsonCodec(prop);
         JsonCodec<?> jsonCodec = serializedPropJsonCodec != null ? serializedPropJsonCodec : serializedJsonCodec;
-        return createJsonProvider(prop.getReturnClass(), tf -> jacksonType(tf, prop.getGenericType()), jsonCodec);
+        return createJsonProvider(
+                prop.getReturnClass(),
+                tf -> jacksonType(tf, prop.getGenericType()),
+                jsonCodec,
+                serialized.lazy()
+        );
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -172,9 +188,19 @@ class ScalarProviderManager implements ScalarTypeStrategy {
         }
 
         if (serialized != null) {
+            if (serialized.lazy()) {
+                throw new ModelException(
+                        "Illegal type \"" +
+                                type +
+                                "\", `@" +
+                                Serialized.class.getName() +
+                                "(lazy = true)` can only be used by property " +
+                                "whose type is Collection, List, Set or Map"
+                );
+            }
             JsonCodec<?> serializedTypeJsonCodec = serializedTypeJsonCodec(type);
             JsonCodec<?> jsonCodec = serializedTypeJsonCodec != null ? serializedTypeJsonCodec : serializedJsonCodec;
-            return createJsonProvider(type, tf -> tf.constructType(type), jsonCodec);
+            return createJsonProvider(type, tf -> tf.constructType(type), jsonCodec, false);
         }
 
         return null;
@@ -241,7 +267,12 @@ class ScalarProviderManager implements ScalarTypeStrategy {
     }
 
     @SuppressWarnings("unchecked")
-    private ScalarProvider<?, String> createJsonProvider(Class<?> type, TypeCreator typeCreator, JsonCodec<?> jsonCodec) {
+    private ScalarProvider<?, String> createJsonProvider(
+            Class<?> type,
+            TypeCreator typeCreator,
+            JsonCodec<?> jsonCodec,
+            boolean lazy
+    ) {
         return new AbstractScalarProvider<Object, String>(
                 (Class<Object>) type,
                 String.class
@@ -251,11 +282,18 @@ class ScalarProviderManager implements ScalarTypeStrategy {
 
             @Override
             public @NotNull Object toScalar(@NotNull String sqlValue) throws Exception {
+                if (lazy && isJsonContainer(sqlValue)) {
+                    return LazyJson.of(type, sqlValue, reader);
+                }
                 return reader.read(sqlValue);
             }
 
             @Override
             public @NotNull String toSql(@NotNull Object scalarValue) throws Exception {
+                String unparsedJson = LazyJson.unparsedJson(scalarValue);
+                if (unparsedJson != null) {
+                    return unparsedJson;
+                }
                 return writer.writeAsString(scalarValue);
             }
 
@@ -271,6 +309,17 @@ class ScalarProviderManager implements ScalarTypeStrategy {
         };
     }
 
+    private static boolean isJsonContainer(String json) {
+        int len = json.length();
+        for (int i = 0; i < len; i++) {
+            char c = json.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '[' || c == '{';
+            }
+        }
+        return false;
+    }
+
     private ScalarProvider<?, ?> customizedPropScalarProvider(ImmutableProp prop) {
         ScalarProvider<?, ?> provider = customizedPropScalarProviderMap.get(prop);
         if (provider != null) {
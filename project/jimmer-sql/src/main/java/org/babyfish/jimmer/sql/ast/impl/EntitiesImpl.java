@@ -274,19 +274,27 @@ public class EntitiesImpl implements Entities {
         }
         Cache<Object, E> cache = sqlClient.getCaches().getObjectCache(immutableType);
         if (cache != null) {
-            Collection<E> cachedEntities = cache.getAll(
-                    distinctIds,
-                    new CacheEnvironment<>(
+            CacheEnvironment<Object, E> env = new CacheEnvironment<>(
+                    sqlClient,
+                    con,
+                    CacheLoader.objectLoader(
                             sqlClient,
                             con,
-                            CacheLoader.objectLoader(
-                                    sqlClient,
-                                    con,
-                                    (Class<E>) immutableType.getJavaClass()
-                            ),
-                            true
-                    )
-            ).values();
+                            (Class<E>) immutableType.getJavaClass()
+                    ),
+                    true
+            );
+            Collection<E> cachedEntities;
+            if (fetcher != null && cache instanceof Cache.ColumnGrouped<?, ?>) {
+                // Only the column groups required by fetcher are read
+                cachedEntities = ((Cache.ColumnGrouped<Object, E>) cache).getAll(
+                        distinctIds,
+                        Shapes.objectCacheProps(immutableType, fetcher),
+                        env
+                ).values();
+            } else {
+                cachedEntities = cache.getAll(distinctIds, env).values();
+            }
             List<E> entities = new ArrayList<>(cachedEntities.size());
             for (E entity : cachedEntities) {
                 if (entity != null) {
@@ -346,19 +354,27 @@ public class EntitiesImpl implements Entities {
         }
         Cache<Object, E> cache = sqlClient.getCaches().getObjectCache(immutableType);
         if (cache != null) {
-            Collection<E> cachedEntities = cache.getAll(
-                    distinctIds,
-                    new CacheEnvironment<>(
+            CacheEnvironment<Object, E> env = new CacheEnvironment<>(
+                    sqlClient,
+                    con,
+                    CacheLoader.objectLoader(
                             sqlClient,
                             con,
-                            CacheLoader.objectLoader(
-                                    sqlClient,
-                                    con,
-                                    (Class<E>) immutableType.getJavaClass()
-                            ),
-                            true
-                    )
-            ).values();
+                            (Class<E>) immutableType.getJavaClass()
+                    ),
+                    true
+            );
+            Collection<E> cachedEntities;
+            if (fetcher != null && cache instanceof Cache.ColumnGrouped<?, ?>) {
+                // Only the column groups required by fetcher are read
+                cachedEntities = ((Cache.ColumnGrouped<Object, E>) cache).getAll(
+                        distinctIds,
+                        Shapes.objectCacheProps(immutableType, fetcher),
+                        env
+                ).values();
+            } else {
+                cachedEntities = cache.getAll(distinctIds, env).values();
+            }
             List<E> entities = new ArrayList<>(cachedEntities.size());
             for (E entity : cachedEntities) {
                 if (entity != null) {
@@ -240,6 +240,26 @@ abstract class AbstractCommandImpl {
         }
     }
 
+    static class MultiRowInsertEnabledCfg extends Cfg {
+
+        final boolean enabled;
+
+        MultiRowInsertEnabledCfg(Cfg prev, boolean enabled) {
+            super(prev);
+            this.enabled = enabled;
+        }
+    }
+
+    static class AssociationPipelineEnabledCfg extends Cfg {
+
+        final boolean enabled;
+
+        AssociationPipelineEnabledCfg(Cfg prev, boolean enabled) {
+            super(prev);
+            this.enabled = enabled;
+        }
+    }
+
     static class ConstraintViolationTranslatableCfg extends Cfg {
 
         final boolean translatable;
@@ -250,6 +270,16 @@ abstract class AbstractCommandImpl {
         }
     }
 
+    static class RecursiveCteEnabledCfg extends Cfg {
+
+        final boolean enabled;
+
+        RecursiveCteEnabledCfg(Cfg prev, boolean enabled) {
+            super(prev);
+            this.enabled = enabled;
+        }
+    }
+
     static class TransactionRequiredCfg extends Cfg {
 
         final boolean required;
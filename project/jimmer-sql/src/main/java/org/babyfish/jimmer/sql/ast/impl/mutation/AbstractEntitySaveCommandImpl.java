@@ -423,6 +423,28 @@ abstract class AbstractEntitySaveCommandImpl
          }
     }
 
+    static class PreQueryByCacheCfg extends Cfg {
+
+        final MapNode<ImmutableType, Boolean> mapNode;
+
+        final boolean defaultValue;
+
+        public PreQueryByCacheCfg(Cfg prev, boolean defaultValue) {
+            super(prev);
+            PreQueryByCacheCfg p = prev.as(PreQueryByCacheCfg.class);
+            this.mapNode = p != null ? p.mapNode : null;
+            this.defaultValue = defaultValue;
+        }
+
+        public PreQueryByCacheCfg(Cfg prev, Class<?> entityType, boolean enabled) {
+            super(prev);
+            ImmutableType type = ImmutableType.get(entityType);
+            PreQueryByCacheCfg p = prev.as(PreQueryByCacheCfg.class);
+            this.mapNode = new MapNode<>(p != null ? p.mapNode : null, type, enabled);
+            this.defaultValue = p != null && p.defaultValue;
+        }
+    }
+
     static class OptimisticLockLambdaCfg extends Cfg {
 
         final MapNode<ImmutableType, UnloadedVersionBehavior> behaviorMapNode;
@@ -522,6 +544,10 @@ abstract class AbstractEntitySaveCommandImpl
 
         private final boolean pessimisticLockAll;
 
+        private final Map<ImmutableType, Boolean> preQueryByCacheMap;
+
+        private final boolean preQueryByCacheAll;
+
         private final Map<ImmutableType, UnloadedVersionBehavior> optimisticLockBehaviorMap;
 
         private final Map<ImmutableType, UserOptimisticLock<Object, Table<Object>>> optimisticLockLambdaMap;
@@ -532,6 +558,10 @@ abstract class AbstractEntitySaveCommandImpl
 
         private final boolean saveResultReadsAllProperties;
 
+        private final boolean multiRowInsertEnabled;
+
+        private final boolean associationPipelineEnabled;
+
         private final boolean constraintViolationTranslatable;
 
         private final ExceptionTranslator<Exception> exceptionTranslator;
@@ -561,10 +591,13 @@ abstract class AbstractEntitySaveCommandImpl
             AssociatedTypeChangeAllowedCfg associatedTypeChangeAllowedCfg =
                     cfg.as(AssociatedTypeChangeAllowedCfg.class);
             PessimisticLockCfg pessimisticLockCfg = cfg.as(PessimisticLockCfg.class);
+            PreQueryByCacheCfg preQueryByCacheCfg = cfg.as(PreQueryByCacheCfg.class);
             OptimisticLockLambdaCfg optimisticLockLambdaCfg = cfg.as(OptimisticLockLambdaCfg.class);
             DumbBatchAcceptableCfg dumbBatchAcceptableCfg = cfg.as(DumbBatchAcceptableCfg.class);
             SaveReturningEnabledCfg saveReturningEnabledCfg = cfg.as(SaveReturningEnabledCfg.class);
             SaveResultReadsAllPropertiesCfg saveResultReadsAllPropertiesCfg = cfg.as(SaveResultReadsAllPropertiesCfg.class);
+            MultiRowInsertEnabledCfg multiRowInsertEnabledCfg = cfg.as(MultiRowInsertEnabledCfg.class);
+            AssociationPipelineEnabledCfg associationPipelineEnabledCfg = cfg.as(AssociationPipelineEnabledCfg.class);
             ConstraintViolationTranslatableCfg constraintViolationTranslatableCfg =
                     cfg.as(ConstraintViolationTranslatableCfg.class);
             ExceptionTranslatorCfg exceptionTranslatorCfg = cfg.as(ExceptionTranslatorCfg.class);
@@ -629,6 +662,8 @@ abstract class AbstractEntitySaveCommandImpl
             this.pessimisticLockAll = pessimisticLockCfg != null ?
                     pessimisticLockCfg.defaultValue :
                     false;
+            this.preQueryByCacheMap = MapNode.toMap(preQueryByCacheCfg, it -> it.mapNode);
+            this.preQueryByCacheAll = preQueryByCacheCfg != null && preQueryByCacheCfg.defaultValue;
             this.optimisticLockBehaviorMap = MapNode.toMap(optimisticLockLambdaCfg, it -> it.behaviorMapNode);
             this.optimisticLockLambdaMap = MapNode.toMap(optimisticLockLambdaCfg, it -> it.lamdadaMapNode);
             this.dumbBatchAcceptable = dumbBatchAcceptableCfg != null && dumbBatchAcceptableCfg.acceptable;
@@ -638,6 +673,11 @@ abstract class AbstractEntitySaveCommandImpl
             this.saveResultReadsAllProperties = saveResultReadsAllPropertiesCfg != null ?
                     saveResultReadsAllPropertiesCfg.readsAllProperties :
                     sqlClient.isDefaultSaveResultReadsAllProperties();
+            this.multiRowInsertEnabled = multiRowInsertEnabledCfg != null ?
+                    multiRowInsertEnabledCfg.enabled :
+                    sqlClient.isDefaultMultiRowInsertEnabled();
+            this.associationPipelineEnabled = associationPipelineEnabledCfg != null &&
+                    associationPipelineEnabledCfg.enabled;
             this.constraintViolationTranslatable = constraintViolationTranslatableCfg != null ?
                     constraintViolationTranslatableCfg.translatable :
                     sqlClient.isConstraintViolationTranslatable();
@@ -834,6 +874,12 @@ abstract class AbstractEntitySaveCommandImpl
             return value != null ? value : pessimisticLockAll;
         }
 
+        @Override
+        public boolean isPreQueryByCache(ImmutableType type) {
+            Boolean value = preQueryByCacheMap.get(type);
+            return value != null ? value : preQueryByCacheAll;
+        }
+
         @Override
         @NotNull
         public UnloadedVersionBehavior getUnloadedVersionBehavior(ImmutableType type) {
@@ -860,6 +906,16 @@ abstract class AbstractEntitySaveCommandImpl
             return saveResultReadsAllProperties;
         }
 
+        @Override
+        public boolean isMultiRowInsertEnabled() {
+            return multiRowInsertEnabled;
+        }
+
+        @Override
+        public boolean isAssociationPipelineEnabled() {
+            return associationPipelineEnabled;
+        }
+
         @Override
         public boolean isConstraintViolationTranslatable() {
             return constraintViolationTranslatable;
@@ -901,8 +957,12 @@ abstract class AbstractEntitySaveCommandImpl
                     associatedTypeChangeAllowedAll,
                     pessimisticLockMap,
                     pessimisticLockAll,
+                    preQueryByCacheMap,
+                    preQueryByCacheAll,
                     saveReturningEnabled,
                     saveResultReadsAllProperties,
+                    multiRowInsertEnabled,
+                    associationPipelineEnabled,
                     deleteMode,
                     keyMatcherMap,
                     autoCheckingAll,
@@ -924,8 +984,11 @@ abstract class AbstractEntitySaveCommandImpl
                     typeChangeAllowed == other.typeChangeAllowed &&
                     associatedTypeChangeAllowedAll == other.associatedTypeChangeAllowedAll &&
                     pessimisticLockAll == other.pessimisticLockAll &&
+                    preQueryByCacheAll == other.preQueryByCacheAll &&
                     saveReturningEnabled == other.saveReturningEnabled &&
                     saveResultReadsAllProperties == other.saveResultReadsAllProperties &&
+                    multiRowInsertEnabled == other.multiRowInsertEnabled &&
+                    associationPipelineEnabled == other.associationPipelineEnabled &&
                     mode == other.mode &&
                     deleteMode == other.deleteMode &&
                     Objects.equals(argument, other.argument) &&
@@ -940,7 +1003,8 @@ abstract class AbstractEntitySaveCommandImpl
                     keyMatcherMap.equals(other.keyMatcherMap) &&
                     autoCheckingMap.equals(other.autoCheckingMap) &&
                     dissociateActionMap.equals(other.dissociateActionMap) &&
-                    pessimisticLockMap.equals(other.pessimisticLockMap);
+                    pessimisticLockMap.equals(other.pessimisticLockMap) &&
+                    preQueryByCacheMap.equals(other.preQueryByCacheMap);
         }
 
         @Override
@@ -963,8 +1027,12 @@ abstract class AbstractEntitySaveCommandImpl
                     ", associatedTypeChangeAllowedAll=" + associatedTypeChangeAllowedAll +
                     ", pessimisticLockMap" + pessimisticLockMap +
                     ", pessimisticLockAll" + pessimisticLockAll +
+                    ", preQueryByCacheMap=" + preQueryByCacheMap +
+                    ", preQueryByCacheAll=" + preQueryByCacheAll +
                     ", saveReturningEnabled=" + saveReturningEnabled +
                     ", saveResultReadsAllProperties=" + saveResultReadsAllProperties +
+                    ", multiRowInsertEnabled=" + multiRowInsertEnabled +
+                    ", associationPipelineEnabled=" + associationPipelineEnabled +
                     ", deleteMode=" + deleteMode +
                     ", keyMatcherMap=" + keyMatcherMap +
                     ", autoCheckingMap=" + autoCheckingMap +
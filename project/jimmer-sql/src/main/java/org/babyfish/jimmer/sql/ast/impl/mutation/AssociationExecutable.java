@@ -210,7 +210,8 @@ class AssociationExecutable implements Executable<Integer> {
                 trigger,
                 affectedRowCountMap,
                 null,
-                false
+                false,
+                null
         );
 
         boolean checkExistence = nullOrCheckedExistence != null ?
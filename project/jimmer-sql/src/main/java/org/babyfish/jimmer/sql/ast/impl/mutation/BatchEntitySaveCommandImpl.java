@@ -179,6 +179,16 @@ public class BatchEntitySaveCommandImpl<E>
         return new BatchEntitySaveCommandImpl<>(new PessimisticLockCfg(cfg, true));
     }
 
+    @Override
+    public BatchEntitySaveCommand<E> setPreQueryByCache(Class<?> entityType, boolean enabled) {
+        return new BatchEntitySaveCommandImpl<>(new PreQueryByCacheCfg(cfg, entityType, enabled));
+    }
+
+    @Override
+    public BatchEntitySaveCommand<E> setPreQueryByCacheAll() {
+        return new BatchEntitySaveCommandImpl<>(new PreQueryByCacheCfg(cfg, true));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Table<E>> BatchEntitySaveCommand<E> setOptimisticLock(
@@ -279,6 +289,16 @@ public class BatchEntitySaveCommandImpl<E>
         );
     }
 
+    @Override
+    public BatchEntitySaveCommand<E> setMultiRowInsertEnabled(boolean enabled) {
+        return new BatchEntitySaveCommandImpl<>(new MultiRowInsertEnabledCfg(cfg, enabled));
+    }
+
+    @Override
+    public BatchEntitySaveCommand<E> setAssociationPipelineEnabled(boolean enabled) {
+        return new BatchEntitySaveCommandImpl<>(new AssociationPipelineEnabledCfg(cfg, enabled));
+    }
+
     @Override
     public BatchEntitySaveCommand<E> setConstraintViolationTranslatable(boolean transferable) {
         return new BatchEntitySaveCommandImpl<>(new ConstraintViolationTranslatableCfg(cfg, transferable));
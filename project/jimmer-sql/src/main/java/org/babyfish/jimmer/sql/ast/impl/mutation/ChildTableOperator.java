@@ -20,15 +20,28 @@ import org.babyfish.jimmer.sql.ast.mutation.QueryReason;
 import org.babyfish.jimmer.sql.ast.query.ConfigurableRootQuery;
 import org.babyfish.jimmer.sql.ast.table.Table;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
 import org.babyfish.jimmer.sql.runtime.ExecutionPurpose;
+import org.babyfish.jimmer.sql.runtime.Executor;
+import org.babyfish.jimmer.sql.runtime.Reader;
 import org.babyfish.jimmer.sql.runtime.SqlBuilder;
 
+import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 class ChildTableOperator extends AbstractAssociationOperator {
 
+    /*
+     * Each recursive CTE statement queries at most this number of levels,
+     * the deeper levels are queried by the next recursive CTE statement,
+     * this guarantees the termination of the recursive CTE when the data has cycles,
+     * the cycle will be reported by `DeleteContext.addDisconnectedId`
+     */
+    private static final int RECURSIVE_CTE_MAX_DEPTH = 64;
+
     final DeleteContext ctx;
 
     private final ChildTableOperator parent;
@@ -149,6 +162,10 @@ class ChildTableOperator extends AbstractAssociationOperator {
             }
             return;
         }
+        if (isRecursiveCteApplicable(args)) {
+            disconnectByRecursiveCte(args);
+            return;
+        }
         if (ctx.trigger != null) {
             List<ImmutableSpi> rows = findDisconnectingObjects(args);
             if (rows.isEmpty()) {
@@ -171,30 +188,7 @@ class ChildTableOperator extends AbstractAssociationOperator {
                         .generate();
                 args = args.withLogicalDeletedValue(generatedValue);
             }
-            for (ImmutableSpi row : rows) {
-                ImmutableProp prop;
-                Object value;
-                switch (disconnectingType) {
-                    case LOGICAL_DELETE:
-                        prop = ctx.path.getType().getLogicalDeletedInfo().getProp();
-                        value = args.logicalDeletedValueRef.getValue();
-                        break;
-                    case SET_NULL:
-                        prop = ctx.backProp;
-                        value = null;
-                        break;
-                    default:
-                        prop = null;
-                        value = null;
-                        break;
-                }
-                Deleter.fireEvent(
-                        row,
-                        prop,
-                        value,
-                        ctx.trigger
-                );
-            }
+            fireEvents(rows, args);
         }
         if (args.deletedIds == null || this != args.caller) {
             List<Object> preExecutedIds = preDisconnect(args);
@@ -215,6 +209,181 @@ class ChildTableOperator extends AbstractAssociationOperator {
         disconnectImpl(args);
     }
 
+    private void fireEvents(List<ImmutableSpi> rows, DisconnectionArgs args) {
+        for (ImmutableSpi row : rows) {
+            ImmutableProp prop;
+            Object value;
+            switch (disconnectingType) {
+                case LOGICAL_DELETE:
+                    prop = ctx.path.getType().getLogicalDeletedInfo().getProp();
+                    value = args.logicalDeletedValueRef.getValue();
+                    break;
+                case SET_NULL:
+                    prop = ctx.backProp;
+                    value = null;
+                    break;
+                default:
+                    prop = null;
+                    value = null;
+                    break;
+            }
+            Deleter.fireEvent(
+                    row,
+                    prop,
+                    value,
+                    ctx.trigger
+            );
+        }
+    }
+
+    private boolean isRecursiveCteApplicable(DisconnectionArgs args) {
+        if (!ctx.options.isRecursiveCteEnabled() ||
+                !disconnectingType.isDelete() ||
+                args.deletedIds == null ||
+                isJoinAllowed(args.deletedIds, args.caller)) {
+            return false;
+        }
+        if (sourceGetters.size() != 1 ||
+                targetGetters.size() != 1 ||
+                !sqlClient.getDialect().isRecursiveCteSupported()) {
+            return false;
+        }
+        for (ChildTableOperator subOperator : subOperators()) {
+            if (subOperator.ctx.backProp == ctx.backProp) {
+                return subOperator.disconnectingType == disconnectingType;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Self-referencing subtree, query all descendant ids by recursive CTE,
+     * and delete them by set-based statements.
+     */
+    private void disconnectByRecursiveCte(DisconnectionArgs args) {
+        List<List<Object>> levels = findDisconnectingIdLevels(args);
+        if (levels.isEmpty()) {
+            return;
+        }
+        List<Object> ids = new ArrayList<>();
+        for (List<Object> level : levels) {
+            ids.addAll(level);
+        }
+        DisconnectionArgs subArgs = DisconnectionArgs.delete(ids, this).withTrigger(args.fireEvents);
+        if (ctx.trigger != null) {
+            if (disconnectingType == DisconnectingType.LOGICAL_DELETE) {
+                Object generatedValue = sqlClient
+                        .getGeneratorContext()
+                        .getLogicalDeletedValueGenerator(ctx.path.getType().getLogicalDeletedInfo())
+                        .generate();
+                subArgs = subArgs.withLogicalDeletedValue(generatedValue);
+            }
+            fireEvents(findObjects(ids), subArgs);
+        }
+        for (ChildTableOperator subOperator : subOperators()) {
+            if (subOperator.ctx.backProp != ctx.backProp) {
+                subOperator.disconnect(subArgs);
+            }
+        }
+        for (MiddleTableOperator middleTableOperator : middleTableOperators()) {
+            middleTableOperator.disconnect(subArgs);
+        }
+        if (disconnectingType == DisconnectingType.LOGICAL_DELETE) {
+            disconnectImpl(subArgs);
+        } else {
+            // Children before parents, the self-referencing foreign key may be checked row by row
+            for (int i = levels.size() - 1; i >= 0; --i) {
+                disconnectImpl(DisconnectionArgs.delete(levels.get(i), this));
+            }
+        }
+    }
+
+    private List<List<Object>> findDisconnectingIdLevels(DisconnectionArgs args) {
+        List<List<Object>> levels = new ArrayList<>();
+        Collection<Object> seedIds = args.deletedIds;
+        boolean isParentSeed = this != args.caller;
+        while (true) {
+            List<List<Object>> queriedLevels = findDisconnectingIdLevels(seedIds, isParentSeed);
+            for (int i = isParentSeed ? 0 : 1; i < queriedLevels.size(); i++) {
+                for (Object id : queriedLevels.get(i)) {
+                    ctx.addDisconnectedId(id);
+                }
+            }
+            levels.addAll(queriedLevels);
+            if (queriedLevels.size() < RECURSIVE_CTE_MAX_DEPTH) {
+                return levels;
+            }
+            seedIds = queriedLevels.get(queriedLevels.size() - 1);
+            isParentSeed = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> findDisconnectingIdLevels(Collection<Object> seedIds, boolean isParentSeed) {
+        LogicalDeletedInfo logicalDeletedInfo =
+                disconnectingType == DisconnectingType.LOGICAL_DELETE ?
+                        ctx.path.getType().getLogicalDeletedInfo() :
+                        null;
+        SqlBuilder builder = new SqlBuilder(new AstContext(sqlClient));
+        builder.sql("with ");
+        if (sqlClient.getDialect().isRecursiveCteKeywordRequired()) {
+            builder.sql("recursive ");
+        }
+        builder
+                .sql("tb_1_(c1, c2) as (")
+                .sql("select tb_2_.").sql(targetGetters.get(0))
+                .sql(", 1 from ").sql(tableName).sql(" tb_2_ where ");
+        ComparisonPredicates.renderIn(
+                false,
+                ValueGetter.alias("tb_2_", isParentSeed ? sourceGetters : targetGetters),
+                seedIds,
+                builder
+        );
+        if (logicalDeletedInfo != null) {
+            builder.sql(" and ").logicalDeleteFilter(logicalDeletedInfo, "tb_2_");
+        }
+        builder
+                .sql(" union all ")
+                .sql("select tb_3_.").sql(targetGetters.get(0))
+                .sql(", tb_1_.c2 + 1 from ").sql(tableName).sql(" tb_3_")
+                .sql(" inner join tb_1_ on tb_3_.").sql(sourceGetters.get(0)).sql(" = tb_1_.c1")
+                .sql(" where tb_1_.c2 < ").variable(RECURSIVE_CTE_MAX_DEPTH);
+        if (logicalDeletedInfo != null) {
+            builder.sql(" and ").logicalDeleteFilter(logicalDeletedInfo, "tb_3_");
+        }
+        builder.sql(") select tb_1_.c1, tb_1_.c2 from tb_1_");
+        Tuple3<String, List<Object>, List<Integer>> tuple = builder.build();
+        Reader<Object> idReader = (Reader<Object>) sqlClient.getReader(ctx.path.getType().getIdProp());
+        return sqlClient.getExecutor().execute(
+                new Executor.Args<>(
+                        sqlClient,
+                        con,
+                        tuple.get_1(),
+                        tuple.get_2(),
+                        tuple.get_3(),
+                        ExecutionPurpose.command(QueryReason.RECURSIVE_CTE),
+                        exceptionTranslator,
+                        null,
+                        (stmt, args) -> {
+                            Reader.Context readerContext = new Reader.Context(null, sqlClient);
+                            List<List<Object>> levels = new ArrayList<>();
+                            try (ResultSet rs = stmt.executeQuery()) {
+                                while (rs.next()) {
+                                    readerContext.resetCol();
+                                    Object id = idReader.read(rs, readerContext);
+                                    int level = rs.getInt(2);
+                                    while (levels.size() < level) {
+                                        levels.add(new ArrayList<>());
+                                    }
+                                    levels.get(level - 1).add(id);
+                                }
+                            }
+                            return levels;
+                        }
+                )
+        );
+    }
+
     private List<Object> preDisconnect(DisconnectionArgs args) {
         if (queryReason == QueryReason.NONE) {
             return null;
@@ -549,6 +718,24 @@ class ChildTableOperator extends AbstractAssociationOperator {
         return rows;
     }
 
+    @SuppressWarnings("unchecked")
+    private List<ImmutableSpi> findObjects(Collection<Object> ids) {
+        MutableRootQueryImpl<Table<?>> query =
+                new MutableRootQueryImpl<>(
+                        sqlClient,
+                        ctx.path.getType(),
+                        ExecutionPurpose.command(QueryReason.TRIGGER),
+                        ctx.isLogicalDeleted() ?
+                                FilterLevel.IGNORE_USER_FILTERS :
+                                FilterLevel.IGNORE_ALL
+                );
+        Table<?> table = query.getTable();
+        query.where(table.getId().in(ids));
+        return query.select(
+                (Selection<ImmutableSpi>) table
+        ).execute(con);
+    }
+
     private void addDisconnectingConditions(
             AbstractMutableQueryImpl query,
             Table<?> table,
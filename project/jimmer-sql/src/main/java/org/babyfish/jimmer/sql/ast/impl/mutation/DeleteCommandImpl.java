@@ -129,6 +129,8 @@ public class DeleteCommandImpl extends AbstractCommandImpl implements DeleteComm
 
         private final boolean transactionRequired;
 
+        private final boolean recursiveCteEnabled;
+
         private Argument argument;
 
         OptionsImpl(Cfg cfg) {
@@ -142,6 +144,7 @@ public class DeleteCommandImpl extends AbstractCommandImpl implements DeleteComm
             DissociationActionCfg dissociationActionCfg = cfg.as(DissociationActionCfg.class);
             DumbBatchAcceptableCfg dumbBatchAcceptableCfg = cfg.as(DumbBatchAcceptableCfg.class);
             TransactionRequiredCfg transactionRequiredCfg = cfg.as(TransactionRequiredCfg.class);
+            RecursiveCteEnabledCfg recursiveCteEnabledCfg = cfg.as(RecursiveCteEnabledCfg.class);
 
             assert rootCfg != null;
             this.sqlClient = rootCfg.sqlClient;
@@ -161,6 +164,7 @@ public class DeleteCommandImpl extends AbstractCommandImpl implements DeleteComm
                     sqlClient.isMutationTransactionRequired();
             this.dissociateActionMap = MapNode.toMap(dissociationActionCfg, it -> it.mapNode);
             this.dumbBatchAcceptable = dumbBatchAcceptableCfg != null && dumbBatchAcceptableCfg.acceptable;
+            this.recursiveCteEnabled = recursiveCteEnabledCfg != null && recursiveCteEnabledCfg.enabled;
             this.argument = (Argument) rootCfg.argument;
         }
 
@@ -194,6 +198,7 @@ public class DeleteCommandImpl extends AbstractCommandImpl implements DeleteComm
             this.dissociateActionMap = Collections.emptyMap();
             this.dumbBatchAcceptable = sqlClient.getDialect().isBatchDumb();
             this.transactionRequired = sqlClient.isMutationTransactionRequired();
+            this.recursiveCteEnabled = false;
             this.argument = null;
         }
 
@@ -254,6 +259,11 @@ public class DeleteCommandImpl extends AbstractCommandImpl implements DeleteComm
             return transactionRequired;
         }
 
+        @Override
+        public boolean isRecursiveCteEnabled() {
+            return recursiveCteEnabled;
+        }
+
         @Override
         public Triggers getTriggers() {
             return sqlClient.getTriggerType() == TriggerType.BINLOG_ONLY ?
@@ -305,4 +315,9 @@ public class DeleteCommandImpl extends AbstractCommandImpl implements DeleteComm
     public DeleteCommand setTransactionRequired(boolean required) {
         return new DeleteCommandImpl(new TransactionRequiredCfg(cfg, required));
     }
+
+    @Override
+    public DeleteCommand setRecursiveCteEnabled(boolean enabled) {
+        return new DeleteCommandImpl(new RecursiveCteEnabledCfg(cfg, enabled));
+    }
 }
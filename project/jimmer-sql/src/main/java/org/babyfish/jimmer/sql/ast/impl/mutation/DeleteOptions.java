@@ -32,6 +32,10 @@ public interface DeleteOptions {
 
     Triggers getTriggers();
 
+    default boolean isRecursiveCteEnabled() {
+        return false;
+    }
+
     default DeleteOptions toMode(DeleteMode mode) {
         if (getMode() == mode) {
             return this;
@@ -105,6 +109,11 @@ class DeleteOptionsWrapper implements DeleteOptions {
         return raw.getTriggers();
     }
 
+    @Override
+    public boolean isRecursiveCteEnabled() {
+        return raw.isRecursiveCteEnabled();
+    }
+
     private static DeleteOptions unwrap(DeleteOptions options) {
         if (options instanceof DeleteOptionsWrapper) {
             return unwrap(((DeleteOptionsWrapper)options).raw);
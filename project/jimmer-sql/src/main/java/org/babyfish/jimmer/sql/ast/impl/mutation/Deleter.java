@@ -1105,6 +1105,11 @@ public class Deleter {
                 return false;
             }
 
+            @Override
+            public boolean isPreQueryByCache(ImmutableType type) {
+                return false;
+            }
+
             @Override
             public UnloadedVersionBehavior getUnloadedVersionBehavior(ImmutableType type) {
                 return UnloadedVersionBehavior.IGNORE;
@@ -1145,6 +1150,16 @@ public class Deleter {
                 return false;
             }
 
+            @Override
+            public boolean isMultiRowInsertEnabled() {
+                return false;
+            }
+
+            @Override
+            public boolean isAssociationPipelineEnabled() {
+                return false;
+            }
+
             @Override
             public boolean isConstraintViolationTranslatable() {
                 return getSqlClient().isConstraintViolationTranslatable();
@@ -15,6 +15,7 @@ import org.babyfish.jimmer.sql.ast.mutation.AffectedTable;
 import org.babyfish.jimmer.sql.ast.mutation.QueryReason;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
+import org.babyfish.jimmer.sql.collection.TypedList;
 import org.babyfish.jimmer.sql.dialect.Dialect;
 import org.babyfish.jimmer.sql.meta.JoinTableFilterInfo;
 import org.babyfish.jimmer.sql.meta.MetadataStrategy;
@@ -60,6 +61,8 @@ class MiddleTableOperator extends AbstractAssociationOperator {
 
     private final String alias;
 
+    private final MiddleTablePipeline pipeline;
+
     MiddleTableOperator(SaveContext ctx, boolean isSourceLogicalDeleted) {
         this(
                 ctx.options.getSqlClient(), 
@@ -71,7 +74,8 @@ class MiddleTableOperator extends AbstractAssociationOperator {
                 ctx.trigger,
                 ctx.affectedRowCountMap,
                 null,
-                isSourceLogicalDeleted
+                isSourceLogicalDeleted,
+                ctx.pipeline
         );
     }
 
@@ -94,7 +98,8 @@ class MiddleTableOperator extends AbstractAssociationOperator {
                 ctx.trigger,
                 ctx.affectedRowCountMap,
                 parent,
-                parent.disconnectingType == DisconnectingType.LOGICAL_DELETE
+                parent.disconnectingType == DisconnectingType.LOGICAL_DELETE,
+                null
         );
     }
 
@@ -109,7 +114,8 @@ class MiddleTableOperator extends AbstractAssociationOperator {
             MutationTrigger trigger,
             Map<AffectedTable, Integer> affectedRowCountMap,
             ChildTableOperator parent,
-            boolean isSourceLogicalDeleted
+            boolean isSourceLogicalDeleted,
+            MiddleTablePipeline pipeline
     ) {
         super(sqlClient, con, batchForbidden, exceptionTranslator);
         ImmutableProp associationProp = path.getProp();
@@ -188,10 +194,11 @@ class MiddleTableOperator extends AbstractAssociationOperator {
         this.getters = getters;
         this.parent = parent;
         this.alias = parent != null ? "tb_1_" : null;
+        this.pipeline = trigger == null ? pipeline : null;
     }
 
     public void append(IdPairs idPairs) {
-        connect(idPairs);
+        connectLater(idPairs, false);
         MutationTrigger trigger = this.trigger;
         if (trigger != null) {
             for (Tuple2<Object, Object> idTuple : idPairs.tuples()) {
@@ -201,6 +208,7 @@ class MiddleTableOperator extends AbstractAssociationOperator {
     }
 
     public final void merge(IdPairs idPairs) {
+        flushPipeline();
         if (queryReason == QueryReason.NONE) {
             int[] rowCounts = connectIfNecessary(idPairs);
             int index = 0;
@@ -229,6 +237,7 @@ class MiddleTableOperator extends AbstractAssociationOperator {
     }
 
     public final void delete(IdPairs idPairs) {
+        flushPipeline();
         MutationTrigger trigger = this.trigger;
         if (trigger == null) {
             disconnect(idPairs);
@@ -243,10 +252,16 @@ class MiddleTableOperator extends AbstractAssociationOperator {
     }
 
     public final void replace(IdPairs.Retain idPairs) {
+        flushPipeline();
         MutationTrigger trigger = this.trigger;
         if (trigger == null && isUpsertUsed()) {
-            disconnectExcept(idPairs);
-            connectIfNecessary(idPairs);
+            if (isUnnestUsed()) {
+                disconnectExceptByUnnest(idPairs);
+                connectByUnnest(idPairs);
+            } else {
+                disconnectExcept(idPairs);
+                connectLater(idPairs, true);
+            }
             return;
         }
         Collection<Tuple2<Object, Object>> idTuples = idPairs.tuples();
@@ -272,7 +287,7 @@ class MiddleTableOperator extends AbstractAssociationOperator {
             }
         }
         disconnect(IdPairs.of(deletingIdTuples));
-        connect(IdPairs.of(insertingIdTuples));
+        connectLater(IdPairs.of(insertingIdTuples), false);
         if (trigger != null) {
             for (Tuple2<Object, Object> idTuple : insertingIdTuples) {
                 fireInsert(idTuple.get_1(), idTuple.get_2());
@@ -409,6 +424,7 @@ class MiddleTableOperator extends AbstractAssociationOperator {
             SqlBuilder builder,
             @Nullable QueryReason optionalQueryReason
     ) {
+        flushPipeline();
         Tuple3<String, List<Object>, List<Integer>> tuple = builder.build();
         Reader<Object> sourceIdReader;
         Reader<Object> targetIdReader;
@@ -460,6 +476,34 @@ class MiddleTableOperator extends AbstractAssociationOperator {
         );
     }
 
+    /**
+     * Insert the id pairs now, or later by {@link MiddleTablePipeline}
+     * if the association pipeline of save command is enabled
+     */
+    private void connectLater(IdPairs idPairs, boolean upsert) {
+        MiddleTablePipeline pipeline = this.pipeline;
+        if (pipeline != null) {
+            pipeline.add(this, path, upsert, idPairs);
+        } else {
+            connectNow(idPairs, upsert);
+        }
+    }
+
+    final void connectNow(IdPairs idPairs, boolean upsert) {
+        if (upsert) {
+            connectIfNecessary(idPairs);
+        } else {
+            connect(idPairs);
+        }
+    }
+
+    private void flushPipeline() {
+        MiddleTablePipeline pipeline = this.pipeline;
+        if (pipeline != null) {
+            pipeline.flush();
+        }
+    }
+
     final void connect(IdPairs idPairs) {
         if (idPairs.tuples().isEmpty()) {
             return;
@@ -498,10 +542,50 @@ class MiddleTableOperator extends AbstractAssociationOperator {
         return rowCounts;
     }
 
+    /**
+     * Insert all the missing id pairs by one statement,
+     * no matter how many id pairs there are
+     */
+    private void connectByUnnest(IdPairs idPairs) {
+        if (idPairs.tuples().isEmpty()) {
+            return;
+        }
+        SqlBuilder builder = new SqlBuilder(new AstContext(sqlClient));
+        builder.sql("insert into ").sql(middleTable.getTableName()).enter(SqlBuilder.ScopeType.TUPLE);
+        for (ValueGetter getter : getters) {
+            builder.separator().sql(getter);
+        }
+        builder.leave();
+        builder.sql(" ").enter(SqlBuilder.ScopeType.SELECT);
+        builder.separator().sql("tb_1_.*");
+        for (ValueGetter getter : getters.subList(referenceGetters.size(), getters.size())) {
+            Object value = getter.get(null);
+            if (getter instanceof DeletedGetter) {
+                value = Variables.process(
+                        value,
+                        middleTable.getLogicalDeletedInfo().getType(),
+                        sqlClient
+                );
+            }
+            builder.separator().rawVariable(value);
+        }
+        builder.leave();
+        builder.sql(" from ");
+        addUnnest(builder, idPairs.tuples());
+        builder.sql(" tb_1_ on conflict").enter(SqlBuilder.ScopeType.TUPLE);
+        for (ValueGetter getter : getters) {
+            builder.separator().sql(getter);
+        }
+        builder.leave().sql(" do nothing");
+        int rowCount = execute(builder);
+        AffectedRows.add(affectedRowCount, path, rowCount);
+    }
+
     final void disconnect(IdPairs idPairs) {
         if (idPairs.isEmpty()) {
             return;
         }
+        flushPipeline();
         BatchSqlBuilder builder = new BatchSqlBuilder(sqlClient);
         addOperation(builder, true);
         builder.enter(BatchSqlBuilder.ScopeType.WHERE);
@@ -526,6 +610,7 @@ class MiddleTableOperator extends AbstractAssociationOperator {
         if (args.isEmpty() || disconnectingType == DisconnectingType.NONE) {
             return;
         }
+        flushPipeline();
         if (queryReason != QueryReason.TUPLE_IS_UNSUPPORTED && queryReason != QueryReason.NONE) {
             Set<Tuple2<Object, Object>> tuples = find(args);
             disconnect(IdPairs.of(tuples));
@@ -571,6 +656,7 @@ class MiddleTableOperator extends AbstractAssociationOperator {
         if (entries.isEmpty()) {
             return;
         }
+        flushPipeline();
         if (idPairs.entries().size() == 1) {
             Tuple2<Object, Collection<Object>> entry = entries.iterator().next();
             disconnectExceptBySimpleInPredicate(entry.get_1(), entry.get_2());
@@ -597,6 +683,64 @@ class MiddleTableOperator extends AbstractAssociationOperator {
         AffectedRows.add(affectedRowCount, path, rowCount);
     }
 
+    /**
+     * Delete the id pairs of all the sources except the retained ones by one statement,
+     * the existing id pairs are not queried and compared in memory
+     */
+    private void disconnectExceptByUnnest(IdPairs.Retain idPairs) {
+        Collection<Tuple2<Object, Collection<Object>>> entries = idPairs.entries();
+        if (entries.size() < 2) {
+            disconnectExcept(idPairs);
+            return;
+        }
+        ValueGetter sourceGetter = sourceGetters.get(0);
+        Object[] sourceIds = new Object[entries.size()];
+        int index = 0;
+        for (Tuple2<Object, Collection<Object>> entry : entries) {
+            sourceIds[index++] = sourceGetter.get(entry.get_1());
+        }
+        SqlBuilder builder = new SqlBuilder(new AstContext(sqlClient));
+        addOperation(builder, false);
+        builder.enter(SqlBuilder.ScopeType.WHERE);
+        builder.separator()
+                .sql(sourceGetter)
+                .sql(" = any(")
+                .rawVariable(new TypedList<>(sourceGetter.metadata().getSqlTypeName(), sourceIds))
+                .sql(")");
+        builder.separator().enter(SqlBuilder.ScopeType.TUPLE);
+        for (ValueGetter getter : referenceGetters) {
+            builder.separator().sql(getter);
+        }
+        builder.leave();
+        builder.sql(" not in ").enter(SqlBuilder.ScopeType.SUB_QUERY);
+        builder.sql("select * from ");
+        addUnnest(builder, idPairs.tuples());
+        builder.leave();
+        addLogicalDeletedPredicate(builder);
+        addFilterPredicate(builder);
+        builder.leave();
+        int rowCount = execute(builder);
+        AffectedRows.add(affectedRowCount, path, rowCount);
+    }
+
+    private void addUnnest(SqlBuilder builder, Collection<Tuple2<Object, Object>> idTuples) {
+        ValueGetter sourceGetter = sourceGetters.get(0);
+        ValueGetter targetGetter = targetGetters.get(0);
+        Object[] sourceIds = new Object[idTuples.size()];
+        Object[] targetIds = new Object[idTuples.size()];
+        int index = 0;
+        for (Tuple2<Object, Object> idTuple : idTuples) {
+            sourceIds[index] = sourceGetter.get(idTuple.get_1());
+            targetIds[index++] = targetGetter.get(idTuple.get_2());
+        }
+        builder
+                .sql("unnest(")
+                .rawVariable(new TypedList<>(sourceGetter.metadata().getSqlTypeName(), sourceIds))
+                .sql(", ")
+                .rawVariable(new TypedList<>(targetGetter.metadata().getSqlTypeName(), targetIds))
+                .sql(")");
+    }
+
     private void disconnectExceptBySimpleInPredicate(Object sourceId, Collection<Object> targetIds) {
         AstContext astContext = new AstContext(sqlClient);
         SqlBuilder builder = new SqlBuilder(astContext);
@@ -786,6 +930,12 @@ class MiddleTableOperator extends AbstractAssociationOperator {
         return dialect.isUpsertSupported() && trigger == null;
     }
 
+    private boolean isUnnestUsed() {
+        return sourceGetters.size() == 1 &&
+                targetGetters.size() == 1 &&
+                sqlClient.getDialect().isUnnestSupported();
+    }
+
     private class UpsertContextImpl implements Dialect.UpsertContext {
 
         private final BatchSqlBuilder builder;
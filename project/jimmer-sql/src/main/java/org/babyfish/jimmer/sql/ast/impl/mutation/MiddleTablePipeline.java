@@ -0,0 +1,92 @@
+package org.babyfish.jimmer.sql.ast.impl.mutation;
+
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.runtime.MutationPath;
+
+import java.util.*;
+
+/**
+ * Deferred middle table insertions of one save command,
+ * enabled by `setAssociationPipelineEnabled`.
+ *
+ * <p>Save command handles the associations prop by prop and batch by batch,
+ * so that the middle table rows of the same association are inserted by
+ * many small JDBC batches, for example, one for each shape of the parent
+ * objects and one for each parent object of deeper levels.
+ * The insertions of them do not depend on each other, so they are
+ * collected here and executed by one JDBC batch per association.</p>
+ *
+ * <p>Pending rows must be flushed before any other statement
+ * which may read or delete the rows of middle table.</p>
+ */
+class MiddleTablePipeline {
+
+    private final Map<Key, Entry> entryMap = new LinkedHashMap<>();
+
+    void add(MiddleTableOperator operator, MutationPath path, boolean upsert, IdPairs idPairs) {
+        Collection<Tuple2<Object, Object>> tuples = idPairs.tuples();
+        if (tuples.isEmpty()) {
+            return;
+        }
+        Key key = new Key(path.getProp(), path.getBackProp(), upsert);
+        entryMap
+                .computeIfAbsent(key, it -> new Entry(operator))
+                .tuples
+                .addAll(tuples);
+    }
+
+    void flush() {
+        if (entryMap.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Key, Entry>> entries = new ArrayList<>(entryMap.entrySet());
+        entryMap.clear();
+        for (Map.Entry<Key, Entry> e : entries) {
+            e.getValue().operator.connectNow(IdPairs.of(e.getValue().tuples), e.getKey().upsert);
+        }
+    }
+
+    private static class Key {
+
+        final ImmutableProp prop;
+
+        final ImmutableProp backProp;
+
+        final boolean upsert;
+
+        Key(ImmutableProp prop, ImmutableProp backProp, boolean upsert) {
+            this.prop = prop;
+            this.backProp = backProp;
+            this.upsert = upsert;
+        }
+
+        @Override
+        public int hashCode() {
+            return (Objects.hashCode(prop) * 31 + Objects.hashCode(backProp)) * 31 + Boolean.hashCode(upsert);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return prop == other.prop && backProp == other.backProp && upsert == other.upsert;
+        }
+    }
+
+    private static class Entry {
+
+        final MiddleTableOperator operator;
+
+        final List<Tuple2<Object, Object>> tuples = new ArrayList<>();
+
+        Entry(MiddleTableOperator operator) {
+            this.operator = operator;
+        }
+    }
+}
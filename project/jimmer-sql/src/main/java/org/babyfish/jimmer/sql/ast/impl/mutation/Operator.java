@@ -26,6 +26,7 @@ import org.babyfish.jimmer.sql.ast.table.spi.TableProxy;
 import org.babyfish.jimmer.sql.ast.table.spi.UntypedJoinDisabledTableProxy;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
 import org.babyfish.jimmer.sql.cache.CacheDisableConfig;
+import org.babyfish.jimmer.sql.cache.CachesImpl;
 import org.babyfish.jimmer.sql.dialect.Dialect;
 import org.babyfish.jimmer.sql.exception.ExecutionException;
 import org.babyfish.jimmer.sql.fetcher.Fetcher;
@@ -346,15 +347,335 @@ class Operator {
                     trigger.modifyEntityTable(null, draft);
                 }
             }
+            addInsertedIds(batch);
             AffectedRows.add(ctx.affectedRowCountMap, tableType, rowCount);
             return;
         }
 
-        MetadataStrategy strategy = sqlClient.getMetadataStrategy();
-        BatchSqlBuilder builder = new BatchSqlBuilder(
-                sqlClient,
-                batch.entities().size() < 2 || ctx.options.isBatchForbidden()
+        boolean recordPosition = batch.entities().size() < 2 || ctx.options.isBatchForbidden();
+        SaveStatementCache statementCache = sqlClient.getSaveStatementCache();
+        Object statementKey = upsertMask == null ?
+                SaveStatementCache.key(
+                        "insert",
+                        tableType,
+                        batch.shape(),
+                        discriminatorProp,
+                        conflictProps,
+                        recordPosition
+                ) :
+                null;
+        Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> statement =
+                statementKey != null ? statementCache.statement(statementKey) : null;
+        if (statement == null) {
+            statement = renderInsert(
+                    tableType,
+                    sequenceIdGenerator,
+                    (identityIdGenerator != null || sequenceIdGenerator != null) &&
+                            sqlClient.getDialect().isInsertedIdReturningRequired(),
+                    userIdGenerator != null,
+                    insertedGetters,
+                    conflictProps,
+                    upsertMask,
+                    discriminatorGetter,
+                    defaultGetters,
+                    recordPosition,
+                    1
+            );
+            if (statementKey != null) {
+                statementCache.putStatement(statementKey, statement);
+            }
+        }
+
+        // The ids assigned by user id generator are inserted like the ids specified by user,
+        // so that the shape after assignment is used by multi-row insertion
+        Shape insertedShape = userIdGenerator != null ? batch.shape().withIds(sqlClient) : batch.shape();
+        int maxRowCount = maxMultiInsertRowCount(
+                batch,
+                insertedShape,
+                identityIdGenerator != null,
+                statement.get_2().getVariableCount() +
+                        insertedShape.getIdGetters().size() -
+                        batch.shape().getIdGetters().size()
+        );
+        int rowCount;
+        if (maxRowCount > 1) {
+            List<PropertyGetter> multiRowInsertedGetters = insertedGetters;
+            if (insertedShape != batch.shape()) {
+                multiRowInsertedGetters = new ArrayList<>();
+                for (PropertyGetter getter : insertedShape.getGetters()) {
+                    if (getter.prop().isColumnDefinition() &&
+                            getter.isInsertable(conflictProps, upsertMask)) {
+                        multiRowInsertedGetters.add(getter);
+                    }
+                }
+            }
+            rowCount = 0;
+            List<EntityCollection.Item<DraftSpi>> rowItems =
+                    new ArrayList<>(Math.min(maxRowCount, batch.entities().size()));
+            for (EntityCollection.Item<DraftSpi> item : batch.entities().items()) {
+                rowItems.add(item);
+                if (rowItems.size() == maxRowCount) {
+                    rowCount += executeMultiRowInsert(
+                            tableType,
+                            insertedShape,
+                            rowItems,
+                            identityIdGenerator != null,
+                            multiRowInsertedGetters,
+                            conflictProps,
+                            upsertMask,
+                            discriminatorProp,
+                            discriminatorGetter,
+                            defaultGetters
+                    );
+                    rowItems = new ArrayList<>(maxRowCount);
+                }
+            }
+            if (!rowItems.isEmpty()) {
+                rowCount += executeMultiRowInsert(
+                        tableType,
+                        insertedShape,
+                        rowItems,
+                        identityIdGenerator != null,
+                        multiRowInsertedGetters,
+                        conflictProps,
+                        upsertMask,
+                        discriminatorProp,
+                        discriminatorGetter,
+                        defaultGetters
+                );
+            }
+        } else {
+            rowCount = rowCount(
+                    executeAndGetRowCounts(statement, batch.shape(), batch.entities(), false, false, false)
+            );
+        }
+        completeInsertedFetcherFields(batch);
+        // Fire the trigger after `execute` so the draft already reflects its final,
+        // post-execution state (generated id, version, ...) before being captured.
+        MutationTrigger trigger = fireTrigger ? ctx.trigger : null;
+        if (trigger != null) {
+            for (DraftSpi draft : batch.entities()) {
+                trigger.modifyEntityTable(null, draft);
+            }
+        }
+        addInsertedIds(batch);
+        AffectedRows.add(ctx.affectedRowCountMap, tableType, rowCount);
+    }
+
+    /*
+     * The id filters must see the ids inserted by current application
+     * before the binlog events are received, whatever the trigger type is.
+     * The ids of the updated or rolled back rows are harmless false positives.
+     */
+    private void addInsertedIds(Batch<DraftSpi> batch) {
+        ((CachesImpl) ctx.options.getSqlClient().getCaches()).addInsertedIds(
+                ctx.path.getType(),
+                batch.entities()
         );
+    }
+
+    /**
+     * @return The max row count of each multi-row insert statement,
+     * or 1 if the rows should be inserted by JDBC batch or one by one.
+     *
+     * <p>It does not depend on whether JDBC batch is forbidden, for the
+     * dialects such as SQLite and MySQL5 without `rewriteBatchedStatements`,
+     * multi-row insertion is exactly the way to avoid one statement per row.</p>
+     */
+    private int maxMultiInsertRowCount(
+            Batch<DraftSpi> batch,
+            Shape insertedShape,
+            boolean isIdentity,
+            int variableCount
+    ) {
+        if (!ctx.options.isMultiRowInsertEnabled() || batch.entities().size() < 2) {
+            return 1;
+        }
+        Dialect dialect = ctx.options.getSqlClient().getDialect();
+        if (!dialect.isMultiInsertionSupported()) {
+            return 1;
+        }
+        // The ids must be specified or assigned by user id generator,
+        // otherwise, they must be generated by identity and can be recovered
+        // in the order of rows. Sequence sub queries are never used here.
+        if (insertedShape.getIdGetters().isEmpty() &&
+                (!isIdentity || !isMultiInsertionIdRecoverable(dialect, insertedShape.getType()))) {
+            return 1;
+        }
+        return Math.max(1, dialect.getMaxVariableCount() / Math.max(1, variableCount));
+    }
+
+    private static boolean isMultiInsertionIdRecoverable(Dialect dialect, ImmutableType type) {
+        if (dialect.isMultiInsertionIdReturningSupported()) {
+            return true;
+        }
+        if (dialect.getMultiInsertionFirstIdSql() == null) {
+            return false;
+        }
+        Class<?> idClass = Classes.boxTypeOf(type.getIdProp().getReturnClass());
+        return idClass == Long.class || idClass == Integer.class;
+    }
+
+    /**
+     * Insert rows by `insert into ... values(...), (...), ...` rather than
+     * JDBC batch, the statement of each row count is rendered by the
+     * {@link BatchSqlBuilder} and cached.
+     *
+     * <p>If the ids are generated by identity, they are read from the
+     * `returning` clause in the order of rows, or calculated by the first
+     * generated id because the generated ids are consecutive.</p>
+     */
+    private int executeMultiRowInsert(
+            ImmutableType tableType,
+            Shape shape,
+            List<EntityCollection.Item<DraftSpi>> rowItems,
+            boolean isIdentity,
+            List<PropertyGetter> insertedGetters,
+            List<ImmutableProp> conflictProps,
+            @Nullable UpsertMask<?> upsertMask,
+            @Nullable ImmutableProp discriminatorProp,
+            @Nullable PropertyGetter discriminatorGetter,
+            List<PropertyGetter> defaultGetters
+    ) {
+        JSqlClientImplementor sqlClient = ctx.options.getSqlClient();
+        Dialect dialect = sqlClient.getDialect();
+        boolean generatedId = isIdentity && shape.getIdGetters().isEmpty();
+        boolean idReturning = generatedId && dialect.isMultiInsertionIdReturningSupported();
+        String firstIdSql = generatedId && !idReturning ? dialect.getMultiInsertionFirstIdSql() : null;
+        List<DraftSpi> rowEntities = new ArrayList<>(rowItems.size());
+        for (EntityCollection.Item<DraftSpi> item : rowItems) {
+            rowEntities.add(item.getEntity());
+        }
+        SaveStatementCache statementCache = sqlClient.getSaveStatementCache();
+        Object statementKey = upsertMask == null ?
+                SaveStatementCache.key(
+                        "multi-row-insert",
+                        tableType,
+                        shape,
+                        discriminatorProp,
+                        conflictProps,
+                        rowEntities.size()
+                ) :
+                null;
+        Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> statement =
+                statementKey != null ? statementCache.statement(statementKey) : null;
+        if (statement == null) {
+            statement = renderInsert(
+                    tableType,
+                    null,
+                    idReturning,
+                    false,
+                    insertedGetters,
+                    conflictProps,
+                    upsertMask,
+                    discriminatorGetter,
+                    defaultGetters,
+                    false,
+                    rowEntities.size()
+            );
+            if (statementKey != null) {
+                statementCache.putStatement(statementKey, statement);
+            }
+        }
+        ImmutableProp idProp = tableType.getIdProp();
+        Reader<?> idReader = idReturning ? sqlClient.getReader(idProp) : null;
+        List<Object> generatedIds = generatedId ? new ArrayList<>(rowEntities.size()) : null;
+        int rowCount = sqlClient.getExecutor().execute(
+                new Executor.Args<>(
+                        sqlClient,
+                        ctx.con,
+                        statement.get_1(),
+                        statement.get_2().multiRowVariables(rowEntities),
+                        null,
+                        ExecutionPurpose.MUTATE,
+                        ctx.options.getExceptionTranslator(),
+                        null,
+                        (stmt, args) -> {
+                            try {
+                                Savepoint savepoint = ctx.options.isConstraintViolationTranslatable() ?
+                                        SavepointManager.setIfNeeded(ctx.con, sqlClient) :
+                                        null;
+                                try {
+                                    if (idReader != null) {
+                                        try (ResultSet rs = stmt.executeQuery()) {
+                                            Reader.Context readerContext = new Reader.Context(null, sqlClient);
+                                            while (rs.next()) {
+                                                readerContext.resetCol();
+                                                generatedIds.add(idReader.read(rs, readerContext));
+                                            }
+                                        }
+                                        return generatedIds.size();
+                                    }
+                                    int count = stmt.executeUpdate();
+                                    if (firstIdSql != null) {
+                                        try (Statement firstIdStmt = stmt.getConnection().createStatement();
+                                             ResultSet rs = firstIdStmt.executeQuery(firstIdSql)) {
+                                            rs.next();
+                                            long firstId = rs.getLong(1);
+                                            for (int i = 0; i < count; i++) {
+                                                generatedIds.add(consecutiveId(idProp, firstId + i));
+                                            }
+                                        }
+                                    }
+                                    return count;
+                                } catch (SQLException ex) {
+                                    SavepointManager.rollback(stmt::getConnection, savepoint);
+                                    throw ex;
+                                } finally {
+                                    SavepointManager.release(stmt::getConnection, savepoint);
+                                }
+                            } catch (SQLException ex) {
+                                Exception translateException = translateException(ex, args, shape, rowEntities);
+                                if (translateException instanceof RuntimeException) {
+                                    throw (RuntimeException) translateException;
+                                }
+                                throw new ExecutionException("Cannot execute the DML statement", translateException);
+                            }
+                        }
+                )
+        );
+        if (generatedIds != null) {
+            if (generatedIds.size() != rowItems.size()) {
+                throw new ExecutionException(
+                        "Cannot recover the ids generated by the multi-row insertion of \"" +
+                                tableType +
+                                "\", " +
+                                rowItems.size() +
+                                " rows are inserted but " +
+                                generatedIds.size() +
+                                " ids are generated"
+                );
+            }
+            for (int i = 0; i < rowItems.size(); i++) {
+                modifyEntity(generatedIds.get(i), shape, rowItems.get(i), false, false, 1);
+            }
+        }
+        return rowCount;
+    }
+
+    private static Object consecutiveId(ImmutableProp idProp, long value) {
+        if (Classes.boxTypeOf(idProp.getReturnClass()) == Integer.class) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> renderInsert(
+            ImmutableType tableType,
+            @Nullable SequenceIdGenerator sequenceIdGenerator,
+            boolean idReturning,
+            boolean isUserId,
+            List<PropertyGetter> insertedGetters,
+            List<ImmutableProp> conflictProps,
+            @Nullable UpsertMask<?> upsertMask,
+            @Nullable PropertyGetter discriminatorGetter,
+            List<PropertyGetter> defaultGetters,
+            boolean recordPosition,
+            int rowCount
+    ) {
+        JSqlClientImplementor sqlClient = ctx.options.getSqlClient();
+        MetadataStrategy strategy = sqlClient.getMetadataStrategy();
+        BatchSqlBuilder builder = new BatchSqlBuilder(sqlClient, recordPosition);
         builder.sql("insert into ")
                 .sql(tableType.getTableName(strategy))
                 .enter(BatchSqlBuilder.ScopeType.TUPLE);
@@ -381,44 +702,49 @@ class Operator {
                 builder.separator().sql(defaultGetter);
             }
         }
-        builder.leave().sql(" values").enter(BatchSqlBuilder.ScopeType.TUPLE);
-        if (sequenceIdGenerator != null) {
-            builder.separator()
-                    .sql("(")
-                    .sql(
-                            sqlClient.getDialect().getSelectIdFromSequenceSql(sequenceIdGenerator.getSequenceName())
-                    )
-                    .sql(")");
-        } else if (userIdGenerator != null) {
-            Shape fullShape = Shape.fullOf(sqlClient, tableType.getJavaClass());
-            builder.separator();
-            for (PropertyGetter getter : fullShape.getIdGetters()) {
-                builder.separator().sql(getter);
+        builder.leave().sql(" values");
+        for (int i = 0; i < rowCount; i++) {
+            if (i != 0) {
+                builder.sql(", ");
             }
-        }
-        for (PropertyGetter getter : insertedGetters) {
-            if (getter.prop().isId() && getter.isInsertable(conflictProps, upsertMask)) {
-                builder.separator().variable(getter);
+            builder.enter(BatchSqlBuilder.ScopeType.TUPLE);
+            if (sequenceIdGenerator != null) {
+                builder.separator()
+                        .sql("(")
+                        .sql(
+                                sqlClient.getDialect().getSelectIdFromSequenceSql(sequenceIdGenerator.getSequenceName())
+                        )
+                        .sql(")");
+            } else if (isUserId) {
+                Shape fullShape = Shape.fullOf(sqlClient, tableType.getJavaClass());
+                builder.separator();
+                for (PropertyGetter getter : fullShape.getIdGetters()) {
+                    builder.separator().sql(getter);
+                }
             }
-        }
-        if (discriminatorGetter != null) {
-            builder.separator().variable(discriminatorGetter);
-        }
-        for (PropertyGetter getter : insertedGetters) {
-            if (!getter.prop().isId() &&
-                    getter.prop().isColumnDefinition() &&
-                    getter.isInsertable(conflictProps, upsertMask)) {
-                builder.separator().variable(getter);
+            for (PropertyGetter getter : insertedGetters) {
+                if (getter.prop().isId() && getter.isInsertable(conflictProps, upsertMask)) {
+                    builder.separator().variable(getter);
+                }
             }
-        }
-        for (PropertyGetter defaultGetter : defaultGetters) {
-            if (defaultGetter.isInsertable(conflictProps, upsertMask)) {
-                builder.separator().defaultVariable(defaultGetter);
+            if (discriminatorGetter != null) {
+                builder.separator().variable(discriminatorGetter);
+            }
+            for (PropertyGetter getter : insertedGetters) {
+                if (!getter.prop().isId() &&
+                        getter.prop().isColumnDefinition() &&
+                        getter.isInsertable(conflictProps, upsertMask)) {
+                    builder.separator().variable(getter);
+                }
+            }
+            for (PropertyGetter defaultGetter : defaultGetters) {
+                if (defaultGetter.isInsertable(conflictProps, upsertMask)) {
+                    builder.separator().defaultVariable(defaultGetter);
+                }
             }
+            builder.leave();
         }
-        builder.leave();
-        if ((identityIdGenerator != null || sequenceIdGenerator != null) &&
-                sqlClient.getDialect().isInsertedIdReturningRequired()) {
+        if (idReturning) {
             builder.sql(" returning ")
                     .sql(
                             tableType.getIdProp()
@@ -426,18 +752,7 @@ class Operator {
                                     .getName()
                     );
         }
-
-        int rowCount = execute(builder, batch, false, false);
-        completeInsertedFetcherFields(batch);
-        // Fire the trigger after `execute` so the draft already reflects its final,
-        // post-execution state (generated id, version, ...) before being captured.
-        MutationTrigger trigger = fireTrigger ? ctx.trigger : null;
-        if (trigger != null) {
-            for (DraftSpi draft : batch.entities()) {
-                trigger.modifyEntityTable(null, draft);
-            }
-        }
-        AffectedRows.add(ctx.affectedRowCountMap, tableType, rowCount);
+        return builder.build();
     }
 
     private void completeInsertedFetcherFields(Batch<DraftSpi> batch) {
@@ -1380,28 +1695,54 @@ class Operator {
         if (returning != null) {
             rowCounts = returning.executeUpdate(entities);
         } else {
-            BatchSqlBuilder builder = new BatchSqlBuilder(
-                    sqlClient,
-                    entities.size() < 2 || ctx.options.isBatchForbidden() || forceOneByOne
-            );
-            Dialect.UpdateContext updateContext = new UpdateContextImpl(
-                    builder,
-                    tableType,
-                    shape,
-                    Shape.fullOf(sqlClient, shape.getType().getJavaClass()).getIdGetters().get(0),
-                    keyProps,
-                    assignments,
-                    discriminatorProp,
-                    discriminatorGuardProp,
-                    discriminatorGuardValue,
-                    nullGetters,
-                    userOptimisticLockPredicate,
-                    versionGetter,
-                    fakeUpdate
-            );
-            sqlClient.getDialect().update(updateContext);
+            boolean recordPosition = entities.size() < 2 || ctx.options.isBatchForbidden() || forceOneByOne;
+            SaveStatementCache statementCache = sqlClient.getSaveStatementCache();
+            // Custom assignments and user optimistic lock predicates are expressions
+            // which may hold values, so their statements cannot be shared
+            Object statementKey = !hasCustomAssignments && userOptimisticLockPredicate == null ?
+                    SaveStatementCache.key(
+                            "update",
+                            tableType,
+                            ctx.path.getType(),
+                            shape,
+                            keyProps,
+                            assignmentTargets(assignments),
+                            discriminatorProp,
+                            discriminatorGuardProp,
+                            discriminatorGuardValue,
+                            nullGetters,
+                            ctx.options.getUnloadedVersionBehavior(ctx.path.getType()),
+                            fakeUpdate,
+                            recordPosition
+                    ) :
+                    null;
+            Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> statement =
+                    statementKey != null ? statementCache.statement(statementKey) : null;
+            if (statement == null) {
+                BatchSqlBuilder builder = new BatchSqlBuilder(sqlClient, recordPosition);
+                Dialect.UpdateContext updateContext = new UpdateContextImpl(
+                        builder,
+                        tableType,
+                        shape,
+                        Shape.fullOf(sqlClient, shape.getType().getJavaClass()).getIdGetters().get(0),
+                        keyProps,
+                        assignments,
+                        discriminatorProp,
+                        discriminatorGuardProp,
+                        discriminatorGuardValue,
+                        nullGetters,
+                        userOptimisticLockPredicate,
+                        versionGetter,
+                        fakeUpdate
+                );
+                sqlClient.getDialect().update(updateContext);
+                statement = builder.build();
+                if (statementKey != null) {
+                    statementCache.putStatement(statementKey, statement);
+                }
+            }
             rowCounts = executeAndGetRowCounts(
-                    builder,
+                    statement,
                     shape,
                     entities,
                     true,
@@ -1428,6 +1769,14 @@ class Operator {
         return rowCounts;
     }
 
+    private static List<PropertyGetter> assignmentTargets(List<SaveAssignment> assignments) {
+        List<PropertyGetter> targets = new ArrayList<>(assignments.size());
+        for (SaveAssignment assignment : assignments) {
+            targets.add(assignment.target);
+        }
+        return targets;
+    }
+
     private boolean isVersionUpdateRequired(@Nullable PropertyGetter versionGetter) {
         if (versionGetter != null) {
             return true;
@@ -1895,6 +2244,7 @@ class Operator {
         );
         if (returning != null) {
             int[] rowCounts = returning.executeUpsert(batch.entities());
+            addInsertedIds(batch);
             AffectedRows.add(ctx.affectedRowCountMap, tableType, rowCount(rowCounts));
             return rowCounts;
         }
@@ -1931,6 +2281,7 @@ class Operator {
                 forceOneByOne
         );
         unloadCustomAssignmentTargets(batch.entities(), rowCounts, assignments);
+        addInsertedIds(batch);
         AffectedRows.add(ctx.affectedRowCountMap, tableType, rowCount(rowCounts));
         return rowCounts;
     }
@@ -2243,14 +2594,28 @@ class Operator {
             boolean updatable,
             boolean ignoreUpdate,
             boolean forceOneByOne
+    ) {
+        if (entities.isEmpty()) {
+            return EMPTY_ROW_COUNTS;
+        }
+        return executeAndGetRowCounts(builder.build(), shape, entities, updatable, ignoreUpdate, forceOneByOne);
+    }
+
+    private int[] executeAndGetRowCounts(
+            Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> statement,
+            Shape shape,
+            EntityCollection<DraftSpi> entities,
+            boolean updatable,
+            boolean ignoreUpdate,
+            boolean forceOneByOne
     ) {
         if (entities.isEmpty()) {
             return EMPTY_ROW_COUNTS;
         }
         if (forceOneByOne || entities.size() < 2 || ctx.options.isBatchForbidden() || isForcedOneByOne(shape, entities)) {
-            return executeAndGetRowCountsOneByOne(builder, shape, entities, updatable, ignoreUpdate);
+            return executeAndGetRowCountsOneByOne(statement, shape, entities, updatable, ignoreUpdate);
         }
-        return executeAndGetRowCountsByBatch(builder, shape, entities, updatable, ignoreUpdate);
+        return executeAndGetRowCountsByBatch(statement, shape, entities, updatable, ignoreUpdate);
     }
 
     private boolean isForcedOneByOne(
@@ -2297,14 +2662,13 @@ class Operator {
     }
 
     private int[] executeAndGetRowCountsOneByOne(
-            BatchSqlBuilder builder,
+            Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> tuple,
             Shape shape,
             EntityCollection<DraftSpi> entities,
             boolean updatable,
             boolean ignoreUpdate
     ) {
-        JSqlClientImplementor sqlClient = builder.sqlClient();
-        Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> tuple = builder.build();
+        JSqlClientImplementor sqlClient = ctx.options.getSqlClient();
         Executor executor = sqlClient.getExecutor();
         String sql = tuple.get_1();
         BatchSqlBuilder.VariableMapper mapper = tuple.get_2();
@@ -2376,14 +2740,13 @@ class Operator {
     }
 
     private int[] executeAndGetRowCountsByBatch(
-            BatchSqlBuilder builder,
+            Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> tuple,
             Shape shape,
             EntityCollection<DraftSpi> entities,
             boolean updatable,
             boolean ignoreUpdate
     ) {
         JSqlClientImplementor sqlClient = ctx.options.getSqlClient();
-        Tuple3<String, BatchSqlBuilder.VariableMapper, ?> tuple = builder.build();
         try (Executor.BatchContext batchContext = sqlClient
                 .getExecutor()
                 .executeBatch(
@@ -2582,6 +2945,34 @@ class Operator {
         return convertFinalException(investigateEx, args);
     }
 
+    private Exception translateException(
+            SQLException ex,
+            Executor.Args<?> args,
+            Shape shape,
+            List<DraftSpi> entities
+    ) {
+        if (!ctx.options.isConstraintViolationTranslatable()) {
+            return convertFinalException(ex, args);
+        }
+        String state = ex.getSQLState();
+        if (state == null || !state.startsWith("23")) {
+            return convertFinalException(ex, args);
+        }
+        // The failed row of multi-row statement is unknown, investigate all rows
+        EntityInvestigator investigator = new EntityInvestigator(
+                EMPTY_ROW_COUNTS,
+                this.ctx.investigator(ctx.options.getSqlClient()),
+                shape,
+                entities,
+                false
+        );
+        Exception investigateEx = investigator.investigate();
+        if (investigateEx == null) {
+            investigateEx = ex;
+        }
+        return convertFinalException(investigateEx, args);
+    }
+
     private Exception translateException(
             SQLException ex,
             @Nullable Executor.BatchContext ctx,
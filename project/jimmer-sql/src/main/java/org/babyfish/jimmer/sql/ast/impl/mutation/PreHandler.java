@@ -227,12 +227,16 @@ abstract class AbstractPreHandler implements PreHandler {
     final Map<Object, ImmutableSpi> findOldMapByIds(QueryReason queryReason) {
         Map<Object, ImmutableSpi> idObjMap = this.idObjMap;
         if (idObjMap == null) {
-            this.idObjMap = idObjMap = Rows.findMapByIds(
-                    ctx,
-                    queryReason,
-                    originalFetcher(),
-                    draftsWithId
-            );
+            idObjMap = Rows.findMapByIdsFromCache(ctx, originalFetcher(), draftsWithId);
+            if (idObjMap == null) {
+                idObjMap = Rows.findMapByIds(
+                        ctx,
+                        queryReason,
+                        originalFetcher(),
+                        draftsWithId
+                );
+            }
+            this.idObjMap = idObjMap;
         }
         return idObjMap;
     }
@@ -10,7 +10,12 @@ import org.babyfish.jimmer.sql.ast.impl.query.Queries;
 import org.babyfish.jimmer.sql.ast.mutation.QueryReason;
 import org.babyfish.jimmer.sql.ast.query.MutableQuery;
 import org.babyfish.jimmer.sql.ast.table.Table;
+import org.babyfish.jimmer.sql.cache.Cache;
+import org.babyfish.jimmer.sql.cache.CacheEnvironment;
+import org.babyfish.jimmer.sql.cache.CacheLoader;
 import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.fetcher.Field;
+import org.babyfish.jimmer.sql.fetcher.impl.Shapes;
 import org.babyfish.jimmer.sql.runtime.ExecutionPurpose;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 import org.jetbrains.annotations.Nullable;
@@ -62,6 +67,83 @@ class Rows {
         });
     }
 
+    /**
+     * Load rows from the object cache if {@link SaveOptions#isPreQueryByCache(ImmutableType)}
+     * is enabled, cache misses are loaded from database by the cache loader.
+     *
+     * @return null if the object cache cannot be used, the caller must query the database.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    static Map<Object, ImmutableSpi> findMapByIdsFromCache(
+            SaveContext ctx,
+            Fetcher<ImmutableSpi> fetcher,
+            Collection<? extends ImmutableSpi> rows
+    ) {
+        ImmutableType type = ctx.path.getType();
+        SaveOptions options = ctx.options;
+        JSqlClientImplementor sqlClient = options.getSqlClient();
+        if (!options.isPreQueryByCache(type) ||
+                options.isPessimisticLocked(type) ||
+                sqlClient.getFilters().getFilter(type) != null) {
+            return null;
+        }
+        Cache<Object, ImmutableSpi> cache = sqlClient.getCaches().getObjectCache(type);
+        if (cache == null || !isCoveredByObjectCache(type, fetcher)) {
+            return null;
+        }
+        PropId idPropId = type.getIdProp().getId();
+        Set<Object> ids = new LinkedHashSet<>((rows.size() * 4 + 2) / 3);
+        for (ImmutableSpi row : rows) {
+            if (row.__isLoaded(idPropId)) {
+                ids.add(row.__get(idPropId));
+            }
+        }
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<Object, ImmutableSpi> cachedMap = cache.getAll(
+                ids,
+                new CacheEnvironment<>(
+                        sqlClient,
+                        ctx.con,
+                        CacheLoader.objectLoader(
+                                sqlClient,
+                                ctx.con,
+                                (Class<ImmutableSpi>) type.getJavaClass()
+                        ),
+                        true
+                )
+        );
+        List<ImmutableSpi> entities = new ArrayList<>(cachedMap.size());
+        for (ImmutableSpi entity : cachedMap.values()) {
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        // Trigger requires the whole object, keep the shape of object cache
+        Shapes.reshape(sqlClient, ctx.con, entities, type, ctx.trigger != null ? null : fetcher, null);
+        Map<Object, ImmutableSpi> map = new LinkedHashMap<>((entities.size() * 4 + 2) / 3);
+        for (ImmutableSpi entity : entities) {
+            map.put(entity.__get(idPropId), entity);
+        }
+        return map;
+    }
+
+    private static boolean isCoveredByObjectCache(ImmutableType type, Fetcher<ImmutableSpi> fetcher) {
+        Map<String, ImmutableProp> objectCacheProps = type.getObjectCacheProps();
+        for (Field field : fetcher.getFieldMap().values()) {
+            ImmutableProp prop = field.getProp();
+            if (!objectCacheProps.containsKey(prop.getName())) {
+                return false;
+            }
+            if (prop.isAssociation(TargetLevel.ENTITY) && !field.isRawId()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static Map<KeyMatcher.Group, Map<Object, ImmutableSpi>> findMapByKeys(
             SaveContext ctx,
             QueryReason queryReason,
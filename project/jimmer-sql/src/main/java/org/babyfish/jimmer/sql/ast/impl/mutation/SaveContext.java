@@ -38,6 +38,8 @@ class SaveContext extends MutationContext {
 
     final boolean backReferenceFrozen;
 
+    final MiddleTablePipeline pipeline;
+
     private final Set<DraftSpi> saveReturningAppliedDrafts;
 
     private final Set<DraftSpi> saveReturningNotAcceptedDrafts;
@@ -54,7 +56,8 @@ class SaveContext extends MutationContext {
                 type,
                 fetcher,
                 options.getTriggers() != null ? new MutationTrigger() : null,
-                new LinkedHashMap<>()
+                new LinkedHashMap<>(),
+                options.isAssociationPipelineEnabled() ? new MiddleTablePipeline() : null
         );
     }
 
@@ -65,6 +68,18 @@ class SaveContext extends MutationContext {
             Fetcher<?> fetcher,
             MutationTrigger trigger,
             Map<AffectedTable, Integer> affectedRowCountMap
+    ) {
+        this(options, con, type, fetcher, trigger, affectedRowCountMap, null);
+    }
+
+    private SaveContext(
+            SaveOptions options,
+            Connection con,
+            ImmutableType type,
+            Fetcher<?> fetcher,
+            MutationTrigger trigger,
+            Map<AffectedTable, Integer> affectedRowCountMap,
+            MiddleTablePipeline pipeline
     ) {
         super(MutationPath.root(type));
         this.options = options;
@@ -74,6 +89,7 @@ class SaveContext extends MutationContext {
         this.backReferenceProp = null;
         this.backReferenceFrozen = false;
         this.affectedRowCountMap = affectedRowCountMap;
+        this.pipeline = pipeline;
         this.saveReturningAppliedDrafts = Collections.newSetFromMap(new IdentityHashMap<>());
         this.saveReturningNotAcceptedDrafts = Collections.newSetFromMap(new IdentityHashMap<>());
     }
@@ -130,6 +146,7 @@ class SaveContext extends MutationContext {
             this.backReferenceFrozen = false;
         }
         this.affectedRowCountMap = parent.affectedRowCountMap;
+        this.pipeline = parent.pipeline;
         this.saveReturningAppliedDrafts = parent.saveReturningAppliedDrafts;
         this.saveReturningNotAcceptedDrafts = parent.saveReturningNotAcceptedDrafts;
     }
@@ -141,6 +158,7 @@ class SaveContext extends MutationContext {
         this.fetcher = base.fetcher;
         this.trigger = base.trigger;
         this.affectedRowCountMap = base.affectedRowCountMap;
+        this.pipeline = base.pipeline;
         this.backReferenceProp = base.backReferenceProp;
         this.backReferenceFrozen = base.backReferenceFrozen;
         this.saveReturningAppliedDrafts = base.saveReturningAppliedDrafts;
@@ -75,6 +75,8 @@ public interface SaveOptions {
 
     boolean isPessimisticLocked(ImmutableType type);
 
+    boolean isPreQueryByCache(ImmutableType type);
+
     UnloadedVersionBehavior getUnloadedVersionBehavior(ImmutableType type);
 
     UserOptimisticLock<?, ?> getUserOptimisticLock(ImmutableType type);
@@ -91,6 +93,18 @@ public interface SaveOptions {
 
     boolean isSaveResultReadsAllProperties();
 
+    /**
+     * Whether the inserted rows are inserted by multi-row insertion.
+     *
+     * <p>It takes effect only when the ids are specified, assigned by
+     * user id generator, or generated by identity column and recoverable
+     * by `returning` clause or the consecutive ids after the first one.
+     * Otherwise, it falls back to JDBC batch or one-by-one insertion.</p>
+     */
+    boolean isMultiRowInsertEnabled();
+
+    boolean isAssociationPipelineEnabled();
+
     boolean isConstraintViolationTranslatable();
 
     @Nullable
@@ -227,6 +241,11 @@ abstract class AbstractSaveOptionsWrapper implements SaveOptions {
         return raw.isPessimisticLocked(type);
     }
 
+    @Override
+    public boolean isPreQueryByCache(ImmutableType type) {
+        return raw.isPreQueryByCache(type);
+    }
+
     @Override
     public UnloadedVersionBehavior getUnloadedVersionBehavior(ImmutableType type) {
         return raw.getUnloadedVersionBehavior(type);
@@ -267,6 +286,16 @@ abstract class AbstractSaveOptionsWrapper implements SaveOptions {
         return raw.isSaveResultReadsAllProperties();
     }
 
+    @Override
+    public boolean isMultiRowInsertEnabled() {
+        return raw.isMultiRowInsertEnabled();
+    }
+
+    @Override
+    public boolean isAssociationPipelineEnabled() {
+        return raw.isAssociationPipelineEnabled();
+    }
+
     @Override
     public boolean isConstraintViolationTranslatable() {
         return raw.isConstraintViolationTranslatable();
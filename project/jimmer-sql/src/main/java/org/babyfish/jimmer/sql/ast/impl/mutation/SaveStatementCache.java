@@ -0,0 +1,89 @@
+package org.babyfish.jimmer.sql.ast.impl.mutation;
+
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.ast.impl.render.BatchSqlBuilder;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
+import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Client-level cache of save command artifacts which only depend on
+ * the shape of the saved objects, never on their values.
+ *
+ * <ul>
+ *     <li>Full shape of each entity type</li>
+ *     <li>Interned shapes, so that their lazily computed
+ *     getter maps/sets are shared by all save commands</li>
+ *     <li>Rendered DML statements together with their variable mappers</li>
+ * </ul>
+ *
+ * <p>It is shared by the sql client and the clients derived from it
+ * by {@code filters}, {@code caches}, {@code executor} and
+ * {@code disableSlaveConnectionManager}, because they share the
+ * same dialect, metadata strategy and id generators.</p>
+ */
+public final class SaveStatementCache {
+
+    private static final int MAX_SHAPE_COUNT = 4096;
+
+    private static final int MAX_STATEMENT_COUNT = 512;
+
+    private final Map<ImmutableType, Shape> fullShapeMap = new ConcurrentHashMap<>();
+
+    private final Map<Shape, Shape> shapeMap = new ConcurrentHashMap<>();
+
+    private final Map<Object, Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>>> statementMap =
+            new LinkedHashMap<Object, Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>>>(
+                    (MAX_STATEMENT_COUNT * 4 + 2) / 3,
+                    .75F,
+                    true
+            ) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Object, Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>>> eldest
+                ) {
+                    return size() > MAX_STATEMENT_COUNT;
+                }
+            };
+
+    Shape fullShape(JSqlClientImplementor sqlClient, ImmutableType type) {
+        Shape shape = fullShapeMap.get(type);
+        if (shape == null) {
+            shape = fullShapeMap.computeIfAbsent(type, t -> Shape.createFull(sqlClient, t));
+        }
+        return shape;
+    }
+
+    Shape shape(Shape shape) {
+        Shape interned = shapeMap.get(shape);
+        if (interned != null) {
+            return interned;
+        }
+        if (shapeMap.size() >= MAX_SHAPE_COUNT) {
+            return shape;
+        }
+        interned = shapeMap.putIfAbsent(shape, shape);
+        return interned != null ? interned : shape;
+    }
+
+    Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> statement(Object key) {
+        synchronized (statementMap) {
+            return statementMap.get(key);
+        }
+    }
+
+    void putStatement(Object key, Tuple3<String, BatchSqlBuilder.VariableMapper, List<Integer>> statement) {
+        synchronized (statementMap) {
+            statementMap.put(key, statement);
+        }
+    }
+
+    static Object key(Object ... parts) {
+        return Arrays.asList(parts);
+    }
+}
@@ -51,6 +51,7 @@ public class Saver {
                 Collections.singleton(entity),
                 drafts -> {
                     saveAllImpl((List<DraftSpi>) drafts);
+                    flushPipeline();
                 },
                 trigger == null ? null : trigger::prepareSubmit
         ).get(0);
@@ -82,6 +83,7 @@ public class Saver {
                 entities,
                 drafts -> {
                     saveAllImpl((List<DraftSpi>) drafts);
+                    flushPipeline();
                 },
                 trigger == null ? null : trigger::prepareSubmit
         );
@@ -111,7 +113,10 @@ public class Saver {
         List<E> newEntities = (List<E>) Internal.produceList(
                 entities,
                 base -> ((ImmutableSpi) base).__type(),
-                drafts -> saveAllJoinedInsertImpl((List<DraftSpi>) drafts),
+                drafts -> {
+                    saveAllJoinedInsertImpl((List<DraftSpi>) drafts);
+                    flushPipeline();
+                },
                 trigger == null ? null : trigger::prepareSubmit
         );
         if (trigger != null) {
@@ -242,6 +247,10 @@ public class Saver {
 
     private void finishSave(SaveOperation operation, SaveSelfResult selfResult) {
         finishAssociations(operation, selfResult);
+        if (ctx.fetcher != null) {
+            // The fetched associations may be based on the pending middle table rows
+            flushPipeline();
+        }
         new SaveResultMaterializer(ctx).materialize(
                 SaveBatches.drafts(operation.drafts, selfResult.acceptedDrafts),
                 SaveBatches.selfBatches(operation.preHandler, selfResult.acceptedDrafts)
@@ -597,6 +606,7 @@ public class Saver {
         }
         IdPairs.Retain noTargetIdPairs = new NoTargetEntityIdPairsImpl(rows);
         if (subOperator != null) {
+            flushPipeline();
             subOperator.disconnectExcept(noTargetIdPairs, true);
         }
         if (middleTableOperator != null) {
@@ -639,6 +649,7 @@ public class Saver {
         }
         IdPairs.Retain retainedIdPairs = IdPairs.retain(batch.entities(), prop);
         if (subOperator != null && detach && ctx.options.getAssociatedMode(prop) == AssociatedSaveMode.REPLACE) {
+            flushPipeline();
             subOperator.disconnectExcept(retainedIdPairs, true);
         }
         if (middleTableOperator != null) {
@@ -662,6 +673,13 @@ public class Saver {
         }
     }
 
+    private void flushPipeline() {
+        MiddleTablePipeline pipeline = ctx.pipeline;
+        if (pipeline != null) {
+            pipeline.flush();
+        }
+    }
+
     private boolean isReadOnlyMiddleTable(ImmutableProp prop) {
         ImmutableProp mappedBy = prop.getMappedBy();
         if (mappedBy != null) {
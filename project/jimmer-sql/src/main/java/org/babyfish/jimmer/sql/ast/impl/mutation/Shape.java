@@ -20,13 +20,16 @@ class Shape {
 
     private final int hash;
     
-    private Map<ImmutableProp, List<PropertyGetter>> getterMap;
+    // Lazy fields are volatile because shapes are interned by `SaveStatementCache`
+    // and shared by the save commands of all threads
 
-    private Set<PropertyGetter> getterSet;
+    private volatile Map<ImmutableProp, List<PropertyGetter>> getterMap;
 
-    private List<PropertyGetter> columnDefinitionGetters;
+    private volatile Set<PropertyGetter> getterSet;
 
-    private Boolean isIdOnly;
+    private volatile List<PropertyGetter> columnDefinitionGetters;
+
+    private volatile Boolean isIdOnly;
 
     private Shape(ImmutableType type, List<PropertyGetter> getters) {
         this.type = type;
@@ -51,10 +54,30 @@ class Shape {
     }
 
     public static Shape fullOf(JSqlClientImplementor sqlClient, Class<?> type) {
-        ImmutableType immutableType = ImmutableType.get(type);
+        return sqlClient.getSaveStatementCache().fullShape(sqlClient, ImmutableType.get(type));
+    }
+
+    static Shape createFull(JSqlClientImplementor sqlClient, ImmutableType type) {
         return new Shape(
-                immutableType,
-                PropertyGetter.entityGetters(sqlClient, immutableType, null, withoutMappedIdProps(immutableType, null))
+                type,
+                PropertyGetter.entityGetters(sqlClient, type, null, withoutMappedIdProps(type, null))
+        );
+    }
+
+    /**
+     * The shape of the same entities after their ids are assigned by the
+     * user id generator, it is this shape itself if the ids are already specified.
+     */
+    Shape withIds(JSqlClientImplementor sqlClient) {
+        if (!getIdGetters().isEmpty()) {
+            return this;
+        }
+        List<PropertyGetter> idGetters = fullOf(sqlClient, type.getJavaClass()).getIdGetters();
+        List<PropertyGetter> getters = new ArrayList<>(idGetters.size() + this.getters.size());
+        getters.addAll(idGetters);
+        getters.addAll(this.getters);
+        return sqlClient.getSaveStatementCache().shape(
+                new Shape(type, Collections.unmodifiableList(getters))
         );
     }
 
@@ -122,7 +145,7 @@ class Shape {
                     columnDefinitionGetters.add(getter);
                 }
             }
-            this.columnDefinitionGetters = columnDefinitionGetters;
+            this.columnDefinitionGetters = columnDefinitionGetters = Collections.unmodifiableList(columnDefinitionGetters);
         }
         return columnDefinitionGetters;
     }
@@ -77,6 +77,7 @@ class ShapedEntityMap<E> extends SemNode<E> implements Iterable<Batch<E>> {
                 return;
             }
         }
+        key = sqlClient.getSaveStatementCache().shape(key);
         PropId idPropId = key.getType().getIdProp().getId();
         EntityCollection<E> entities;
         if (((ImmutableSpi)entity).__isLoaded(idPropId)) {
@@ -154,6 +154,16 @@ public class SimpleEntitySaveCommandImpl<E>
         return new SimpleEntitySaveCommandImpl<>(new PessimisticLockCfg(cfg, true));
     }
 
+    @Override
+    public SimpleEntitySaveCommand<E> setPreQueryByCache(Class<?> entityType, boolean enabled) {
+        return new SimpleEntitySaveCommandImpl<>(new PreQueryByCacheCfg(cfg, entityType, enabled));
+    }
+
+    @Override
+    public SimpleEntitySaveCommand<E> setPreQueryByCacheAll() {
+        return new SimpleEntitySaveCommandImpl<>(new PreQueryByCacheCfg(cfg, true));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Table<E>> SimpleEntitySaveCommand<E> setOptimisticLock(
@@ -254,6 +264,16 @@ public class SimpleEntitySaveCommandImpl<E>
         );
     }
 
+    @Override
+    public SimpleEntitySaveCommand<E> setMultiRowInsertEnabled(boolean enabled) {
+        return new SimpleEntitySaveCommandImpl<>(new MultiRowInsertEnabledCfg(cfg, enabled));
+    }
+
+    @Override
+    public SimpleEntitySaveCommand<E> setAssociationPipelineEnabled(boolean enabled) {
+        return new SimpleEntitySaveCommandImpl<>(new AssociationPipelineEnabledCfg(cfg, enabled));
+    }
+
     @Override
     public SimpleEntitySaveCommand<E> setConstraintViolationTranslatable(boolean transferable) {
         return new SimpleEntitySaveCommandImpl<>(new ConstraintViolationTranslatableCfg(cfg, transferable));
@@ -285,10 +285,12 @@ abstract class AbstractConfigurableTypedQueryImpl implements TypedQueryImplement
 
     private void renderCte(SqlBuilder builder, List<CteTableDeclaration> cteDeclarations) {
         builder.sql("with ");
-        for (CteTableDeclaration declaration : cteDeclarations) {
-            if (declaration.isRecursive()) {
-                builder.sql("recursive ");
-                break;
+        if (builder.sqlClient().getDialect().isRecursiveCteKeywordRequired()) {
+            for (CteTableDeclaration declaration : cteDeclarations) {
+                if (declaration.isRecursive()) {
+                    builder.sql("recursive ");
+                    break;
+                }
             }
         }
         builder.enter(AbstractSqlBuilder.ScopeType.COMMA);
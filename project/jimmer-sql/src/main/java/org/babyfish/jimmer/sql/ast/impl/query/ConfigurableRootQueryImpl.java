@@ -1,6 +1,9 @@
 package org.babyfish.jimmer.sql.ast.impl.query;
 
 import org.babyfish.jimmer.Slice;
+import org.babyfish.jimmer.lang.Ref;
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.meta.TargetLevel;
 import org.babyfish.jimmer.sql.ast.Expression;
 import org.babyfish.jimmer.sql.ast.Selection;
 import org.babyfish.jimmer.sql.ast.impl.Ast;
@@ -10,6 +13,12 @@ import org.babyfish.jimmer.sql.ast.query.*;
 import org.babyfish.jimmer.sql.ast.table.BaseTable;
 import org.babyfish.jimmer.sql.ast.table.spi.TableLike;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
+import org.babyfish.jimmer.sql.cache.CachesImpl;
+import org.babyfish.jimmer.sql.cache.QueryResultCache;
+import org.babyfish.jimmer.sql.exception.ExecutionException;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.fetcher.Field;
+import org.babyfish.jimmer.sql.fetcher.impl.FetcherSelection;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 import org.babyfish.jimmer.sql.runtime.Selectors;
 import org.babyfish.jimmer.sql.runtime.SqlBuilder;
@@ -19,10 +28,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -327,14 +335,132 @@ public class ConfigurableRootQueryImpl<T extends TableLike<?>, R>
         );
     }
 
+    @Override
+    public ConfigurableRootQuery<T, R> cacheable(@NotNull Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl cannot be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        TypedQueryData data = getData();
+        return new ConfigurableRootQueryImpl<>(
+                data.cacheable(ttl),
+                getMutableQuery()
+        );
+    }
+
     @Override
     public List<R> execute(Connection con) {
+        TypedQueryData data = getData();
+        if (data.cacheTtl != null && data.forUpdate == null && data.limit != 0) {
+            QueryResultCache cache =
+                    ((CachesImpl) getMutableQuery().getSqlClient().getCaches()).getQueryResultCache();
+            if (cache != null) {
+                return executeCacheable(con, cache);
+            }
+        }
         return getMutableQuery()
                 .getSqlClient()
-                .getSlaveConnectionManager(getData().forUpdate != null)
+                .getSlaveConnectionManager(data.forUpdate != null)
                 .execute(con, this::executeImpl);
     }
 
+    private List<R> executeCacheable(Connection con, QueryResultCache cache) {
+        TypedQueryData data = getData();
+        JSqlClientImplementor sqlClient = getMutableQuery().getSqlClient();
+        Set<Object> dependencies = new LinkedHashSet<>();
+        Map<ImmutableProp, SortedMap<String, Object>> filterParameterMap = new LinkedHashMap<>();
+        List<Object> discriminators = new ArrayList<>(data.selections.size() + 1);
+        for (Selection<?> selection : data.selections) {
+            if (selection instanceof FetcherSelection<?>) {
+                Fetcher<?> fetcher = ((FetcherSelection<?>) selection).getFetcher();
+                discriminators.add(fetcher);
+                if (!collectCacheDependencies(sqlClient, fetcher, dependencies, filterParameterMap)) {
+                    // The associated objects are filtered by global filter which is not cacheable
+                    return sqlClient
+                            .getSlaveConnectionManager(false)
+                            .execute(con, this::executeImpl);
+                }
+            } else {
+                discriminators.add(null);
+            }
+        }
+        discriminators.add(filterParameterMap);
+        return sqlClient
+                .getSlaveConnectionManager(false)
+                .execute(con, c -> {
+                    if (!isAutoCommit(c)) {
+                        // Uncommitted changes of current transaction cannot be cached,
+                        // and the cached results cannot see them
+                        return executeImpl(c);
+                    }
+                    Tuple3<String, List<Object>, List<Integer>> sqlResult = preExecute(
+                            sqlClient,
+                            QueryRenderMode.NORMAL,
+                            dependencies
+                    );
+                    return cache.get(
+                            sqlResult.get_1(),
+                            sqlResult.get_2(),
+                            discriminators,
+                            dependencies,
+                            data.cacheTtl,
+                            () -> Selectors.select(
+                                    sqlClient,
+                                    c,
+                                    sqlResult.get_1(),
+                                    sqlResult.get_2(),
+                                    sqlResult.get_3(),
+                                    data.selections,
+                                    data.tupleCreator,
+                                    getMutableQuery().getPurpose(),
+                                    data.jdbcOptions,
+                                    false
+                            )
+                    );
+                });
+    }
+
+    private static boolean collectCacheDependencies(
+            JSqlClientImplementor sqlClient,
+            Fetcher<?> fetcher,
+            Set<Object> dependencies,
+            Map<ImmutableProp, SortedMap<String, Object>> filterParameterMap
+    ) {
+        dependencies.add(fetcher.getImmutableType());
+        for (Field field : fetcher.getFieldMap().values()) {
+            ImmutableProp prop = field.getProp();
+            Fetcher<?> childFetcher = field.getChildFetcher();
+            // Recursive properties are visited only once
+            if (childFetcher != null && dependencies.add(prop)) {
+                if (prop.isAssociation(TargetLevel.ENTITY)) {
+                    Ref<SortedMap<String, Object>> parameterMapRef =
+                            sqlClient.getFilters().getTargetParameterMapRef(prop);
+                    if (parameterMapRef == null) {
+                        return false;
+                    }
+                    if (parameterMapRef.getValue() != null) {
+                        filterParameterMap.put(prop, parameterMapRef.getValue());
+                    }
+                }
+                if (!collectCacheDependencies(sqlClient, childFetcher, dependencies, filterParameterMap)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAutoCommit(Connection con) {
+        try {
+            return con.getAutoCommit();
+        } catch (SQLException ex) {
+            throw new ExecutionException(
+                    "Failed to retrieve the auto-commit mode of the connection",
+                    ex
+            );
+        }
+    }
+
     private long simpleCount(Connection con) {
         return getMutableQuery()
                 .getSqlClient()
@@ -492,6 +618,14 @@ public class ConfigurableRootQueryImpl<T extends TableLike<?>, R>
     private Tuple3<String, List<Object>, List<Integer>> preExecute(
             JSqlClientImplementor sqlClient,
             QueryRenderMode mode
+    ) {
+        return preExecute(sqlClient, mode, null);
+    }
+
+    private Tuple3<String, List<Object>, List<Integer>> preExecute(
+            JSqlClientImplementor sqlClient,
+            QueryRenderMode mode,
+            @Nullable Set<Object> cacheDependencies
     ) {
         AstContext astContext = new AstContext(sqlClient, mode);
         SqlBuilder builder = new SqlBuilder(astContext);
@@ -505,7 +639,11 @@ public class ConfigurableRootQueryImpl<T extends TableLike<?>, R>
                     analyzer.analyzeJoinRequirements()
             );
         }
-        builder.setQueryAnalysis(analyzer.analyze());
+        QueryAnalysis analysis = analyzer.analyze();
+        if (cacheDependencies != null) {
+            analysis.getTableUsages().collectCacheDependencies(cacheDependencies);
+        }
+        builder.setQueryAnalysis(analysis);
         renderTo(builder);
         return builder.build();
     }
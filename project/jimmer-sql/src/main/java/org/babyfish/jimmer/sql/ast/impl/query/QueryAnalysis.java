@@ -69,6 +69,10 @@ public final class QueryAnalysis {
         return joinedTypeBranchTableUsages.stageTypes(table);
     }
 
+    TableUsages getTableUsages() {
+        return tableUsages;
+    }
+
     TableAliases getTableAliases() {
         return tableAliases;
     }
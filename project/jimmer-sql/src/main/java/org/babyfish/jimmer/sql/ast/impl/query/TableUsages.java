@@ -1,14 +1,14 @@
 package org.babyfish.jimmer.sql.ast.impl.query;
 
+import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.sql.ast.impl.AstContext;
-import org.babyfish.jimmer.sql.ast.impl.table.RealTable;
-import org.babyfish.jimmer.sql.ast.impl.table.TableAliasScope;
-import org.babyfish.jimmer.sql.ast.impl.table.TableAliases;
+import org.babyfish.jimmer.sql.ast.impl.table.*;
 import org.babyfish.jimmer.sql.runtime.TableUsedState;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public final class TableUsages {
 
@@ -66,4 +66,32 @@ public final class TableUsages {
     List<RealTable> getRootTables() {
         return rootTables;
     }
+
+    /**
+     * Collect the entity types and the join properties
+     * of all the tables, they are the dependencies of query result cache.
+     */
+    void collectCacheDependencies(Set<Object> dependencies) {
+        for (RealTable rootTable : rootTables) {
+            collectCacheDependencies(rootTable, dependencies);
+        }
+        for (RealTable table : tableStateMap.keySet()) {
+            collectCacheDependencies(table, dependencies);
+        }
+    }
+
+    private static void collectCacheDependencies(RealTable table, Set<Object> dependencies) {
+        TableLikeImplementor<?> tableLikeImplementor = table.getTableLikeImplementor();
+        if (tableLikeImplementor instanceof TableImplementor<?>) {
+            TableImplementor<?> tableImplementor = (TableImplementor<?>) tableLikeImplementor;
+            dependencies.add(tableImplementor.getImmutableType());
+            ImmutableProp joinProp = tableImplementor.getJoinProp();
+            if (joinProp != null) {
+                dependencies.add(joinProp);
+            }
+        }
+        for (RealTable childTable : table) {
+            collectCacheDependencies(childTable, dependencies);
+        }
+    }
 }
@@ -15,6 +15,7 @@ import org.babyfish.jimmer.sql.fetcher.impl.FetcherSelection;
 import org.babyfish.jimmer.sql.runtime.JdbcOptions;
 import org.babyfish.jimmer.sql.runtime.TupleCreator;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -48,6 +49,8 @@ class TypedQueryData {
 
     final JdbcOptions jdbcOptions;
 
+    final Duration cacheTtl;
+
     private PropExpressionImplementor<?> idOnlyExpression;
 
     private boolean idOnlyExpressionResolved;
@@ -66,6 +69,7 @@ class TypedQueryData {
         forUpdate = null;
         hint = null;
         jdbcOptions = JdbcOptions.EMPTY;
+        cacheTtl = null;
     }
 
     public TypedQueryData(
@@ -86,6 +90,7 @@ class TypedQueryData {
         forUpdate = null;
         hint = null;
         this.jdbcOptions = jdbcOptions;
+        cacheTtl = null;
     }
 
     private TypedQueryData(
@@ -101,7 +106,8 @@ class TypedQueryData {
             Boolean reverseSortOptimizationEnabled,
             ForUpdate forUpdate,
             String hint,
-            JdbcOptions jdbcOptions
+            JdbcOptions jdbcOptions,
+            Duration cacheTtl
     ) {
         this.selections = selections;
         this.tupleCreator = tupleCreator;
@@ -116,6 +122,7 @@ class TypedQueryData {
         this.forUpdate = forUpdate;
         this.hint = hint;
         this.jdbcOptions = jdbcOptions;
+        this.cacheTtl = cacheTtl;
     }
 
     public TypedQueryData reselect(List<Selection<?>> selections, TupleCreator<?> tupleCreator) {
@@ -132,7 +139,8 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -150,7 +158,8 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -168,7 +177,8 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -186,7 +196,8 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -204,7 +215,8 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -222,7 +234,8 @@ class TypedQueryData {
                 enabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -240,7 +253,8 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -271,7 +285,8 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
         );
     }
 
@@ -289,7 +304,27 @@ class TypedQueryData {
                 reverseSortOptimizationEnabled,
                 forUpdate,
                 hint,
-                jdbcOptions
+                jdbcOptions,
+                cacheTtl
+        );
+    }
+
+    public TypedQueryData cacheable(Duration ttl) {
+        return new TypedQueryData(
+                selections,
+                tupleCreator,
+                oldSelections,
+                oldTupleCreator,
+                distinct,
+                limit,
+                offset,
+                withoutSortingAndPaging,
+                reverseSorting,
+                reverseSortOptimizationEnabled,
+                forUpdate,
+                hint,
+                jdbcOptions,
+                ttl
         );
     }
 
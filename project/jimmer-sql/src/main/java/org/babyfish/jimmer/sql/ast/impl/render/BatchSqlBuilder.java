@@ -148,11 +148,41 @@ public class BatchSqlBuilder extends AbstractSqlBuilder<BatchSqlBuilder> {
             this.templateVariables = templateVariables;
         }
 
-        @SuppressWarnings("unchecked")
+        public int getVariableCount() {
+            return templateVariables.size();
+        }
+
         public List<Object> variables(Object row) {
             List<Object> variables = new ArrayList<>(templateVariables.size());
-            for (TemplateVariable templateVariable : templateVariables) {
-                Object value = templateVariable.get(row);
+            addVariables(variables, row, 0, templateVariables.size());
+            return variables;
+        }
+
+        /**
+         * Get the variables of the statement which is rendered
+         * for several rows, such as multi-row insert statement,
+         * each row uses the same count of variables.
+         */
+        public List<Object> multiRowVariables(List<?> rows) {
+            int rowCount = rows.size();
+            int size = templateVariables.size();
+            if (rowCount == 0 || size % rowCount != 0) {
+                throw new IllegalArgumentException(
+                        "The row count " + rowCount + " does not match the variable count " + size
+                );
+            }
+            int rowSize = size / rowCount;
+            List<Object> variables = new ArrayList<>(size);
+            for (int i = 0; i < rowCount; i++) {
+                addVariables(variables, rows.get(i), i * rowSize, (i + 1) * rowSize);
+            }
+            return variables;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void addVariables(List<Object> variables, Object row, int fromIndex, int toIndex) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                Object value = templateVariables.get(i).get(row);
                 if (value != null) {
                     Converter<Object, ?> converter = (Converter<Object, ?>) ARRAY_CONVERTER_MAP.get(value.getClass());
                     if (converter != null) {
@@ -161,7 +191,6 @@ public class BatchSqlBuilder extends AbstractSqlBuilder<BatchSqlBuilder> {
                 }
                 variables.add(value);
             }
-            return variables;
         }
     }
 
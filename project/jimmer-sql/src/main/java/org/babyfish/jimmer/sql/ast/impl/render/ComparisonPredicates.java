@@ -330,6 +330,10 @@ public class ComparisonPredicates {
             }
             return;
         }
+        if (values.size() > dialect.getMaxInListSize() && dialect.isUnnestSupported()) {
+            renderUnnestIn(negative, getters, values, builder);
+            return;
+        }
         InList<?> inList = new InList<>(values, sqlClient.isInListPaddingEnabled(), dialect.getMaxInListSize());
         if (getters.size() == 1) {
             ValueGetter getter = getters.get(0);
@@ -375,6 +379,41 @@ public class ComparisonPredicates {
         builder.leave();
     }
 
+    /**
+     * The huge tuple list is bound as one array parameter per column and
+     * expanded by `unnest`, so that the SQL text does not grow with the count of values
+     */
+    private static void renderUnnestIn(
+            boolean negative,
+            List<ValueGetter> getters,
+            Collection<?> values,
+            AbstractSqlBuilder<?> builder
+    ) {
+        int size = getters.size();
+        Object[][] arrays = new Object[size][values.size()];
+        int index = 0;
+        for (Object value : values) {
+            for (int i = 0; i < size; i++) {
+                arrays[i][index] = nonNull(getters.get(i).get(value));
+            }
+            index++;
+        }
+        builder.enter(AbstractSqlBuilder.ScopeType.TUPLE);
+        for (ValueGetter getter : getters) {
+            builder.separator().sql(getter);
+        }
+        builder.leave();
+        builder.sql(negative ? " not in " : " in ").enter(AbstractSqlBuilder.ScopeType.SUB_QUERY);
+        builder.sql("select * from unnest").enter(AbstractSqlBuilder.ScopeType.TUPLE);
+        for (int i = 0; i < size; i++) {
+            builder.separator().rawVariable(
+                    new TypedList<>(getters.get(i).metadata().getSqlTypeName(), arrays[i])
+            );
+        }
+        builder.leave();
+        builder.leave();
+    }
+
     public static void renderNullableIn(
             boolean negative,
             List<ValueGetter> getters,
@@ -278,6 +278,39 @@ public interface AbstractEntitySaveCommand {
     @NewChain
     AbstractEntitySaveCommand setPessimisticLockAll();
 
+    /**
+     * Allow the save command to load the existing rows of this entity type
+     * from the object cache rather than querying the database, when the
+     * command must know them before saving, for example,
+     * {@link org.babyfish.jimmer.sql.DraftInterceptor} or triggers are used.
+     *
+     * <ul>
+     *     <li>Only the rows matched by id can be loaded from the object cache,
+     *     the rows matched by key are still queried from the database</li>
+     *     <li>It is ignored if the object cache of this type is not configured,
+     *     the pessimistic lock is enabled, or the required properties
+     *     are not all stored in the object cache</li>
+     *     <li>Cache misses are loaded from the database</li>
+     * </ul>
+     *
+     * <p>The object cache may be stale, so that this option should not be enabled
+     * for the entity types which require strong consistency.
+     * Use {@code setPreQueryByCache(type, false)} to exclude them
+     * after {@link #setPreQueryByCacheAll()}.</p>
+     */
+    @NewChain
+    AbstractEntitySaveCommand setPreQueryByCache(Class<?> entityType, boolean enabled);
+
+    @NewChain
+    AbstractEntitySaveCommand setPreQueryByCache(Class<?> entityType);
+
+    /**
+     * Allow the save command to load the existing rows of all entity types
+     * from their object caches, see {@link #setPreQueryByCache(Class, boolean)}
+     */
+    @NewChain
+    AbstractEntitySaveCommand setPreQueryByCacheAll();
+
     @NewChain
     AbstractEntitySaveCommand setDumbBatchAcceptable();
 
@@ -300,6 +333,46 @@ public interface AbstractEntitySaveCommand {
     @NewChain
     AbstractEntitySaveCommand setSaveResultReadsAllProperties(boolean readsAllProperties);
 
+    @NewChain
+    default AbstractEntitySaveCommand setMultiRowInsertEnabled() {
+        return setMultiRowInsertEnabled(true);
+    }
+
+    /**
+     * Whether the inserted rows should be inserted by multi-row
+     * `insert ... values(...), (...)` statements rather than JDBC batch.
+     *
+     * <p>The rows whose ids are generated by sequence, or by identity column
+     * whose generated ids cannot be recovered by the dialect, are still inserted
+     * by JDBC batch or one by one.</p>
+     *
+     * <p>If it is not specified, {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setDefaultMultiRowInsertEnabled(boolean)}
+     * is used.</p>
+     */
+    @NewChain
+    AbstractEntitySaveCommand setMultiRowInsertEnabled(boolean enabled);
+
+    @NewChain
+    default AbstractEntitySaveCommand setAssociationPipelineEnabled() {
+        return setAssociationPipelineEnabled(true);
+    }
+
+    /**
+     * Whether the insertions of middle table rows should be deferred
+     * and executed together before the save command returns.
+     *
+     * <p>By default, the middle table rows of each association are inserted
+     * as soon as that association of each parent batch is saved, so a wide
+     * aggregate takes one round-trip per association per parent batch.
+     * If it is enabled, the rows of the same association are collected from
+     * all the batches and all the levels, and inserted by one JDBC batch.</p>
+     *
+     * <p>The pending rows are inserted earlier if any statement of this command
+     * may read or delete them. This option is ignored when triggers are used.</p>
+     */
+    @NewChain
+    AbstractEntitySaveCommand setAssociationPipelineEnabled(boolean enabled);
+
     /**
      * Override whether this save command should let Jimmer investigate SQL
      * constraint violations and translate them into higher-level save
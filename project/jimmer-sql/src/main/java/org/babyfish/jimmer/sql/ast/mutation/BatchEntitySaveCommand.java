@@ -290,6 +290,17 @@ public interface BatchEntitySaveCommand<E>
     @NewChain
     BatchEntitySaveCommand<E> setPessimisticLockAll();
 
+    @NewChain
+    BatchEntitySaveCommand<E> setPreQueryByCache(Class<?> entityType, boolean enabled);
+
+    @NewChain
+    default BatchEntitySaveCommand<E> setPreQueryByCache(Class<?> entityType) {
+        return setPreQueryByCache(entityType, true);
+    }
+
+    @NewChain
+    BatchEntitySaveCommand<E> setPreQueryByCacheAll();
+
     /**
      * Example: <pre>{@code
      *  sqlClient
@@ -369,6 +380,22 @@ public interface BatchEntitySaveCommand<E>
     @Override
     BatchEntitySaveCommand<E> setSaveResultReadsAllProperties(boolean readsAllProperties);
 
+    @Override
+    default BatchEntitySaveCommand<E> setMultiRowInsertEnabled() {
+        return setMultiRowInsertEnabled(true);
+    }
+
+    @Override
+    BatchEntitySaveCommand<E> setMultiRowInsertEnabled(boolean enabled);
+
+    @Override
+    default BatchEntitySaveCommand<E> setAssociationPipelineEnabled() {
+        return setAssociationPipelineEnabled(true);
+    }
+
+    @Override
+    BatchEntitySaveCommand<E> setAssociationPipelineEnabled(boolean enabled);
+
     @Override
     BatchEntitySaveCommand<E> setConstraintViolationTranslatable(boolean transferable);
 
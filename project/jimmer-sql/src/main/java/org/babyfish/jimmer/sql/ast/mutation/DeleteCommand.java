@@ -37,4 +37,22 @@ public interface DeleteCommand extends Executable<DeleteResult> {
 
     @NewChain
     DeleteCommand setTransactionRequired(boolean required);
+
+    @NewChain
+    default DeleteCommand setRecursiveCteEnabled() {
+        return setRecursiveCteEnabled(true);
+    }
+
+    /**
+     * If it is enabled, the self-referencing child objects whose
+     * dissociate action is {@link DissociateAction#DELETE} are not
+     * deleted level by level, the ids of the whole subtree are queried
+     * by one recursive CTE statement, and then the subtree is deleted
+     * (or logically deleted) by set-based statements.
+     *
+     * <p>This is ignored if the dialect does not support recursive CTE,
+     * or the id or foreign key is based on multiple columns.</p>
+     */
+    @NewChain
+    DeleteCommand setRecursiveCteEnabled(boolean enabled);
 }
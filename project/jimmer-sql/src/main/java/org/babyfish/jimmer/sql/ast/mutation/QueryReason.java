@@ -438,4 +438,13 @@ public enum QueryReason {
      * it without query database again.
      */
     FETCHER,
+
+    /**
+     * Recursive CTE is enabled by
+     * {@link org.babyfish.jimmer.sql.ast.mutation.DeleteCommand#setRecursiveCteEnabled(boolean)},
+     * the ids of the whole subtree of self-referencing child objects are
+     * queried by one recursive CTE statement, and then the subtree is deleted
+     * by set-based statements, rather than one select statement for each level.
+     */
+    RECURSIVE_CTE,
 }
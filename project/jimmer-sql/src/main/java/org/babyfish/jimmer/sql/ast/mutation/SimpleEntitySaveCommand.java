@@ -291,6 +291,17 @@ public interface SimpleEntitySaveCommand<E>
     @NewChain
     SimpleEntitySaveCommand<E> setPessimisticLockAll();
 
+    @NewChain
+    SimpleEntitySaveCommand<E> setPreQueryByCache(Class<?> entityType, boolean enabled);
+
+    @NewChain
+    default SimpleEntitySaveCommand<E> setPreQueryByCache(Class<?> entityType) {
+        return setPreQueryByCache(entityType, true);
+    }
+
+    @NewChain
+    SimpleEntitySaveCommand<E> setPreQueryByCacheAll();
+
     /**
      * Example: <pre>{@code
      *  sqlClient
@@ -366,6 +377,22 @@ public interface SimpleEntitySaveCommand<E>
     @Override
     SimpleEntitySaveCommand<E> setSaveResultReadsAllProperties(boolean readsAllProperties);
 
+    @Override
+    default SimpleEntitySaveCommand<E> setMultiRowInsertEnabled() {
+        return setMultiRowInsertEnabled(true);
+    }
+
+    @Override
+    SimpleEntitySaveCommand<E> setMultiRowInsertEnabled(boolean enabled);
+
+    @Override
+    default SimpleEntitySaveCommand<E> setAssociationPipelineEnabled() {
+        return setAssociationPipelineEnabled(true);
+    }
+
+    @Override
+    SimpleEntitySaveCommand<E> setAssociationPipelineEnabled(boolean enabled);
+
     @Override
     SimpleEntitySaveCommand<E> setConstraintViolationTranslatable(boolean transferable);
 
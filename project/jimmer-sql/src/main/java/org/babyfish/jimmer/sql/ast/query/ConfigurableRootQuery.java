@@ -10,6 +10,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
+import java.time.Duration;
 import java.util.function.BiFunction;
 
 public interface ConfigurableRootQuery<T extends TableLike<?>, R> extends TypedRootQuery<R> {
@@ -130,4 +131,27 @@ public interface ConfigurableRootQuery<T extends TableLike<?>, R> extends TypedR
      */
     @NewChain
     ConfigurableRootQuery<T, R> hint(@Nullable String hint);
+
+    /**
+     * Cache the result of {@link #execute(Connection)} in memory.
+     *
+     * <p>The cache key is the rendered SQL and its variables,
+     * the cached result is evicted when the time-to-live is elapsed,
+     * or any table used by the query is modified, this requires triggers.</p>
+     *
+     * <p>It is ignored if the query is locked by {@code forUpdate},
+     * all caches of the sql client are disabled, the connection is
+     * not in auto-commit mode because the uncommitted changes of the
+     * current transaction cannot be shared, or the fetched associations
+     * are filtered by global filters which are not cacheable filters.</p>
+     *
+     * <p>If the trigger type is {@code BINLOG_ONLY}, the binlog events
+     * must be sent to the sql client, otherwise the cached result
+     * is only evicted when the time-to-live is elapsed.</p>
+     *
+     * @param ttl The time-to-live of the cached result
+     * @return A new query object
+     */
+    @NewChain
+    ConfigurableRootQuery<T, R> cacheable(@NotNull Duration ttl);
 }
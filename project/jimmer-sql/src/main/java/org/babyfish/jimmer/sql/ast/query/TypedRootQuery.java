@@ -1,13 +1,19 @@
 package org.babyfish.jimmer.sql.ast.query;
 
+import org.babyfish.jimmer.jackson.codec.JsonCodec;
+import org.babyfish.jimmer.jackson.codec.JsonSequenceWriter;
+import org.babyfish.jimmer.jackson.codec.JsonWriter;
 import org.babyfish.jimmer.sql.ast.SelectionExecutable;
 import org.babyfish.jimmer.sql.ast.impl.query.MergedTypedRootQueryImpl;
+import org.babyfish.jimmer.sql.ast.impl.query.TypedQueryImplementor;
 import org.babyfish.jimmer.sql.ast.impl.query.TypedRootQueryImplementor;
 import org.babyfish.jimmer.sql.exception.EmptyResultException;
+import org.babyfish.jimmer.sql.exception.SerializationException;
 import org.babyfish.jimmer.sql.exception.TooManyResultsException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.util.List;
 import java.util.Optional;
@@ -163,4 +169,50 @@ public interface TypedRootQuery<R> extends SelectionExecutable<R> {
     }
 
     void forEach(Connection con, int batchSize, Consumer<R> consumer);
+
+    default void writeJsonTo(OutputStream out) {
+        writeJsonTo(null, -1, out);
+    }
+
+    default void writeJsonTo(Connection con, OutputStream out) {
+        writeJsonTo(con, -1, out);
+    }
+
+    default void writeJsonTo(Connection con, int batchSize, OutputStream out) {
+        JsonWriter writer = this instanceof TypedQueryImplementor ?
+                ((TypedQueryImplementor) this).getSqlClient().getJsonCodec().writer() :
+                JsonCodec.jsonCodec().writer();
+        writeJsonTo(con, batchSize, writer, out);
+    }
+
+    /**
+     * Write the query result as JSON array without holding the whole result in memory.
+     *
+     * <p>Rows are read by cursor, each batch is post-fetched by the fetcher
+     * (associations, calculated properties), written and then released,
+     * so that the memory cost is decided by the batch size, not the row count.</p>
+     *
+     * <p>The output stream is not closed by this method.</p>
+     *
+     * @param con The connection, null means the connection managed by the sql client
+     * @param batchSize The size of the batch to be post-fetched and written together,
+     *                  non-positive value means the default batch size of the sql client
+     * @param writer The json writer
+     * @param out The output stream
+     */
+    default void writeJsonTo(Connection con, int batchSize, JsonWriter writer, OutputStream out) {
+        try (JsonSequenceWriter sequenceWriter = writer.writeArray(out)) {
+            forEach(con, batchSize, row -> {
+                try {
+                    sequenceWriter.write(row);
+                } catch (Exception ex) {
+                    throw new SerializationException(ex);
+                }
+            });
+        } catch (SerializationException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new SerializationException(ex);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Bloom filter based id filter, the storage of bits is implemented by derived classes.
+ *
+ * <p>The bit indexes are calculated by the string form of the id,
+ * so that they are stable between JVMs and ids of different
+ * numeric types such as `1` and `1L` are same.</p>
+ *
+ * @see LocalBloomIdFilter
+ */
+public abstract class BloomIdFilter implements IdFilter {
+
+    // The bit whose index is `MAX_BIT_COUNT` is still addressable by redis bitmap,
+    // it can be used by derived classes as the "filled" marker
+    private static final long MAX_BIT_COUNT = (1L << 32) - 1;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * @param expectedIdCount The expected count of ids
+     * @param falsePositiveRate The expected false positive rate, for example, 0.01
+     */
+    protected BloomIdFilter(long expectedIdCount, double falsePositiveRate) {
+        if (expectedIdCount <= 0) {
+            throw new IllegalArgumentException("expectedIdCount must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bitCount = (long) Math.ceil(-expectedIdCount * Math.log(falsePositiveRate) / (ln2 * ln2));
+        if (bitCount > MAX_BIT_COUNT) {
+            throw new IllegalArgumentException(
+                    "Too many bits are required by expectedIdCount and falsePositiveRate, " +
+                            "the max bit count is " +
+                            MAX_BIT_COUNT
+            );
+        }
+        this.bitCount = Math.max(bitCount, 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedIdCount * ln2));
+    }
+
+    public final long getBitCount() {
+        return bitCount;
+    }
+
+    public final int getHashCount() {
+        return hashCount;
+    }
+
+    @NotNull
+    @Override
+    public <K> Set<K> mightExist(@NotNull Collection<K> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        boolean[] bits = getBits(bitIndexes(ids));
+        Set<K> mightExistIds = new LinkedHashSet<>((ids.size() * 4 + 2) / 3);
+        int offset = 0;
+        for (K id : ids) {
+            boolean mightExist = true;
+            for (int i = 0; i < hashCount; i++) {
+                if (!bits[offset + i]) {
+                    mightExist = false;
+                    break;
+                }
+            }
+            if (mightExist) {
+                mightExistIds.add(id);
+            }
+            offset += hashCount;
+        }
+        return mightExistIds;
+    }
+
+    @Override
+    public void addAll(@NotNull Collection<?> ids) {
+        if (!ids.isEmpty()) {
+            setBits(bitIndexes(ids));
+        }
+    }
+
+    /**
+     * @param bitIndexes Bit indexes, duplicated values are possible
+     * @return Whether the bits are set, the length of array is same with the argument
+     */
+    protected abstract boolean[] getBits(long[] bitIndexes);
+
+    /**
+     * @param bitIndexes Bit indexes, duplicated values are possible
+     */
+    protected abstract void setBits(long[] bitIndexes);
+
+    private long[] bitIndexes(Collection<?> ids) {
+        long[] bitIndexes = new long[ids.size() * hashCount];
+        int offset = 0;
+        for (Object id : ids) {
+            long hash = hash(id.toString());
+            long hash1 = mix(hash);
+            long hash2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                bitIndexes[offset++] = Math.floorMod(hash1 + i * hash2, bitCount);
+            }
+        }
+        return bitIndexes;
+    }
+
+    // FNV-1a
+    private static long hash(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Finalizer of murmur3
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -8,6 +8,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 
 public interface Cache<K, V> {
@@ -55,4 +56,26 @@ public interface Cache<K, V> {
                 @NotNull CacheEnvironment<K, V> env
         );
     }
+
+    /**
+     * Object cache which stores each object as several independent column groups,
+     * so that only the groups required by the fetcher are read.
+     *
+     * @see ColumnGroupCache
+     */
+    interface ColumnGrouped<K, V> extends Cache<K, V> {
+
+        /**
+         * @param props The required properties, only the column groups
+         *              containing them are read
+         * @return Objects whose loaded properties cover the required properties,
+         * other properties may be unloaded
+         */
+        @NotNull
+        Map<K, V> getAll(
+                @NotNull Collection<K> keys,
+                @NotNull Set<ImmutableProp> props,
+                @NotNull CacheEnvironment<K, V> env
+        );
+    }
 }
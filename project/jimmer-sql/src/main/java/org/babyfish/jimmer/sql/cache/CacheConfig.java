@@ -23,6 +23,9 @@ public class CacheConfig {
     private final Map<ImmutableProp, Cache<?, ?>> propCacheMap =
             new LinkedHashMap<>();
 
+    private final Map<ImmutableType, IdFilter> idFilterMap =
+            new LinkedHashMap<>();
+
     private CacheOperator operator;
 
     private Set<CacheAbandonedCallback> abandonedCallbacks = new LinkedHashSet<>();
@@ -107,6 +110,47 @@ public class CacheConfig {
         return this;
     }
 
+    /**
+     * Set the id filter of an entity type, it is consulted by
+     * the object cache of the type so that the ids which
+     * definitely do not exist are answered without accessing
+     * object cache or database.
+     *
+     * <p>The object cache of the type is required. The ids saved by
+     * current application are added immediately, but binlog triggers
+     * are required to add the ids inserted by other writers, so the
+     * trigger type cannot be `TRANSACTION_ONLY`; if there are several
+     * application instances, either the filter is shared by them,
+     * such as `RedisBloomIdFilter`, or every instance receives
+     * the binlog events.</p>
+     *
+     * @param type The entity type
+     * @param idFilter The id filter, null means removing the id filter of the type
+     */
+    @OldChain
+    public CacheConfig setIdFilter(
+            Class<?> type,
+            IdFilter idFilter
+    ) {
+        return setIdFilter(ImmutableType.get(type), idFilter);
+    }
+
+    @OldChain
+    public CacheConfig setIdFilter(
+            ImmutableType type,
+            IdFilter idFilter
+    ) {
+        if (!type.isEntity()) {
+            throw new IllegalArgumentException("\"" + type + "\" is not entity");
+        }
+        if (idFilter != null) {
+            idFilterMap.put(type, idFilter);
+        } else {
+            idFilterMap.remove(type);
+        }
+        return this;
+    }
+
     @OldChain
     public CacheConfig setCacheOperator(CacheOperator operator) {
         this.operator = operator;
@@ -169,6 +213,7 @@ public class CacheConfig {
 
         Map<ImmutableType, Cache<?, ?>> finalObjectCacheMap = new LinkedHashMap<>();
         Map<ImmutableProp, Cache<?, ?>> finalPropCacheMap = new LinkedHashMap<>();
+        Map<ImmutableType, IdFilter> finalIdFilterMap = new LinkedHashMap<>();
 
         if (cacheFactory instanceof FilterStateAware) {
             Set<ImmutableType> affectedTypes =
@@ -196,6 +241,17 @@ public class CacheConfig {
                 if (finalObjectCache != null) {
                     finalObjectCacheMap.put(type, finalObjectCache);
                 }
+                IdFilter idFilter = idFilterMap.get(type);
+                if (idFilter != null) {
+                    if (finalObjectCache == null) {
+                        throw new IllegalStateException(
+                                "The id filter of \"" +
+                                        type +
+                                        "\" is configured but there is no object cache for it"
+                        );
+                    }
+                    finalIdFilterMap.put(type, idFilter);
+                }
                 for (ImmutableProp prop : type.getProps().values()) {
                     Cache<?, ?> finalPropCache = propCacheMap.get(prop);
                     if (finalPropCache == null &&
@@ -233,6 +289,7 @@ public class CacheConfig {
                 triggers,
                 finalObjectCacheMap,
                 finalPropCacheMap,
+                finalIdFilterMap,
                 operator,
                 CompositeCacheAbandonedCallback.combine(abandonedCallbacks)
         );
@@ -7,6 +7,7 @@ import org.babyfish.jimmer.sql.ImmutableProps;
 import org.babyfish.jimmer.sql.ast.table.Table;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -49,4 +50,23 @@ public class CacheDisableConfig {
     Set<ImmutableProp> getDisabledProps() {
         return disabledProps;
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(disableAll, disabledTypes, disabledProps);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        CacheDisableConfig other = (CacheDisableConfig) o;
+        return disableAll == other.disableAll &&
+                disabledTypes.equals(other.disabledTypes) &&
+                disabledProps.equals(other.disabledProps);
+    }
 }
@@ -2,12 +2,17 @@ package org.babyfish.jimmer.sql.cache;
 
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.meta.PropId;
 import org.babyfish.jimmer.meta.TargetLevel;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.sql.JSqlClient;
 import org.babyfish.jimmer.sql.event.DatabaseEvent;
+import org.babyfish.jimmer.sql.event.EntityEvent;
+import org.babyfish.jimmer.sql.event.TriggerType;
 import org.babyfish.jimmer.sql.filter.impl.FilterManager;
 import org.babyfish.jimmer.sql.runtime.EntityManager;
 import org.babyfish.jimmer.sql.event.Triggers;
+import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 
 import java.util.*;
 
@@ -19,10 +24,14 @@ public class CachesImpl implements Caches {
 
     private final Map<ImmutableProp, UsedCache<?, ?>> propCacheMap;
 
+    private final Map<ImmutableType, UsedIdFilter> idFilterMap;
+
     private final CacheOperator operator;
 
     private final CacheAbandonedCallback abandonedCallback;
 
+    private final QueryResultCache queryResultCache;
+
     private final boolean disableAll;
 
     private final Set<ImmutableType> disabledTypes;
@@ -36,10 +45,28 @@ public class CachesImpl implements Caches {
             CacheOperator operator,
             CacheAbandonedCallback abandonedCallback
     ) {
+        this(triggers, objectCacheMap, propCacheMap, Collections.emptyMap(), operator, abandonedCallback);
+    }
+
+    public CachesImpl(
+            Triggers triggers,
+            Map<ImmutableType, Cache<?, ?>> objectCacheMap,
+            Map<ImmutableProp, Cache<?, ?>> propCacheMap,
+            Map<ImmutableType, IdFilter> idFilterMap,
+            CacheOperator operator,
+            CacheAbandonedCallback abandonedCallback
+    ) {
+        Map<ImmutableType, UsedIdFilter> usedIdFilterMap = new LinkedHashMap<>();
+        for (Map.Entry<ImmutableType, IdFilter> e : idFilterMap.entrySet()) {
+            usedIdFilterMap.put(e.getKey(), new UsedIdFilter(e.getKey(), e.getValue()));
+        }
         Map<ImmutableType, UsedCache<?, ?>> objectCacheWrapperMap = new LinkedHashMap<>();
         for (Map.Entry<ImmutableType, Cache<?, ?>> e : objectCacheMap.entrySet()) {
             ImmutableType type = e.getKey();
-            objectCacheWrapperMap.put(type, wrapObjectCache(triggers, e.getValue(), operator));
+            objectCacheWrapperMap.put(
+                    type,
+                    wrapObjectCache(triggers, e.getValue(), operator, usedIdFilterMap.get(type))
+            );
         }
         Map<ImmutableProp, UsedCache<?, ?>> propCacheWrapperMap = new LinkedHashMap<>();
         for (Map.Entry<ImmutableProp, Cache<?, ?>> e : propCacheMap.entrySet()) {
@@ -49,8 +76,10 @@ public class CachesImpl implements Caches {
         this.triggers = triggers;
         this.objectCacheMap = objectCacheWrapperMap;
         this.propCacheMap = propCacheWrapperMap;
+        this.idFilterMap = usedIdFilterMap;
         this.operator = operator;
         this.abandonedCallback = abandonedCallback;
+        this.queryResultCache = createQueryResultCache(triggers);
         this.disableAll = false;
         this.disabledTypes = Collections.emptySet();
         this.disabledProps = Collections.emptySet();
@@ -63,8 +92,10 @@ public class CachesImpl implements Caches {
         triggers = base.triggers;
         objectCacheMap = base.objectCacheMap;
         propCacheMap = base.propCacheMap;
+        idFilterMap = base.idFilterMap;
         operator = base.operator;
         abandonedCallback = base.abandonedCallback;
+        queryResultCache = base.queryResultCache;
         disableAll = cfg.isDisableAll();
         disabledTypes = cfg.getDisabledTypes();
         disabledProps = cfg.getDisabledProps();
@@ -102,6 +133,18 @@ public class CachesImpl implements Caches {
         return UsedCacheImpl.export((UsedCache<K, V>) propCacheMap.get(prop));
     }
 
+    /**
+     * @return The cache of the queries configured by
+     * `ConfigurableRootQuery.cacheable(Duration)`,
+     * or null if all caches are disabled.
+     */
+    public QueryResultCache getQueryResultCache() {
+        if (disableAll) {
+            return null;
+        }
+        return queryResultCache;
+    }
+
     @Override
     public CacheAbandonedCallback getAbandonedCallback() {
         return abandonedCallback;
@@ -116,14 +159,16 @@ public class CachesImpl implements Caches {
     private UsedCache<?, ?> wrapObjectCache(
             Triggers triggers,
             Cache<?, ?> cache,
-            CacheOperator operator
+            CacheOperator operator,
+            UsedIdFilter idFilter
     ) {
         if (cache == null) {
             return null;
         }
         UsedCache<Object, Object> wrapper = UsedCacheImpl.wrap(
                 (Cache<Object, Object>) cache,
-                operator
+                operator,
+                idFilter
         );
         triggers.addEntityListener(wrapper.type(), e -> {
             if (isAffectedBy(e)) {
@@ -165,6 +210,24 @@ public class CachesImpl implements Caches {
         return wrapper;
     }
 
+    private QueryResultCache createQueryResultCache(Triggers triggers) {
+        QueryResultCache cache = new QueryResultCache();
+        triggers.addEntityListener(e -> {
+            if (isAffectedBy(e)) {
+                cache.invalidate(e.getImmutableType(), e.getConnection());
+                for (ImmutableType type : e.getAffectedTypes()) {
+                    cache.invalidate(type, e.getConnection());
+                }
+            }
+        });
+        triggers.addAssociationListener(e -> {
+            if (isAffectedBy(e)) {
+                cache.invalidate(e.getImmutableProp(), e.getConnection());
+            }
+        });
+        return cache;
+    }
+
     public CacheOperator getOperator() {
         return operator;
     }
@@ -195,5 +258,58 @@ public class CachesImpl implements Caches {
         if (operator != null) {
             operator.initialize(sqlClient);
         }
+        if (!impl.idFilterMap.isEmpty()) {
+            // Only binlog triggers can see the rows inserted by other applications,
+            // native SQL or other tools, so that the id filters have no false negative
+            TriggerType triggerType = ((JSqlClientImplementor) sqlClient).getTriggerType();
+            if (triggerType == TriggerType.TRANSACTION_ONLY) {
+                throw new IllegalStateException(
+                        "Id filters require binlog triggers to add inserted ids, " +
+                                "the trigger type cannot be \"" +
+                                TriggerType.TRANSACTION_ONLY +
+                                "\""
+                );
+            }
+            // The ids inserted by current application are added by `addInsertedIds`
+            // when they are saved, so they are visible before binlog is received
+            impl.addInsertedIdListeners(sqlClient.getTriggers());
+        }
+    }
+
+    /**
+     * Add the ids of the entities inserted by current application
+     * to the id filter of the type, whatever the trigger type is.
+     * The ids of the rolled back transactions are kept as false positive.
+     */
+    public void addInsertedIds(ImmutableType type, Iterable<? extends ImmutableSpi> entities) {
+        UsedIdFilter usedIdFilter = idFilterMap.get(type);
+        if (usedIdFilter == null) {
+            return;
+        }
+        PropId idPropId = type.getIdProp().getId();
+        List<Object> ids = new ArrayList<>();
+        for (ImmutableSpi entity : entities) {
+            if (entity.__isLoaded(idPropId)) {
+                Object id = entity.__get(idPropId);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            usedIdFilter.raw().addAll(ids);
+        }
+    }
+
+    private void addInsertedIdListeners(Triggers triggers) {
+        for (Map.Entry<ImmutableType, UsedIdFilter> e : idFilterMap.entrySet()) {
+            IdFilter idFilter = e.getValue().raw();
+            // Deleted ids are kept as false positive because bloom filter does not support deletion
+            triggers.addEntityListener(e.getKey(), event -> {
+                if (event.getType() == EntityEvent.Type.INSERT) {
+                    idFilter.addAll(Collections.singleton(event.getId()));
+                }
+            });
+        }
     }
 }
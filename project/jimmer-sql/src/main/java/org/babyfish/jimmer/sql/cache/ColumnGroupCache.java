@@ -0,0 +1,292 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.meta.PropId;
+import org.babyfish.jimmer.runtime.DraftSpi;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.runtime.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Object cache which stores each object as several independent column groups,
+ * for example, small and frequently used columns in one group and large text/json
+ * columns in another group.
+ *
+ * <p>The raw cache must be a parameterized cache whose storage is a hash,
+ * such as a chain cache built by {@code RedisHashBinder}, each column group
+ * is saved as a hash field whose parameter map is {@code {"columnGroup": name}}.
+ * The properties which are not declared by any column group belong to
+ * the {@link #DEFAULT_GROUP default group}.</p>
+ *
+ * <p>When some groups are missed, the objects are loaded from database only once
+ * and all the missed groups are saved into cache.</p>
+ */
+public class ColumnGroupCache<K, V> implements Cache.ColumnGrouped<K, V> {
+
+    public static final String DEFAULT_GROUP = "default";
+
+    private static final String PARAMETER_NAME = "columnGroup";
+
+    private final Cache.Parameterized<K, V> raw;
+
+    private final Map<String, Set<ImmutableProp>> groupPropMap;
+
+    private final Map<ImmutableProp, String> propGroupMap;
+
+    /**
+     * @param raw The parameterized cache used to store column groups
+     * @param columnGroups Key is the name of column group,
+     *                     value is the properties of column group
+     */
+    public ColumnGroupCache(
+            @NotNull Cache.Parameterized<K, V> raw,
+            @NotNull Map<String, ? extends Collection<ImmutableProp>> columnGroups
+    ) {
+        this.raw = Objects.requireNonNull(raw, "raw cannot be null");
+        ImmutableType type = raw.type();
+        if (raw.prop() != null) {
+            throw new IllegalArgumentException(
+                    "The raw cache of column group cache must be object cache, " +
+                            "but it is the cache of property \"" +
+                            raw.prop() +
+                            "\""
+            );
+        }
+        if (type.hasDerivedTypes()) {
+            throw new IllegalArgumentException(
+                    "Column group cache does not support the type \"" +
+                            type +
+                            "\" which has derived types"
+            );
+        }
+        ImmutableProp idProp = type.getIdProp();
+        Map<String, ImmutableProp> objectCacheProps = type.getObjectCacheProps();
+        Map<String, Set<ImmutableProp>> groupPropMap = new LinkedHashMap<>();
+        Map<ImmutableProp, String> propGroupMap = new HashMap<>();
+        for (Map.Entry<String, ? extends Collection<ImmutableProp>> e : columnGroups.entrySet()) {
+            String groupName = e.getKey();
+            if (groupName == null || groupName.isEmpty() || groupName.equals(DEFAULT_GROUP)) {
+                throw new IllegalArgumentException(
+                        "Illegal column group name \"" +
+                                groupName +
+                                "\", it cannot be null, empty or \"" +
+                                DEFAULT_GROUP +
+                                "\""
+                );
+            }
+            Set<ImmutableProp> props = new LinkedHashSet<>();
+            props.add(idProp);
+            for (ImmutableProp prop : e.getValue()) {
+                if (prop == idProp) {
+                    continue;
+                }
+                if (objectCacheProps.get(prop.getName()) != prop) {
+                    throw new IllegalArgumentException(
+                            "The property \"" +
+                                    prop +
+                                    "\" of column group \"" +
+                                    groupName +
+                                    "\" is not a property of \"" +
+                                    type +
+                                    "\" which can be saved into object cache"
+                    );
+                }
+                String conflictGroupName = propGroupMap.put(prop, groupName);
+                if (conflictGroupName != null) {
+                    throw new IllegalArgumentException(
+                            "The property \"" +
+                                    prop +
+                                    "\" belongs to both \"" +
+                                    conflictGroupName +
+                                    "\" and \"" +
+                                    groupName +
+                                    "\""
+                    );
+                }
+                props.add(prop);
+            }
+            groupPropMap.put(groupName, Collections.unmodifiableSet(props));
+        }
+        Set<ImmutableProp> defaultProps = new LinkedHashSet<>();
+        defaultProps.add(idProp);
+        for (ImmutableProp prop : objectCacheProps.values()) {
+            if (prop != idProp && !propGroupMap.containsKey(prop)) {
+                propGroupMap.put(prop, DEFAULT_GROUP);
+                defaultProps.add(prop);
+            }
+        }
+        groupPropMap.put(DEFAULT_GROUP, Collections.unmodifiableSet(defaultProps));
+        this.groupPropMap = Collections.unmodifiableMap(groupPropMap);
+        this.propGroupMap = propGroupMap;
+    }
+
+    @NotNull
+    @Override
+    public ImmutableType type() {
+        return raw.type();
+    }
+
+    @Nullable
+    @Override
+    public ImmutableProp prop() {
+        return null;
+    }
+
+    @NotNull
+    public Map<String, Set<ImmutableProp>> getColumnGroups() {
+        return groupPropMap;
+    }
+
+    @NotNull
+    @Override
+    public Map<K, V> getAll(@NotNull Collection<K> keys, @NotNull CacheEnvironment<K, V> env) {
+        return getAllByGroups(keys, groupPropMap.keySet(), env);
+    }
+
+    @NotNull
+    @Override
+    public Map<K, V> getAll(
+            @NotNull Collection<K> keys,
+            @NotNull Set<ImmutableProp> props,
+            @NotNull CacheEnvironment<K, V> env
+    ) {
+        Set<String> groupNames = new LinkedHashSet<>();
+        for (ImmutableProp prop : props) {
+            String groupName = propGroupMap.get(prop);
+            if (groupName != null) {
+                groupNames.add(groupName);
+            }
+        }
+        if (groupNames.isEmpty()) {
+            groupNames.add(DEFAULT_GROUP);
+        }
+        return getAllByGroups(keys, groupNames, env);
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<K> keys, @Nullable Object reason) {
+        // All the groups are saved in same hash, delete the whole hash
+        raw.deleteAll(keys, reason);
+    }
+
+    private Map<K, V> getAllByGroups(
+            Collection<K> keys,
+            Collection<String> groupNames,
+            CacheEnvironment<K, V> env
+    ) {
+        GroupLoader loader = new GroupLoader(env.getLoader());
+        Map<String, Map<K, V>> partMaps = new LinkedHashMap<>();
+        for (String groupName : groupNames) {
+            SortedMap<String, Object> parameterMap = new TreeMap<>();
+            parameterMap.put(PARAMETER_NAME, groupName);
+            loader.groupName = groupName;
+            partMaps.put(
+                    groupName,
+                    raw.getAll(
+                            keys,
+                            parameterMap,
+                            new CacheEnvironment<>(env.getSqlClient(), env.getConnection(), loader, false)
+                    )
+            );
+        }
+        Map<K, V> valueMap = new LinkedHashMap<>((keys.size() * 4 + 2) / 3);
+        for (K key : keys) {
+            valueMap.put(key, merge(key, partMaps));
+        }
+        return valueMap;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V merge(K key, Map<String, Map<K, V>> partMaps) {
+        List<ImmutableSpi> parts = new ArrayList<>(partMaps.size());
+        for (Map<K, V> partMap : partMaps.values()) {
+            ImmutableSpi part = (ImmutableSpi) partMap.get(key);
+            if (part == null) {
+                // Groups may be expired separately,
+                // null of any group means the object has been deleted
+                return null;
+            }
+            parts.add(part);
+        }
+        if (parts.size() == 1) {
+            return (V) parts.get(0);
+        }
+        ImmutableSpi first = parts.get(0);
+        return (V) Internal.produce(first.__type(), first, true, draft -> {
+            DraftSpi spi = (DraftSpi) draft;
+            for (int i = 1; i < parts.size(); i++) {
+                ImmutableSpi part = parts.get(i);
+                for (ImmutableProp prop : part.__type().getProps().values()) {
+                    PropId propId = prop.getId();
+                    if (!prop.isView() && part.__isLoaded(propId) && !spi.__isLoaded(propId)) {
+                        spi.__set(propId, part.__get(propId));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Loads the whole objects only once for all missed groups,
+     * and returns the properties of current group.
+     */
+    private class GroupLoader implements CacheLoader<K, V> {
+
+        private final CacheLoader<K, V> loader;
+
+        private final Map<K, V> loadedMap = new HashMap<>();
+
+        String groupName;
+
+        GroupLoader(CacheLoader<K, V> loader) {
+            this.loader = loader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map<K, V> loadAll(Collection<K> keys) {
+            Set<K> unloadedKeys = new LinkedHashSet<>();
+            for (K key : keys) {
+                if (!loadedMap.containsKey(key)) {
+                    unloadedKeys.add(key);
+                }
+            }
+            if (!unloadedKeys.isEmpty()) {
+                Map<K, V> map = loader.loadAll(unloadedKeys);
+                for (K key : unloadedKeys) {
+                    loadedMap.put(key, map.get(key));
+                }
+            }
+            Set<ImmutableProp> groupProps = groupPropMap.get(groupName);
+            Map<K, V> resultMap = new LinkedHashMap<>((keys.size() * 4 + 2) / 3);
+            for (K key : keys) {
+                ImmutableSpi spi = (ImmutableSpi) loadedMap.get(key);
+                if (spi != null) {
+                    resultMap.put(key, (V) Internal.produce(spi.__type(), spi, true, draft -> {
+                        DraftSpi draftSpi = (DraftSpi) draft;
+                        for (ImmutableProp prop : spi.__type().getProps().values()) {
+                            if (!prop.isView() &&
+                                    !groupProps.contains(prop) &&
+                                    spi.__isLoaded(prop.getId())) {
+                                draftSpi.__unload(prop.getId());
+                            }
+                        }
+                    }));
+                }
+            }
+            return resultMap;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnGroupCache{" +
+                "raw=" + raw +
+                ", columnGroups=" + groupPropMap.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,32 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+class ColumnGroupedUsedCacheImpl<K, V> extends UsedCacheImpl<K, V> implements Cache.ColumnGrouped<K, V> {
+
+    public ColumnGroupedUsedCacheImpl(
+            Cache.ColumnGrouped<K, V> raw,
+            CacheOperator operator,
+            UsedIdFilter idFilter
+    ) {
+        super(raw, operator, idFilter);
+    }
+
+    @Override
+    public @NotNull Map<K, V> getAll(
+            @NotNull Collection<K> keys,
+            @NotNull Set<ImmutableProp> props,
+            @NotNull CacheEnvironment<K, V> env
+    ) {
+        return getAll(
+                keys,
+                env,
+                mightExistKeys -> ((Cache.ColumnGrouped<K, V>)raw).getAll(mightExistKeys, props, env)
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Probabilistic set of the ids of an entity type, it is used as negative cache
+ * so that the ids which definitely do not exist are answered without
+ * accessing object cache or database.
+ *
+ * <p>False positive is allowed, false negative is not allowed.</p>
+ *
+ * <ul>
+ *     <li>It is filled by all ids of the table in the background when it is used
+ *     for the first time, unless {@link #isFilled()} returns true, for example,
+ *     it is persisted and has been filled by another application instance.
+ *     All ids may exist before it is filled.</li>
+ *     <li>The ids inserted by current application are added when they are saved,
+ *     whatever the trigger type is, and the ids inserted by other writers are
+ *     added by binlog triggers. The deleted ids are not removed,
+ *     they are treated as false positive.</li>
+ *     <li>If the persisted data is lost, {@link #isFilled()} must return false
+ *     and all ids must be treated as ids which may exist.</li>
+ * </ul>
+ *
+ * @see BloomIdFilter
+ * @see CacheConfig#setIdFilter(Class, IdFilter)
+ */
+public interface IdFilter {
+
+    /**
+     * @param ids Ids to be checked
+     * @return The ids which may exist, other ids definitely do not exist.
+     */
+    @NotNull
+    <K> Set<K> mightExist(@NotNull Collection<K> ids);
+
+    void addAll(@NotNull Collection<?> ids);
+
+    boolean isFilled();
+
+    void markFilled();
+}
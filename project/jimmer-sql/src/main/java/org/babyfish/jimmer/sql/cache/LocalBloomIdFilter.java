@@ -0,0 +1,57 @@
+package org.babyfish.jimmer.sql.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory bloom filter, it is filled again after the application is restarted.
+ */
+public class LocalBloomIdFilter extends BloomIdFilter {
+
+    private final AtomicLongArray words;
+
+    private volatile boolean filled;
+
+    public LocalBloomIdFilter(long expectedIdCount, double falsePositiveRate) {
+        super(expectedIdCount, falsePositiveRate);
+        long wordCount = (getBitCount() + 63) >>> 6;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many bits for local bloom filter");
+        }
+        words = new AtomicLongArray((int) wordCount);
+    }
+
+    @Override
+    public boolean isFilled() {
+        return filled;
+    }
+
+    @Override
+    public void markFilled() {
+        filled = true;
+    }
+
+    @Override
+    protected boolean[] getBits(long[] bitIndexes) {
+        boolean[] bits = new boolean[bitIndexes.length];
+        for (int i = 0; i < bitIndexes.length; i++) {
+            long bitIndex = bitIndexes[i];
+            bits[i] = (words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+        }
+        return bits;
+    }
+
+    @Override
+    protected void setBits(long[] bitIndexes) {
+        for (long bitIndex : bitIndexes) {
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            long word;
+            do {
+                word = words.get(wordIndex);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.babyfish.jimmer.impl.util.ConcurrentLRUMap;
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of the results of the queries
+ * configured by `ConfigurableRootQuery.cacheable(Duration)`.
+ *
+ * <p>The cache key is the rendered SQL, its variables, the fetchers
+ * of the selections and the parameters of the global filters applied
+ * by the associations of the fetchers. Each cached result remembers
+ * the versions of the entity types and the association properties used by the query,
+ * the versions are increased by the triggers, so that any change
+ * of these tables makes the result stale immediately.</p>
+ *
+ * <p>The versions are read before the query is executed, so the
+ * changes happen during the execution make the result stale too.</p>
+ *
+ * <p>The transaction triggers fire before the changes are committed, so
+ * the result loaded while the writing transaction of any dependency is open
+ * is not cached, and the versions are increased again once the connection
+ * of that transaction is closed, which happens after commit or rollback.</p>
+ *
+ * <p>The versions are increased by the triggers of `Caches`, so
+ * if the trigger type is `BINLOG_ONLY`, the binlog events must be
+ * sent to `BinLog`, otherwise the cached results are only evicted
+ * when the time-to-live is elapsed.</p>
+ *
+ * <p>At most 1024 results are cached,
+ * the least recently used one is evicted when the limit is exceeded.
+ * Reading the cached results never locks.</p>
+ */
+public class QueryResultCache {
+
+    private static final int MAX_ENTRY_COUNT = 1024;
+
+    private final ConcurrentLRUMap<Key, Entry> entryMap = new ConcurrentLRUMap<>(MAX_ENTRY_COUNT);
+
+    private final Map<Object, AtomicLong> versionMap = new ConcurrentHashMap<>();
+
+    /*
+     * Key: Dependency changed by the transaction triggers
+     * Value: Connections of the open transactions which changed it
+     */
+    private final Map<Object, Set<Connection>> writingConnectionMap = new ConcurrentHashMap<>();
+
+    QueryResultCache() {}
+
+    /**
+     * @param dependencies The entity types and association properties used by the query
+     * @param loader Execute the query when the cached result does not exist, is expired or stale
+     * @return A mutable copy of the cached result
+     */
+    @SuppressWarnings("unchecked")
+    public <R> List<R> get(
+            String sql,
+            List<Object> variables,
+            List<Object> discriminators,
+            Collection<?> dependencies,
+            Duration ttl,
+            Supplier<List<R>> loader
+    ) {
+        Key key = new Key(sql, variables, discriminators);
+        Entry entry = entryMap.get(key);
+        if (entry != null && entry.isAlive()) {
+            return new ArrayList<>((List<R>) entry.rows);
+        }
+        Object[] dependencyArr = dependencies.toArray();
+        if (isWriting(dependencyArr)) {
+            return loader.get();
+        }
+        long[] versions = new long[dependencyArr.length];
+        for (int i = 0; i < dependencyArr.length; i++) {
+            versions[i] = version(dependencyArr[i]).get();
+        }
+        List<R> rows = loader.get();
+        if (isWriting(dependencyArr)) {
+            // The writing transaction is opened during the execution
+            return rows;
+        }
+        entryMap.put(
+                key,
+                new Entry(
+                        Collections.unmodifiableList(new ArrayList<>(rows)),
+                        System.currentTimeMillis() + ttl.toMillis(),
+                        dependencyArr,
+                        versions
+                )
+        );
+        return rows;
+    }
+
+    void invalidate(ImmutableType type, @Nullable Connection con) {
+        invalidate((Object) type, con);
+    }
+
+    void invalidate(ImmutableProp prop, @Nullable Connection con) {
+        invalidate((Object) prop, con);
+        ImmutableProp opposite = prop.getOpposite();
+        if (opposite != null) {
+            invalidate((Object) opposite, con);
+        }
+    }
+
+    private void invalidate(Object dependency, @Nullable Connection con) {
+        if (con != null) {
+            // Registered before the version is increased,
+            // so that the readers of new version know the open transaction
+            Set<Connection> connections = writingConnectionMap.computeIfAbsent(
+                    dependency,
+                    it -> Collections.newSetFromMap(new ConcurrentHashMap<>())
+            );
+            connections.add(con);
+            // Clear the connections of the finished transactions
+            isWriting(dependency);
+        }
+        version(dependency).incrementAndGet();
+    }
+
+    /**
+     * @return Whether any dependency is changed by an open transaction,
+     * the rows loaded at this time may be changed by that transaction later.
+     */
+    private boolean isWriting(Object[] dependencies) {
+        boolean writing = false;
+        for (Object dependency : dependencies) {
+            // Do not break, the closed connections of all dependencies are cleared
+            if (isWriting(dependency)) {
+                writing = true;
+            }
+        }
+        return writing;
+    }
+
+    private boolean isWriting(Object dependency) {
+        Set<Connection> connections = writingConnectionMap.get(dependency);
+        if (connections == null || connections.isEmpty()) {
+            return false;
+        }
+        boolean writing = false;
+        for (Connection con : connections) {
+            if (isClosed(con)) {
+                if (connections.remove(con)) {
+                    // The results loaded while the transaction is open are stale
+                    version(dependency).incrementAndGet();
+                }
+            } else {
+                writing = true;
+            }
+        }
+        return writing;
+    }
+
+    private static boolean isClosed(Connection con) {
+        try {
+            return con.isClosed();
+        } catch (SQLException ex) {
+            return true;
+        }
+    }
+
+    private AtomicLong version(Object dependency) {
+        return versionMap.computeIfAbsent(dependency, it -> new AtomicLong());
+    }
+
+    private class Entry {
+
+        final List<?> rows;
+
+        final long expiredMillis;
+
+        final Object[] dependencies;
+
+        final long[] versions;
+
+        Entry(List<?> rows, long expiredMillis, Object[] dependencies, long[] versions) {
+            this.rows = rows;
+            this.expiredMillis = expiredMillis;
+            this.dependencies = dependencies;
+            this.versions = versions;
+        }
+
+        boolean isAlive() {
+            if (System.currentTimeMillis() >= expiredMillis) {
+                return false;
+            }
+            for (int i = 0; i < dependencies.length; i++) {
+                if (version(dependencies[i]).get() != versions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class Key {
+
+        private final String sql;
+
+        private final Object[] variables;
+
+        private final List<Object> discriminators;
+
+        private final int hash;
+
+        Key(String sql, List<Object> variables, @Nullable List<Object> discriminators) {
+            this.sql = sql;
+            this.variables = variables.toArray();
+            this.discriminators = discriminators != null ? discriminators : Collections.emptyList();
+            this.hash = (sql.hashCode() * 31 + Arrays.deepHashCode(this.variables)) * 31 +
+                    this.discriminators.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash &&
+                    sql.equals(other.sql) &&
+                    Arrays.deepEquals(variables, other.variables) &&
+                    discriminators.equals(other.discriminators);
+        }
+    }
+}
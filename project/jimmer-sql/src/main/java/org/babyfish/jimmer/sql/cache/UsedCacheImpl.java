@@ -5,10 +5,12 @@ import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.meta.TargetLevel;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 class UsedCacheImpl<K, V> implements UsedCache<K, V> {
@@ -20,21 +22,36 @@ class UsedCacheImpl<K, V> implements UsedCache<K, V> {
 
     private final CacheOperator operator;
 
+    private final UsedIdFilter idFilter;
+
     UsedCacheImpl(Cache<K, V> raw, CacheOperator operator) {
+        this(raw, operator, null);
+    }
+
+    UsedCacheImpl(Cache<K, V> raw, CacheOperator operator, UsedIdFilter idFilter) {
         this.raw = Objects.requireNonNull(raw, "raw cannot be null");
         this.operator = operator;
+        this.idFilter = idFilter;
     }
 
     static <K, V> UsedCache<K, V> wrap(
             Cache<K, V> cache,
             CacheOperator operator
+    ) {
+        return wrap(cache, operator, null);
+    }
+
+    static <K, V> UsedCache<K, V> wrap(
+            Cache<K, V> cache,
+            CacheOperator operator,
+            UsedIdFilter idFilter
     ) {
         if (cache == null) {
             return null;
         }
         if (cache instanceof UsedCache<?, ?>) {
            UsedCacheImpl<K, V> wrapper = (UsedCacheImpl<K, V>) cache;
-           if (wrapper.operator == operator) {
+           if (wrapper.operator == operator && wrapper.idFilter == idFilter) {
                return wrapper;
            }
            cache = wrapper.raw;
@@ -45,7 +62,14 @@ class UsedCacheImpl<K, V> implements UsedCache<K, V> {
                     operator
             );
         }
-        return new UsedCacheImpl<>(cache, operator);
+        if (cache instanceof Cache.ColumnGrouped<?, ?>) {
+            return new ColumnGroupedUsedCacheImpl<>(
+                    (Cache.ColumnGrouped<K, V>)cache,
+                    operator,
+                    idFilter
+            );
+        }
+        return new UsedCacheImpl<>(cache, operator, idFilter);
     }
 
     public static <K, V> UsedCache<K, V> export(UsedCache<K, V> cache) {
@@ -79,8 +103,39 @@ class UsedCacheImpl<K, V> implements UsedCache<K, V> {
     @NotNull
     @Override
     public Map<K, V> getAll(@NotNull Collection<K> keys, @NotNull CacheEnvironment<K, V> env) {
+        return getAll(keys, env, mightExistKeys -> raw.getAll(mightExistKeys, env));
+    }
+
+    protected Map<K, V> getAll(
+            Collection<K> keys,
+            CacheEnvironment<K, V> env,
+            Function<Collection<K>, Map<K, V>> rawGetter
+    ) {
+        UsedIdFilter idFilter = this.idFilter;
+        if (idFilter != null) {
+            Collection<K> mightExistKeys = idFilter.mightExist(
+                    keys,
+                    (JSqlClientImplementor) env.getSqlClient()
+            );
+            if (mightExistKeys.size() < keys.size()) {
+                // The keys which definitely do not exist are
+                // neither loaded nor saved into cache as null
+                Map<K, V> valueMap = new LinkedHashMap<>((keys.size() * 4 + 2) / 3);
+                if (!mightExistKeys.isEmpty()) {
+                    valueMap.putAll(getAllImpl(mightExistKeys, rawGetter));
+                }
+                for (K key : keys) {
+                    valueMap.putIfAbsent(key, null);
+                }
+                return valueMap;
+            }
+        }
+        return getAllImpl(keys, rawGetter);
+    }
+
+    private Map<K, V> getAllImpl(Collection<K> keys, Function<Collection<K>, Map<K, V>> rawGetter) {
         return loading(() -> {
-            Map<K, V> valueMap = raw.getAll(keys, env);
+            Map<K, V> valueMap = rawGetter.apply(keys);
             for (V value : valueMap.values()) {
                 validateResult(value);
             }
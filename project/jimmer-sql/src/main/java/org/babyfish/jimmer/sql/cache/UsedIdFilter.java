@@ -0,0 +1,114 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.ast.Expression;
+import org.babyfish.jimmer.sql.ast.impl.query.FilterLevel;
+import org.babyfish.jimmer.sql.ast.impl.query.Queries;
+import org.babyfish.jimmer.sql.runtime.ExecutionPurpose;
+import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+class UsedIdFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UsedIdFilter.class);
+
+    private static final int FILL_BATCH_SIZE = 1024;
+
+    private static final long FILL_RETRY_INTERVAL_MILLIS = 60_000L;
+
+    private final ImmutableType type;
+
+    private final IdFilter raw;
+
+    private boolean filling;
+
+    private long fillFailedMillis;
+
+    UsedIdFilter(ImmutableType type, IdFilter raw) {
+        this.type = type;
+        this.raw = raw;
+    }
+
+    IdFilter raw() {
+        return raw;
+    }
+
+    /**
+     * @return The ids which may exist, all ids may exist
+     * before the filter is filled in the background.
+     */
+    <K> Collection<K> mightExist(Collection<K> ids, JSqlClientImplementor sqlClient) {
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        if (!raw.isFilled()) {
+            fillIfNecessary(sqlClient);
+            return ids;
+        }
+        return raw.mightExist(ids);
+    }
+
+    private void fillIfNecessary(JSqlClientImplementor sqlClient) {
+        synchronized (this) {
+            if (filling || System.currentTimeMillis() - fillFailedMillis < FILL_RETRY_INTERVAL_MILLIS) {
+                return;
+            }
+            filling = true;
+        }
+        // The table is scanned by its own connection, neither
+        // the connection nor the thread of the caller is blocked
+        Thread thread = new Thread(() -> fill(sqlClient), "jimmer-id-filter-" + type.getJavaClass().getSimpleName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void fill(JSqlClientImplementor sqlClient) {
+        boolean success = false;
+        try {
+            if (!raw.isFilled()) {
+                // Global filters are ignored, the filter must contain all the ids of table
+                List<Object> ids = new ArrayList<>(FILL_BATCH_SIZE);
+                sqlClient.getConnectionManager().execute(con -> {
+                    Queries.createQuery(
+                            sqlClient,
+                            type,
+                            ExecutionPurpose.LOAD,
+                            FilterLevel.IGNORE_ALL,
+                            (q, table) -> {
+                                Expression<Object> idProp = table.get(type.getIdProp().getName());
+                                return q.select(idProp);
+                            }
+                    ).forEach(con, FILL_BATCH_SIZE, id -> {
+                        ids.add(id);
+                        if (ids.size() == FILL_BATCH_SIZE) {
+                            raw.addAll(ids);
+                            ids.clear();
+                        }
+                    });
+                    return null;
+                });
+                raw.addAll(ids);
+                raw.markFilled();
+            }
+            success = true;
+        } catch (RuntimeException ex) {
+            LOGGER.warn(
+                    "Failed to fill the id filter of \"{}\", all ids are treated as existing ids until it is filled",
+                    type,
+                    ex
+            );
+        } finally {
+            synchronized (this) {
+                filling = false;
+                if (!success) {
+                    fillFailedMillis = System.currentTimeMillis();
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.meta.TypedProp;
 import org.babyfish.jimmer.sql.*;
 import org.babyfish.jimmer.sql.association.meta.AssociationType;
+import org.babyfish.jimmer.sql.ast.impl.mutation.SaveStatementCache;
 import org.babyfish.jimmer.sql.ast.mutation.*;
 import org.babyfish.jimmer.sql.ast.query.MutableBaseQuery;
 import org.babyfish.jimmer.sql.ast.query.MutableRecursiveBaseQuery;
@@ -311,6 +312,16 @@ public abstract class AbstractJSqlClientDelegate implements JSqlClientImplemento
         return sqlClient().getExecutorContextPrefixes();
     }
 
+    @Override
+    public double getExecutorContextSamplingRate() {
+        return sqlClient().getExecutorContextSamplingRate();
+    }
+
+    @Override
+    public Map<String, Boolean> getExecutorContextMatchedClassNameMap() {
+        return sqlClient().getExecutorContextMatchedClassNameMap();
+    }
+
     @Override
     public SqlFormatter getSqlFormatter() {
         return sqlClient().getSqlFormatter();
@@ -420,6 +431,11 @@ public abstract class AbstractJSqlClientDelegate implements JSqlClientImplemento
         return sqlClient().isDefaultSaveResultReadsAllProperties();
     }
 
+    @Override
+    public boolean isDefaultMultiRowInsertEnabled() {
+        return sqlClient().isDefaultMultiRowInsertEnabled();
+    }
+
     @Override
     public boolean isBatchForbidden(boolean dumbBatchAcceptable) {
         return sqlClient().isBatchForbidden(dumbBatchAcceptable);
@@ -501,6 +517,11 @@ public abstract class AbstractJSqlClientDelegate implements JSqlClientImplemento
         return sqlClient().getReader(prop);
     }
 
+    @Override
+    public SaveStatementCache getSaveStatementCache() {
+        return sqlClient().getSaveStatementCache();
+    }
+
     @Override
     public String getMicroServiceName() {
         return sqlClient().getMicroServiceName();
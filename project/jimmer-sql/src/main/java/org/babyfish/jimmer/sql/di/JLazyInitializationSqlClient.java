@@ -3,8 +3,15 @@ package org.babyfish.jimmer.sql.di;
 import org.babyfish.jimmer.sql.JSqlClient;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 public abstract class JLazyInitializationSqlClient extends AbstractJSqlClientDelegate {
 
+    // Not `synchronized`, building sql client may access database,
+    // which should not pin the carrier thread of virtual thread
+    private final Lock lock = new ReentrantLock();
+
     private volatile JSqlClientImplementor sqlClient;
 
     protected final JSqlClientImplementor sqlClient() {
@@ -15,15 +22,20 @@ public abstract class JLazyInitializationSqlClient extends AbstractJSqlClientDel
         return sqlClient;
     }
 
-    private synchronized JSqlClientImplementor initialize() {
-        JSqlClientImplementor sqlClient = this.sqlClient;
-        if (sqlClient == null) {
-            JSqlClient.Builder builder = createBuilder();
-            sqlClient = (JSqlClientImplementor) builder.build();
-            afterCreate(sqlClient);
-            this.sqlClient = sqlClient;
+    private JSqlClientImplementor initialize() {
+        lock.lock();
+        try {
+            JSqlClientImplementor sqlClient = this.sqlClient;
+            if (sqlClient == null) {
+                JSqlClient.Builder builder = createBuilder();
+                sqlClient = (JSqlClientImplementor) builder.build();
+                afterCreate(sqlClient);
+                this.sqlClient = sqlClient;
+            }
+            return sqlClient;
+        } finally {
+            lock.unlock();
         }
-        return sqlClient;
     }
 
     protected abstract JSqlClient.Builder createBuilder();
@@ -80,12 +80,42 @@ public interface Dialect extends SqlTypeStrategy {
 
     default boolean isMultiInsertionSupported() { return true; }
 
+    /**
+     * Whether the ids generated by identity column can be returned by
+     * `insert ... values(...), (...) returning id` in the order of rows,
+     * so that the rows without ids can be inserted by multi-row insertion.
+     */
+    default boolean isMultiInsertionIdReturningSupported() { return false; }
+
+    /**
+     * The SQL to query the first id generated by the latest multi-row insertion
+     * of current connection, the ids of the other rows of that statement are
+     * considered consecutive.
+     *
+     * <p>It is only used when {@link #isMultiInsertionIdReturningSupported()} is false,
+     * null means the generated ids cannot be recovered so that the rows without ids
+     * are not inserted by multi-row insertion.</p>
+     */
+    @Nullable
+    default String getMultiInsertionFirstIdSql() {
+        return null;
+    }
+
     default boolean isArraySupported() { return false; }
 
     default boolean isAnyEqualityOfArraySupported() {
         return isArraySupported();
     }
 
+    /**
+     * Whether several arrays can be expanded to a table
+     * by `unnest(array1, array2, ...)`, which is used to
+     * replace the rows of middle table by set-based statements
+     */
+    default boolean isUnnestSupported() {
+        return false;
+    }
+
     default <T> T[] getArray(ResultSet rs, int col, Class<T[]> arrayType) throws SQLException {
         throw new UnsupportedOperationException("`Dialect.getArray` is not supported");
     }
@@ -106,6 +136,18 @@ public interface Dialect extends SqlTypeStrategy {
         return true;
     }
 
+    default boolean isRecursiveCteSupported() {
+        return true;
+    }
+
+    /**
+     * Oracle and SQL Server support recursive CTE,
+     * but reject the `recursive` keyword of `with recursive`
+     */
+    default boolean isRecursiveCteKeywordRequired() {
+        return true;
+    }
+
     @Nullable
     default String getConstantTableName() { return null; }
 
@@ -149,6 +191,14 @@ public interface Dialect extends SqlTypeStrategy {
         return 1000;
     }
 
+    /**
+     * The max count of JDBC parameters of one statement,
+     * it is used to split the multi-row insert statements.
+     */
+    default int getMaxVariableCount() {
+        return 32767;
+    }
+
     @Override
     default String arrayTypeSuffix() {
         return "[]";
@@ -25,6 +25,21 @@ public class MySql5Dialect extends MySqlStyleDialect {
         return true;
     }
 
+    /**
+     * The ids generated by one multi-row insertion are consecutive
+     * when `innodb_autoinc_lock_mode` is less than 2 and
+     * `auto_increment_increment` is 1, this is the default of MySQL 5.x
+     */
+    @Override
+    public @Nullable String getMultiInsertionFirstIdSql() {
+        return "select last_insert_id()";
+    }
+
+    @Override
+    public boolean isRecursiveCteSupported() {
+        return false;
+    }
+
     @Override
     public void renderForUpdate(AbstractSqlBuilder<?> builder, ForUpdate forUpdate) {
         if (forUpdate.getLockMode().isShared() || forUpdate.getLockWait() != LockWait.DEFAULT) {
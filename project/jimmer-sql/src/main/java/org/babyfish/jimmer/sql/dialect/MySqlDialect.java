@@ -3,6 +3,7 @@ package org.babyfish.jimmer.sql.dialect;
 import org.babyfish.jimmer.sql.ast.impl.query.ForUpdate;
 import org.babyfish.jimmer.sql.ast.impl.render.AbstractSqlBuilder;
 import org.babyfish.jimmer.sql.ast.query.LockWait;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.IntSupplier;
 
@@ -16,6 +17,16 @@ public class MySqlDialect extends MySql5Dialect {
         return true;
     }
 
+    /**
+     * The default `innodb_autoinc_lock_mode` of MySQL 8.x is 2, the ids generated by
+     * one multi-row insertion may not be consecutive, override this method to return
+     * `select last_insert_id()` if that lock mode is configured to be less than 2
+     */
+    @Override
+    public @Nullable String getMultiInsertionFirstIdSql() {
+        return null;
+    }
+
     @Override
     public void update(UpdateContext ctx) {
         if (!ctx.isUpdatedByKey()) {
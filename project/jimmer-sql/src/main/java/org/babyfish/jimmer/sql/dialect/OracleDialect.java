@@ -70,6 +70,11 @@ public class OracleDialect extends DefaultDialect {
         return false;
     }
 
+    @Override
+    public boolean isRecursiveCteKeywordRequired() {
+        return false;
+    }
+
     @Override
     public @Nullable String getConstantTableName() {
         return "dual";
@@ -91,6 +91,11 @@ public class PostgresDialect extends DefaultDialect {
         return "[]";
     }
 
+    @Override
+    public boolean isUnnestSupported() {
+        return true;
+    }
+
     @Override
     public String sqlType(Class<?> elementType) {
         if (elementType == String.class) {
@@ -179,6 +184,11 @@ public class PostgresDialect extends DefaultDialect {
         return true;
     }
 
+    @Override
+    public boolean isMultiInsertionIdReturningSupported() {
+        return true;
+    }
+
     @Override
     public boolean isUpsertSupported() {
         return true;
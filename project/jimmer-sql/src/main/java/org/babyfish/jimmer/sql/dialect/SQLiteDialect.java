@@ -44,6 +44,11 @@ public class SQLiteDialect extends DefaultDialect {
         return true;
     }
 
+    @Override
+    public boolean isMultiInsertionIdReturningSupported() {
+        return true;
+    }
+
     @Override
     public void upsert(UpsertContext ctx) {
         ctx.sql("insert into ")
@@ -327,4 +332,10 @@ public class SQLiteDialect extends DefaultDialect {
     public void renderForUpdate(AbstractSqlBuilder<?> builder, ForUpdate forUpdate) {
         throw new IllegalArgumentException("Sqlite does not support `for update`");
     }
+
+    @Override
+    public int getMaxVariableCount() {
+        // The default limit of the versions before 3.32.0
+        return 999;
+    }
 }
@@ -19,6 +19,11 @@ public class SqlServerDialect extends DefaultDialect {
         return false;
     }
 
+    @Override
+    public boolean isRecursiveCteKeywordRequired() {
+        return false;
+    }
+
     @Override
     public boolean isDeletedAliasRequired() {
         return true;
@@ -231,4 +236,9 @@ public class SqlServerDialect extends DefaultDialect {
             throw new IllegalArgumentException("SqlServer does not support " + wait);
         }
     }
+
+    @Override
+    public int getMaxVariableCount() {
+        return 2100;
+    }
 }
@@ -0,0 +1,82 @@
+package org.babyfish.jimmer.sql.fetcher;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Depth-based recursion strategy which allows jimmer to fetch
+ * the whole subtree of a self-referencing one-to-many association
+ * by one recursive CTE query, rather than one query for each level.
+ *
+ * <p>The recursive CTE is used when all the following conditions are met</p>
+ * <ul>
+ *     <li>The dialect supports recursive CTE</li>
+ *     <li>The association is one-to-many based on a single foreign key column</li>
+ *     <li>Neither limit nor offset is specified</li>
+ *     <li>The association property is not cached</li>
+ * </ul>
+ * Otherwise, the tree will be fetched level by level
+ * just like {@link RecursiveListFieldConfig#depth(int)}.
+ *
+ * <p>Global filters and field filter are applied to the fetched nodes,
+ * the descendants of filtered nodes are ignored,
+ * so the result is the same as level-by-level fetching.</p>
+ *
+ * <p>Note: If the depth is unlimited, the data must be a real tree without cycles.</p>
+ *
+ * @param <E> The entity type
+ */
+public final class CteRecursionStrategy<E> implements RecursionStrategy<E> {
+
+    private static final CteRecursionStrategy<?> UNLIMITED =
+            new CteRecursionStrategy<>(Integer.MAX_VALUE);
+
+    private final int depth;
+
+    private CteRecursionStrategy(int depth) {
+        this.depth = depth;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> CteRecursionStrategy<E> unlimited() {
+        return (CteRecursionStrategy<E>) UNLIMITED;
+    }
+
+    public static <E> CteRecursionStrategy<E> of(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth cannot be less than 1");
+        }
+        if (depth == Integer.MAX_VALUE) {
+            return unlimited();
+        }
+        return new CteRecursionStrategy<>(depth);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public boolean isRecursive(@NotNull Args<E> args) {
+        return args.getDepth() < depth;
+    }
+
+    @Override
+    public int hashCode() {
+        return depth;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CteRecursionStrategy<?> that = (CteRecursionStrategy<?>) o;
+        return depth == that.depth;
+    }
+
+    @Override
+    public String toString() {
+        return "CteRecursionStrategy{" +
+                "depth=" + depth +
+                '}';
+    }
+}
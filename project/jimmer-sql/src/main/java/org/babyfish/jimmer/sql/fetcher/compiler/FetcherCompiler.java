@@ -5,6 +5,8 @@ import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.TargetLevel;
 import org.babyfish.jimmer.sql.Entity;
 import org.babyfish.jimmer.sql.fetcher.*;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
+import org.babyfish.jimmer.sql.fetcher.impl.FetcherCache;
 import org.babyfish.jimmer.sql.fetcher.impl.FetcherImpl;
 import org.babyfish.jimmer.sql.fetcher.impl.FetcherImplementor;
 
@@ -17,6 +19,18 @@ public class FetcherCompiler {
 
     private static final Object JAVA_CODE_VALUE = new Object();
 
+    private static final int MAX_CACHED_CODE_COUNT = 1024;
+
+    /*
+     * Key: Tuple3(class loader, type, code)
+     * Value: Compiled fetcher
+     *
+     * The class loader used to resolve the type name is a part of the key,
+     * so that the reloaded classes never reuse the fetchers of the old classes
+     */
+    private static final FetcherCache<Tuple3<ClassLoader, Class<?>, String>> CACHE =
+            new FetcherCache<>(MAX_CACHED_CODE_COUNT);
+
     private FetcherCompiler() {}
 
     public static Fetcher<?> compile(String code) {
@@ -36,8 +50,18 @@ public class FetcherCompiler {
         );
     }
 
-    @SuppressWarnings("unchecked")
     private static Fetcher<?> compile(String code, ClassLoader classLoader, Class<?> type) {
+        ClassLoader resolvingClassLoader = classLoader != null ?
+                classLoader :
+                FetcherCompiler.class.getClassLoader(); // Used by `Class.forName(String)`
+        return CACHE.get(
+                new Tuple3<>(resolvingClassLoader, type, code),
+                () -> compileImpl(code, classLoader, type)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Fetcher<?> compileImpl(String code, ClassLoader classLoader, Class<?> type) {
         FetcherLexer lexer = new FetcherLexer(
                 new ANTLRInputStream(code)
         );
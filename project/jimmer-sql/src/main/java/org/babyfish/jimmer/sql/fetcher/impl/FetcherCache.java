@@ -0,0 +1,48 @@
+package org.babyfish.jimmer.sql.fetcher.impl;
+
+import org.babyfish.jimmer.impl.util.ConcurrentLRUMap;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of the fetchers created dynamically,
+ * such as the fetchers compiled from fetcher strings
+ * or created from GraphQL selection sets.
+ *
+ * <p>The cached fetchers are {@link FetcherInterner interned}, so that the
+ * fetchers created by different caches from equivalent sources are shared.</p>
+ *
+ * <p>The key must identify the java type of the created fetcher,
+ * for example, contain the java type or the class loader used to resolve it,
+ * so that the fetchers of the classes of a discarded class loader are never
+ * returned and are evicted at last.</p>
+ *
+ * <p>Hits never lock, so that the threads, including virtual threads,
+ * reading the cache are neither blocked nor pinned.</p>
+ */
+public final class FetcherCache<K> {
+
+    private final ConcurrentLRUMap<K, Fetcher<?>> map;
+
+    public FetcherCache(int maxCount) {
+        map = new ConcurrentLRUMap<>(maxCount);
+    }
+
+    /**
+     * @param key The key which identifies the fetcher
+     * @param creator Create the fetcher if it is not cached,
+     *                it is invoked without lock and null is not cached.
+     */
+    public Fetcher<?> get(K key, Supplier<? extends Fetcher<?>> creator) {
+        Fetcher<?> fetcher = map.get(key);
+        if (fetcher != null) {
+            return fetcher;
+        }
+        fetcher = FetcherInterner.intern(creator.get());
+        if (fetcher != null) {
+            map.put(key, fetcher);
+        }
+        return fetcher;
+    }
+}
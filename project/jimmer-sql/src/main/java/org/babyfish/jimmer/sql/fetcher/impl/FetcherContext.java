@@ -158,6 +158,10 @@ class FetcherContext {
 
     public void execute() {
         while (!taskMap.isEmpty()) {
+            // Launch all asynchronous transient resolvers before waiting for any of them
+            for (FetcherTask task : taskMap.values()) {
+                task.prepareAsync();
+            }
             Iterator<Map.Entry<FetchedField, FetcherTask>> itr = taskMap.entrySet().iterator();
             Map.Entry<FetchedField, FetcherTask> e = itr.next();
             if (e.getValue().execute()) {
@@ -0,0 +1,42 @@
+package org.babyfish.jimmer.sql.fetcher.impl;
+
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shared pool of the fetchers created dynamically,
+ * such as the fetchers compiled from fetcher strings
+ * or created from GraphQL selection sets.
+ *
+ * <p>Fetchers are immutable, so that the equal fetchers can share
+ * one instance, and the caches using fetchers as keys can be matched
+ * by identity rather than deep comparison.</p>
+ *
+ * <p>The pool holds the fetchers weakly, the fetchers which are not
+ * used by anyone else are discarded by GC.</p>
+ */
+public class FetcherInterner {
+
+    private static final Map<Fetcher<?>, WeakReference<Fetcher<?>>> POOL = new WeakHashMap<>();
+
+    private FetcherInterner() {}
+
+    @SuppressWarnings("unchecked")
+    public static <T> Fetcher<T> intern(Fetcher<T> fetcher) {
+        if (fetcher == null) {
+            return null;
+        }
+        synchronized (POOL) {
+            WeakReference<Fetcher<?>> ref = POOL.get(fetcher);
+            Fetcher<?> interned = ref != null ? ref.get() : null;
+            if (interned != null) {
+                return (Fetcher<T>) interned;
+            }
+            POOL.put(fetcher, new WeakReference<>(fetcher));
+            return fetcher;
+        }
+    }
+}
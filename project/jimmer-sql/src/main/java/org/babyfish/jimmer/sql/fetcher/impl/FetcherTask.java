@@ -5,6 +5,7 @@ import org.babyfish.jimmer.runtime.DraftContext;
 import org.babyfish.jimmer.runtime.DraftSpi;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.runtime.Internal;
+import org.babyfish.jimmer.sql.fetcher.CteRecursionStrategy;
 import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.Field;
 import org.babyfish.jimmer.sql.fetcher.RecursionStrategy;
@@ -12,6 +13,7 @@ import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 
 import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 class FetcherTask {
@@ -26,8 +28,21 @@ class FetcherTask {
 
     private final DataLoader dataLoader;
 
+    /*
+     * Non-zero only when the whole subtree can be loaded by recursive CTE
+     */
+    private final int subTreeDepth;
+
     private Map<Object, TaskData> pendingMap = new LinkedHashMap<>();
 
+    /*
+     * The batch whose asynchronous transient resolver has been launched
+     * by `prepareAsync`, it will be waited for by `execute`
+     */
+    private Map<Object, TaskData> preparedMap;
+
+    private CompletableFuture<Map<Object, Object>> preparedFuture;
+
     public FetcherTask(
             FetchingCache cache,
             JSqlClientImplementor sqlClient,
@@ -40,6 +55,12 @@ class FetcherTask {
         this.field = field;
         this.batchSize = determineBatchSize();
         this.dataLoader = new DataLoader(sqlClient, con, path, field);
+        RecursionStrategy<?> recursionStrategy = field.getRecursionStrategy();
+        if (recursionStrategy instanceof CteRecursionStrategy<?> && dataLoader.isSubTreeLoadable()) {
+            this.subTreeDepth = ((CteRecursionStrategy<?>) recursionStrategy).getDepth();
+        } else {
+            this.subTreeDepth = 0;
+        }
     }
 
     public void add(DraftSpi draft) {
@@ -62,10 +83,53 @@ class FetcherTask {
         pendingMap.computeIfAbsent(key, it -> new TaskData(key, depth)).getDrafts().add(draft);
     }
 
+    public void prepareAsync() {
+        if (preparedMap != null || pendingMap.isEmpty() || !dataLoader.isAsyncLoadable()) {
+            return;
+        }
+        Map<Object, TaskData> handledMap = nextHandledMap();
+        if (!handledMap.isEmpty()) {
+            preparedFuture = dataLoader.loadAsync(sources(handledMap));
+        }
+        preparedMap = handledMap;
+    }
+
     public boolean execute() {
-        if (pendingMap.isEmpty()) {
-            return true;
+        Map<Object, TaskData> handledMap = preparedMap;
+        CompletableFuture<Map<Object, Object>> future = preparedFuture;
+        preparedMap = null;
+        preparedFuture = null;
+        if (handledMap == null) {
+            if (pendingMap.isEmpty()) {
+                return true;
+            }
+            handledMap = nextHandledMap();
+        }
+        if (!handledMap.isEmpty() && subTreeDepth != 0) {
+            loadSubTree(handledMap);
+        } else if (!handledMap.isEmpty()) {
+            List<ImmutableSpi> sources = sources(handledMap);
+            Map<ImmutableSpi, ?> loadedMap = future != null ?
+                    dataLoader.awaitAsync(sources, future) :
+                    dataLoader.load(sources);
+            for (Map.Entry<Object, TaskData> e : handledMap.entrySet()) {
+                TaskData taskData = e.getValue();
+                Object value = loadedMap.get(taskData.getDrafts().get(0));
+                afterLoad(taskData, value, true);
+            }
         }
+        return pendingMap.isEmpty();
+    }
+
+    private static List<ImmutableSpi> sources(Map<Object, TaskData> handledMap) {
+        return handledMap
+                .values()
+                .stream()
+                .map(it -> (ImmutableSpi) it.getDrafts().get(0))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Object, TaskData> nextHandledMap() {
         Map<Object, TaskData> handledMap;
         if (pendingMap.size() > batchSize) {
             Iterator<Map.Entry<Object, TaskData>> itr =
@@ -99,21 +163,7 @@ class FetcherTask {
                 handledEntryItr.remove();
             }
         }
-        if (!handledMap.isEmpty()) {
-            Map<ImmutableSpi, ?> loadedMap = dataLoader.load(
-                    handledMap
-                            .values()
-                            .stream()
-                            .map(it -> it.getDrafts().get(0))
-                            .collect(Collectors.toList())
-            );
-            for (Map.Entry<Object, TaskData> e : handledMap.entrySet()) {
-                TaskData taskData = e.getValue();
-                Object value = loadedMap.get(taskData.getDrafts().get(0));
-                afterLoad(taskData, value, true);
-            }
-        }
-        return pendingMap.isEmpty();
+        return handledMap;
     }
 
     private boolean isLoaded(DraftSpi draft) {
@@ -226,6 +276,59 @@ class FetcherTask {
         }
     }
 
+    private void loadSubTree(Map<Object, TaskData> handledMap) {
+        int minDepth = Integer.MAX_VALUE;
+        for (TaskData taskData : handledMap.values()) {
+            minDepth = Math.min(minDepth, taskData.getDepth());
+        }
+        // The level N of subtree is loaded when `recursionStrategy.isRecursive(minDepth + N - 2)` is true
+        int levelCount = subTreeDepth == Integer.MAX_VALUE ?
+                Integer.MAX_VALUE :
+                subTreeDepth - minDepth + 1;
+        Map<Object, List<ImmutableSpi>> childMap = dataLoader.loadSubTree(
+                handledMap
+                        .values()
+                        .stream()
+                        .map(it -> (ImmutableSpi) it.getDrafts().get(0))
+                        .collect(Collectors.toList()),
+                levelCount
+        );
+        PropId idPropId = field.getProp().getDeclaringType().getIdProp().getId();
+        for (TaskData taskData : handledMap.values()) {
+            List<ImmutableSpi> targets = childMap.getOrDefault(
+                    taskData.getDrafts().get(0).__get(idPropId),
+                    Collections.emptyList()
+            );
+            cache.put(field, taskData.getKey(), targets);
+            for (DraftSpi draft : taskData.getDrafts()) {
+                setDraftProp(draft, targets, field);
+            }
+            setDescendants(targets, taskData.getDepth(), childMap);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setDescendants(
+            List<ImmutableSpi> targets,
+            int depth,
+            Map<Object, List<ImmutableSpi>> childMap
+    ) {
+        RecursionStrategy<Object> recursionStrategy =
+                (RecursionStrategy<Object>) field.getRecursionStrategy();
+        PropId idPropId = field.getProp().getTargetType().getIdProp().getId();
+        DraftContext draftContext = Internal.currentDraftContext();
+        for (ImmutableSpi target : targets) {
+            if (recursionStrategy.isRecursive(new RecursionStrategy.Args<>(target, depth))) {
+                List<ImmutableSpi> children = childMap.getOrDefault(
+                        target.__get(idPropId),
+                        Collections.emptyList()
+                );
+                setDraftProp(draftContext.toDraftObject(target), children, field);
+                setDescendants(children, depth + 1, childMap);
+            }
+        }
+    }
+
     private int determineBatchSize() {
         int size = field.getBatchSize();
         if (size == 0) {
@@ -1,6 +1,7 @@
 package org.babyfish.jimmer.sql.fetcher.impl;
 
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.fetcher.CteRecursionStrategy;
 import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.Field;
 import org.babyfish.jimmer.sql.fetcher.FieldFilter;
@@ -115,6 +116,13 @@ class FetcherWriter {
             } else if (depth > 1) {
                 joiner.add("depth: " + depth);
             }
+        } else if (recursionStrategy instanceof CteRecursionStrategy<?>) {
+            int depth = ((CteRecursionStrategy<?>) recursionStrategy).getDepth();
+            if (depth == Integer.MAX_VALUE) {
+                joiner.add("recursive: <cte>");
+            } else {
+                joiner.add("depth: " + depth + " <cte>");
+            }
         } else if (recursionStrategy != null) {
             joiner.add("recursive: <java-code>");
         }
@@ -53,6 +53,27 @@ public class Shapes {
         }
     }
 
+    /**
+     * Get the properties of object cache required by the fetcher,
+     * id view properties are replaced by their base properties.
+     */
+    public static Set<ImmutableProp> objectCacheProps(ImmutableType immutableType, Fetcher<?> fetcher) {
+        Map<String, ImmutableProp> objectCachePropMap = immutableType.getObjectCacheProps();
+        Set<ImmutableProp> props = new LinkedHashSet<>();
+        for (Field field : fieldMap(fetcher, immutableType).values()) {
+            ImmutableProp prop = field.getProp();
+            ImmutableProp idViewBaseProp = prop.getIdViewBaseProp();
+            if (idViewBaseProp != null) {
+                prop = idViewBaseProp;
+            }
+            ImmutableProp objectCacheProp = objectCachePropMap.get(prop.getName());
+            if (objectCacheProp != null) {
+                props.add(objectCacheProp);
+            }
+        }
+        return props;
+    }
+
     private static Shape createShape(
             ImmutableType immutableType,
             Fetcher<?> fetcher,
@@ -35,6 +35,8 @@ public class FilterManager implements Filters {
 
     private final static ThreadLocal<LinkedList<Filter<?>>> EXECUTING_FILTERS_LOCAL = new ThreadLocal<>();
 
+    private static final int MAX_DERIVED_MANAGER_COUNT = 256;
+
     private final AopProxyProvider aopProxyProvider;
 
     private final LogicalDeletedFilterProvider provider;
@@ -47,6 +49,15 @@ public class FilterManager implements Filters {
 
     private final Map<String, List<CacheableFilter<Props>>> allCacheableFilterMap;
 
+    /*
+     * Shared by the original filter manager and all the managers derived from it,
+     * so that the derived managers with same configuration are same object
+     * and their type caches are warmed up only once.
+     *
+     * LRU map, it must be accessed in synchronized block.
+     */
+    private final Map<Object, FilterManager> derivedManagerMap;
+
     private final TypeCache<Filter<Props>> cache =
             new TypeCache<>(this::create, true);
 
@@ -74,6 +85,17 @@ public class FilterManager implements Filters {
                 this.allFilters.stream().filter(it -> it instanceof CacheableFilter<?>).collect(Collectors.toList()),
                 Collections.emptyList()
         );
+        this.derivedManagerMap = new LinkedHashMap<Object, FilterManager>(
+                (MAX_DERIVED_MANAGER_COUNT * 4 + 2) / 3,
+                .75F,
+                true
+        ) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, FilterManager> eldest) {
+                return size() > MAX_DERIVED_MANAGER_COUNT;
+            }
+        };
+        this.derivedManagerMap.put(Arrays.asList(this.provider, this.disabledFilters), this);
     }
 
     private FilterManager(
@@ -82,7 +104,8 @@ public class FilterManager implements Filters {
             Set<Filter<?>> filters,
             Set<Filter<?>> disabledFilters,
             Map<String, List<Filter<Props>>> filterMap,
-            Map<String, List<CacheableFilter<Props>>> allCacheableFilterMap
+            Map<String, List<CacheableFilter<Props>>> allCacheableFilterMap,
+            Map<Object, FilterManager> derivedManagerMap
     ) {
         this.aopProxyProvider = aopProxyProvider;
         this.provider = provider;
@@ -90,6 +113,7 @@ public class FilterManager implements Filters {
         this.disabledFilters = disabledFilters;
         this.filterMap = filterMap;
         this.allCacheableFilterMap = allCacheableFilterMap;
+        this.derivedManagerMap = derivedManagerMap;
     }
 
     @Override
@@ -176,25 +200,11 @@ public class FilterManager implements Filters {
         if (newProvider == provider) {
             return this;
         }
-        return new FilterManager(
-                aopProxyProvider,
-                newProvider,
-                allFilters,
-                disabledFilters,
-                filterMap,
-                allCacheableFilterMap
-        );
+        return derive(newProvider, disabledFilters);
     }
 
     public FilterManager setBehavior(ImmutableType type, LogicalDeletedBehavior behavior) {
-        return new FilterManager(
-                aopProxyProvider,
-                provider.toBehavior(type, behavior),
-                allFilters,
-                disabledFilters,
-                filterMap,
-                allCacheableFilterMap
-        );
+        return derive(provider.toBehavior(type, behavior), disabledFilters);
     }
 
     public FilterManager setBehavior(Class<?> type, LogicalDeletedBehavior behavior) {
@@ -202,14 +212,7 @@ public class FilterManager implements Filters {
     }
 
     public FilterManager setBehavior(ImmutableProp prop, LogicalDeletedBehavior behavior) {
-        return new FilterManager(
-                aopProxyProvider,
-                provider.toBehavior(prop, behavior),
-                allFilters,
-                disabledFilters,
-                filterMap,
-                allCacheableFilterMap
-        );
+        return derive(provider.toBehavior(prop, behavior), disabledFilters);
     }
 
     public FilterManager setBehavior(TypedProp.Association<?, ?> prop, LogicalDeletedBehavior behavior) {
@@ -227,14 +230,7 @@ public class FilterManager implements Filters {
         if (disabledSet.size() == disabledFilters.size()) {
             return this;
         }
-        return new FilterManager(
-                aopProxyProvider,
-                provider,
-                allFilters,
-                disabledSet,
-                filterMap(allFilters, disabledSet),
-                allCacheableFilterMap
-        );
+        return derive(provider, disabledSet);
     }
 
     public FilterManager disable(Collection<Filter<?>> filters) {
@@ -245,14 +241,7 @@ public class FilterManager implements Filters {
         if (disabledSet.size() == disabledFilters.size()) {
             return this;
         }
-        return new FilterManager(
-                aopProxyProvider,
-                provider,
-                allFilters,
-                disabledSet,
-                filterMap(allFilters, disabledSet),
-                allCacheableFilterMap
-        );
+        return derive(provider, disabledSet);
     }
 
     public FilterManager enableByTypes(Collection<Class<?>> filterTypes) {
@@ -305,6 +294,34 @@ public class FilterManager implements Filters {
         return disable(allFilters);
     }
 
+    private FilterManager derive(LogicalDeletedFilterProvider provider, Set<Filter<?>> disabledFilters) {
+        Object key = Arrays.asList(provider, disabledFilters);
+        FilterManager derivedManager;
+        synchronized (derivedManagerMap) {
+            derivedManager = derivedManagerMap.get(key);
+        }
+        if (derivedManager == null) {
+            derivedManager = new FilterManager(
+                    aopProxyProvider,
+                    provider,
+                    allFilters,
+                    disabledFilters,
+                    disabledFilters.equals(this.disabledFilters) ?
+                            filterMap :
+                            filterMap(allFilters, disabledFilters),
+                    allCacheableFilterMap,
+                    derivedManagerMap
+            );
+            synchronized (derivedManagerMap) {
+                FilterManager existingManager = derivedManagerMap.putIfAbsent(key, derivedManager);
+                if (existingManager != null) {
+                    derivedManager = existingManager;
+                }
+            }
+        }
+        return derivedManager;
+    }
+
     public void initialize(JSqlClientImplementor sqlClient) {
         if (this.sqlClient != null) {
             throw new IllegalStateException("The filter manager has been initialized");
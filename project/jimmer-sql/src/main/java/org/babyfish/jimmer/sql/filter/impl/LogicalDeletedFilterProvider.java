@@ -17,6 +17,7 @@ import org.babyfish.jimmer.sql.runtime.LogicalDeletedBehavior;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.SortedMap;
 
 public class LogicalDeletedFilterProvider {
@@ -141,6 +142,30 @@ public class LogicalDeletedFilterProvider {
         return propBehaviorMap.getOrDefault(prop, defaultBehavior);
     }
 
+    @Override
+    public int hashCode() {
+        int hash = Objects.hashCode(defaultBehavior);
+        hash = hash * 31 + typeBehaviorMap.hashCode();
+        hash = hash * 31 + propBehaviorMap.hashCode();
+        hash = hash * 31 + Objects.hashCode(microServiceName);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        LogicalDeletedFilterProvider other = (LogicalDeletedFilterProvider) o;
+        return defaultBehavior == other.defaultBehavior &&
+                typeBehaviorMap.equals(other.typeBehaviorMap) &&
+                propBehaviorMap.equals(other.propBehaviorMap) &&
+                Objects.equals(microServiceName, other.microServiceName);
+    }
+
     private Filter<Props> createTypeProvider(ImmutableType type) {
         LogicalDeletedInfo info = type.getLogicalDeletedInfo();
         if (info == null) {
@@ -6,23 +6,28 @@ import org.babyfish.jimmer.meta.*;
 import org.babyfish.jimmer.runtime.DraftSpi;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.runtime.Internal;
+import org.babyfish.jimmer.sql.AsyncTransientResolver;
 import org.babyfish.jimmer.sql.TransientResolver;
 import org.babyfish.jimmer.sql.TypedTransientResolver;
 import org.babyfish.jimmer.sql.association.meta.AssociationType;
 import org.babyfish.jimmer.sql.ast.Expression;
 import org.babyfish.jimmer.sql.ast.Selection;
+import org.babyfish.jimmer.sql.ast.impl.AstContext;
 import org.babyfish.jimmer.sql.ast.impl.EntitiesImpl;
 import org.babyfish.jimmer.sql.ast.impl.query.AbstractMutableQueryImpl;
 import org.babyfish.jimmer.sql.ast.impl.query.FilterLevel;
 import org.babyfish.jimmer.sql.ast.impl.query.MergedTypedRootQueryImpl;
 import org.babyfish.jimmer.sql.ast.impl.query.Queries;
+import org.babyfish.jimmer.sql.ast.impl.render.AbstractSqlBuilder;
 import org.babyfish.jimmer.sql.ast.impl.table.FetcherSelectionImpl;
 import org.babyfish.jimmer.sql.ast.impl.table.TableImplementor;
+import org.babyfish.jimmer.sql.ast.impl.value.ValueGetter;
 import org.babyfish.jimmer.sql.ast.query.*;
 import org.babyfish.jimmer.sql.ast.table.Props;
 import org.babyfish.jimmer.sql.ast.table.Table;
 import org.babyfish.jimmer.sql.ast.table.spi.TableProxy;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
 import org.babyfish.jimmer.sql.cache.Cache;
 import org.babyfish.jimmer.sql.cache.CacheAbandonedCallback;
 import org.babyfish.jimmer.sql.cache.CacheEnvironment;
@@ -34,12 +39,15 @@ import org.babyfish.jimmer.sql.fetcher.impl.*;
 import org.babyfish.jimmer.sql.filter.CacheableFilter;
 import org.babyfish.jimmer.sql.filter.Filter;
 import org.babyfish.jimmer.sql.meta.ColumnDefinition;
+import org.babyfish.jimmer.sql.meta.MetadataStrategy;
+import org.babyfish.jimmer.sql.meta.SingleColumn;
 import org.babyfish.jimmer.sql.meta.Storage;
-import org.babyfish.jimmer.sql.runtime.ExecutionPurpose;
-import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
+import org.babyfish.jimmer.sql.runtime.*;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -209,6 +217,172 @@ public abstract class AbstractDataLoader {
         return (Map<ImmutableSpi, Object>)(Map<?, ?>) loadTargetMap(sources);
     }
 
+    /**
+     * Can the subtree of this self-referencing one-to-many association
+     * be loaded by {@link #loadSubTree(Collection, int)}
+     */
+    public boolean isSubTreeLoadable() {
+        if (resolver != null || remote || limit != Integer.MAX_VALUE || offset != 0) {
+            return false;
+        }
+        if (!sqlClient.getDialect().isRecursiveCteSupported()) {
+            return false;
+        }
+        if (!prop.isReferenceList(TargetLevel.PERSISTENT) || prop.getTargetType() != prop.getDeclaringType()) {
+            return false;
+        }
+        ImmutableProp mappedBy = prop.getMappedBy();
+        MetadataStrategy strategy = sqlClient.getMetadataStrategy();
+        if (mappedBy == null ||
+                !(mappedBy.getStorage(strategy) instanceof SingleColumn) ||
+                !(targetIdProp.getStorage(strategy) instanceof SingleColumn)) {
+            return false;
+        }
+        return sqlClient.getCaches().getPropertyCache(prop) == null;
+    }
+
+    /**
+     * Load the whole subtree of the sources by one recursive CTE query which only selects ids,
+     * and then load the nodes by the fetcher without the recursive property.
+     *
+     * <p>Global filters, field filter and default order are applied to the nodes,
+     * the descendants of the filtered nodes cannot be reached from the result map,
+     * so the result is same with level-by-level loading.</p>
+     *
+     * @param depth The level count of the subtree, {@link Integer#MAX_VALUE} means unlimited
+     * @return The multi-map whose key is parent id and value is the ordered child nodes
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Object, List<ImmutableSpi>> loadSubTree(Collection<ImmutableSpi> sources, int depth) {
+        if (!isSubTreeLoadable()) {
+            throw new IllegalStateException(
+                    "The subtree of \"" +
+                            prop +
+                            "\" cannot be loaded by recursive CTE"
+            );
+        }
+        if (sources.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Object, Object> parentIdMap = querySubTreeParentIdMap(toSourceIds(sources), depth);
+        if (parentIdMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<ImmutableSpi> nodes = queryTargets(
+                parentIdMap.keySet(),
+                (FetcherImplementor<ImmutableSpi>) fetcher.remove(prop.getName())
+        );
+        Map<Object, List<ImmutableSpi>> childMap = new LinkedHashMap<>((parentIdMap.size() * 4 + 2) / 3);
+        for (ImmutableSpi node : nodes) {
+            Object parentId = parentIdMap.get(toTargetId(node));
+            childMap.computeIfAbsent(parentId, it -> new ArrayList<>()).add(node);
+        }
+        return childMap;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> querySubTreeParentIdMap(Collection<Object> sourceIds, int depth) {
+        MetadataStrategy strategy = sqlClient.getMetadataStrategy();
+        String tableName = prop.getTargetType().getTableName(strategy);
+        String idColumnName = ((SingleColumn) targetIdProp.getStorage(strategy)).getName();
+        String fkColumnName = ((SingleColumn) prop.getMappedBy().getStorage(strategy)).getName();
+        ValueGetter sourceIdGetter = ValueGetter.valueGetters(sqlClient, sourceIdProp).get(0);
+        SqlBuilder builder = new SqlBuilder(new AstContext(sqlClient));
+        builder.sql("with ");
+        if (sqlClient.getDialect().isRecursiveCteKeywordRequired()) {
+            builder.sql("recursive ");
+        }
+        builder
+                .sql("tb_1_(c1, c2, c3) as (")
+                .sql("select tb_2_.").sql(idColumnName)
+                .sql(", tb_2_.").sql(fkColumnName)
+                .sql(", 1 from ").sql(tableName).sql(" tb_2_")
+                .sql(" where tb_2_.").sql(fkColumnName);
+        if (sourceIds.size() == 1) {
+            builder.sql(" = ").variable(sourceIdGetter.get(CollectionUtils.first(sourceIds)));
+        } else {
+            builder.sql(" in ").enter(AbstractSqlBuilder.ScopeType.LIST);
+            for (Object sourceId : sourceIds) {
+                builder.separator().variable(sourceIdGetter.get(sourceId));
+            }
+            builder.leave();
+        }
+        builder
+                .sql(" union all ")
+                .sql("select tb_3_.").sql(idColumnName)
+                .sql(", tb_3_.").sql(fkColumnName)
+                .sql(", tb_1_.c3 + 1 from ").sql(tableName).sql(" tb_3_")
+                .sql(" inner join tb_1_ on tb_3_.").sql(fkColumnName).sql(" = tb_1_.c1");
+        if (depth != Integer.MAX_VALUE) {
+            builder.sql(" where tb_1_.c3 < ").variable(depth);
+        }
+        builder.sql(") select tb_1_.c1, tb_1_.c2 from tb_1_");
+        Tuple3<String, List<Object>, List<Integer>> tuple = builder.build();
+        Reader<Object> idReader = (Reader<Object>) sqlClient.getReader(targetIdProp);
+        return sqlClient.getExecutor().execute(
+                new Executor.Args<>(
+                        sqlClient,
+                        con,
+                        tuple.get_1(),
+                        tuple.get_2(),
+                        tuple.get_3(),
+                        ExecutionPurpose.LOAD,
+                        null,
+                        null,
+                        (stmt, args) -> {
+                            Reader.Context ctx = new Reader.Context(null, sqlClient);
+                            Map<Object, Object> parentIdMap = new LinkedHashMap<>();
+                            try (ResultSet rs = stmt.executeQuery()) {
+                                while (rs.next()) {
+                                    ctx.resetCol();
+                                    Object id = idReader.read(rs, ctx);
+                                    Object parentId = idReader.read(rs, ctx);
+                                    parentIdMap.put(id, parentId);
+                                }
+                            }
+                            return parentIdMap;
+                        }
+                )
+        );
+    }
+
+    /**
+     * Whether {@link #loadAsync(Collection)} can be used, that means the property
+     * is resolved by {@link AsyncTransientResolver} and its property cache is not enabled.
+     */
+    public boolean isAsyncLoadable() {
+        return resolver instanceof AsyncTransientResolver<?, ?> &&
+                sqlClient.getCaches().getPropertyCache(prop) == null;
+    }
+
+    /**
+     * Launch the asynchronous transient resolver,
+     * the result must be handled by {@link #awaitAsync(Collection, CompletableFuture)}
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Map<Object, Object>> loadAsync(Collection<ImmutableSpi> sources) {
+        return ((AsyncTransientResolver<Object, Object>) resolver).resolveAsync(toSourceIds(sources));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<ImmutableSpi, Object> awaitAsync(
+            Collection<ImmutableSpi> sources,
+            CompletableFuture<Map<Object, Object>> future
+    ) {
+        AsyncTransientResolver<Object, Object> resolver =
+                (AsyncTransientResolver<Object, Object>) this.resolver;
+        Map<Object, Object> valueMap = withDefaultValue(
+                resolver,
+                toSourceIds(sources),
+                resolver.await(future)
+        );
+        return Utils.joinCollectionAndMap(
+                sources,
+                this::toSourceId,
+                fetchResolvedMap(valueMap)
+        );
+    }
+
     @SuppressWarnings("unchecked")
     private Map<ImmutableSpi, Object> loadTransients(Collection<ImmutableSpi> sources) {
 
@@ -652,8 +826,15 @@ public abstract class AbstractDataLoader {
         return executeTupleQuery(sourceIds, target -> new FetcherSelectionImpl<>(target, path, fetcher));
     }
 
-    @SuppressWarnings("unchecked")
     private List<ImmutableSpi> queryTargets(Collection<Object> targetIds) {
+        return queryTargets(targetIds, fetcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ImmutableSpi> queryTargets(
+            Collection<Object> targetIds,
+            FetcherImplementor<ImmutableSpi> fetcher
+    ) {
         return Queries.createQuery(sqlClient, prop.getTargetType(), ExecutionPurpose.LOAD, FilterLevel.IGNORE_ALL, (q, target) -> {
             Expression<Object> idExpr = target.get(targetIdProp.getName());
             q.where(idExpr.in(targetIds));
@@ -921,7 +1102,14 @@ public abstract class AbstractDataLoader {
             }
             return resolver.resolve(ids, ctx);
         });
+        return withDefaultValue(resolver, ids, valueMap);
+    }
 
+    private Map<Object, Object> withDefaultValue(
+            TransientResolver<Object, Object> resolver,
+            Collection<Object> ids,
+            Map<Object, Object> valueMap
+    ) {
         if (valueMap.keySet().containsAll(ids)) {
             return valueMap;
         }
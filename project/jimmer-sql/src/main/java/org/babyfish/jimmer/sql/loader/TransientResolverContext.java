@@ -90,7 +90,11 @@ public class TransientResolverContext {
     }
 
     public static void pop(TransientResolverContext ctx) {
-        CONTEXT_LOCAL.set(ctx.parent);
+        if (ctx.parent != null) {
+            CONTEXT_LOCAL.set(ctx.parent);
+        } else {
+            CONTEXT_LOCAL.remove();
+        }
     }
 
     public static TransientResolverContext peek() {
@@ -2,6 +2,7 @@ package org.babyfish.jimmer.sql.loader.graphql;
 
 import org.babyfish.jimmer.lang.NewChain;
 import org.babyfish.jimmer.sql.ast.table.Table;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.FieldFilter;
 
 import java.sql.Connection;
@@ -12,6 +13,14 @@ public interface FilterableListLoader<SE, TE, TT extends Table<TE>> extends List
     @NewChain
     FilterableListLoader<SE, TE, TT> forConnection(Connection con);
 
+    @Override
+    @NewChain
+    default FilterableListLoader<SE, TE, TT> forFetcher(Fetcher<TE> fetcher) {
+        throw new UnsupportedOperationException(
+                "\"" + getClass().getName() + "\" does not support `forFetcher`"
+        );
+    }
+
     @NewChain
     FilterableListLoader<SE, TE, TT> forFilter(FieldFilter<TT> filter);
 }
@@ -2,6 +2,7 @@ package org.babyfish.jimmer.sql.loader.graphql;
 
 import org.babyfish.jimmer.lang.NewChain;
 import org.babyfish.jimmer.sql.ast.Executable;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 
 import java.sql.Connection;
 import java.util.Collection;
@@ -13,6 +14,20 @@ public interface ListLoader<S, T> {
     @NewChain
     ListLoader<S, T> forConnection(Connection con);
 
+    /**
+     * Specify the shape of the loaded target objects,
+     * by default, all the table fields of target objects are loaded.
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException},
+     * it is overridden by the loaders of jimmer.</p>
+     */
+    @NewChain
+    default ListLoader<S, T> forFetcher(Fetcher<T> fetcher) {
+        throw new UnsupportedOperationException(
+                "\"" + getClass().getName() + "\" does not support `forFetcher`"
+        );
+    }
+
     default List<T> load(S source) {
         return loadCommand(source).execute();
     }
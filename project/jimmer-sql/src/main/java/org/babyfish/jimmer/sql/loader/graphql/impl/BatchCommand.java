@@ -4,6 +4,7 @@ import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.sql.ast.Executable;
 import org.babyfish.jimmer.sql.ast.table.Table;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.FieldFilter;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 
@@ -25,6 +26,8 @@ class BatchCommand<S, T> implements Executable<Map<S, T>> {
 
     private final Collection<ImmutableSpi> sources;
 
+    private final Fetcher<?> fetcher;
+
     private final T defaultValue;
 
     public BatchCommand(
@@ -33,6 +36,7 @@ class BatchCommand<S, T> implements Executable<Map<S, T>> {
             ImmutableProp prop,
             FieldFilter<Table<ImmutableSpi>> filter,
             Collection<ImmutableSpi> sources,
+            Fetcher<?> fetcher,
             T defaultValue
     ) {
         this.sqlClient = sqlClient;
@@ -40,6 +44,7 @@ class BatchCommand<S, T> implements Executable<Map<S, T>> {
         this.prop = prop;
         this.filter = filter;
         this.sources = sources;
+        this.fetcher = fetcher;
         this.defaultValue = defaultValue;
     }
 
@@ -56,7 +61,11 @@ class BatchCommand<S, T> implements Executable<Map<S, T>> {
                 sqlClient,
                 con,
                 prop,
-                filter
+                filter,
+                fetcher,
+                Integer.MAX_VALUE,
+                0,
+                false
         ).load(sources);
         if (defaultValue == null || resultMap.size() == sources.size()) {
             return resultMap;
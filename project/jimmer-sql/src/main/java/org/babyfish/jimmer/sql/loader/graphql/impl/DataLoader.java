@@ -16,28 +16,12 @@ import java.sql.Connection;
 
 class DataLoader extends AbstractDataLoader {
 
-    public DataLoader(
-            JSqlClientImplementor sqlClient,
-            Connection con,
-            ImmutableProp prop,
-            FieldFilter<?> filter
-    ) {
-        this(
-                sqlClient,
-                con,
-                prop,
-                filter,
-                Integer.MAX_VALUE,
-                0,
-                false
-        );
-    }
-
     public DataLoader(
             JSqlClientImplementor sqlClient,
             Connection con,
             ImmutableProp prop,
             FieldFilter<?> filter,
+            Fetcher<?> fetcher,
             int limit,
             int offset,
             boolean rawValue
@@ -49,7 +33,7 @@ class DataLoader extends AbstractDataLoader {
                 null,
                 prop,
                 prop.isAssociation(TargetLevel.ENTITY) ?
-                        targetFetcher(prop.getTargetType()) :
+                        fetcher != null ? fetcher : targetFetcher(prop.getTargetType()) :
                         null,
                 null,
                 filter,
@@ -5,6 +5,7 @@ import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.sql.loader.graphql.FilterableListLoader;
 import org.babyfish.jimmer.sql.ast.Executable;
 import org.babyfish.jimmer.sql.ast.table.Table;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.FieldFilter;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 import org.jetbrains.annotations.NotNull;
@@ -25,20 +26,24 @@ class ListLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableListLoad
 
     private final FieldFilter<?> filter;
 
+    private final Fetcher<?> fetcher;
+
     public ListLoaderImpl(JSqlClientImplementor sqlClient, ImmutableProp prop) {
-        this(sqlClient, null, prop, null);
+        this(sqlClient, null, prop, null, null);
     }
 
     private ListLoaderImpl(
             JSqlClientImplementor sqlClient,
             Connection con,
             ImmutableProp prop,
-            FieldFilter<?> filter
+            FieldFilter<?> filter,
+            Fetcher<?> fetcher
     ) {
         this.sqlClient = sqlClient;
         this.con = con;
         this.prop = prop;
         this.filter = filter;
+        this.fetcher = fetcher;
     }
 
     @Override
@@ -46,7 +51,15 @@ class ListLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableListLoad
         if (this.con == con) {
             return this;
         }
-        return new ListLoaderImpl<>(sqlClient, con, prop, filter);
+        return new ListLoaderImpl<>(sqlClient, con, prop, filter, fetcher);
+    }
+
+    @Override
+    public FilterableListLoader<SE, TE, TT> forFetcher(Fetcher<TE> fetcher) {
+        if (this.fetcher == fetcher) {
+            return this;
+        }
+        return new ListLoaderImpl<>(sqlClient, con, prop, filter, fetcher);
     }
 
     @Override
@@ -54,7 +67,7 @@ class ListLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableListLoad
         if (this.filter == filter) {
             return this;
         }
-        return new ListLoaderImpl<>(sqlClient, con, prop, filter);
+        return new ListLoaderImpl<>(sqlClient, con, prop, filter, fetcher);
     }
 
     @NotNull
@@ -74,6 +87,7 @@ class ListLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableListLoad
                 limit,
                 offset,
                 (ImmutableSpi) source,
+                fetcher,
                 Collections.emptyList()
         );
     }
@@ -88,6 +102,7 @@ class ListLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableListLoad
                 prop,
                 (FieldFilter<Table<ImmutableSpi>>) filter,
                 (Collection<ImmutableSpi>) sources,
+                fetcher,
                 Collections.emptyList()
         );
     }
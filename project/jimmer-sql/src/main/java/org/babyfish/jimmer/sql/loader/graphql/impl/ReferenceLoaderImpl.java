@@ -5,6 +5,7 @@ import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.sql.loader.graphql.FilterableReferenceLoader;
 import org.babyfish.jimmer.sql.ast.Executable;
 import org.babyfish.jimmer.sql.ast.table.Table;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.FieldFilter;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 
@@ -22,23 +23,27 @@ class ReferenceLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableRef
 
     private final FieldFilter<?> filter;
 
+    private final Fetcher<?> fetcher;
+
     public ReferenceLoaderImpl(
             JSqlClientImplementor sqlClient,
             ImmutableProp prop
     ) {
-        this(sqlClient, null, prop, null);
+        this(sqlClient, null, prop, null, null);
     }
 
     public ReferenceLoaderImpl(
             JSqlClientImplementor sqlClient,
             Connection con,
             ImmutableProp prop,
-            FieldFilter<?> filter
+            FieldFilter<?> filter,
+            Fetcher<?> fetcher
     ) {
         this.sqlClient = sqlClient;
         this.con = con;
         this.prop = prop;
         this.filter = filter;
+        this.fetcher = fetcher;
     }
 
     @Override
@@ -46,7 +51,15 @@ class ReferenceLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableRef
         if (this.con == con) {
             return this;
         }
-        return new ReferenceLoaderImpl<>(sqlClient, con, prop, filter);
+        return new ReferenceLoaderImpl<>(sqlClient, con, prop, filter, fetcher);
+    }
+
+    @Override
+    public FilterableReferenceLoader<SE, TE, TT> forFetcher(Fetcher<TE> fetcher) {
+        if (this.fetcher == fetcher) {
+            return this;
+        }
+        return new ReferenceLoaderImpl<>(sqlClient, con, prop, filter, fetcher);
     }
 
     @Override
@@ -60,7 +73,7 @@ class ReferenceLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableRef
                             "non-null association does not accept filter"
             );
         }
-        return new ReferenceLoaderImpl<>(sqlClient, con, prop, filter);
+        return new ReferenceLoaderImpl<>(sqlClient, con, prop, filter, fetcher);
     }
 
     @Override
@@ -79,6 +92,7 @@ class ReferenceLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableRef
                 Integer.MAX_VALUE,
                 0,
                 (ImmutableSpi) source,
+                fetcher,
                 null
         );
     }
@@ -92,6 +106,7 @@ class ReferenceLoaderImpl<SE, TE, TT extends Table<TE>> implements FilterableRef
                 prop,
                 (FieldFilter<Table<ImmutableSpi>>) filter,
                 (Collection<ImmutableSpi>) sources,
+                fetcher,
                 null
         );
     }
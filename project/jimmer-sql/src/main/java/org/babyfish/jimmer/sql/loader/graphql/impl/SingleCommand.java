@@ -4,6 +4,7 @@ import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.sql.ast.Executable;
 import org.babyfish.jimmer.sql.ast.table.Table;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.FieldFilter;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 
@@ -26,6 +27,8 @@ class SingleCommand<T> implements Executable<T> {
 
     private final ImmutableSpi source;
 
+    private final Fetcher<?> fetcher;
+
     private final T defaultValue;
 
     public SingleCommand(
@@ -36,6 +39,7 @@ class SingleCommand<T> implements Executable<T> {
             int limit,
             int offset,
             ImmutableSpi source,
+            Fetcher<?> fetcher,
             T defaultValue
     ) {
         this.sqlClient = sqlClient;
@@ -45,6 +49,7 @@ class SingleCommand<T> implements Executable<T> {
         this.limit = limit;
         this.offset = offset;
         this.source = source;
+        this.fetcher = fetcher;
         this.defaultValue = defaultValue;
     }
 
@@ -62,6 +67,7 @@ class SingleCommand<T> implements Executable<T> {
                 con,
                 prop,
                 filter,
+                fetcher,
                 limit,
                 offset,
                 false
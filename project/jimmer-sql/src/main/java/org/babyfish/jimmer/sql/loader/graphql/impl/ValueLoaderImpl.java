@@ -59,6 +59,7 @@ class ValueLoaderImpl<S, V> implements ValueLoader<S, V> {
                 Integer.MAX_VALUE,
                 0,
                 (ImmutableSpi) source,
+                null,
                 null
         );
     }
@@ -72,6 +73,7 @@ class ValueLoaderImpl<S, V> implements ValueLoader<S, V> {
                 prop,
                 null,
                 (Collection<ImmutableSpi>) sources,
+                null,
                 null
         );
     }
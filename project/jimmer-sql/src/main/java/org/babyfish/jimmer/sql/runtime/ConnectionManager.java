@@ -7,6 +7,7 @@ import org.jetbrains.annotations.Nullable;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 
 @FunctionalInterface
@@ -67,6 +68,50 @@ public interface ConnectionManager {
         };
     }
 
+    /**
+     * Create a connection manager which allows at most
+     * `maxConnectionCount` connections to be opened at the same time.
+     *
+     * <p>When tens of thousands of virtual threads are used,
+     * the concurrency is no longer limited by the thread pool,
+     * this manager makes the extra threads wait without
+     * pinning their carrier threads, rather than exhausting
+     * the data source.</p>
+     */
+    static TxConnectionManager simpleConnectionManager(DataSource dataSource, int maxConnectionCount) {
+        if (maxConnectionCount < 1) {
+            throw new IllegalArgumentException("maxConnectionCount must be positive");
+        }
+        Semaphore semaphore = new Semaphore(maxConnectionCount, true);
+        return new AbstractTxConnectionManager() {
+
+            @Override
+            protected Connection openConnection() throws SQLException {
+                try {
+                    semaphore.acquire();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted when waiting for JDBC connection", ex);
+                }
+                try {
+                    return dataSource.getConnection();
+                } catch (SQLException | RuntimeException | Error ex) {
+                    semaphore.release();
+                    throw ex;
+                }
+            }
+
+            @Override
+            protected void closeConnection(Connection con) throws SQLException {
+                try {
+                    con.close();
+                } finally {
+                    semaphore.release();
+                }
+            }
+        };
+    }
+
     interface ConnectionScope extends AutoCloseable {
 
         Connection connection();
@@ -108,6 +108,15 @@ public interface Executor {
         return ExecutorForLog.wrap(executor, logger, level);
     }
 
+    /**
+     * Log the SQL execution result with the specified level and options,
+     * such as asynchronous logging, rate limiting and slow-only logging,
+     * please view {@link SqlLogOptions}
+     */
+    static Executor log(Executor executor, Logger logger, Level level, SqlLogOptions options) {
+        return ExecutorForLog.wrap(executor, logger, level, options);
+    }
+
 
     static void validateMutationConnection(Connection con) {
         try {
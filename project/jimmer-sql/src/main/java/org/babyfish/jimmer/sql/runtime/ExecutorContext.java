@@ -4,27 +4,36 @@ import org.babyfish.jimmer.sql.JSqlClient;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class ExecutorContext {
 
+    private static final int MAX_CLASS_NAME_COUNT = 4096;
+
     private final StackTraceElement primaryElement;
 
     private final List<StackTraceElement> matchedElements;
 
-    private final List<StackTraceElement> elements;
+    private List<StackTraceElement> elements;
+
+    private final List<?> frames;
 
     private ExecutorContext(
             StackTraceElement primaryElement,
             List<StackTraceElement> matchedElements,
-            List<StackTraceElement> elements
+            List<StackTraceElement> elements,
+            List<?> frames
     ) {
         this.primaryElement = primaryElement;
         this.matchedElements = matchedElements;
         this.elements = elements;
+        this.frames = frames;
     }
 
     @NotNull
@@ -32,8 +41,24 @@ public class ExecutorContext {
         return primaryElement;
     }
 
+    /**
+     * Get all the call frames.
+     *
+     * <p>If the stack walker of java9+ is available, only the matched frames
+     * are converted to stack trace elements when this context is created,
+     * the others are converted when this method is called for the first time.</p>
+     */
     @NotNull
     public List<StackTraceElement> getElements() {
+        List<StackTraceElement> elements = this.elements;
+        if (elements == null) {
+            List<?> frames = this.frames;
+            List<StackTraceElement> list = new ArrayList<>(frames.size());
+            for (Object frame : frames) {
+                list.add(StackWalking.toElement(frame));
+            }
+            this.elements = elements = Collections.unmodifiableList(list);
+        }
         return elements;
     }
 
@@ -44,20 +69,26 @@ public class ExecutorContext {
 
     @Nullable
     public static ExecutorContext create(JSqlClient sqlClient) {
-        List<String> prefixes = ((JSqlClientImplementor)sqlClient).getExecutorContextPrefixes();
+        JSqlClientImplementor sqlClientImplementor = (JSqlClientImplementor) sqlClient;
+        List<String> prefixes = sqlClientImplementor.getExecutorContextPrefixes();
         if (prefixes == null) {
             return null;
         }
+        double samplingRate = sqlClientImplementor.getExecutorContextSamplingRate();
+        if (samplingRate < 1 && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return null;
+        }
+        Map<String, Boolean> matchedClassNameMap =
+                sqlClientImplementor.getExecutorContextMatchedClassNameMap();
+        if (StackWalking.isAvailable()) {
+            return StackWalking.create(prefixes, matchedClassNameMap);
+        }
         StackTraceElement[] elements = Thread.currentThread().getStackTrace();
         List<StackTraceElement> matchedElements = new ArrayList<>();
         for (StackTraceElement element : elements) {
-            if (element.getLineNumber() >= 0) {
-                for (String prefix : prefixes) {
-                    if (element.getClassName().startsWith(prefix)) {
-                        matchedElements.add(element);
-                        break;
-                    }
-                }
+            if (element.getLineNumber() >= 0 &&
+                    isMatched(element.getClassName(), prefixes, matchedClassNameMap)) {
+                matchedElements.add(element);
             }
         }
         if (matchedElements.isEmpty()) {
@@ -68,7 +99,140 @@ public class ExecutorContext {
                 Collections.unmodifiableList(matchedElements),
                 Collections.unmodifiableList(
                         Arrays.asList(elements)
-                )
+                ),
+                null
         );
     }
+
+    private static boolean isMatched(
+            String className,
+            List<String> prefixes,
+            Map<String, Boolean> matchedClassNameMap
+    ) {
+        Boolean matched = matchedClassNameMap.get(className);
+        if (matched == null) {
+            matched = false;
+            for (String prefix : prefixes) {
+                if (className.startsWith(prefix)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (matchedClassNameMap.size() < MAX_CLASS_NAME_COUNT) {
+                matchedClassNameMap.put(className, matched);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Uses `java.lang.StackWalker` by method handles when the runtime is java9+,
+     * because this module is compiled for java8.
+     */
+    private static class StackWalking {
+
+        private static final Object WALKER;
+
+        private static final MethodHandle WALK;
+
+        private static final MethodHandle GET_CLASS_NAME;
+
+        private static final MethodHandle TO_STACK_TRACE_ELEMENT;
+
+        static {
+            Object walker = null;
+            MethodHandle walk = null;
+            MethodHandle getClassName = null;
+            MethodHandle toStackTraceElement = null;
+            try {
+                Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+                Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+                // `StackWalker.walk` is caller sensitive, so `publicLookup()` cannot be used
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                walker = lookup
+                        .findStatic(walkerClass, "getInstance", MethodType.methodType(walkerClass))
+                        .invoke();
+                walk = lookup
+                        .findVirtual(walkerClass, "walk", MethodType.methodType(Object.class, Function.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Function.class));
+                getClassName = lookup
+                        .findVirtual(frameClass, "getClassName", MethodType.methodType(String.class))
+                        .asType(MethodType.methodType(String.class, Object.class));
+                toStackTraceElement = lookup
+                        .findVirtual(frameClass, "toStackTraceElement", MethodType.methodType(StackTraceElement.class))
+                        .asType(MethodType.methodType(StackTraceElement.class, Object.class));
+            } catch (Throwable ex) {
+                // Java 8, use `Thread.getStackTrace()`
+                walker = null;
+            }
+            WALKER = walker;
+            WALK = walk;
+            GET_CLASS_NAME = getClassName;
+            TO_STACK_TRACE_ELEMENT = toStackTraceElement;
+        }
+
+        static boolean isAvailable() {
+            return WALKER != null;
+        }
+
+        static ExecutorContext create(
+                List<String> prefixes,
+                Map<String, Boolean> matchedClassNameMap
+        ) {
+            Function<Stream<Object>, Object> block = stream -> {
+                List<Object> frames = new ArrayList<>();
+                List<StackTraceElement> matchedElements = null;
+                Iterator<Object> itr = stream.iterator();
+                while (itr.hasNext()) {
+                    Object frame = itr.next();
+                    frames.add(frame);
+                    if (isMatched(className(frame), prefixes, matchedClassNameMap)) {
+                        StackTraceElement element = toElement(frame);
+                        if (element.getLineNumber() >= 0) {
+                            if (matchedElements == null) {
+                                matchedElements = new ArrayList<>();
+                            }
+                            matchedElements.add(element);
+                        }
+                    }
+                }
+                if (matchedElements == null) {
+                    return null;
+                }
+                return new ExecutorContext(
+                        matchedElements.get(0),
+                        Collections.unmodifiableList(matchedElements),
+                        null,
+                        frames
+                );
+            };
+            try {
+                return (ExecutorContext) (Object) WALK.invokeExact(WALKER, (Function<?, ?>) block);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new AssertionError("Internal bug: cannot walk the stack", ex);
+            }
+        }
+
+        static String className(Object frame) {
+            try {
+                return (String) GET_CLASS_NAME.invokeExact(frame);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new AssertionError("Internal bug: cannot get class name of stack frame", ex);
+            }
+        }
+
+        static StackTraceElement toElement(Object frame) {
+            try {
+                return (StackTraceElement) TO_STACK_TRACE_ELEMENT.invokeExact(frame);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new AssertionError("Internal bug: cannot convert stack frame", ex);
+            }
+        }
+    }
 }
@@ -12,6 +12,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 
+/**
+ * The executor which logs SQL statements.
+ *
+ * <p>By default, SQL is formatted and logged by the executing thread.
+ * In production, {@link SqlLogOptions} can be used to log asynchronously,
+ * rate-limit each SQL, only log slow statements and truncate huge batches.</p>
+ */
+
 public class ExecutorForLog extends AbstractExecutorProxy {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorForLog.class);
@@ -24,28 +32,46 @@ public class ExecutorForLog extends AbstractExecutorProxy {
 
     protected final Level level;
 
+    private final SqlLogPipeline pipeline;
+
     public static Executor wrap(Executor raw, Logger logger) {
         return wrap(raw, logger, Level.INFO);
     }
 
     public static Executor wrap(Executor raw, Logger logger, Level level) {
+        return wrap(raw, logger, level, SqlLogOptions.DEFAULT);
+    }
+
+    public static Executor wrap(Executor raw, Logger logger, Level level, SqlLogOptions options) {
         return applier(
                 ExecutorForLog.class,
                 p -> p.logger == logger,
-                r -> new ExecutorForLog(r, logger, level)
+                r -> new ExecutorForLog(r, logger, level, options)
         ).applyTo(raw);
     }
 
     protected ExecutorForLog(Executor raw, Logger logger) {
-        super(raw);
-        this.logger = logger != null ? logger : LOGGER;
-        this.level = Level.INFO;
+        this(raw, logger, Level.INFO);
     }
 
     protected ExecutorForLog(Executor raw, Logger logger, Level level) {
+        this(raw, logger, level, SqlLogOptions.DEFAULT);
+    }
+
+    protected ExecutorForLog(Executor raw, Logger logger, Level level, SqlLogOptions options) {
+        this(
+                raw,
+                logger,
+                level,
+                new SqlLogPipeline(options != null ? options : SqlLogOptions.DEFAULT)
+        );
+    }
+
+    private ExecutorForLog(Executor raw, Logger logger, Level level, SqlLogPipeline pipeline) {
         super(raw);
         this.logger = logger != null ? logger : LOGGER;
         this.level = level != null ? level : Level.INFO;
+        this.pipeline = pipeline;
     }
 
 
@@ -53,6 +79,10 @@ public class ExecutorForLog extends AbstractExecutorProxy {
         return logger;
     }
 
+    public SqlLogOptions getOptions() {
+        return pipeline.options;
+    }
+
     @Override
     public <R> R execute(@NotNull Args<R> args) {
         if (!logger.isEnabledForLevel(level)) {
@@ -84,73 +114,89 @@ public class ExecutorForLog extends AbstractExecutorProxy {
             JSqlClientImplementor sqlClient
     ) {
         super.openCursor(cursorId, sql, variables, variablePositions, purpose, ctx, sqlClient);
-        if (!logger.isEnabledForLevel(level)) {
+        if (!logger.isEnabledForLevel(level) || pipeline.isSlowOnly()) {
             return;
         }
-        StringBuilder builder = new StringBuilder();
-        builder.append("Open cursor(").append(cursorId).append(')').append(REQUEST).append('\n');
-        appendPrettyRequest(
-                builder,
-                sql,
-                variables,
-                variablePositions,
-                purpose,
-                ctx,
-                sqlClient
-        );
-        log(builder.toString());
+        long suppressedCount = pipeline.acquire(sql);
+        if (SqlLogPipeline.isSuppressed(suppressedCount)) {
+            return;
+        }
+        pipeline.submit(() -> {
+            StringBuilder builder = new StringBuilder();
+            builder.append("Open cursor(").append(cursorId).append(')').append(REQUEST).append('\n');
+            appendPrettyRequest(
+                    builder,
+                    sql,
+                    variables,
+                    variablePositions,
+                    purpose,
+                    ctx,
+                    sqlClient
+            );
+            appendSuppressedCount(builder, suppressedCount);
+            log(builder.toString());
+        });
     }
 
     @Override
     public void closeCursor(long cursorId) {
         super.closeCursor(cursorId);
-        if (!logger.isEnabledForLevel(level)) {
+        if (!logger.isEnabledForLevel(level) || pipeline.isSlowOnly()) {
             return;
         }
-        log(RESPONSE + "Close cursor(" + cursorId + ")");
+        pipeline.submit(() -> log(RESPONSE + "Close cursor(" + cursorId + ")"));
     }
 
     @Override
     protected AbstractExecutorProxy recreate(Executor raw) {
-        return new ExecutorForLog(raw, logger, level);
+        return new ExecutorForLog(raw, logger, level, pipeline);
     }
 
     @Override
     protected Batch createBatch(BatchContext raw) {
-        return new Batch(raw, logger, level);
+        return new Batch(raw, logger, level, pipeline);
     }
 
     private <R> R simpleLog(Args<R> args) {
-        ExecutorContext ctx = args.ctx;
+        if (!pipeline.isSlowOnly()) {
+            writeSimpleLog(args, -1L);
+            return raw.execute(args);
+        }
+        R result;
+        long millis = System.currentTimeMillis();
+        try {
+            result = raw.execute(args);
+        } catch (RuntimeException | Error ex) {
+            writeSimpleLog(args, System.currentTimeMillis() - millis);
+            throw ex;
+        }
+        millis = System.currentTimeMillis() - millis;
+        if (pipeline.isSlow(millis)) {
+            writeSimpleLog(args, millis);
+        }
+        return result;
+    }
+
+    private void writeSimpleLog(Args<?> args, long millis) {
+        long suppressedCount = pipeline.acquire(args.sql);
+        if (SqlLogPipeline.isSuppressed(suppressedCount)) {
+            return;
+        }
         String sql = args.sql;
         List<Object> variables = args.variables;
-        if (ctx == null) {
-            log(
-                    "jimmer> sql: " +
-                            sql +
-                            ", variables: " +
-                            variables +
-                            ", purpose: " +
-                            args.purpose
-            );
-        } else {
-            Logger logger = LoggerFactory.getLogger(ctx.getPrimaryElement().getClassName());
-            log(
-                    "jimmer> sql: " +
-                            sql +
-                            ", variables: " +
-                            variables +
-                            ", purpose: " +
-                            args.purpose
-            );
-            for (StackTraceElement element : ctx.getMatchedElements()) {
-                log(
-                        "jimmer stacktrace-element)> {}",
-                        element
-                );
+        ExecutionPurpose purpose = args.purpose;
+        ExecutorContext ctx = args.ctx;
+        pipeline.submit(() -> {
+            log(simpleMessage(sql, variables, purpose, millis, suppressedCount));
+            if (ctx != null) {
+                for (StackTraceElement element : ctx.getMatchedElements()) {
+                    log(
+                            "jimmer stacktrace-element)> {}",
+                            element
+                    );
+                }
             }
-        }
-        return raw.execute(args);
+        });
     }
 
     private <R> R prettyLog(Args<R> args) {
@@ -163,43 +209,19 @@ public class ExecutorForLog extends AbstractExecutorProxy {
             throwable = ex;
         }
         millis = System.currentTimeMillis() - millis;
-        int affectedRowCount = -1;
-        char ch = args.sql.charAt(0);
-        if ((ch == 'i' || ch == 'u' || ch == 'd') && result instanceof Integer) {
-            affectedRowCount = (Integer) result;
+        if (throwable == null && pipeline.isSlowOnly() && !pipeline.isSlow(millis)) {
+            return result;
         }
-
-        StringBuilder builder = new StringBuilder();
-        if (args.closingCursorId == null) {
-            builder.append("Execute SQL").append(REQUEST).append('\n');
-            appendPrettyRequest(
-                    builder,
-                    args.sql,
-                    args.variables,
-                    args.variablePositions,
-                    args.purpose,
-                    args.ctx,
-                    args.sqlClient
-            );
-        }
-        appendPrettyResponse(
-                builder,
-                affectedRowCount,
-                throwable,
-                millis
-        );
-        if (args.closingCursorId != null) {
-            builder.append(RESPONSE).append("Close cursor(").append(args.closingCursorId).append(')');
-        } else {
-            Long currentCourseId = Cursors.currentCursorId();
-            if (currentCourseId != null) {
-                builder.append("CursorId: ").append(currentCourseId).append('\n');
+        long suppressedCount = pipeline.acquire(args.sql);
+        if (!SqlLogPipeline.isSuppressed(suppressedCount)) {
+            int affectedRowCount = -1;
+            char ch = args.sql.charAt(0);
+            if ((ch == 'i' || ch == 'u' || ch == 'd') && result instanceof Integer) {
+                affectedRowCount = (Integer) result;
             }
-            builder.append(RESPONSE).append("Execute SQL");
+            writePrettyLog(args, affectedRowCount, throwable, millis, suppressedCount);
         }
 
-        log(builder.toString());
-
         if (throwable instanceof RuntimeException) {
             throw (RuntimeException) throwable;
         }
@@ -209,6 +231,78 @@ public class ExecutorForLog extends AbstractExecutorProxy {
         return result;
     }
 
+    private void writePrettyLog(
+            Args<?> args,
+            int affectedRowCount,
+            Throwable throwable,
+            long millis,
+            long suppressedCount
+    ) {
+        Long closingCursorId = args.closingCursorId;
+        Long currentCourseId = closingCursorId == null ? Cursors.currentCursorId() : null;
+        pipeline.submit(() -> {
+            StringBuilder builder = new StringBuilder();
+            if (closingCursorId == null) {
+                builder.append("Execute SQL").append(REQUEST).append('\n');
+                appendPrettyRequest(
+                        builder,
+                        args.sql,
+                        args.variables,
+                        args.variablePositions,
+                        args.purpose,
+                        args.ctx,
+                        args.sqlClient
+                );
+            }
+            appendPrettyResponse(
+                    builder,
+                    affectedRowCount,
+                    throwable,
+                    millis
+            );
+            appendSuppressedCount(builder, suppressedCount);
+            if (closingCursorId != null) {
+                builder.append(RESPONSE).append("Close cursor(").append(closingCursorId).append(')');
+            } else {
+                if (currentCourseId != null) {
+                    builder.append("CursorId: ").append(currentCourseId).append('\n');
+                }
+                builder.append(RESPONSE).append("Execute SQL");
+            }
+            log(builder.toString());
+        });
+    }
+
+    private static String simpleMessage(
+            String sql,
+            Object variables,
+            ExecutionPurpose purpose,
+            long millis,
+            long suppressedCount
+    ) {
+        StringBuilder builder = new StringBuilder();
+        builder
+                .append("jimmer> sql: ")
+                .append(sql)
+                .append(", variables: ")
+                .append(variables)
+                .append(", purpose: ")
+                .append(purpose);
+        if (millis != -1L) {
+            builder.append(", time cost: ").append(millis).append("ms");
+        }
+        if (suppressedCount != 0L) {
+            builder.append(", suppressed logs of same sql: ").append(suppressedCount);
+        }
+        return builder.toString();
+    }
+
+    private static void appendSuppressedCount(StringBuilder builder, long suppressedCount) {
+        if (suppressedCount != 0L) {
+            builder.append("Suppressed logs of same SQL: ").append(suppressedCount).append('\n');
+        }
+    }
+
     private static void appendPrettyRequest(
             StringBuilder builder,
             String sql,
@@ -264,12 +358,17 @@ public class ExecutorForLog extends AbstractExecutorProxy {
 
         private final Level level;
 
-        private List<List<Object>> variableMatrix = new ArrayList<>();
+        private final SqlLogPipeline pipeline;
+
+        private final List<List<Object>> variableMatrix = new ArrayList<>();
+
+        private int omittedCount;
 
-        Batch(BatchContext raw, Logger logger, Level level) {
+        Batch(BatchContext raw, Logger logger, Level level, SqlLogPipeline pipeline) {
             super(raw);
             this.logger = logger;
             this.level = level;
+            this.pipeline = pipeline;
         }
 
         @Override
@@ -295,7 +394,11 @@ public class ExecutorForLog extends AbstractExecutorProxy {
         @Override
         public void add(List<Object> variables) {
             raw.add(variables);
-            variableMatrix.add(variables);
+            if (variableMatrix.size() < pipeline.options.getMaxBatchLogCount()) {
+                variableMatrix.add(variables);
+            } else {
+                omittedCount++;
+            }
         }
 
         @Override
@@ -334,45 +437,60 @@ public class ExecutorForLog extends AbstractExecutorProxy {
         }
 
         private int[] simpleLog(BiFunction<SQLException, ExceptionTranslator.Args, Exception> exceptionTranslator) {
+            if (!pipeline.isSlowOnly()) {
+                writeSimpleLog(-1L);
+                return raw.execute(exceptionTranslator);
+            }
+            int[] rowCounts;
+            long millis = System.currentTimeMillis();
+            try {
+                rowCounts = raw.execute(exceptionTranslator);
+            } catch (RuntimeException | Error ex) {
+                writeSimpleLog(System.currentTimeMillis() - millis);
+                throw ex;
+            }
+            millis = System.currentTimeMillis() - millis;
+            if (pipeline.isSlow(millis)) {
+                writeSimpleLog(millis);
+            }
+            return rowCounts;
+        }
+
+        private void writeSimpleLog(long millis) {
+            String sql = raw.sql();
+            long suppressedCount = pipeline.acquire(sql);
+            if (SqlLogPipeline.isSuppressed(suppressedCount)) {
+                return;
+            }
+            ExecutionPurpose purpose = raw.purpose();
             ExecutorContext ectx = raw.ctx();
-            StringBuilder builder = new StringBuilder();
-            builder.append("{");
-            int size = variableMatrix.size();
-            for (int i = 0; i < size; i++) {
-                if (i != 0) {
-                    builder.append(", ");
+            List<List<Object>> variableMatrix = this.variableMatrix;
+            int omittedCount = this.omittedCount;
+            pipeline.submit(() -> {
+                StringBuilder builder = new StringBuilder();
+                builder.append("{");
+                int size = variableMatrix.size();
+                for (int i = 0; i < size; i++) {
+                    if (i != 0) {
+                        builder.append(", ");
+                    }
+                    builder.append("batch-").append(i).append(": ");
+                    builder.append(variableMatrix.get(i));
                 }
-                builder.append("batch-").append(i).append(": ");
-                builder.append(variableMatrix.get(i));
-            }
-            builder.append("}");
-            if (ectx == null) {
-                log(
-                        "jimmer> sql: " +
-                                raw.sql() +
-                                ", variables: " +
-                                builder +
-                                ", purpose: " +
-                                raw.purpose()
-                );
-            } else {
-                Logger logger = LoggerFactory.getLogger(ectx.getPrimaryElement().getClassName());
-                log(
-                        "jimmer> sql: " +
-                                raw.sql() +
-                                ", variables: " +
-                                builder +
-                                ", purpose: " +
-                                raw.purpose()
-                );
-                for (StackTraceElement element : ectx.getMatchedElements()) {
-                    log(
-                            "jimmer stacktrace-element)> {}",
-                            element
-                    );
+                if (omittedCount != 0) {
+                    builder.append(", ...").append(omittedCount).append(" more batches");
                 }
-            }
-            return raw.execute(exceptionTranslator);
+                builder.append("}");
+                log(simpleMessage(sql, builder, purpose, millis, suppressedCount));
+                if (ectx != null) {
+                    for (StackTraceElement element : ectx.getMatchedElements()) {
+                        log(
+                                "jimmer stacktrace-element)> {}",
+                                element
+                        );
+                    }
+                }
+            });
         }
 
         private int[] prettyLog(BiFunction<SQLException, ExceptionTranslator.Args, Exception> exceptionTranslator) {
@@ -385,38 +503,22 @@ public class ExecutorForLog extends AbstractExecutorProxy {
                 throwable = ex;
             }
             millis = System.currentTimeMillis() - millis;
-            int affectedRowCount = -1;
-            char ch = raw.sql().charAt(0);
-            if ((ch == 'i' || ch == 'u' || ch == 'd') && rowCounts != null) {
-                affectedRowCount = 0;
-                for (int rowCount : rowCounts) {
-                    affectedRowCount += rowCount;
-                }
+            if (throwable == null && pipeline.isSlowOnly() && !pipeline.isSlow(millis)) {
+                return rowCounts;
             }
-
-            StringBuilder builder = new StringBuilder();
-            builder.append("Execute SQL").append(REQUEST).append('\n');
-            appendPrettyRequest(
-                    builder,
-                    raw.sql(),
-                    Collections.emptyList(),
-                    null,
-                    raw.purpose(),
-                    raw.ctx(),
-                    raw.sqlClient()
-            );
-            int size = variableMatrix.size();
-            for (int i = 0; i < size; i++) {
-                builder.append("batch-").append(i).append(": ");
-                builder.append(variableMatrix.get(i)).append('\n');
+            String sql = raw.sql();
+            long suppressedCount = pipeline.acquire(sql);
+            if (!SqlLogPipeline.isSuppressed(suppressedCount)) {
+                int affectedRowCount = -1;
+                char ch = sql.charAt(0);
+                if ((ch == 'i' || ch == 'u' || ch == 'd') && rowCounts != null) {
+                    affectedRowCount = 0;
+                    for (int rowCount : rowCounts) {
+                        affectedRowCount += rowCount;
+                    }
+                }
+                writePrettyLog(affectedRowCount, throwable, millis, suppressedCount);
             }
-            appendPrettyResponse(
-                    builder,
-                    affectedRowCount,
-                    throwable,
-                    millis
-            );
-            log(builder.toString());
 
             if (throwable instanceof RuntimeException) {
                 throw (RuntimeException) throwable;
@@ -426,5 +528,48 @@ public class ExecutorForLog extends AbstractExecutorProxy {
             }
             return rowCounts;
         }
+
+        private void writePrettyLog(
+                int affectedRowCount,
+                Throwable throwable,
+                long millis,
+                long suppressedCount
+        ) {
+            String sql = raw.sql();
+            ExecutionPurpose purpose = raw.purpose();
+            ExecutorContext ectx = raw.ctx();
+            JSqlClientImplementor sqlClient = raw.sqlClient();
+            List<List<Object>> variableMatrix = this.variableMatrix;
+            int omittedCount = this.omittedCount;
+            pipeline.submit(() -> {
+                StringBuilder builder = new StringBuilder();
+                builder.append("Execute SQL").append(REQUEST).append('\n');
+                appendPrettyRequest(
+                        builder,
+                        sql,
+                        Collections.emptyList(),
+                        null,
+                        purpose,
+                        ectx,
+                        sqlClient
+                );
+                int size = variableMatrix.size();
+                for (int i = 0; i < size; i++) {
+                    builder.append("batch-").append(i).append(": ");
+                    builder.append(variableMatrix.get(i)).append('\n');
+                }
+                if (omittedCount != 0) {
+                    builder.append("...").append(omittedCount).append(" more batches\n");
+                }
+                appendPrettyResponse(
+                        builder,
+                        affectedRowCount,
+                        throwable,
+                        millis
+                );
+                appendSuppressedCount(builder, suppressedCount);
+                log(builder.toString());
+            });
+        }
     }
 }
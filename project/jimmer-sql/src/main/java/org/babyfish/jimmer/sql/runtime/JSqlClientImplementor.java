@@ -7,6 +7,7 @@ import org.babyfish.jimmer.sql.DraftInterceptor;
 import org.babyfish.jimmer.sql.DraftPreProcessor;
 import org.babyfish.jimmer.sql.JSqlClient;
 import org.babyfish.jimmer.sql.TransientResolver;
+import org.babyfish.jimmer.sql.ast.impl.mutation.SaveStatementCache;
 import org.babyfish.jimmer.sql.cache.CacheDisableConfig;
 import org.babyfish.jimmer.sql.cache.CacheOperator;
 import org.babyfish.jimmer.sql.di.StrategyProvider;
@@ -22,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 public interface JSqlClientImplementor extends JSqlClient {
@@ -40,6 +42,17 @@ public interface JSqlClientImplementor extends JSqlClient {
 
     List<String> getExecutorContextPrefixes();
 
+    double getExecutorContextSamplingRate();
+
+    /**
+     * Cached matching results of the class names of call frames
+     * and {@link #getExecutorContextPrefixes()}, it is shared by
+     * the sql client and the clients derived from it.
+     *
+     * @return A concurrent map, or null if executor context is disabled
+     */
+    Map<String, Boolean> getExecutorContextMatchedClassNameMap();
+
     SqlFormatter getSqlFormatter();
 
     CacheOperator getCacheOperator();
@@ -88,6 +101,8 @@ public interface JSqlClientImplementor extends JSqlClient {
 
     boolean isDefaultSaveResultReadsAllProperties();
 
+    boolean isDefaultMultiRowInsertEnabled();
+
     boolean isBatchForbidden(boolean dumbBatchAcceptable);
 
     boolean isUpsertWithUniqueConstraintSupported(ImmutableType type);
@@ -122,6 +137,8 @@ public interface JSqlClientImplementor extends JSqlClient {
 
     Reader<?> getReader(ImmutableProp prop);
 
+    SaveStatementCache getSaveStatementCache();
+
     String getMicroServiceName();
 
     MicroServiceExchange getMicroServiceExchange();
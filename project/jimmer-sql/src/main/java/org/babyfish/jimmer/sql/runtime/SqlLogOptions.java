@@ -0,0 +1,132 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import java.util.Objects;
+
+/**
+ * Options of {@link ExecutorForLog}, used to reduce the cost of SQL logging in production.
+ *
+ * <ul>
+ *     <li>{@link #getAsyncQueueCapacity()}: If it is positive, the executing thread only
+ *     puts the raw SQL, variables and time cost into a bounded queue, and a background
+ *     daemon thread shared by all executors formats and logs them. When the queue is full,
+ *     the log is dropped rather than blocking the executing thread.</li>
+ *     <li>{@link #getSlowThresholdMillis()}: If it is positive, only the statements whose
+ *     time cost is not less than it, or which are failed, are logged.</li>
+ *     <li>{@link #getMaxLogCountPerSecond()}: If it is positive, each SQL string is logged
+ *     at most so many times per second, the suppressed count is reported later.</li>
+ *     <li>{@link #getMaxBatchLogCount()}: At most so many variable rows of a JDBC batch
+ *     are logged, the others are only counted.</li>
+ * </ul>
+ */
+public final class SqlLogOptions {
+
+    public static final SqlLogOptions DEFAULT =
+            new SqlLogOptions(0, 0L, 0, Integer.MAX_VALUE);
+
+    private final int asyncQueueCapacity;
+
+    private final long slowThresholdMillis;
+
+    private final int maxLogCountPerSecond;
+
+    private final int maxBatchLogCount;
+
+    private SqlLogOptions(
+            int asyncQueueCapacity,
+            long slowThresholdMillis,
+            int maxLogCountPerSecond,
+            int maxBatchLogCount
+    ) {
+        if (asyncQueueCapacity < 0) {
+            throw new IllegalArgumentException("asyncQueueCapacity cannot be negative");
+        }
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("slowThresholdMillis cannot be negative");
+        }
+        if (maxLogCountPerSecond < 0) {
+            throw new IllegalArgumentException("maxLogCountPerSecond cannot be negative");
+        }
+        if (maxBatchLogCount < 0) {
+            throw new IllegalArgumentException("maxBatchLogCount cannot be negative");
+        }
+        this.asyncQueueCapacity = asyncQueueCapacity;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.maxLogCountPerSecond = maxLogCountPerSecond;
+        this.maxBatchLogCount = maxBatchLogCount;
+    }
+
+    /**
+     * @return The capacity of the queue used by asynchronous logging,
+     * 0 means the SQL is logged by the executing thread.
+     */
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    /**
+     * @return The threshold of slow statements, 0 means all statements are logged.
+     */
+    public long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    /**
+     * @return The max log count of each SQL string per second, 0 means unlimited.
+     */
+    public int getMaxLogCountPerSecond() {
+        return maxLogCountPerSecond;
+    }
+
+    /**
+     * @return The max logged variable rows of a JDBC batch.
+     */
+    public int getMaxBatchLogCount() {
+        return maxBatchLogCount;
+    }
+
+    public SqlLogOptions asyncQueueCapacity(int asyncQueueCapacity) {
+        return new SqlLogOptions(asyncQueueCapacity, slowThresholdMillis, maxLogCountPerSecond, maxBatchLogCount);
+    }
+
+    public SqlLogOptions slowThresholdMillis(long slowThresholdMillis) {
+        return new SqlLogOptions(asyncQueueCapacity, slowThresholdMillis, maxLogCountPerSecond, maxBatchLogCount);
+    }
+
+    public SqlLogOptions maxLogCountPerSecond(int maxLogCountPerSecond) {
+        return new SqlLogOptions(asyncQueueCapacity, slowThresholdMillis, maxLogCountPerSecond, maxBatchLogCount);
+    }
+
+    public SqlLogOptions maxBatchLogCount(int maxBatchLogCount) {
+        return new SqlLogOptions(asyncQueueCapacity, slowThresholdMillis, maxLogCountPerSecond, maxBatchLogCount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SqlLogOptions)) {
+            return false;
+        }
+        SqlLogOptions that = (SqlLogOptions) o;
+        return asyncQueueCapacity == that.asyncQueueCapacity &&
+                slowThresholdMillis == that.slowThresholdMillis &&
+                maxLogCountPerSecond == that.maxLogCountPerSecond &&
+                maxBatchLogCount == that.maxBatchLogCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(asyncQueueCapacity, slowThresholdMillis, maxLogCountPerSecond, maxBatchLogCount);
+    }
+
+    @Override
+    public String toString() {
+        return "SqlLogOptions{" +
+                "asyncQueueCapacity=" + asyncQueueCapacity +
+                ", slowThresholdMillis=" + slowThresholdMillis +
+                ", maxLogCountPerSecond=" + maxLogCountPerSecond +
+                ", maxBatchLogCount=" + maxBatchLogCount +
+                '}';
+    }
+}
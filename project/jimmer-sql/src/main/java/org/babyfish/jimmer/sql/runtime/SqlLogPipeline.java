@@ -0,0 +1,207 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The runtime state of {@link SqlLogOptions},
+ * shared by an {@link ExecutorForLog} and the proxies recreated from it.
+ *
+ * <p>The asynchronous logs of all pipelines are written by one shared daemon thread,
+ * which exits after being idle for a while, so executors and sql clients
+ * can be rebuilt freely without leaking threads.</p>
+ */
+class SqlLogPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlLogPipeline.class);
+
+    private static final int MAX_LIMITED_SQL_COUNT = 1024;
+
+    private static final long SUPPRESSED = -1L;
+
+    private static final long CONSUMER_IDLE_MILLIS = 60_000L;
+
+    private static final BlockingQueue<Task> SHARED_QUEUE = new LinkedBlockingQueue<>();
+
+    // Guarded by `SqlLogPipeline.class`
+    private static Thread consumerThread;
+
+    final SqlLogOptions options;
+
+    // Count of the tasks of this pipeline in the shared queue, it is limited by `asyncQueueCapacity`
+    private final AtomicInteger pendingCount;
+
+    private final AtomicLong droppedCount;
+
+    private final Map<String, Window> windowMap;
+
+    SqlLogPipeline(SqlLogOptions options) {
+        this.options = options;
+        if (options.getAsyncQueueCapacity() != 0) {
+            pendingCount = new AtomicInteger();
+            droppedCount = new AtomicLong();
+        } else {
+            pendingCount = null;
+            droppedCount = null;
+        }
+        if (options.getMaxLogCountPerSecond() != 0) {
+            windowMap = new ConcurrentHashMap<>();
+        } else {
+            windowMap = null;
+        }
+    }
+
+    boolean isSlowOnly() {
+        return options.getSlowThresholdMillis() != 0;
+    }
+
+    boolean isSlow(long millis) {
+        return millis >= options.getSlowThresholdMillis();
+    }
+
+    /**
+     * @return -1 if the log of this SQL should be suppressed,
+     * otherwise, the count of the suppressed logs of this SQL in previous seconds.
+     */
+    long acquire(String sql) {
+        Map<String, Window> windowMap = this.windowMap;
+        if (windowMap == null) {
+            return 0L;
+        }
+        Window window = windowMap.get(sql);
+        if (window == null) {
+            if (windowMap.size() >= MAX_LIMITED_SQL_COUNT) {
+                windowMap.clear();
+            }
+            window = windowMap.computeIfAbsent(sql, it -> new Window());
+        }
+        return window.acquire(options.getMaxLogCountPerSecond());
+    }
+
+    static boolean isSuppressed(long acquired) {
+        return acquired == SUPPRESSED;
+    }
+
+    void submit(Runnable writer) {
+        AtomicInteger pendingCount = this.pendingCount;
+        if (pendingCount == null) {
+            writer.run();
+            return;
+        }
+        if (pendingCount.incrementAndGet() > options.getAsyncQueueCapacity()) {
+            pendingCount.decrementAndGet();
+            droppedCount.incrementAndGet();
+            return;
+        }
+        SHARED_QUEUE.add(new Task(this, writer));
+        startConsumerIfNecessary();
+    }
+
+    long getDroppedCount() {
+        AtomicLong droppedCount = this.droppedCount;
+        return droppedCount != null ? droppedCount.get() : 0L;
+    }
+
+    static synchronized boolean isConsumerRunning() {
+        return consumerThread != null;
+    }
+
+    private void write(Runnable writer) {
+        pendingCount.decrementAndGet();
+        long dropped = droppedCount.getAndSet(0L);
+        if (dropped != 0L) {
+            LOGGER.warn(
+                    "{} SQL logs are dropped because the async queue whose capacity is {} is full",
+                    dropped,
+                    options.getAsyncQueueCapacity()
+            );
+        }
+        try {
+            writer.run();
+        } catch (RuntimeException | Error ex) {
+            LOGGER.error("Failed to write SQL log", ex);
+        }
+    }
+
+    private static synchronized void startConsumerIfNecessary() {
+        if (consumerThread == null) {
+            Thread thread = new Thread(SqlLogPipeline::consume, "jimmer-sql-log");
+            thread.setDaemon(true);
+            consumerThread = thread;
+            thread.start();
+        }
+    }
+
+    private static void consume() {
+        while (true) {
+            Task task;
+            try {
+                task = SHARED_QUEUE.poll(CONSUMER_IDLE_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                synchronized (SqlLogPipeline.class) {
+                    consumerThread = null;
+                }
+                if (!SHARED_QUEUE.isEmpty()) {
+                    startConsumerIfNecessary();
+                }
+                return;
+            }
+            if (task != null) {
+                task.pipeline.write(task.writer);
+            } else {
+                // Exit when idle, `submit` starts a new thread if necessary
+                synchronized (SqlLogPipeline.class) {
+                    if (SHARED_QUEUE.isEmpty()) {
+                        consumerThread = null;
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Task {
+
+        final SqlLogPipeline pipeline;
+
+        final Runnable writer;
+
+        Task(SqlLogPipeline pipeline, Runnable writer) {
+            this.pipeline = pipeline;
+            this.writer = writer;
+        }
+    }
+
+    private static class Window {
+
+        private long second;
+
+        private int count;
+
+        private long suppressedCount;
+
+        synchronized long acquire(int maxCount) {
+            long second = System.currentTimeMillis() / 1000L;
+            if (this.second != second) {
+                this.second = second;
+                this.count = 0;
+            }
+            if (count >= maxCount) {
+                suppressedCount++;
+                return SUPPRESSED;
+            }
+            count++;
+            long suppressedCount = this.suppressedCount;
+            this.suppressedCount = 0L;
+            return suppressedCount;
+        }
+    }
+}
@@ -1125,6 +1125,79 @@ class MiddleTableOperatorTest extends AbstractMutationTest {
         );
     }
 
+    @Test
+    public void testReplaceByPostgres() {
+
+        NativeDatabases.assumeNativeDatabase();
+
+        connectAndExpect(
+                NativeDatabases.POSTGRES_DATA_SOURCE,
+                con -> {
+                    MiddleTableOperator operator = operator(
+                            getSqlClient(it -> {
+                                it.setDialect(new PostgresDialect());
+                            }),
+                            con,
+                            BookProps.AUTHORS.unwrap()
+                    );
+                    operator.replace(
+                            RetainIdPairs.of(
+                                    new Tuple2<>(learningGraphQLId1, alexId),
+                                    new Tuple2<>(learningGraphQLId1, danId),
+                                    new Tuple2<>(learningGraphQLId2, alexId),
+                                    new Tuple2<>(learningGraphQLId2, danId)
+                            )
+                    );
+                    assertAuthorIds(
+                            con,
+                            false,
+                            learningGraphQLId1,
+                            new UUID[] { alexId, danId }
+                    );
+                    assertAuthorIds(
+                            con,
+                            false,
+                            learningGraphQLId2,
+                            new UUID[] { alexId, danId }
+                    );
+                    return operator.affectedRowCount;
+                },
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql(
+                                "delete from BOOK_AUTHOR_MAPPING " +
+                                        "where " +
+                                        "--->BOOK_ID = any(?) " +
+                                        "and " +
+                                        "--->(BOOK_ID, AUTHOR_ID) not in (" +
+                                        "--->--->select * from unnest(?, ?)" +
+                                        "--->)"
+                        );
+                        it.variables(
+                                new Object[] { learningGraphQLId1, learningGraphQLId2 },
+                                new Object[] { learningGraphQLId1, learningGraphQLId1, learningGraphQLId2, learningGraphQLId2 },
+                                new Object[] { alexId, danId, alexId, danId }
+                        );
+                    });
+                    ctx.statement(it -> {
+                        it.sql(
+                                "insert into BOOK_AUTHOR_MAPPING(BOOK_ID, AUTHOR_ID) " +
+                                        "select tb_1_.* from unnest(?, ?) tb_1_ " +
+                                        "on conflict(BOOK_ID, AUTHOR_ID) do nothing"
+                        );
+                        it.variables(
+                                new Object[] { learningGraphQLId1, learningGraphQLId1, learningGraphQLId2, learningGraphQLId2 },
+                                new Object[] { alexId, danId, alexId, danId }
+                        );
+                    });
+                    ctx.value(map -> {
+                        Assertions.assertEquals(1, map.size());
+                        Assertions.assertEquals(4, map.get(AffectedTable.of(BookProps.AUTHORS)));
+                    });
+                }
+        );
+    }
+
     private static void assertAuthorIds(Connection con, boolean uuidToBytes, UUID bookId, UUID[] authorIds) {
         String sql = "select author_id from book_author_mapping where book_id = ?";
         try (PreparedStatement stmt = con.prepareStatement(sql)) {
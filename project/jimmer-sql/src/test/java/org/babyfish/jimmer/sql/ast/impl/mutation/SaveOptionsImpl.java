@@ -113,6 +113,11 @@ public class SaveOptionsImpl implements SaveOptions {
         return false;
     }
 
+    @Override
+    public boolean isPreQueryByCache(ImmutableType type) {
+        return false;
+    }
+
     @Override
     public UnloadedVersionBehavior getUnloadedVersionBehavior(ImmutableType type) {
         return UnloadedVersionBehavior.IGNORE;
@@ -153,6 +158,16 @@ public class SaveOptionsImpl implements SaveOptions {
         return false;
     }
 
+    @Override
+    public boolean isMultiRowInsertEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isAssociationPipelineEnabled() {
+        return false;
+    }
+
     @Override
     public boolean isConstraintViolationTranslatable() {
         return sqlClient.isConstraintViolationTranslatable();
@@ -0,0 +1,137 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.common.AbstractQueryTest;
+import org.babyfish.jimmer.sql.common.ParameterizedCaches;
+import org.babyfish.jimmer.sql.model.BookStore;
+import org.babyfish.jimmer.sql.model.BookStoreFetcher;
+import org.babyfish.jimmer.sql.model.BookStoreProps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.babyfish.jimmer.sql.common.Constants.*;
+
+public class ColumnGroupCacheTest extends AbstractQueryTest {
+
+    private Map<String, Map<String, byte[]>> valueMap;
+
+    private JSqlClient sqlClient;
+
+    @BeforeEach
+    public void initialize() {
+        valueMap = new HashMap<>();
+        Cache.Parameterized<Object, BookStore> raw =
+                (Cache.Parameterized<Object, BookStore>) ParameterizedCaches.<Object, BookStore>createObjectCache(
+                        ImmutableType.get(BookStore.class),
+                        valueMap
+                );
+        sqlClient = getSqlClient(builder -> {
+            builder.setCaches(cfg ->
+                    cfg.setObjectCache(
+                            BookStore.class,
+                            new ColumnGroupCache<>(
+                                    raw,
+                                    Collections.singletonMap(
+                                            "summary",
+                                            Collections.singletonList(BookStoreProps.NAME.unwrap())
+                                    )
+                            )
+                    )
+            );
+        });
+    }
+
+    @Test
+    public void testReadRequiredGroups() {
+        connectAndExpect(
+                con -> {
+                    return sqlClient
+                            .getEntities()
+                            .forConnection(con)
+                            .findById(BookStoreFetcher.$.name(), manningId);
+                }, ctx -> {
+                    ctx.sql(
+                            "select tb_1_.ID, tb_1_.NAME, tb_1_.WEBSITE, tb_1_.VERSION " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "where tb_1_.ID = ?"
+                    );
+                    ctx.variables(manningId);
+                    ctx.rows(
+                            "[{\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\",\"name\":\"MANNING\"}]"
+                    );
+                }
+        );
+        Assertions.assertEquals(
+                Collections.singleton("{\"columnGroup\":\"summary\"}"),
+                valueMap.values().iterator().next().keySet()
+        );
+
+        // Group "summary" is cached, only group "default" is loaded
+        connectAndExpect(
+                con -> {
+                    return sqlClient
+                            .getEntities()
+                            .forConnection(con)
+                            .findById(BookStoreFetcher.$.allScalarFields(), manningId);
+                }, ctx -> {
+                    ctx.sql(
+                            "select tb_1_.ID, tb_1_.NAME, tb_1_.WEBSITE, tb_1_.VERSION " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "where tb_1_.ID = ?"
+                    );
+                    ctx.variables(manningId);
+                    ctx.rows(
+                            "[{" +
+                                    "--->\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\"," +
+                                    "--->\"name\":\"MANNING\"," +
+                                    "--->\"website\":null," +
+                                    "--->\"version\":0" +
+                                    "}]"
+                    );
+                }
+        );
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList("{\"columnGroup\":\"summary\"}", "{\"columnGroup\":\"default\"}")),
+                valueMap.values().iterator().next().keySet()
+        );
+
+        // All groups are cached
+        connectAndExpect(
+                con -> {
+                    return sqlClient
+                            .getEntities()
+                            .forConnection(con)
+                            .findById(BookStore.class, manningId);
+                }, ctx -> {
+                    ctx.rows(
+                            "[{" +
+                                    "--->\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\"," +
+                                    "--->\"name\":\"MANNING\"," +
+                                    "--->\"website\":null," +
+                                    "--->\"version\":0" +
+                                    "}]"
+                    );
+                }
+        );
+    }
+
+    @Test
+    public void testIllegalGroup() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ColumnGroupCache<>(
+                    (Cache.Parameterized<Object, BookStore>) ParameterizedCaches.<Object, BookStore>createObjectCache(
+                            ImmutableType.get(BookStore.class),
+                            null
+                    ),
+                    Collections.singletonMap(
+                            "default",
+                            Collections.singletonList(BookStoreProps.NAME.unwrap())
+                    )
+            );
+        });
+    }
+}
@@ -0,0 +1,203 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.ast.mutation.SaveMode;
+import org.babyfish.jimmer.sql.common.AbstractQueryTest;
+import org.babyfish.jimmer.sql.common.CacheImpl;
+import org.babyfish.jimmer.sql.event.TriggerType;
+import org.babyfish.jimmer.sql.model.BookStore;
+import org.babyfish.jimmer.sql.model.BookStoreDraft;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.babyfish.jimmer.jackson.codec.JsonCodec.jsonCodec;
+import static org.babyfish.jimmer.sql.common.Constants.*;
+
+public class IdFilterTest extends AbstractQueryTest {
+
+    private static final UUID UNKNOWN_ID = UUID.fromString("1c3f4bd5-8e1d-4f1c-9d34-2b5e6c7a8f90");
+
+    private static final UUID OTHER_UNKNOWN_ID = UUID.fromString("5a0c6a4e-27d3-4b8e-a1f0-8c9d2e3b4f51");
+
+    private LocalBloomIdFilter idFilter;
+
+    private JSqlClient sqlClient;
+
+    @BeforeEach
+    public void initialize() {
+        idFilter = new LocalBloomIdFilter(1000, 0.001);
+        sqlClient = getSqlClient(builder -> {
+            builder.setCaches(cfg -> {
+                cfg.setObjectCache(BookStore.class, new CacheImpl<>(ImmutableType.get(BookStore.class)));
+                cfg.setIdFilter(BookStore.class, idFilter);
+            });
+            builder.setConnectionManager(testConnectionManager());
+        });
+    }
+
+    @Test
+    public void testFindByIds() {
+        // All ids may exist before the filter is filled in the background
+        jdbc(con -> {
+            List<BookStore> stores = sqlClient
+                    .getEntities()
+                    .forConnection(con)
+                    .findByIds(BookStore.class, Arrays.asList(manningId, UNKNOWN_ID));
+            Assertions.assertEquals(1, stores.size());
+        });
+        awaitFilled();
+
+        // The unknown id is neither loaded nor cached
+        connectAndExpect(
+                con -> {
+                    return sqlClient
+                            .getEntities()
+                            .forConnection(con)
+                            .findByIds(BookStore.class, Arrays.asList(oreillyId, OTHER_UNKNOWN_ID));
+                }, ctx -> {
+                    ctx.sql(
+                            "select tb_1_.ID, tb_1_.NAME, tb_1_.WEBSITE, tb_1_.VERSION " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "where tb_1_.ID = ?"
+                    );
+                    ctx.variables(oreillyId);
+                    ctx.rows(
+                            "[" +
+                                    "--->{" +
+                                    "--->--->\"id\":\"d38c10da-6be8-4924-b9b9-5e81899612a0\"," +
+                                    "--->--->\"name\":\"O'REILLY\"," +
+                                    "--->--->\"website\":null," +
+                                    "--->--->\"version\":0" +
+                                    "--->}" +
+                                    "]"
+                    );
+                }
+        );
+    }
+
+    @Test
+    public void testInsertedIdByBinLog() {
+        jdbc(con -> {
+            sqlClient.getEntities().forConnection(con).findById(BookStore.class, manningId);
+        });
+        awaitFilled();
+        jdbc(con -> {
+            Assertions.assertNull(
+                    sqlClient.getEntities().forConnection(con).findById(BookStore.class, UNKNOWN_ID)
+            );
+            // Inserted by another application, the id is added by binlog trigger
+            try (PreparedStatement stmt = con.prepareStatement(
+                    "insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?)"
+            )) {
+                stmt.setObject(1, UNKNOWN_ID);
+                stmt.setString(2, "TURING");
+                stmt.setInt(3, 0);
+                stmt.executeUpdate();
+            } catch (SQLException ex) {
+                Assertions.fail(ex);
+            }
+            Assertions.assertNull(
+                    sqlClient.getEntities().forConnection(con).findById(BookStore.class, UNKNOWN_ID)
+            );
+            try {
+                sqlClient.getBinLog().accept(
+                        "book_store",
+                        null,
+                        jsonCodec().treeReader().read(
+                                "{\"id\":\"" + UNKNOWN_ID + "\", \"name\":\"TURING\", \"version\":0}"
+                        )
+                );
+            } catch (Exception ex) {
+                Assertions.fail(ex);
+            }
+            BookStore store = sqlClient.getEntities().forConnection(con).findById(BookStore.class, UNKNOWN_ID);
+            Assertions.assertNotNull(store);
+            Assertions.assertEquals("TURING", store.name());
+        });
+    }
+
+    @Test
+    public void testInsertedIdBySave() {
+        jdbc(con -> {
+            sqlClient.getEntities().forConnection(con).findById(BookStore.class, manningId);
+        });
+        awaitFilled();
+        jdbc(con -> {
+            // Inserted by current application, the id is visible before binlog is received
+            sqlClient.getEntities().saveCommand(
+                    BookStoreDraft.$.produce(store -> {
+                        store.setId(UNKNOWN_ID);
+                        store.setName("TURING");
+                    })
+            ).setMode(SaveMode.INSERT_ONLY).execute(con);
+            BookStore store = sqlClient.getEntities().forConnection(con).findById(BookStore.class, UNKNOWN_ID);
+            Assertions.assertNotNull(store);
+            Assertions.assertEquals("TURING", store.name());
+        });
+    }
+
+    @Test
+    public void testTransactionTriggersOnly() {
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            getSqlClient(builder -> {
+                builder.setTriggerType(TriggerType.TRANSACTION_ONLY);
+                builder.setCaches(cfg -> {
+                    cfg.setObjectCache(BookStore.class, new CacheImpl<>(ImmutableType.get(BookStore.class)));
+                    cfg.setIdFilter(BookStore.class, new LocalBloomIdFilter(1000, 0.001));
+                });
+            });
+        });
+    }
+
+    @Test
+    public void testNoObjectCache() {
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            getSqlClient(builder -> {
+                builder.setCaches(cfg ->
+                        cfg.setIdFilter(BookStore.class, new LocalBloomIdFilter(1000, 0.001))
+                );
+            });
+        });
+    }
+
+    @Test
+    public void testNoFalseNegative() {
+        LocalBloomIdFilter filter = new LocalBloomIdFilter(10000, 0.01);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 10000; id++) {
+            ids.add(id);
+        }
+        filter.addAll(ids);
+        Assertions.assertEquals(new LinkedHashSet<>(ids), filter.mightExist(ids));
+
+        List<Long> otherIds = new ArrayList<>();
+        for (long id = 10001; id <= 20000; id++) {
+            otherIds.add(id);
+        }
+        Assertions.assertTrue(filter.mightExist(otherIds).size() < 300);
+        Assertions.assertEquals(
+                Collections.singleton(1),
+                filter.mightExist(Collections.singletonList(1))
+        );
+    }
+
+    private void awaitFilled() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!idFilter.isFilled()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assertions.fail("The id filter is not filled in the background");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Assertions.fail(ex);
+            }
+        }
+    }
+}
@@ -38,7 +38,16 @@ public class ParameterizedCaches {
     ) {
         return new ChainCacheBuilder<K, V>()
                 .add(new LevelOneBinder<>(prop))
-                .add(new LevelTwoBinder<>(prop, onDelete, valueMap))
+                .add(new LevelTwoBinder<>(null, prop, onDelete, valueMap))
+                .build();
+    }
+
+    public static <K, V> Cache<K, V> createObjectCache(
+            ImmutableType type,
+            Map<String, Map<String, byte[]>> valueMap
+    ) {
+        return new ChainCacheBuilder<K, V>()
+                .add(new LevelTwoBinder<>(type, null, null, valueMap))
                 .build();
     }
 
@@ -138,8 +147,13 @@ public class ParameterizedCaches {
 
         private final Consumer<Collection<String>> onDelete;
 
-        LevelTwoBinder(ImmutableProp prop, Consumer<Collection<String>> onDelete, Map<String, Map<String, byte[]>> valueMap) {
-            super(null, prop, null, jsonCodec(), null, Duration.ofSeconds(10), 0);
+        LevelTwoBinder(
+                ImmutableType type,
+                ImmutableProp prop,
+                Consumer<Collection<String>> onDelete,
+                Map<String, Map<String, byte[]>> valueMap
+        ) {
+            super(type, prop, null, jsonCodec(), null, Duration.ofSeconds(10), 0);
             this.valueMap = valueMap != null ? valueMap : new HashMap<>();
             this.onDelete = onDelete;
         }
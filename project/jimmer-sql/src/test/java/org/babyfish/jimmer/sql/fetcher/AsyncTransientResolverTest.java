@@ -0,0 +1,256 @@
+package org.babyfish.jimmer.sql.fetcher;
+
+import org.babyfish.jimmer.lang.Ref;
+import org.babyfish.jimmer.sql.AsyncTransientResolver;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.TransientResolver;
+import org.babyfish.jimmer.sql.ast.query.ConfigurableRootQuery;
+import org.babyfish.jimmer.sql.common.AbstractQueryTest;
+import org.babyfish.jimmer.sql.common.CacheImpl;
+import org.babyfish.jimmer.sql.di.DefaultTransientResolverProvider;
+import org.babyfish.jimmer.sql.exception.ExecutionException;
+import org.babyfish.jimmer.sql.model.BookStore;
+import org.babyfish.jimmer.sql.model.BookStoreFetcher;
+import org.babyfish.jimmer.sql.model.BookStoreProps;
+import org.babyfish.jimmer.sql.model.BookStoreTable;
+import org.babyfish.jimmer.sql.model.calc.BookStoreAvgPriceResolver;
+import org.babyfish.jimmer.sql.model.calc.BookStoreNameWithVersionResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.babyfish.jimmer.sql.common.Constants.*;
+
+public class AsyncTransientResolverTest extends AbstractQueryTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testParallelCompletion() {
+        // Each resolver completes only after the other one has been launched,
+        // so this test hangs until timeout if they are executed one by one
+        CountDownLatch latch = new CountDownLatch(2);
+        JSqlClient sqlClient = sqlClient(
+                new Resolver<BigDecimal>(ids -> supply(() -> {
+                    await(latch);
+                    return values(ids, id -> id.equals(oreillyId) ? BigDecimal.ONE : BigDecimal.TEN);
+                }), Duration.ofSeconds(10)),
+                new Resolver<String>(ids -> supply(() -> {
+                    await(latch);
+                    return values(ids, id -> id.equals(oreillyId) ? "O'REILLY#0" : "MANNING#0");
+                }), Duration.ofSeconds(10))
+        );
+        jdbc(con -> {
+            List<BookStore> stores = query(sqlClient).execute(con);
+            Assertions.assertEquals(2, stores.size());
+            for (BookStore store : stores) {
+                if (store.id().equals(oreillyId)) {
+                    Assertions.assertEquals(BigDecimal.ONE, store.avgPrice());
+                    Assertions.assertEquals("O'REILLY#0", store.nameWithVersion());
+                } else {
+                    Assertions.assertEquals(BigDecimal.TEN, store.avgPrice());
+                    Assertions.assertEquals("MANNING#0", store.nameWithVersion());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testTimeout() {
+        CompletableFuture<Map<UUID, BigDecimal>> future = new CompletableFuture<>();
+        JSqlClient sqlClient = sqlClient(
+                new Resolver<>(ids -> future, Duration.ofMillis(50)),
+                new Resolver<>(ids -> CompletableFuture.completedFuture(Collections.emptyMap()), null)
+        );
+        jdbc(con -> {
+            ExecutionException ex = Assertions.assertThrows(
+                    ExecutionException.class,
+                    () -> query(sqlClient).execute(con)
+            );
+            Assertions.assertTrue(ex.getMessage().contains("did not complete in"), ex.getMessage());
+            Assertions.assertInstanceOf(TimeoutException.class, ex.getCause());
+        });
+        Assertions.assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testUnwrapRuntimeException() {
+        JSqlClient sqlClient = sqlClient(
+                new Resolver<>(ids -> supply(() -> {
+                    throw new IllegalStateException("Remote service is unavailable");
+                }), null),
+                new Resolver<>(ids -> CompletableFuture.completedFuture(Collections.emptyMap()), null)
+        );
+        jdbc(con -> {
+            IllegalStateException ex = Assertions.assertThrows(
+                    IllegalStateException.class,
+                    () -> query(sqlClient).execute(con)
+            );
+            Assertions.assertEquals("Remote service is unavailable", ex.getMessage());
+        });
+    }
+
+    @Test
+    public void testWrapCheckedException() {
+        CompletableFuture<Map<UUID, BigDecimal>> future = new CompletableFuture<>();
+        future.completeExceptionally(new Exception("Checked"));
+        Resolver<BigDecimal> resolver = new Resolver<>(ids -> future, null);
+        ExecutionException ex = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> resolver.resolve(Collections.singleton(oreillyId))
+        );
+        Assertions.assertEquals("Checked", ex.getCause().getMessage());
+    }
+
+    @Test
+    public void testCacheFallback() {
+        AtomicInteger launchCount = new AtomicInteger();
+        Resolver<BigDecimal> avgPriceResolver = new Resolver<BigDecimal>(ids -> {
+            launchCount.incrementAndGet();
+            return supply(() -> values(ids, id -> BigDecimal.ONE));
+        }, null) {
+            @Override
+            public Ref<SortedMap<String, Object>> getParameterMapRef() {
+                return Ref.empty();
+            }
+        };
+        JSqlClient sqlClient = sqlClient(
+                avgPriceResolver,
+                new Resolver<>(ids -> supply(() -> values(ids, id -> "X#0")), null),
+                builder -> builder.setCaches(cfg ->
+                        cfg.setCalculatedCache(
+                                BookStoreProps.AVG_PRICE,
+                                new CacheImpl<>(BookStoreProps.AVG_PRICE.unwrap())
+                        )
+                )
+        );
+        for (int i = 0; i < 2; i++) {
+            jdbc(con -> {
+                List<BookStore> stores = query(sqlClient).execute(con);
+                Assertions.assertEquals(2, stores.size());
+                for (BookStore store : stores) {
+                    Assertions.assertEquals(BigDecimal.ONE, store.avgPrice());
+                    Assertions.assertEquals("X#0", store.nameWithVersion());
+                }
+            });
+        }
+        // Missed values are resolved by the blocking `resolve` only once,
+        // the second query is served by the property cache
+        Assertions.assertEquals(1, launchCount.get());
+    }
+
+    private JSqlClient sqlClient(
+            Resolver<BigDecimal> avgPriceResolver,
+            Resolver<String> nameWithVersionResolver
+    ) {
+        return sqlClient(avgPriceResolver, nameWithVersionResolver, null);
+    }
+
+    private JSqlClient sqlClient(
+            Resolver<BigDecimal> avgPriceResolver,
+            Resolver<String> nameWithVersionResolver,
+            Consumer<JSqlClient.Builder> block
+    ) {
+        return getSqlClient(builder -> {
+            builder.setTransientResolverProvider(
+                    new DefaultTransientResolverProvider() {
+                        @Override
+                        public TransientResolver<?, ?> get(
+                                Class<TransientResolver<?, ?>> type,
+                                JSqlClient sqlClient
+                        ) throws Exception {
+                            if (type == (Class<?>) BookStoreAvgPriceResolver.class) {
+                                return avgPriceResolver;
+                            }
+                            if (type == (Class<?>) BookStoreNameWithVersionResolver.class) {
+                                return nameWithVersionResolver;
+                            }
+                            return super.get(type, sqlClient);
+                        }
+                    }
+            );
+            if (block != null) {
+                block.accept(builder);
+            }
+        });
+    }
+
+    private static ConfigurableRootQuery<BookStoreTable, BookStore> query(
+            JSqlClient sqlClient
+    ) {
+        BookStoreTable table = BookStoreTable.$;
+        return sqlClient
+                .createQuery(table)
+                .orderBy(table.name())
+                .select(
+                        table.fetch(
+                                BookStoreFetcher.$
+                                        .allScalarFields()
+                                        .avgPrice()
+                                        .nameWithVersion()
+                        )
+                );
+    }
+
+    private <V> CompletableFuture<Map<UUID, V>> supply(Callable<Map<UUID, V>> block) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return block.call();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+        }, executorService);
+    }
+
+    private static <V> Map<UUID, V> values(Collection<UUID> ids, Function<UUID, V> valueFactory) {
+        Map<UUID, V> map = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            map.put(id, valueFactory.apply(id));
+        }
+        return map;
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The resolvers are not executed concurrently");
+        }
+    }
+
+    private static class Resolver<V> implements AsyncTransientResolver<UUID, V> {
+
+        private final Function<Collection<UUID>, CompletableFuture<Map<UUID, V>>> block;
+
+        private final Duration timeout;
+
+        Resolver(Function<Collection<UUID>, CompletableFuture<Map<UUID, V>>> block, Duration timeout) {
+            this.block = block;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public CompletableFuture<Map<UUID, V>> resolveAsync(Collection<UUID> ids) {
+            return block.apply(ids);
+        }
+
+        @Override
+        public Duration getTimeout() {
+            return timeout;
+        }
+    }
+}
@@ -2,11 +2,17 @@ package org.babyfish.jimmer.sql.fetcher;
 
 import org.babyfish.jimmer.sql.fetcher.compiler.FetcherCompileException;
 import org.babyfish.jimmer.sql.fetcher.compiler.FetcherCompiler;
+import org.babyfish.jimmer.sql.fetcher.impl.FetcherCache;
 import org.babyfish.jimmer.sql.fetcher.impl.FetcherImpl;
 import org.babyfish.jimmer.sql.model.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 public class CompilerTest {
 
     @Test
@@ -42,6 +48,52 @@ public class CompilerTest {
         );
     }
 
+    @Test
+    public void testInterned() {
+        BookFetcher fetcher = BookFetcher.$
+                .name()
+                .store(
+                        BookStoreFetcher.$
+                                .name()
+                );
+        Fetcher<?> fetcher2 = FetcherCompiler.compile(fetcher.toString());
+        Fetcher<?> fetcher3 = FetcherCompiler.compile(fetcher.toString(true));
+        Fetcher<?> fetcher4 = FetcherCompiler.compile(fetcher.toString(), Book.class);
+        Assertions.assertSame(fetcher2, FetcherCompiler.compile(fetcher.toString()));
+        Assertions.assertSame(fetcher2, fetcher3);
+        Assertions.assertSame(fetcher2, fetcher4);
+    }
+
+    @Test
+    public void testCacheEviction() {
+        FetcherCache<String> cache = new FetcherCache<>(2);
+        AtomicInteger createdCount = new AtomicInteger();
+        Supplier<Fetcher<?>> creator = () -> {
+            createdCount.incrementAndGet();
+            return BookFetcher.$.name();
+        };
+        Fetcher<?> fetcher = cache.get("a", creator);
+        cache.get("b", creator);
+        Assertions.assertSame(fetcher, cache.get("a", creator)); // "a" is used recently
+        cache.get("c", creator); // "b" is evicted
+        Assertions.assertEquals(3, createdCount.get());
+        cache.get("a", creator);
+        Assertions.assertEquals(3, createdCount.get());
+        cache.get("b", creator);
+        Assertions.assertEquals(4, createdCount.get());
+    }
+
+    @Test
+    public void testCachedByClassLoader() throws Exception {
+        String code = BookFetcher.$.name().toString();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], Book.class.getClassLoader());
+        Fetcher<?> fetcher = FetcherCompiler.compile(code, classLoader);
+        Assertions.assertSame(fetcher, FetcherCompiler.compile(code, classLoader));
+        // Different class loader is another cache key, but the classes are same,
+        // so the interned fetcher is shared
+        Assertions.assertSame(fetcher, FetcherCompiler.compile(code));
+    }
+
     @Test
     public void testWithLimitOffset() {
         BookFetcher fetcher = BookFetcher.$
@@ -173,6 +173,93 @@ public class RecursiveTest extends AbstractQueryTest {
         );
     }
 
+    @Test
+    public void testFindThreeLevelByCte() {
+        executeAndExpect(
+                getLambdaClient().createQuery(TreeNodeTable.class, (q, node) -> {
+                    q.where(node.parent(JoinType.LEFT).isNull());
+                    return q.select(
+                            node.fetch(
+                                    TreeNodeFetcher.$.name().recursiveChildNodes(
+                                            it -> it.recursive(CteRecursionStrategy.of(3)).filter(args -> {
+                                                args.orderBy(args.getTable().id());
+                                            })
+                                    )
+                            )
+                    );
+                }),
+                ctx -> {
+                    ctx.sql("select tb_1_.NODE_ID, tb_1_.NAME from TREE_NODE tb_1_ where tb_1_.PARENT_ID is null");
+                    ctx.statement(1).sql(
+                            "with recursive tb_1_(c1, c2, c3) as (" +
+                                    "--->select tb_2_.NODE_ID, tb_2_.PARENT_ID, 1 " +
+                                    "--->from TREE_NODE tb_2_ " +
+                                    "--->where tb_2_.PARENT_ID = ? " +
+                                    "--->union all " +
+                                    "--->select tb_3_.NODE_ID, tb_3_.PARENT_ID, tb_1_.c3 + 1 " +
+                                    "--->from TREE_NODE tb_3_ " +
+                                    "--->inner join tb_1_ on tb_3_.PARENT_ID = tb_1_.c1 " +
+                                    "--->where tb_1_.c3 < ?" +
+                                    ") " +
+                                    "select tb_1_.c1, tb_1_.c2 from tb_1_"
+                    ).variables(1L, 3);
+                    ctx.statement(2).sql(
+                            "select tb_1_.NODE_ID, tb_1_.NAME " +
+                                    "from TREE_NODE tb_1_ " +
+                                    "where tb_1_.NODE_ID in (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                                    "order by tb_1_.NODE_ID asc"
+                    );
+                    ctx.rows("[{" +
+                            "--->\"id\":1," +
+                            "--->\"name\":\"Home\"," +
+                            "--->\"childNodes\":[" +
+                            "--->--->{" +
+                            "--->--->--->\"id\":2," +
+                            "--->--->--->\"name\":\"Food\"," +
+                            "--->--->--->\"childNodes\":[" +
+                            "--->--->--->--->{" +
+                            "--->--->--->--->--->\"id\":3," +
+                            "--->--->--->--->--->\"name\":\"Drinks\"," +
+                            "--->--->--->--->--->\"childNodes\":[" +
+                            "--->--->--->--->--->--->{\"id\":4,\"name\":\"Coca Cola\"}," +
+                            "--->--->--->--->--->--->{\"id\":5,\"name\":\"Fanta\"}" +
+                            "--->--->--->--->--->]" +
+                            "--->--->--->--->},{" +
+                            "--->--->--->--->--->\"id\":6," +
+                            "--->--->--->--->--->\"name\":\"Bread\"," +
+                            "--->--->--->--->--->\"childNodes\":[" +
+                            "--->--->--->--->--->--->{\"id\":7,\"name\":\"Baguette\"}," +
+                            "--->--->--->--->--->--->{\"id\":8,\"name\":\"Ciabatta\"}" +
+                            "--->--->--->--->--->]" +
+                            "--->--->--->--->}" +
+                            "--->--->--->]" +
+                            "--->--->},{" +
+                            "--->--->--->\"id\":9," +
+                            "--->--->--->\"name\":\"Clothing\"," +
+                            "--->--->--->\"childNodes\":[" +
+                            "--->--->--->--->{" +
+                            "--->--->--->--->--->\"id\":10," +
+                            "--->--->--->--->--->\"name\":\"Woman\"," +
+                            "--->--->--->--->--->\"childNodes\":[" +
+                            "--->--->--->--->--->--->{\"id\":11,\"name\":\"Casual wear\"}," +
+                            "--->--->--->--->--->--->{\"id\":15,\"name\":\"Formal wear\"}" +
+                            "--->--->--->--->--->]" +
+                            "--->--->--->--->},{" +
+                            "--->--->--->--->--->\"id\":18," +
+                            "--->--->--->--->--->\"name\":\"Man\"," +
+                            "--->--->--->--->--->\"childNodes\":[" +
+                            "--->--->--->--->--->--->{\"id\":19,\"name\":\"Casual wear\"}," +
+                            "--->--->--->--->--->--->{\"id\":22,\"name\":\"Formal wear\"}" +
+                            "--->--->--->--->--->]" +
+                            "--->--->--->--->}" +
+                            "--->--->--->]" +
+                            "--->--->}" +
+                            "--->]" +
+                            "}]");
+                }
+        );
+    }
+
     @Test
     public void testFindUnlimitedLevel() {
         executeAndExpect(
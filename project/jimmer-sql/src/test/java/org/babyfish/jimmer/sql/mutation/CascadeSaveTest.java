@@ -1393,6 +1393,101 @@ public class CascadeSaveTest extends AbstractMutationTest {
         );
     }
 
+    @Test
+    public void testAssociationPipeline() {
+        UUID bookId1 = UUID.fromString("56506a3c-801b-4f7d-a41d-e889cdc3d67d");
+        UUID bookId2 = UUID.fromString("4f351857-6cbc-4aad-ac3a-140a20034a3b");
+        UUID authorId1 = UUID.fromString("4749d255-2745-4f6b-99ae-61aa8fd463e0");
+        UUID authorId2 = UUID.fromString("a62f7aa3-9490-4612-98b5-98aae0e77120");
+        setAutoIds(Book.class, bookId1, bookId2);
+        setAutoIds(Author.class, authorId1, authorId2);
+        executeAndExpectResult(
+                getSqlClient().getEntities().saveCommand(
+                        BookDraft.$.produce(book -> {
+                            book.setName("Kotlin in Action").setEdition(1).setPrice(new BigDecimal(49))
+                                    .addIntoAuthors(author -> {
+                                        author.setFirstName("Andrey").setLastName("Breslav").setGender(Gender.MALE)
+                                                .addIntoBooks(book2 -> {
+                                                    book2.setName("Learning SQL").setEdition(1).setPrice(new BigDecimal(30))
+                                                            .addIntoAuthors(author2 -> {
+                                                                author2.setFirstName("Jim").setLastName("Green").setGender(Gender.MALE);
+                                                            });
+                                                });
+                                    });
+                        })
+                )
+                .setMode(SaveMode.INSERT_ONLY)
+                .setAssociatedModeAll(AssociatedSaveMode.APPEND)
+                .setAssociationPipelineEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK(ID, NAME, EDITION, PRICE) values(?, ?, ?, ?)");
+                        it.variables(bookId1, "Kotlin in Action", 1, new BigDecimal(49));
+                    });
+                    ctx.statement(it -> {
+                        it.sql("insert into AUTHOR(ID, FIRST_NAME, LAST_NAME, GENDER) values(?, ?, ?, ?)");
+                        it.variables(authorId1, "Andrey", "Breslav", "M");
+                    });
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK(ID, NAME, EDITION, PRICE) values(?, ?, ?, ?)");
+                        it.variables(bookId2, "Learning SQL", 1, new BigDecimal(30));
+                    });
+                    ctx.statement(it -> {
+                        it.sql("insert into AUTHOR(ID, FIRST_NAME, LAST_NAME, GENDER) values(?, ?, ?, ?)");
+                        it.variables(authorId2, "Jim", "Green", "M");
+                    });
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK_AUTHOR_MAPPING(BOOK_ID, AUTHOR_ID) values(?, ?)");
+                        it.batchVariables(0, bookId2, authorId2);
+                        it.batchVariables(1, bookId1, authorId1);
+                    });
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK_AUTHOR_MAPPING(AUTHOR_ID, BOOK_ID) values(?, ?)");
+                        it.variables(authorId1, bookId2);
+                    });
+                    ctx.entity(it -> {
+                        it.original(
+                                "{" +
+                                "--->\"name\":\"Kotlin in Action\",\"edition\":1,\"price\":49," +
+                                "--->\"authors\":[{" +
+                                "--->--->\"firstName\":\"Andrey\",\"lastName\":\"Breslav\",\"gender\":\"MALE\"," +
+                                "--->--->\"books\":[{" +
+                                "--->--->--->\"name\":\"Learning SQL\",\"edition\":1,\"price\":30," +
+                                "--->--->--->\"authors\":[{" +
+                                "--->--->--->--->\"firstName\":\"Jim\",\"lastName\":\"Green\",\"gender\":\"MALE\"" +
+                                "--->--->--->}]" +
+                                "--->--->}]" +
+                                "--->}]" +
+                                "}"
+                        );
+                        it.modified(
+                                "{" +
+                                "--->\"id\":\"56506a3c-801b-4f7d-a41d-e889cdc3d67d\"," +
+                                "--->\"name\":\"Kotlin in Action\",\"edition\":1,\"price\":49," +
+                                "--->\"authors\":[{" +
+                                "--->--->\"id\":\"4749d255-2745-4f6b-99ae-61aa8fd463e0\"," +
+                                "--->--->\"firstName\":\"Andrey\",\"lastName\":\"Breslav\",\"gender\":\"MALE\"," +
+                                "--->--->\"books\":[{" +
+                                "--->--->--->\"id\":\"4f351857-6cbc-4aad-ac3a-140a20034a3b\"," +
+                                "--->--->--->\"name\":\"Learning SQL\",\"edition\":1,\"price\":30," +
+                                "--->--->--->\"authors\":[{" +
+                                "--->--->--->--->\"id\":\"a62f7aa3-9490-4612-98b5-98aae0e77120\"," +
+                                "--->--->--->--->\"firstName\":\"Jim\",\"lastName\":\"Green\",\"gender\":\"MALE\"" +
+                                "--->--->--->}]" +
+                                "--->--->}]" +
+                                "--->}]" +
+                                "}"
+                        );
+                    });
+                    ctx.totalRowCount(7);
+                    ctx.rowCount(AffectedTable.of(Book.class), 2);
+                    ctx.rowCount(AffectedTable.of(Author.class), 2);
+                    ctx.rowCount(AffectedTable.of(BookProps.AUTHORS), 2);
+                    ctx.rowCount(AffectedTable.of(AuthorProps.BOOKS), 1);
+                }
+        );
+    }
+
     @Test
     public void testUpdateOnlyChild() {
         executeAndExpectResult(
@@ -466,6 +466,65 @@ public class DeleteTest extends AbstractMutationTest {
         );
     }
 
+    @Test
+    public void deleteTreeByRecursiveCte() {
+        executeAndExpectResult(
+                getSqlClient().getEntities().deleteCommand(
+                        TreeNode.class,
+                        1L
+                ).setRecursiveCteEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql(
+                                "with recursive tb_1_(c1, c2) as (" +
+                                        "select tb_2_.NODE_ID, 1 " +
+                                        "from TREE_NODE tb_2_ " +
+                                        "where tb_2_.PARENT_ID = ? " +
+                                        "union all " +
+                                        "select tb_3_.NODE_ID, tb_1_.c2 + 1 " +
+                                        "from TREE_NODE tb_3_ " +
+                                        "inner join tb_1_ on tb_3_.PARENT_ID = tb_1_.c1 " +
+                                        "where tb_1_.c2 < ?" +
+                                        ") " +
+                                        "select tb_1_.c1, tb_1_.c2 from tb_1_"
+                        );
+                        it.variables(1L, 64);
+                    });
+                    ctx.statement(it -> {
+                        it.sql(
+                                "delete from TREE_NODE " +
+                                        "where NODE_ID in (?, ?, ?, ?, ?, ?, ?, ?, ?)"
+                        );
+                    });
+                    ctx.statement(it -> {
+                        it.sql(
+                                "delete from TREE_NODE " +
+                                        "where NODE_ID in (?, ?, ?, ?, ?, ?, ?, ?)"
+                        );
+                    });
+                    ctx.statement(it -> {
+                        it.sql(
+                                "delete from TREE_NODE " +
+                                        "where NODE_ID in (?, ?, ?, ?)"
+                        );
+                    });
+                    ctx.statement(it -> {
+                        it.sql(
+                                "delete from TREE_NODE " +
+                                        "where NODE_ID in (?, ?)"
+                        );
+                    });
+                    ctx.statement(it -> {
+                        it.sql(
+                                "delete from TREE_NODE " +
+                                        "where NODE_ID = ?"
+                        );
+                    });
+                    ctx.totalRowCount(24);
+                }
+        );
+    }
+
     @Test
     public void testLogicalDelete() {
         executeAndExpectResult(
@@ -1,12 +1,17 @@
 package org.babyfish.jimmer.sql.mutation;
 
 import org.babyfish.jimmer.ImmutableObjects;
+import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.meta.TypedProp;
 import org.babyfish.jimmer.sql.DraftInterceptor;
 import org.babyfish.jimmer.sql.DraftPreProcessor;
 import org.babyfish.jimmer.sql.JSqlClient;
 import org.babyfish.jimmer.sql.ast.mutation.QueryReason;
 import org.babyfish.jimmer.sql.ast.mutation.SaveMode;
+import org.babyfish.jimmer.sql.cache.Cache;
+import org.babyfish.jimmer.sql.cache.CacheFactory;
+import org.babyfish.jimmer.sql.cache.ValueSerializer;
+import org.babyfish.jimmer.sql.common.CacheImpl;
 import org.babyfish.jimmer.sql.common.AbstractMutationTest;
 import org.babyfish.jimmer.sql.common.Constants;
 import org.babyfish.jimmer.sql.common.NativeDatabases;
@@ -25,7 +30,9 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class DraftHandlerTest extends AbstractMutationTest {
 
@@ -46,23 +53,24 @@ public class DraftHandlerTest extends AbstractMutationTest {
         );
     });
 
-    private JSqlClient sqlClient2 = getSqlClient(it -> {
-        it.addDraftInterceptor(
-                new DraftInterceptor<Book, BookDraft>() {
+    private static final DraftInterceptor<Book, BookDraft> PRICE_INTERCEPTOR =
+            new DraftInterceptor<Book, BookDraft>() {
 
-                    @Override
-                    public void beforeSave(@NotNull BookDraft draft, @Nullable Book original) {
-                        if (original != null && !ImmutableObjects.isLoaded(draft, BookProps.PRICE)) {
-                            draft.setPrice(original.price().add(new BigDecimal("7.77")));
-                        }
+                @Override
+                public void beforeSave(@NotNull BookDraft draft, @Nullable Book original) {
+                    if (original != null && !ImmutableObjects.isLoaded(draft, BookProps.PRICE)) {
+                        draft.setPrice(original.price().add(new BigDecimal("7.77")));
                     }
+                }
 
-                    @Override
-                    public Collection<TypedProp<Book, ?>> dependencies() {
-                        return Collections.singleton(BookProps.PRICE);
-                    }
+                @Override
+                public Collection<TypedProp<Book, ?>> dependencies() {
+                    return Collections.singleton(BookProps.PRICE);
                 }
-        );
+            };
+
+    private JSqlClient sqlClient2 = getSqlClient(it -> {
+        it.addDraftInterceptor(PRICE_INTERCEPTOR);
     });
 
     @Test
@@ -146,6 +154,70 @@ public class DraftHandlerTest extends AbstractMutationTest {
         );
     }
 
+    @Test
+    public void testNonKeyOnlyDraftHandlerByObjectCache() {
+        ImmutableType bookType = ImmutableType.get(Book.class);
+        Map<Object, byte[]> cachedMap = new HashMap<>();
+        cachedMap.put(
+                Constants.graphQLInActionId3,
+                new ValueSerializer<Book>(bookType).serialize(
+                        BookDraft.$.produce(book -> {
+                            book.setId(Constants.graphQLInActionId3);
+                            book.setName("GraphQL in Action");
+                            book.setEdition(3);
+                            book.setPrice(new BigDecimal("10"));
+                            book.setStoreId(Constants.manningId);
+                        })
+                )
+        );
+        JSqlClient sqlClient = getSqlClient(it -> {
+            it.addDraftInterceptor(PRICE_INTERCEPTOR);
+            it.setCaches(cfg -> {
+                cfg.setCacheFactory(
+                        new CacheFactory() {
+                            @Override
+                            public Cache<?, ?> createObjectCache(ImmutableType type) {
+                                return type == bookType ? new CacheImpl<>(type, cachedMap) : null;
+                            }
+                        }
+                );
+            });
+        });
+        executeAndExpectResult(
+                sqlClient
+                        .getEntities()
+                        .saveCommand(
+                                BookDraft.$.produce(book -> {
+                                    book.setId(Constants.graphQLInActionId3);
+                                    book.setName("GraphQL in Action+");
+                                })
+                        )
+                        .setMode(SaveMode.UPDATE_ONLY)
+                        .setPreQueryByCacheAll(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("update BOOK set NAME = ?, PRICE = ? where ID = ?");
+                        it.variables("GraphQL in Action+", new BigDecimal("17.77"), Constants.graphQLInActionId3);
+                    });
+                    ctx.entity(it -> {
+                        it.original(
+                                "{" +
+                                        "--->\"id\":\"780bdf07-05af-48bf-9be9-f8c65236fecc\"," +
+                                        "--->\"name\":\"GraphQL in Action+\"" +
+                                        "}"
+                        );
+                        it.modified(
+                                "{" +
+                                        "--->\"id\":\"780bdf07-05af-48bf-9be9-f8c65236fecc\"," +
+                                        "--->\"name\":\"GraphQL in Action+\"," +
+                                        "--->\"price\":17.77" +
+                                        "}"
+                        );
+                    });
+                }
+        );
+    }
+
     @Test
     public void testIssue882ByH2() {
         DraftPreProcessor<EmployeeDraft> processor = new DraftPreProcessor<EmployeeDraft>() {
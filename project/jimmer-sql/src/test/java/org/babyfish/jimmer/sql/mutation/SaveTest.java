@@ -9,9 +9,12 @@ import org.babyfish.jimmer.sql.ast.mutation.*;
 import org.babyfish.jimmer.sql.common.AbstractMutationTest;
 import org.babyfish.jimmer.sql.common.NativeDatabases;
 import org.babyfish.jimmer.sql.dialect.H2Dialect;
+import org.babyfish.jimmer.sql.dialect.MySql5Dialect;
 import org.babyfish.jimmer.sql.dialect.MySqlDialect;
+import org.babyfish.jimmer.sql.dialect.SQLiteDialect;
 import org.babyfish.jimmer.sql.exception.SaveErrorCode;
 import org.babyfish.jimmer.sql.exception.SaveException;
+import org.babyfish.jimmer.sql.meta.impl.IdentityIdGenerator;
 import org.babyfish.jimmer.sql.model.*;
 import org.babyfish.jimmer.sql.model.inheritance.Administrator;
 import org.babyfish.jimmer.sql.model.inheritance.AdministratorMetadataDraft;
@@ -135,6 +138,276 @@ public class SaveTest extends AbstractMutationTest {
         );
     }
 
+    @Test
+    public void testMultiRowInsert() {
+        UUID newId1 = UUID.fromString("56506a3c-801b-4f7d-a41d-e889cdc3d67d");
+        UUID newId2 = UUID.fromString("4f351857-6cbc-4aad-ac3a-140a20034a3b");
+        executeAndExpectResult(
+                getSqlClient().getEntities().saveEntitiesCommand(
+                                Arrays.asList(
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(newId1);
+                                            store.setName("TURING");
+                                        }),
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(newId2);
+                                            store.setName("PACKT");
+                                        })
+                                )
+                        )
+                        .setMode(SaveMode.INSERT_ONLY)
+                        .setMultiRowInsertEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?), (?, ?, ?)");
+                        it.variables(newId1, "TURING", 0, newId2, "PACKT", 0);
+                    });
+                    ctx.totalRowCount(2);
+                    ctx.rowCount(AffectedTable.of(BookStore.class), 2);
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"56506a3c-801b-4f7d-a41d-e889cdc3d67d\",\"name\":\"TURING\",\"version\":0}");
+                    });
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"4f351857-6cbc-4aad-ac3a-140a20034a3b\",\"name\":\"PACKT\",\"version\":0}");
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void testMultiRowInsertWithSQLite() {
+        UUID newId1 = UUID.fromString("56506a3c-801b-4f7d-a41d-e889cdc3d67d");
+        UUID newId2 = UUID.fromString("4f351857-6cbc-4aad-ac3a-140a20034a3b");
+        UUID newId3 = UUID.fromString("a1b0d1c5-2d38-4b4c-9d0e-45c1d3a3f9f1");
+        // JDBC batch is forbidden by SQLite dialect, the small variable limit
+        // splits the 3 rows of 3 variables into 2 statements
+        SQLiteDialect dialect = new SQLiteDialect() {
+            @Override
+            public int getMaxVariableCount() {
+                return 7;
+            }
+        };
+        executeAndExpectResult(
+                getSqlClient(it -> it.setDialect(dialect))
+                        .getEntities()
+                        .saveEntitiesCommand(
+                                Arrays.asList(
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(newId1);
+                                            store.setName("TURING");
+                                        }),
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(newId2);
+                                            store.setName("PACKT");
+                                        }),
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(newId3);
+                                            store.setName("APRESS");
+                                        })
+                                )
+                        )
+                        .setMode(SaveMode.INSERT_ONLY)
+                        .setMultiRowInsertEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?), (?, ?, ?)");
+                        it.variables(newId1, "TURING", 0, newId2, "PACKT", 0);
+                    });
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?)");
+                        it.variables(newId3, "APRESS", 0);
+                    });
+                    ctx.totalRowCount(3);
+                    ctx.rowCount(AffectedTable.of(BookStore.class), 3);
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"56506a3c-801b-4f7d-a41d-e889cdc3d67d\",\"name\":\"TURING\",\"version\":0}");
+                    });
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"4f351857-6cbc-4aad-ac3a-140a20034a3b\",\"name\":\"PACKT\",\"version\":0}");
+                    });
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"a1b0d1c5-2d38-4b4c-9d0e-45c1d3a3f9f1\",\"name\":\"APRESS\",\"version\":0}");
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void testMultiRowInsertWithMySql5() {
+        UUID newId1 = UUID.fromString("56506a3c-801b-4f7d-a41d-e889cdc3d67d");
+        UUID newId2 = UUID.fromString("4f351857-6cbc-4aad-ac3a-140a20034a3b");
+        // JDBC batch is forbidden because `rewriteBatchedStatements` is not declared
+        executeAndExpectResult(
+                getSqlClient(it -> it.setDialect(new MySql5Dialect()))
+                        .getEntities()
+                        .saveEntitiesCommand(
+                                Arrays.asList(
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(newId1);
+                                            store.setName("TURING");
+                                        }),
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(newId2);
+                                            store.setName("PACKT");
+                                        })
+                                )
+                        )
+                        .setMode(SaveMode.INSERT_ONLY)
+                        .setMultiRowInsertEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?), (?, ?, ?)");
+                        it.variables(newId1, "TURING", 0, newId2, "PACKT", 0);
+                    });
+                    ctx.totalRowCount(2);
+                    ctx.rowCount(AffectedTable.of(BookStore.class), 2);
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"56506a3c-801b-4f7d-a41d-e889cdc3d67d\",\"name\":\"TURING\",\"version\":0}");
+                    });
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"4f351857-6cbc-4aad-ac3a-140a20034a3b\",\"name\":\"PACKT\",\"version\":0}");
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void testMultiRowInsertWithUserIdGenerator() {
+        UUID newId1 = UUID.fromString("56506a3c-801b-4f7d-a41d-e889cdc3d67d");
+        UUID newId2 = UUID.fromString("4f351857-6cbc-4aad-ac3a-140a20034a3b");
+        setAutoIds(BookStore.class, newId1, newId2);
+        executeAndExpectResult(
+                getSqlClient(it -> it.setDialect(new MySql5Dialect()))
+                        .getEntities()
+                        .saveEntitiesCommand(
+                                Arrays.asList(
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setName("TURING");
+                                        }),
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setName("PACKT");
+                                        })
+                                )
+                        )
+                        .setMode(SaveMode.INSERT_ONLY)
+                        .setMultiRowInsertEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?), (?, ?, ?)");
+                        it.variables(newId1, "TURING", 0, newId2, "PACKT", 0);
+                    });
+                    ctx.totalRowCount(2);
+                    ctx.rowCount(AffectedTable.of(BookStore.class), 2);
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"56506a3c-801b-4f7d-a41d-e889cdc3d67d\",\"name\":\"TURING\",\"version\":0}");
+                    });
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":\"4f351857-6cbc-4aad-ac3a-140a20034a3b\",\"name\":\"PACKT\",\"version\":0}");
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void testMultiRowInsertWithIdentityBySQLite() {
+        jdbc(NativeDatabases.SQLITE_DATA_SOURCE, false, con -> initDatabase(con, "database-sqlite.sql"));
+        // The ids generated by identity are read from the `returning` clause in the order of rows
+        executeAndExpectResult(
+                NativeDatabases.SQLITE_DATA_SOURCE,
+                getSqlClient(
+                        it -> it
+                                .setDialect(new SQLiteDialect())
+                                .setIdGenerator(TreeNode.class, IdentityIdGenerator.INSTANCE)
+                )
+                        .getEntities()
+                        .saveEntitiesCommand(
+                                Arrays.asList(
+                                        TreeNodeDraft.$.produce(treeNode -> {
+                                            treeNode.setName("Computer");
+                                            treeNode.setParent(null);
+                                        }),
+                                        TreeNodeDraft.$.produce(treeNode -> {
+                                            treeNode.setName("Phone");
+                                            treeNode.setParent(null);
+                                        })
+                                )
+                        )
+                        .setMode(SaveMode.INSERT_ONLY)
+                        .setMultiRowInsertEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into TREE_NODE(NAME, PARENT_ID) values(?, ?), (?, ?) returning NODE_ID");
+                        it.variables(
+                                "Computer", new DbLiteral.DbNull(long.class),
+                                "Phone", new DbLiteral.DbNull(long.class)
+                        );
+                    });
+                    ctx.totalRowCount(2);
+                    ctx.rowCount(AffectedTable.of(TreeNode.class), 2);
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":25,\"name\":\"Computer\",\"parent\":null}");
+                    });
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":26,\"name\":\"Phone\",\"parent\":null}");
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void testMultiRowInsertWithIdentityByMySql5() {
+
+        NativeDatabases.assumeNativeDatabase();
+
+        jdbc(NativeDatabases.MYSQL_DATA_SOURCE, false, con -> {
+            con
+                    .createStatement()
+                    .executeUpdate("alter table tree_node auto_increment = 100");
+        });
+
+        // The ids generated by identity are consecutive after `last_insert_id()`
+        executeAndExpectResult(
+                NativeDatabases.MYSQL_DATA_SOURCE,
+                getSqlClient(
+                        it -> it
+                                .setDialect(new MySql5Dialect())
+                                .setIdGenerator(TreeNode.class, IdentityIdGenerator.INSTANCE)
+                )
+                        .getEntities()
+                        .saveEntitiesCommand(
+                                Arrays.asList(
+                                        TreeNodeDraft.$.produce(treeNode -> {
+                                            treeNode.setName("Computer");
+                                            treeNode.setParent(null);
+                                        }),
+                                        TreeNodeDraft.$.produce(treeNode -> {
+                                            treeNode.setName("Phone");
+                                            treeNode.setParent(null);
+                                        })
+                                )
+                        )
+                        .setMode(SaveMode.INSERT_ONLY)
+                        .setMultiRowInsertEnabled(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into TREE_NODE(NAME, PARENT_ID) values(?, ?), (?, ?)");
+                        it.variables(
+                                "Computer", new DbLiteral.DbNull(long.class),
+                                "Phone", new DbLiteral.DbNull(long.class)
+                        );
+                    });
+                    ctx.totalRowCount(2);
+                    ctx.rowCount(AffectedTable.of(TreeNode.class), 2);
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":100,\"name\":\"Computer\",\"parent\":null}");
+                    });
+                    ctx.entity(it -> {
+                        it.modified("{\"id\":101,\"name\":\"Phone\",\"parent\":null}");
+                    });
+                }
+        );
+    }
+
     @Test
     public void testUpdateWithVersion() {
         executeAndExpectResult(
@@ -101,6 +101,55 @@ public class AssociationLoaderTest extends AbstractQueryTest {
         );
     }
 
+    @Test
+    public void batchLoadManyToOneWithFetcher() {
+        List<Book> books = Arrays.asList(
+                BookDraft.$.produce(book -> {
+                    book
+                            .setId(graphQLInActionId1)
+                            .applyStore(store -> store.setId(manningId));
+                }),
+                BookDraft.$.produce(book -> {
+                    book
+                            .setId(learningGraphQLId1)
+                            .applyStore(store -> store.setId(oreillyId));
+                })
+        );
+        anyAndExpect(
+                ((JSqlClientImplementor)getSqlClient())
+                        .getLoaders()
+                        .reference(BookTable.class, BookTable::store)
+                        .forFetcher(BookStoreFetcher.$.name())
+                        .batchLoadCommand(books),
+                ctx -> {
+                    ctx.sql(
+                            "select " +
+                                    "tb_1_.ID, tb_1_.NAME " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "where tb_1_.ID in (?, ?)"
+                    );
+                    ctx.variables(manningId, oreillyId);
+                    ctx.rows(1);
+                    ctx.row(0, map -> {
+                        expect(
+                                "{" +
+                                        "--->\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\"," +
+                                        "--->\"name\":\"MANNING\"" +
+                                        "}",
+                                map.get(books.get(0))
+                        );
+                        expect(
+                                "{" +
+                                        "--->\"id\":\"d38c10da-6be8-4924-b9b9-5e81899612a0\"," +
+                                        "--->\"name\":\"O'REILLY\"" +
+                                        "}",
+                                map.get(books.get(1))
+                        );
+                    });
+                }
+        );
+    }
+
     @Test
     public void testLoadOneToMany() {
         anyAndExpect(
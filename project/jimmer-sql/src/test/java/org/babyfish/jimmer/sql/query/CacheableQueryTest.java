@@ -0,0 +1,153 @@
+package org.babyfish.jimmer.sql.query;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.ast.query.ConfigurableRootQuery;
+import org.babyfish.jimmer.sql.common.AbstractQueryTest;
+import org.babyfish.jimmer.sql.event.TriggerType;
+import org.babyfish.jimmer.sql.filter.Filter;
+import org.babyfish.jimmer.sql.filter.FilterArgs;
+import org.babyfish.jimmer.sql.model.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.babyfish.jimmer.sql.common.Constants.*;
+
+public class CacheableQueryTest extends AbstractQueryTest {
+
+    @Test
+    public void testCacheableQueryInvalidatedByTrigger() {
+        JSqlClient sqlClient = getSqlClient(it -> it.setTriggerType(TriggerType.TRANSACTION_ONLY));
+        BookStoreTable table = BookStoreTable.$;
+        ConfigurableRootQuery<BookStoreTable, String> query = sqlClient
+                .createQuery(table)
+                .where(table.id().eq(manningId))
+                .select(table.name())
+                .cacheable(Duration.ofMinutes(1));
+        // Auto-commit connection, the changes are committed immediately
+        jdbc(null, false, con -> {
+            try {
+                clearExecutions();
+                Assertions.assertEquals(Collections.singletonList("MANNING"), query.execute(con));
+                Assertions.assertEquals(Collections.singletonList("MANNING"), query.execute(con));
+                Assertions.assertEquals(1, getExecutions().size());
+
+                sqlClient
+                        .createUpdate(table)
+                        .set(table.name(), "MANNING+")
+                        .where(table.id().eq(manningId))
+                        .execute(con);
+                int executionCount = getExecutions().size();
+                Assertions.assertEquals(Collections.singletonList("MANNING+"), query.execute(con));
+                Assertions.assertEquals(executionCount + 1, getExecutions().size());
+            } finally {
+                sqlClient
+                        .createUpdate(table)
+                        .set(table.name(), "MANNING")
+                        .where(table.id().eq(manningId))
+                        .execute(con);
+            }
+        });
+    }
+
+    @Test
+    public void testCacheableQueryInRolledBackTransaction() {
+        JSqlClient sqlClient = getSqlClient(it -> it.setTriggerType(TriggerType.TRANSACTION_ONLY));
+        BookStoreTable table = BookStoreTable.$;
+        ConfigurableRootQuery<BookStoreTable, String> query = sqlClient
+                .createQuery(table)
+                .where(table.id().eq(oreillyId))
+                .select(table.name())
+                .cacheable(Duration.ofMinutes(1));
+        jdbc(null, false, con -> {
+            Assertions.assertEquals(Collections.singletonList("O'REILLY"), query.execute(con));
+        });
+
+        // The transaction neither reads nor writes the cached result
+        jdbc(con -> {
+            clearExecutions();
+            sqlClient
+                    .createUpdate(table)
+                    .set(table.name(), "O'REILLY+")
+                    .where(table.id().eq(oreillyId))
+                    .execute(con);
+            int executionCount = getExecutions().size();
+            Assertions.assertEquals(Collections.singletonList("O'REILLY+"), query.execute(con));
+            Assertions.assertEquals(Collections.singletonList("O'REILLY+"), query.execute(con));
+            Assertions.assertEquals(executionCount + 2, getExecutions().size());
+        });
+
+        // The uncommitted name of the rolled back transaction is not cached
+        jdbc(null, false, con -> {
+            Assertions.assertEquals(Collections.singletonList("O'REILLY"), query.execute(con));
+        });
+    }
+
+    @Test
+    public void testCacheableQueryDuringOpenTransaction() {
+        JSqlClient sqlClient = getSqlClient(it -> it.setTriggerType(TriggerType.TRANSACTION_ONLY));
+        BookStoreTable table = BookStoreTable.$;
+        ConfigurableRootQuery<BookStoreTable, String> query = sqlClient
+                .createQuery(table)
+                .where(table.id().eq(manningId))
+                .select(table.name())
+                .cacheable(Duration.ofMinutes(1));
+        jdbc(writer -> {
+            sqlClient
+                    .createUpdate(table)
+                    .set(table.name(), "MANNING+")
+                    .where(table.id().eq(manningId))
+                    .execute(writer);
+            // The uncommitted name is invisible, but the result cannot be
+            // cached because it may be stale after the writer commits
+            jdbc(null, false, reader -> {
+                clearExecutions();
+                Assertions.assertEquals(Collections.singletonList("MANNING"), query.execute(reader));
+                Assertions.assertEquals(Collections.singletonList("MANNING"), query.execute(reader));
+                Assertions.assertEquals(2, getExecutions().size());
+            });
+        });
+
+        // The writer is closed, the result is cached again
+        jdbc(null, false, reader -> {
+            clearExecutions();
+            Assertions.assertEquals(Collections.singletonList("MANNING"), query.execute(reader));
+            Assertions.assertEquals(Collections.singletonList("MANNING"), query.execute(reader));
+            Assertions.assertEquals(1, getExecutions().size());
+        });
+    }
+
+    @Test
+    public void testCacheableQueryWithNonCacheableFilter() {
+        JSqlClient sqlClient = getSqlClient(it -> {
+            it.addFilters(new Filter<BookProps>() {
+                @Override
+                public void filter(FilterArgs<BookProps> args) {
+                    args.where(args.getTable().price().le(new BigDecimal(50)));
+                }
+            });
+        });
+        BookStoreTable table = BookStoreTable.$;
+        ConfigurableRootQuery<BookStoreTable, BookStore> query = sqlClient
+                .createQuery(table)
+                .where(table.id().eq(manningId))
+                .select(
+                        table.fetch(
+                                BookStoreFetcher.$.name().books(BookFetcher.$.name())
+                        )
+                )
+                .cacheable(Duration.ofMinutes(1));
+        jdbc(null, false, con -> {
+            clearExecutions();
+            List<BookStore> stores = query.execute(con);
+            int executionCount = getExecutions().size();
+            Assertions.assertEquals(stores.toString(), query.execute(con).toString());
+            // The filter parameters are unknown, so the query is not cached
+            Assertions.assertEquals(executionCount * 2, getExecutions().size());
+        });
+    }
+}
@@ -2,8 +2,11 @@ package org.babyfish.jimmer.sql.query;
 
 import org.babyfish.jimmer.sql.common.AbstractQueryTest;
 import org.babyfish.jimmer.sql.model.*;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -152,4 +155,105 @@ public class CursorTest extends AbstractQueryTest {
                 }
         );
     }
+
+    @Test
+    public void writeJson() {
+        connectAndExpect(
+                con -> {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    getLambdaClient().createQuery(BookTable.class, (q, book) -> {
+                        return q
+                                .where(book.edition().eq(3))
+                                .orderBy(book.name().asc())
+                                .select(
+                                        book.fetch(
+                                                BookFetcher.$
+                                                        .name()
+                                                        .store(
+                                                                BookStoreFetcher.$.name()
+                                                        )
+                                        )
+                                );
+                    }).writeJsonTo(con, 2, out);
+                    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+                },
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.ID, tb_1_.NAME, tb_1_.STORE_ID " +
+                                    "from BOOK tb_1_ " +
+                                    "where tb_1_.EDITION = ? " +
+                                    "order by tb_1_.NAME asc"
+                    );
+                    ctx.statement(1).sql(
+                            "select tb_1_.ID, tb_1_.NAME " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "where tb_1_.ID in (?, ?)"
+                    );
+                    ctx.statement(2).sql(
+                            "select tb_1_.ID, tb_1_.NAME " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "where tb_1_.ID = ?"
+                    );
+                    ctx.rows(rows -> {
+                        Assertions.assertEquals(
+                                ("[" +
+                                        "--->{" +
+                                        "--->--->\"id\":\"9eded40f-6d2e-41de-b4e7-33a28b11c8b6\"," +
+                                        "--->--->\"name\":\"Effective TypeScript\"," +
+                                        "--->--->\"store\":{" +
+                                        "--->--->--->\"id\":\"d38c10da-6be8-4924-b9b9-5e81899612a0\"," +
+                                        "--->--->--->\"name\":\"O'REILLY\"" +
+                                        "--->--->}" +
+                                        "--->},{" +
+                                        "--->--->\"id\":\"780bdf07-05af-48bf-9be9-f8c65236fecc\"," +
+                                        "--->--->\"name\":\"GraphQL in Action\"," +
+                                        "--->--->\"store\":{" +
+                                        "--->--->--->\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\"," +
+                                        "--->--->--->\"name\":\"MANNING\"" +
+                                        "--->--->}" +
+                                        "--->},{" +
+                                        "--->--->\"id\":\"64873631-5d82-4bae-8eb8-72dd955bfc56\"," +
+                                        "--->--->\"name\":\"Learning GraphQL\"," +
+                                        "--->--->\"store\":{" +
+                                        "--->--->--->\"id\":\"d38c10da-6be8-4924-b9b9-5e81899612a0\"," +
+                                        "--->--->--->\"name\":\"O'REILLY\"" +
+                                        "--->--->}" +
+                                        "--->},{" +
+                                        "--->--->\"id\":\"782b9a9d-eac8-41c4-9f2d-74a5d047f45a\"," +
+                                        "--->--->\"name\":\"Programming TypeScript\"," +
+                                        "--->--->\"store\":{" +
+                                        "--->--->--->\"id\":\"d38c10da-6be8-4924-b9b9-5e81899612a0\"," +
+                                        "--->--->--->\"name\":\"O'REILLY\"" +
+                                        "--->--->}" +
+                                        "--->}" +
+                                        "]").replace("--->", ""),
+                                rows.get(0)
+                        );
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void writeJsonWithoutClosingStream() {
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        jdbc(con -> {
+            getLambdaClient().createQuery(BookStoreTable.class, (q, store) -> {
+                return q
+                        .orderBy(store.name().asc())
+                        .select(store.name());
+            }).writeJsonTo(con, 1, out);
+        });
+        Assertions.assertFalse(closed[0], "The output stream of caller is closed");
+        Assertions.assertEquals(
+                "[\"MANNING\",\"O'REILLY\"]",
+                new String(out.toByteArray(), StandardCharsets.UTF_8)
+        );
+    }
 }
@@ -10,6 +10,7 @@ import org.babyfish.jimmer.sql.model.hr.EmployeeFetcher;
 import org.babyfish.jimmer.sql.model.hr.EmployeeTable;
 import org.babyfish.jimmer.sql.model.inheritance.*;
 import org.babyfish.jimmer.sql.runtime.LogicalDeletedBehavior;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -931,4 +932,28 @@ public class GlobalFilterTest extends AbstractQueryTest {
                 }
         );
     }
+
+    @Test
+    public void testDerivedSqlClientIsReused() {
+        JSqlClient sqlClient = getSqlClient();
+        JSqlClient sqlClientForDeletedData = sqlClient.filters(it -> {
+            it.setBehavior(LogicalDeletedBehavior.REVERSED);
+        });
+        Assertions.assertSame(
+                sqlClientForDeletedData,
+                sqlClient.filters(it -> {
+                    it.setBehavior(LogicalDeletedBehavior.REVERSED);
+                })
+        );
+        Assertions.assertNotSame(
+                sqlClientForDeletedData,
+                sqlClient.filters(it -> {
+                    it.setBehavior(LogicalDeletedBehavior.IGNORED);
+                })
+        );
+        Assertions.assertSame(
+                sqlClient.caches(it -> it.disableAll()),
+                sqlClient.caches(it -> it.disableAll())
+        );
+    }
 }
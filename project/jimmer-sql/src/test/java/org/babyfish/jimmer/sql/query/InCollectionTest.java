@@ -151,6 +151,53 @@ public class InCollectionTest extends AbstractQueryTest {
         );
     }
 
+    @Test
+    public void testEmbeddedIdByPostgres() {
+
+        NativeDatabases.assumeNativeDatabase();
+
+        OrderItemTable table = OrderItemTable.$;
+        executeAndExpect(
+                NativeDatabases.POSTGRES_DATA_SOURCE,
+                getSqlClient(cfg -> {
+                    cfg.setDialect(new PostgresDialect() {
+                        @Override
+                        public int getMaxInListSize() {
+                            return 5;
+                        }
+                    });
+                })
+                        .createQuery(table)
+                        .where(
+                                table.orderId().in(
+                                        Arrays.asList(
+                                                Immutables.createOrderId(id -> id.setX("001").setY("001")),
+                                                Immutables.createOrderId(id -> id.setX("001").setY("002")),
+                                                Immutables.createOrderId(id -> id.setX("001").setY("003")),
+                                                Immutables.createOrderId(id -> id.setX("001").setY("004")),
+                                                Immutables.createOrderId(id -> id.setX("002").setY("001")),
+                                                Immutables.createOrderId(id -> id.setX("003").setY("001"))
+                                        )
+                                )
+                        )
+                        .select(table),
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.ORDER_ITEM_A, tb_1_.ORDER_ITEM_B, tb_1_.ORDER_ITEM_C, " +
+                                    "tb_1_.NAME, " +
+                                    "tb_1_.FK_ORDER_X, tb_1_.FK_ORDER_Y " +
+                                    "from ORDER_ITEM tb_1_ where " +
+                                    "(tb_1_.FK_ORDER_X, tb_1_.FK_ORDER_Y) in (" +
+                                    "--->select * from unnest(?, ?)" +
+                                    ")"
+                    ).variables(
+                            new Object[] { "001", "001", "001", "001", "002", "003" },
+                            new Object[] { "001", "002", "003", "004", "001", "001" }
+                    );
+                }
+        );
+    }
+
     @Test
     public void testEmbeddedPathOfBug596() {
         MachineTable table = MachineTable.$;
@@ -0,0 +1,108 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class ExecutorContextTest {
+
+    private static final String PREFIX = ExecutorContextTest.class.getName();
+
+    @Test
+    public void testDisabled() {
+        JSqlClient sqlClient = JSqlClient.newBuilder().build();
+        Assertions.assertNull(ExecutorContext.create(sqlClient));
+    }
+
+    @Test
+    public void testNoMatchedFrames() {
+        JSqlClient sqlClient = JSqlClient.newBuilder()
+                .setExecutorContextPrefixes(Collections.singletonList("com.example.unknown."))
+                .build();
+        Assertions.assertNull(ExecutorContext.create(sqlClient));
+    }
+
+    @Test
+    public void testMatchedFrames() {
+        JSqlClient sqlClient = JSqlClient.newBuilder()
+                .setExecutorContextPrefixes(Collections.singletonList(PREFIX))
+                .build();
+        for (int i = 0; i < 2; i++) { // The second time uses cached matching result
+            ExecutorContext ctx = ExecutorContext.create(sqlClient);
+            Assertions.assertNotNull(ctx);
+            Assertions.assertEquals(PREFIX, ctx.getPrimaryElement().getClassName());
+            Assertions.assertEquals("testMatchedFrames", ctx.getPrimaryElement().getMethodName());
+            for (StackTraceElement element : ctx.getMatchedElements()) {
+                Assertions.assertTrue(element.getClassName().startsWith(PREFIX));
+            }
+            Assertions.assertTrue(ctx.getElements().size() > ctx.getMatchedElements().size());
+            Assertions.assertTrue(ctx.getElements().contains(ctx.getPrimaryElement()));
+        }
+    }
+
+    @Test
+    public void testMatchedClassNameMapPerSqlClient() {
+        JSqlClient sqlClient = JSqlClient.newBuilder()
+                .setExecutorContextPrefixes(Collections.singletonList(PREFIX))
+                .build();
+        JSqlClient otherSqlClient = JSqlClient.newBuilder()
+                .setExecutorContextPrefixes(Collections.singletonList(PREFIX))
+                .build();
+        JSqlClient derivedSqlClient = sqlClient.caches(cfg -> cfg.disableAll());
+        Assertions.assertNotNull(ExecutorContext.create(sqlClient));
+        Assertions.assertNotNull(
+                matchedClassNameMap(sqlClient).get(ExecutorContextTest.class.getName())
+        );
+        Assertions.assertSame(matchedClassNameMap(sqlClient), matchedClassNameMap(derivedSqlClient));
+        Assertions.assertNotSame(matchedClassNameMap(sqlClient), matchedClassNameMap(otherSqlClient));
+        Assertions.assertNull(
+                matchedClassNameMap(otherSqlClient).get(ExecutorContextTest.class.getName())
+        );
+    }
+
+    @Test
+    public void testSamplingRate() {
+        JSqlClient sqlClient = JSqlClient.newBuilder()
+                .setExecutorContextPrefixes(Collections.singletonList(PREFIX))
+                .setExecutorContextSamplingRate(0.25)
+                .build();
+        int sampledCount = 0;
+        for (int i = 0; i < 4000; i++) {
+            if (ExecutorContext.create(sqlClient) != null) {
+                sampledCount++;
+            }
+        }
+        // Expected value is 1000, standard deviation is about 27
+        Assertions.assertTrue(sampledCount > 800 && sampledCount < 1200, "sampledCount: " + sampledCount);
+    }
+
+    @Test
+    public void testFullSamplingRate() {
+        JSqlClient sqlClient = JSqlClient.newBuilder()
+                .setExecutorContextPrefixes(Collections.singletonList(PREFIX))
+                .setExecutorContextSamplingRate(1)
+                .build();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertNotNull(ExecutorContext.create(sqlClient));
+        }
+    }
+
+    @Test
+    public void testIllegalSamplingRate() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> JSqlClient.newBuilder().setExecutorContextSamplingRate(0)
+        );
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> JSqlClient.newBuilder().setExecutorContextSamplingRate(1.5)
+        );
+    }
+
+    private static Map<String, Boolean> matchedClassNameMap(JSqlClient sqlClient) {
+        return ((JSqlClientImplementor) sqlClient).getExecutorContextMatchedClassNameMap();
+    }
+}
@@ -0,0 +1,161 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class SqlLogPipelineTest {
+
+    @Test
+    public void testSynchronous() {
+        SqlLogPipeline pipeline = new SqlLogPipeline(SqlLogOptions.DEFAULT);
+        Thread[] threads = new Thread[1];
+        pipeline.submit(() -> threads[0] = Thread.currentThread());
+        Assertions.assertSame(Thread.currentThread(), threads[0]);
+        Assertions.assertEquals(0L, pipeline.getDroppedCount());
+    }
+
+    @Test
+    public void testAsynchronous() throws InterruptedException {
+        SqlLogPipeline pipeline = new SqlLogPipeline(SqlLogOptions.DEFAULT.asyncQueueCapacity(16));
+        List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit(() -> {
+                threadNames.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+        }
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(
+                Collections.nCopies(3, "jimmer-sql-log"),
+                threadNames
+        );
+        Assertions.assertEquals(0L, pipeline.getDroppedCount());
+    }
+
+    @Test
+    public void testDrop() throws InterruptedException {
+        SqlLogPipeline pipeline = new SqlLogPipeline(SqlLogOptions.DEFAULT.asyncQueueCapacity(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        pipeline.submit(() -> {
+            started.countDown();
+            await(released);
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        pipeline.submit(finished::countDown); // Queued
+        pipeline.submit(finished::countDown); // Dropped because the queue is full
+        Assertions.assertEquals(1L, pipeline.getDroppedCount());
+        released.countDown();
+        Assertions.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        // The dropped count is reported and reset by the consumer
+        Assertions.assertEquals(0L, pipeline.getDroppedCount());
+    }
+
+    @Test
+    public void testSharedConsumer() throws InterruptedException {
+        int pipelineCount = 20;
+        CountDownLatch latch = new CountDownLatch(pipelineCount);
+        for (int i = 0; i < pipelineCount; i++) {
+            new SqlLogPipeline(SqlLogOptions.DEFAULT.asyncQueueCapacity(4)).submit(latch::countDown);
+        }
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(SqlLogPipeline.isConsumerRunning());
+        long threadCount = Thread
+                .getAllStackTraces()
+                .keySet()
+                .stream()
+                .filter(it -> it.getName().equals("jimmer-sql-log"))
+                .count();
+        Assertions.assertEquals(1L, threadCount);
+    }
+
+    @Test
+    public void testWriterException() throws InterruptedException {
+        SqlLogPipeline pipeline = new SqlLogPipeline(SqlLogOptions.DEFAULT.asyncQueueCapacity(4));
+        CountDownLatch latch = new CountDownLatch(1);
+        pipeline.submit(() -> {
+            throw new IllegalStateException("Broken appender");
+        });
+        pipeline.submit(latch::countDown);
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRateLimit() {
+        SqlLogPipeline pipeline = new SqlLogPipeline(SqlLogOptions.DEFAULT.maxLogCountPerSecond(2));
+        long second = System.currentTimeMillis() / 1000L;
+        List<Long> acquiredList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            acquiredList.add(pipeline.acquire("select 1"));
+        }
+        if (second != System.currentTimeMillis() / 1000L) {
+            return; // The window has been moved, the result is not predictable
+        }
+        Assertions.assertEquals(0L, acquiredList.get(0));
+        Assertions.assertEquals(0L, acquiredList.get(1));
+        Assertions.assertTrue(SqlLogPipeline.isSuppressed(acquiredList.get(2)));
+        Assertions.assertTrue(SqlLogPipeline.isSuppressed(acquiredList.get(3)));
+        // Other SQL has its own window
+        Assertions.assertEquals(0L, pipeline.acquire("select 2"));
+    }
+
+    @Test
+    public void testSuppressedCountIsReported() throws InterruptedException {
+        SqlLogPipeline pipeline = new SqlLogPipeline(SqlLogOptions.DEFAULT.maxLogCountPerSecond(1));
+        long suppressedCount = 0;
+        long second = System.currentTimeMillis() / 1000L;
+        while (System.currentTimeMillis() / 1000L == second) {
+            if (SqlLogPipeline.isSuppressed(pipeline.acquire("select 1"))) {
+                suppressedCount++;
+            }
+        }
+        // First log of next second reports the suppressed logs of previous seconds
+        Assertions.assertEquals(suppressedCount, pipeline.acquire("select 1"));
+    }
+
+    @Test
+    public void testUnlimited() {
+        SqlLogPipeline pipeline = new SqlLogPipeline(SqlLogOptions.DEFAULT);
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(0L, pipeline.acquire("select 1"));
+        }
+    }
+
+    @Test
+    public void testSlowThreshold() {
+        SqlLogPipeline all = new SqlLogPipeline(SqlLogOptions.DEFAULT);
+        Assertions.assertFalse(all.isSlowOnly());
+        SqlLogPipeline slowOnly = new SqlLogPipeline(SqlLogOptions.DEFAULT.slowThresholdMillis(100L));
+        Assertions.assertTrue(slowOnly.isSlowOnly());
+        Assertions.assertFalse(slowOnly.isSlow(99L));
+        Assertions.assertTrue(slowOnly.isSlow(100L));
+    }
+
+    @Test
+    public void testIllegalOptions() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> SqlLogOptions.DEFAULT.asyncQueueCapacity(-1)
+        );
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> SqlLogOptions.DEFAULT.slowThresholdMillis(-1L)
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
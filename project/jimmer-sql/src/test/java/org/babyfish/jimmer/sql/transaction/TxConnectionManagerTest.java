@@ -1,15 +1,21 @@
 package org.babyfish.jimmer.sql.transaction;
 
 import org.babyfish.jimmer.sql.exception.ExecutionException;
+import org.babyfish.jimmer.sql.runtime.ConnectionManager;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TxConnectionManagerTest {
 
@@ -323,6 +329,69 @@ public class TxConnectionManagerTest {
         );
     }
 
+    /*
+     * Connection count
+     */
+
+    @Test
+    public void testMaxConnectionCount() throws InterruptedException {
+        AtomicInteger openedCount = new AtomicInteger();
+        AtomicInteger maxOpenedCount = new AtomicInteger();
+        DataSource dataSource = (DataSource) Proxy.newProxyInstance(
+                TxConnectionManagerTest.class.getClassLoader(),
+                new Class<?>[]{ DataSource.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getConnection")) {
+                        return null;
+                    }
+                    maxOpenedCount.accumulateAndGet(openedCount.incrementAndGet(), Math::max);
+                    return Proxy.newProxyInstance(
+                            TxConnectionManagerTest.class.getClassLoader(),
+                            new Class<?>[]{ Connection.class },
+                            (conProxy, conMethod, conArgs) -> {
+                                if (conMethod.getName().equals("close")) {
+                                    openedCount.decrementAndGet();
+                                }
+                                return null;
+                            }
+                    );
+                }
+        );
+        TxConnectionManager connectionManager = ConnectionManager.simpleConnectionManager(dataSource, 4);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 64; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    connectionManager.execute(con -> {
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return null;
+                    });
+                } catch (RuntimeException | Error ex) {
+                    errors.add(ex);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (!errors.isEmpty()) {
+            AssertionError error = new AssertionError(errors.size() + " worker thread(s) failed", errors.get(0));
+            for (int i = 1; i < errors.size(); i++) {
+                error.addSuppressed(errors.get(i));
+            }
+            throw error;
+        }
+        Assertions.assertEquals(0, openedCount.get());
+        Assertions.assertTrue(maxOpenedCount.get() <= 4);
+    }
+
     /*
      * Private members
      */